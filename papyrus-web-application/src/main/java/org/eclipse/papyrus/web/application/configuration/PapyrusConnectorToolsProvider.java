@@ -17,24 +17,18 @@ import java.text.MessageFormat;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.eclipse.papyrus.uml.domain.services.properties.ILogger.ILogLevel;
 import org.eclipse.papyrus.web.services.aqlservices.AbstractDiagramService;
 import org.eclipse.papyrus.web.services.aqlservices.ServiceLogger;
 import org.eclipse.papyrus.web.services.representations.PapyrusRepresentationDescriptionRegistry;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IConnectorToolsProvider;
-import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramDescriptionService;
 import org.eclipse.sirius.components.core.api.IEditingContext;
-import org.eclipse.sirius.components.core.api.IRepresentationDescriptionSearchService;
 import org.eclipse.sirius.components.diagrams.Diagram;
 import org.eclipse.sirius.components.diagrams.Edge;
 import org.eclipse.sirius.components.diagrams.Node;
 import org.eclipse.sirius.components.diagrams.description.DiagramDescription;
 import org.eclipse.sirius.components.diagrams.tools.ITool;
-import org.eclipse.sirius.components.diagrams.tools.SingleClickOnTwoDiagramElementsCandidate;
-import org.eclipse.sirius.components.diagrams.tools.SingleClickOnTwoDiagramElementsTool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -51,20 +45,13 @@ public class PapyrusConnectorToolsProvider implements IConnectorToolsProvider {
 
     private final PapyrusRepresentationDescriptionRegistry papyrusViewRegistry;
 
-    private final IRepresentationDescriptionSearchService representationDescriptionSearchService;
-
-    private final IDiagramDescriptionService diagramDescriptionService;
-
     /**
      * Logger used to report errors and warnings to the user.
      */
     private ServiceLogger logger;
 
-    public PapyrusConnectorToolsProvider(PapyrusRepresentationDescriptionRegistry papyrusViewRegistry, IRepresentationDescriptionSearchService representationDescriptionSearchService,
-            IDiagramDescriptionService diagramDescriptionService, ServiceLogger serviceLogger) {
+    public PapyrusConnectorToolsProvider(PapyrusRepresentationDescriptionRegistry papyrusViewRegistry, ServiceLogger serviceLogger) {
         this.papyrusViewRegistry = Objects.requireNonNull(papyrusViewRegistry);
-        this.representationDescriptionSearchService = Objects.requireNonNull(representationDescriptionSearchService);
-        this.diagramDescriptionService = Objects.requireNonNull(diagramDescriptionService);
         this.logger = serviceLogger;
     }
 
@@ -76,30 +63,13 @@ public class PapyrusConnectorToolsProvider implements IConnectorToolsProvider {
     @Override
     public List<ITool> getConnectorTools(Object sourceDiagramElement, Object targetDiagramElement, Diagram diagram, IEditingContext editingContext) {
 
-        var optDiagramDescription = this.representationDescriptionSearchService.findById(editingContext, diagram.getDescriptionId());
         var optSourceDiagramElementDescriptionId = this.mapDiagramElementToDescriptionId(sourceDiagramElement);
         var optTargetDiagramElementDescriptionId = this.mapDiagramElementToDescriptionId(targetDiagramElement);
 
-        boolean diagramElementDescriptionsPresent = optDiagramDescription.isPresent() && optSourceDiagramElementDescriptionId.isPresent() && optTargetDiagramElementDescriptionId.isPresent();
         List<ITool> result = List.of();
-        if (diagramElementDescriptionsPresent && optDiagramDescription.get() instanceof DiagramDescription) {
-
-            DiagramDescription diagramDescription = (DiagramDescription) optDiagramDescription.get();
-            var optSourceDiagramElementDescription = this.mapDescriptionIdToDescription(optSourceDiagramElementDescriptionId.get(), diagramDescription, sourceDiagramElement);
-            var optTargetDiagramElementDescription = this.mapDescriptionIdToDescription(optTargetDiagramElementDescriptionId.get(), diagramDescription, targetDiagramElement);
-
-            if (optSourceDiagramElementDescription.isPresent() && optTargetDiagramElementDescription.isPresent()) {
-                Object sourceDescription = optSourceDiagramElementDescription.get();
-                Object targetDescription = optTargetDiagramElementDescription.get();
-                result = diagramDescription.getPalettes().stream()
-                        .flatMap(palette -> Stream.concat(palette.getTools().stream(), palette.getToolSections().stream().flatMap(toolSection -> toolSection.getTools().stream())))
-                        .filter(SingleClickOnTwoDiagramElementsTool.class::isInstance).map(SingleClickOnTwoDiagramElementsTool.class::cast).filter(tool -> {
-                            List<SingleClickOnTwoDiagramElementsCandidate> candidates = tool.getCandidates();
-                            return candidates.stream().anyMatch(candidate -> candidate.getSources().contains(sourceDescription) && candidate.getTargets().contains(targetDescription));
-                        }).collect(Collectors.toList());
-
-            }
-
+        if (optSourceDiagramElementDescriptionId.isPresent() && optTargetDiagramElementDescriptionId.isPresent()) {
+            // The tools are indexed by the registry when the description is registered
+            result = this.papyrusViewRegistry.getConnectorTools(diagram.getDescriptionId(), optSourceDiagramElementDescriptionId.get(), optTargetDiagramElementDescriptionId.get());
         }
 
         if (result.isEmpty()) {
@@ -132,20 +102,4 @@ public class PapyrusConnectorToolsProvider implements IConnectorToolsProvider {
         return descriptionId;
     }
 
-    private Optional<Object> mapDescriptionIdToDescription(String descriptionId, DiagramDescription diagramDescription, Object diagramElement) {
-        Optional<Object> result = Optional.empty();
-        if (diagramElement instanceof Node) {
-            var description = this.diagramDescriptionService.findNodeDescriptionById(diagramDescription, descriptionId);
-            if (description.isPresent()) {
-                result = Optional.of(description.get());
-            }
-        } else if (diagramElement instanceof Edge) {
-            var description = this.diagramDescriptionService.findEdgeDescriptionById(diagramDescription, descriptionId);
-            if (description.isPresent()) {
-                result = Optional.of(description.get());
-            }
-        }
-        return result;
-    }
-
 }
@@ -0,0 +1,51 @@
+/*******************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.papyrus.web.application.configuration;
+
+import java.util.Objects;
+
+import org.eclipse.papyrus.web.application.properties.AdvancedPropertiesDescriptionProvider;
+import org.eclipse.papyrus.web.application.properties.FormReadSetTracker;
+import org.eclipse.sirius.components.collaborative.forms.services.api.IPropertiesDescriptionRegistry;
+import org.eclipse.sirius.components.collaborative.forms.services.api.IPropertiesDescriptionRegistryConfigurer;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+/**
+ * Configuration in charge of contributing the "Advanced" page of the UML details view, after the pages contributed by
+ * {@link UMLPropertiesConfigurer}.
+ *
+ * @author agent
+ */
+@Configuration
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class UMLAdvancedPropertiesConfigurer implements IPropertiesDescriptionRegistryConfigurer {
+
+    private final AdvancedPropertiesDescriptionProvider advancedPropertiesDescriptionProvider;
+
+    private final FormReadSetTracker formReadSetTracker;
+
+    public UMLAdvancedPropertiesConfigurer(AdvancedPropertiesDescriptionProvider advancedPropertiesDescriptionProvider, FormReadSetTracker formReadSetTracker) {
+        this.advancedPropertiesDescriptionProvider = Objects.requireNonNull(advancedPropertiesDescriptionProvider);
+        this.formReadSetTracker = Objects.requireNonNull(formReadSetTracker);
+    }
+
+    @Override
+    public void addPropertiesDescriptions(IPropertiesDescriptionRegistry registry) {
+        this.advancedPropertiesDescriptionProvider.getFormDescription().getPageDescriptions().stream()//
+                .map(this.formReadSetTracker::track)//
+                .forEach(registry::add);
+    }
+}
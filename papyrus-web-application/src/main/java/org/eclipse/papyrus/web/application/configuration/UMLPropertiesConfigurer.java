@@ -21,7 +21,10 @@ import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.ecore.EPackage.Registry;
 import org.eclipse.emf.ecore.resource.Resource;
-import org.eclipse.papyrus.web.application.properties.AdvancedPropertiesDescriptionProvider;
+import org.eclipse.emf.ecore.util.EcoreUtil.Copier;
+import org.eclipse.papyrus.web.application.properties.EClassInvariantExpressionFolder;
+import org.eclipse.papyrus.web.application.properties.FormReadSetTracker;
+import org.eclipse.papyrus.web.application.properties.PageDispatchIndex;
 import org.eclipse.papyrus.web.services.properties.UMLDocumentationService;
 import org.eclipse.sirius.components.collaborative.forms.services.api.IPropertiesDescriptionRegistry;
 import org.eclipse.sirius.components.collaborative.forms.services.api.IPropertiesDescriptionRegistryConfigurer;
@@ -33,13 +36,17 @@ import org.eclipse.sirius.components.view.View;
 import org.eclipse.sirius.components.view.emf.IJavaServiceProvider;
 import org.eclipse.sirius.components.view.emf.form.ViewFormDescriptionConverter;
 import org.eclipse.sirius.components.view.form.FormDescription;
+import org.eclipse.sirius.emfjson.resource.JsonResource;
 import org.eclipse.sirius.web.services.api.representations.IInMemoryViewRegistry;
+import org.eclipse.uml2.uml.UMLPackage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 
 /**
  * Configuration in charge of contributing the UML details view.
@@ -47,6 +54,8 @@ import org.springframework.context.annotation.Configuration;
  * @author Arthur Daussy
  */
 @Configuration
+// The pages of the UML detail view are registered before the "Advanced" page, see UMLAdvancedPropertiesConfigurer
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
 public class UMLPropertiesConfigurer implements IPropertiesDescriptionRegistryConfigurer {
 
     public static final String UML_DETAIL_VIEW_NAME = "UML Detail View";
@@ -59,22 +68,25 @@ public class UMLPropertiesConfigurer implements IPropertiesDescriptionRegistryCo
 
     private Registry globalEPackageRegistry;
 
-    private AdvancedPropertiesDescriptionProvider defaultPropertyViewProvider;
-
     private final List<IJavaServiceProvider> javaServiceProviders;
 
     private final ApplicationContext applicationContext;
 
     private final IInMemoryViewRegistry viewRegistry;
 
-    public UMLPropertiesConfigurer(ViewFormDescriptionConverter converter, EPackage.Registry globalEPackageRegistry, AdvancedPropertiesDescriptionProvider defaultPropertyViewProvider,
-            UMLDocumentationService docService, ApplicationContext applicationContext, List<IJavaServiceProvider> javaServiceProviders, IInMemoryViewRegistry viewRegistry) {
-        this.defaultPropertyViewProvider = Objects.requireNonNull(defaultPropertyViewProvider);
+    private final UMLDocumentationService documentationService;
+
+    private final FormReadSetTracker formReadSetTracker;
+
+    public UMLPropertiesConfigurer(ViewFormDescriptionConverter converter, EPackage.Registry globalEPackageRegistry, UMLDocumentationService docService, ApplicationContext applicationContext,
+            List<IJavaServiceProvider> javaServiceProviders, IInMemoryViewRegistry viewRegistry, FormReadSetTracker formReadSetTracker) {
         this.globalEPackageRegistry = Objects.requireNonNull(globalEPackageRegistry);
         this.converter = Objects.requireNonNull(converter);
         this.javaServiceProviders = javaServiceProviders;
         this.applicationContext = applicationContext;
         this.viewRegistry = Objects.requireNonNull(viewRegistry);
+        this.documentationService = Objects.requireNonNull(docService);
+        this.formReadSetTracker = Objects.requireNonNull(formReadSetTracker);
     }
 
     @Override
@@ -90,15 +102,16 @@ public class UMLPropertiesConfigurer implements IPropertiesDescriptionRegistryCo
         List<EPackage> allEPackages = this.findGlobalEPackages();
         AQLInterpreter interpreter = this.createInterpreter(view, allEPackages);
 
+        // Evaluate once the expressions which only depend on the type of the selected element, on a copy of the view
+        // so that the registered view keeps its original expressions
+        View foldedView = this.createFoldedCopy(view);
+
         // Convert the View-based FormDescription and register the result into the system
-        view.getDescriptions().stream()//
+        foldedView.getDescriptions().stream()//
                 .filter(d -> d instanceof FormDescription)//
                 .map(d -> (FormDescription) d)//
                 .forEach(d -> this.register(d, interpreter, registry));
 
-        // Register the "Advance Property View"
-        this.defaultPropertyViewProvider.getFormDescription().getPageDescriptions().forEach(registry::add);
-
         this.viewRegistry.register(view);
     }
 
@@ -124,11 +137,51 @@ public class UMLPropertiesConfigurer implements IPropertiesDescriptionRegistryCo
         return this.globalEPackageRegistry.values().stream().filter(EPackage.class::isInstance).map(EPackage.class::cast).toList();
     }
 
-    private void register(FormDescription viewFormDescription, AQLInterpreter interpreter, IPropertiesDescriptionRegistry registry) {
+    /**
+     * Creates a copy of the given view in which the EClass-invariant expressions are folded.
+     * <p>
+     * The copy is stored in a resource with the same URI and keeps the ids of the original elements, so that the
+     * descriptions converted from the copy have the same ids as the ones of the registered view.
+     * </p>
+     */
+    private View createFoldedCopy(View view) {
+        Resource resource = view.eResource();
+        Copier copier = new Copier();
+        View foldedView = (View) copier.copy(view);
+        copier.copyReferences();
+        Resource foldedResource = new JSONResourceFactory().createResource(resource.getURI());
+        foldedResource.getContents().add(foldedView);
+        if (resource instanceof JsonResource jsonResource && foldedResource instanceof JsonResource foldedJsonResource) {
+            copier.forEach((original, copy) -> foldedJsonResource.setID(copy, jsonResource.getID(original)));
+        }
 
+        EClassInvariantExpressionFolder folder = new EClassInvariantExpressionFolder(UMLPackage.eINSTANCE, this.documentationService);
+        int folded = foldedView.getDescriptions().stream()//
+                .filter(FormDescription.class::isInstance)//
+                .map(FormDescription.class::cast)//
+                .flatMap(formDescription -> formDescription.getPages().stream())//
+                .mapToInt(folder::fold)//
+                .sum();
+        LOGGER.debug("{} EClass-invariant expressions folded in the view {}", folded, resource.getURI());
+        return foldedView;
+    }
+
+    private void register(FormDescription viewFormDescription, AQLInterpreter interpreter, IPropertiesDescriptionRegistry registry) {
         IRepresentationDescription converted = this.converter.convert(viewFormDescription, List.of(), interpreter);
         if (converted instanceof org.eclipse.sirius.components.forms.description.FormDescription formDescription) {
-            formDescription.getPageDescriptions().forEach(registry::add);
+            List<org.eclipse.sirius.components.forms.description.PageDescription> pageDescriptions = formDescription.getPageDescriptions();
+            // The converter keeps the order of the pages, which is used to retrieve the domain type and the
+            // precondition of each converted page
+            if (pageDescriptions.size() == viewFormDescription.getPages().size()) {
+                PageDispatchIndex pageDispatchIndex = new PageDispatchIndex();
+                for (int i = 0; i < pageDescriptions.size(); i++) {
+                    registry.add(this.formReadSetTracker.track(pageDispatchIndex.register(viewFormDescription.getPages().get(i), pageDescriptions.get(i))));
+                }
+                pageDispatchIndex.precompute(UMLPackage.eINSTANCE);
+            } else {
+                LOGGER.warn("Unable to index the pages of the form " + viewFormDescription.getName());
+                pageDescriptions.stream().map(this.formReadSetTracker::track).forEach(registry::add);
+            }
         }
     }
 
@@ -15,12 +15,16 @@ package org.eclipse.papyrus.web.application.properties;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.WeakHashMap;
 import java.util.function.Function;
 
+import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.eclipse.emf.ecore.EcorePackage;
@@ -40,6 +44,7 @@ import org.eclipse.sirius.components.forms.description.AbstractControlDescriptio
 import org.eclipse.sirius.components.forms.description.ForDescription;
 import org.eclipse.sirius.components.forms.description.FormDescription;
 import org.eclipse.sirius.components.forms.description.GroupDescription;
+import org.eclipse.sirius.components.forms.description.IfDescription;
 import org.eclipse.sirius.components.forms.description.PageDescription;
 import org.eclipse.sirius.components.representations.GetOrCreateRandomIdProvider;
 import org.eclipse.sirius.components.representations.VariableManager;
@@ -73,6 +78,8 @@ public class AdvancedPropertiesDescriptionProvider {
 
     private final IFeedbackMessageService feedbackMessageService;
 
+    private final Map<EClass, AdvancedPagePlan> plans = Collections.synchronizedMap(new WeakHashMap<>());
+
     public AdvancedPropertiesDescriptionProvider(IObjectService objectService, ComposedAdapterFactory composedAdapterFactory, IEMFMessageService emfMessageService,
             IFeedbackMessageService feedbackMessageService, IEMFKindService emfKindService) {
         this.objectService = Objects.requireNonNull(objectService);
@@ -144,42 +151,13 @@ public class AdvancedPropertiesDescriptionProvider {
     private GroupDescription getGroupDescription() {
         List<AbstractControlDescription> controlDescriptions = new ArrayList<>();
 
-        Function<VariableManager, List<?>> iterableProvider = variableManager -> {
-            List<Object> objects = new ArrayList<>();
+        List<IfDescription> widgetDescriptions = new ArrayList<>();
+        widgetDescriptions.add(new EStringIfDescriptionProvider(this.composedAdapterFactory, this.propertiesValidationProvider, this.semanticTargetIdProvider).getIfDescription());
+        widgetDescriptions.add(new EBooleanIfDescriptionProvider(this.composedAdapterFactory, this.propertiesValidationProvider, this.semanticTargetIdProvider).getIfDescription());
+        widgetDescriptions.add(new EEnumIfDescriptionProvider(this.composedAdapterFactory, this.propertiesValidationProvider, this.semanticTargetIdProvider).getIfDescription());
 
-            Object self = variableManager.getVariables().get(VariableManager.SELF);
-            if (self instanceof EObject) {
-                EObject eObject = (EObject) self;
-
-                List<IItemPropertyDescriptor> propertyDescriptors = Optional.ofNullable(this.composedAdapterFactory.adapt(eObject, IItemPropertySource.class))
-                        .filter(IItemPropertySource.class::isInstance)
-                        .map(IItemPropertySource.class::cast)
-                        .map(iItemPropertySource -> iItemPropertySource.getPropertyDescriptors(eObject))
-                        .orElse(new ArrayList<>());
-
-                propertyDescriptors.stream() //
-                        .map(propertyDescriptor -> propertyDescriptor.getFeature(eObject))
-                        .filter(EStructuralFeature.class::isInstance)
-                        .map(EStructuralFeature.class::cast)
-                        // Prevents EReference targeting EModelElements and EObject.
-                        // (https://github.com/PapyrusSirius/papyrus-web/issues/58)
-                        // * It can return thousands of elements making the UI really slow
-                        // * On some candidates an id cannot be computed (EPackage) causing NPE (nevertheless this case
-                        // should be fixed in Sirius Component)
-                        // https://github.com/eclipse-sirius/sirius-components/issues/1433
-                        .filter(feature -> feature.getEType() != EcorePackage.eINSTANCE.getEObject() && feature.getEType() != EcorePackage.eINSTANCE.getEModelElement())
-                        .forEach(objects::add);
-            }
-            return objects;
-        };
-
-        List<AbstractControlDescription> ifDescriptions = new ArrayList<>();
-        ifDescriptions.add(new EStringIfDescriptionProvider(this.composedAdapterFactory, this.propertiesValidationProvider, this.semanticTargetIdProvider).getIfDescription());
-        ifDescriptions.add(new EBooleanIfDescriptionProvider(this.composedAdapterFactory, this.propertiesValidationProvider, this.semanticTargetIdProvider).getIfDescription());
-        ifDescriptions.add(new EEnumIfDescriptionProvider(this.composedAdapterFactory, this.propertiesValidationProvider, this.semanticTargetIdProvider).getIfDescription());
-
-        ifDescriptions.add(new NonDerivedNonContainmentReferenceIfDescriptionProvider(this.composedAdapterFactory, this.objectService, this.semanticTargetIdProvider, this.propertiesValidationProvider,
-                this.feedbackMessageService, this.emfKindService).getIfDescription());
+        widgetDescriptions.add(new NonDerivedNonContainmentReferenceIfDescriptionProvider(this.composedAdapterFactory, this.objectService, this.semanticTargetIdProvider,
+                this.propertiesValidationProvider, this.feedbackMessageService, this.emfKindService).getIfDescription());
 
         var numericDataTypes = List.of(
                 EcorePackage.Literals.EINT,
@@ -193,9 +171,33 @@ public class AdvancedPropertiesDescriptionProvider {
                 EcorePackage.Literals.ESHORT,
                 EcorePackage.Literals.ESHORT_OBJECT);
         for (var dataType : numericDataTypes) {
-            ifDescriptions.add(new NumberIfDescriptionProvider(dataType, this.composedAdapterFactory, this.propertiesValidationProvider, this.emfMessageService, this.semanticTargetIdProvider)
+            widgetDescriptions.add(new NumberIfDescriptionProvider(dataType, this.composedAdapterFactory, this.propertiesValidationProvider, this.emfMessageService, this.semanticTargetIdProvider)
                     .getIfDescription());
         }
+        List<Function<VariableManager, Boolean>> widgetPredicates = widgetDescriptions.stream().map(IfDescription::getPredicate).toList();
+
+        Function<VariableManager, List<?>> iterableProvider = variableManager -> {
+            List<Object> objects = new ArrayList<>();
+            Object self = variableManager.getVariables().get(VariableManager.SELF);
+            if (self instanceof EObject eObject) {
+                this.getPlan(eObject, widgetPredicates).featureIds().stream()//
+                        .map(eObject.eClass()::getEStructuralFeature)//
+                        .forEach(objects::add);
+            }
+            return objects;
+        };
+
+        // The widgets of each feature are found once in the plan of its EClass instead of testing all the widgets
+        List<AbstractControlDescription> ifDescriptions = new ArrayList<>();
+        for (int i = 0; i < widgetDescriptions.size(); i++) {
+            IfDescription widgetDescription = widgetDescriptions.get(i);
+            int widgetIndex = i;
+            ifDescriptions.add(IfDescription.newIfDescription(widgetDescription.getId())//
+                    .targetObjectIdProvider(widgetDescription.getTargetObjectIdProvider())//
+                    .predicate(variableManager -> this.getWidgetIndexes(variableManager, widgetPredicates).contains(widgetIndex))//
+                    .controlDescriptions(widgetDescription.getControlDescriptions())//
+                    .build());
+        }
 
         ForDescription forDescription = ForDescription.newForDescription("forId")
                 .targetObjectIdProvider(this.semanticTargetIdProvider)
@@ -214,4 +216,88 @@ public class AdvancedPropertiesDescriptionProvider {
                 .build();
     }
 
+    private List<Integer> getWidgetIndexes(VariableManager variableManager, List<Function<VariableManager, Boolean>> widgetPredicates) {
+        List<Integer> result = List.of();
+        var optionalSelf = variableManager.get(VariableManager.SELF, EObject.class);
+        var optionalFeature = variableManager.get(ESTRUCTURAL_FEATURE, EStructuralFeature.class);
+        if (optionalSelf.isPresent() && optionalFeature.isPresent()) {
+            EObject self = optionalSelf.get();
+            int featureId = self.eClass().getFeatureID(optionalFeature.get());
+            result = this.getPlan(self, widgetPredicates).widgetIndexes().getOrDefault(featureId, List.of());
+        }
+        return result;
+    }
+
+    /**
+     * Gets the plan of the Advanced page for the type of the given element, computing it on the first display of an
+     * element of this type.
+     *
+     * @param eObject
+     *            the displayed element
+     * @param widgetPredicates
+     *            the predicates of the widgets of the page
+     * @return the plan of the page
+     */
+    private AdvancedPagePlan getPlan(EObject eObject, List<Function<VariableManager, Boolean>> widgetPredicates) {
+        return this.plans.computeIfAbsent(eObject.eClass(), eClass -> this.computePlan(eObject, widgetPredicates));
+    }
+
+    private AdvancedPagePlan computePlan(EObject eObject, List<Function<VariableManager, Boolean>> widgetPredicates) {
+        List<IItemPropertyDescriptor> propertyDescriptors = Optional.ofNullable(this.composedAdapterFactory.adapt(eObject, IItemPropertySource.class))
+                .filter(IItemPropertySource.class::isInstance)
+                .map(IItemPropertySource.class::cast)
+                .map(iItemPropertySource -> iItemPropertySource.getPropertyDescriptors(eObject))
+                .orElse(new ArrayList<>());
+
+        EClass eClass = eObject.eClass();
+        List<EStructuralFeature> features = propertyDescriptors.stream() //
+                .map(propertyDescriptor -> propertyDescriptor.getFeature(eObject))
+                .filter(EStructuralFeature.class::isInstance)
+                .map(EStructuralFeature.class::cast)
+                // Prevents EReference targeting EModelElements and EObject.
+                // (https://github.com/PapyrusSirius/papyrus-web/issues/58)
+                // * It can return thousands of elements making the UI really slow
+                // * On some candidates an id cannot be computed (EPackage) causing NPE (nevertheless this case
+                // should be fixed in Sirius Component)
+                // https://github.com/eclipse-sirius/sirius-components/issues/1433
+                .filter(feature -> feature.getEType() != EcorePackage.eINSTANCE.getEObject() && feature.getEType() != EcorePackage.eINSTANCE.getEModelElement())
+                .filter(feature -> eClass.getFeatureID(feature) >= 0)
+                .toList();
+
+        // The widgets only depend on the type of the features, they are tested once for each feature
+        List<Integer> featureIds = new ArrayList<>();
+        Map<Integer, List<Integer>> widgetIndexes = new HashMap<>();
+        for (EStructuralFeature feature : features) {
+            int featureId = eClass.getFeatureID(feature);
+            featureIds.add(featureId);
+            VariableManager variableManager = new VariableManager();
+            variableManager.put(VariableManager.SELF, eObject);
+            variableManager.put(ESTRUCTURAL_FEATURE, feature);
+            List<Integer> featureWidgetIndexes = new ArrayList<>();
+            for (int i = 0; i < widgetPredicates.size(); i++) {
+                if (Boolean.TRUE.equals(widgetPredicates.get(i).apply(variableManager))) {
+                    featureWidgetIndexes.add(i);
+                }
+            }
+            widgetIndexes.put(featureId, featureWidgetIndexes);
+        }
+        return new AdvancedPagePlan(featureIds, widgetIndexes);
+    }
+
+    /**
+     * The content of the Advanced page for a given {@link EClass}.
+     * <p>
+     * The features are identified by their id in the {@link EClass}, a plan never references its {@link EClass}
+     * which is only weakly referenced by the cache of the plans.
+     * </p>
+     *
+     * @param featureIds
+     *            the ids of the features displayed in the page, in their display order
+     * @param widgetIndexes
+     *            the indexes of all the widgets matching each feature, among the widgets of the page
+     * @author Arthur Daussy
+     */
+    private record AdvancedPagePlan(List<Integer> featureIds, Map<Integer, List<Integer>> widgetIndexes) {
+    }
+
 }
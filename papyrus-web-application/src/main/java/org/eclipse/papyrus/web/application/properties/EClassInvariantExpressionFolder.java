@@ -0,0 +1,165 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.application.properties;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EClassifier;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.papyrus.web.services.properties.UMLDocumentationService;
+import org.eclipse.sirius.components.view.form.GroupDescription;
+import org.eclipse.sirius.components.view.form.PageDescription;
+
+/**
+ * Replaces, before the conversion of a form, the expressions whose result only depends on the type of the selected
+ * element by their result.
+ * <p>
+ * In a page whose groups display the page element ({@code var:self}), the type of {@code self} is the domain type of
+ * the page or one of its subtypes. Since a feature is shared by a type and all its subtypes,
+ * {@code aql:self.eClass().getEStructuralFeature('name').changeable} can be replaced by {@code aql:true} or
+ * {@code aql:false}. The help content of a feature depends on the actual type of the element, so
+ * {@code aql:self.getFeatureDescription('name')} is only replaced when the domain type has no subtype. The other
+ * expressions are kept as is and evaluated by the interpreter.
+ * </p>
+ *
+ * @author agent
+ */
+public class EClassInvariantExpressionFolder {
+
+    private static final String SELF = "var:self";
+
+    private static final String AQL_PREFIX = "aql:";
+
+    private static final String FEATURE_ACCESS = "self\\.eClass\\(\\)\\.getEStructuralFeature\\('(\\w+)'\\)\\.changeable";
+
+    private static final Pattern CHANGEABLE_PATTERN = Pattern.compile(AQL_PREFIX + FEATURE_ACCESS + "(?: and " + FEATURE_ACCESS + ")?");
+
+    private static final Pattern FEATURE_DESCRIPTION_PATTERN = Pattern.compile(AQL_PREFIX + "self\\.getFeatureDescription\\('(\\w+)'\\)");
+
+    private static final List<String> INTERPRETED_PREFIXES = List.of(AQL_PREFIX, "var:", "feature:");
+
+    private final EPackage ePackage;
+
+    private final UMLDocumentationService documentationService;
+
+    private final Set<EClass> typesWithSubtypes = new HashSet<>();
+
+    /**
+     * Constructor.
+     *
+     * @param ePackage
+     *            the package containing the domain types of the pages and all their subtypes
+     * @param documentationService
+     *            the service providing the help content of the features
+     */
+    public EClassInvariantExpressionFolder(EPackage ePackage, UMLDocumentationService documentationService) {
+        this.ePackage = Objects.requireNonNull(ePackage);
+        this.documentationService = Objects.requireNonNull(documentationService);
+        for (EClassifier eClassifier : ePackage.getEClassifiers()) {
+            if (eClassifier instanceof EClass eClass) {
+                this.typesWithSubtypes.addAll(eClass.getESuperTypes());
+            }
+        }
+    }
+
+    /**
+     * Folds the EClass-invariant expressions of the given page.
+     * <p>
+     * The expressions of the page are replaced, so the page must be a copy of the page of the registered view.
+     * </p>
+     *
+     * @param page
+     *            a copy of a page of a form which has not been converted yet
+     * @return the number of folded expressions
+     */
+    public int fold(PageDescription page) {
+        int folded = 0;
+        Optional<EClass> domainType = this.findDomainType(page.getDomainType());
+        if (domainType.isPresent()) {
+            for (GroupDescription group : page.getGroups()) {
+                if (SELF.equals(group.getSemanticCandidatesExpression())) {
+                    folded += this.fold(group, domainType.get());
+                }
+            }
+        }
+        return folded;
+    }
+
+    private int fold(GroupDescription group, EClass domainType) {
+        int folded = 0;
+        TreeIterator<EObject> contents = group.eAllContents();
+        while (contents.hasNext()) {
+            EObject content = contents.next();
+            for (EAttribute attribute : content.eClass().getEAllAttributes()) {
+                if (attribute.getEAttributeType() == EcorePackage.Literals.ESTRING && attribute.isChangeable() && !attribute.isMany()
+                        && content.eGet(attribute) instanceof String expression) {
+                    Optional<String> foldedExpression = this.fold(expression, domainType);
+                    if (foldedExpression.isPresent()) {
+                        content.eSet(attribute, foldedExpression.get());
+                        folded++;
+                    }
+                }
+            }
+        }
+        return folded;
+    }
+
+    private Optional<String> fold(String expression, EClass domainType) {
+        Optional<String> result = Optional.empty();
+        Matcher changeableMatcher = CHANGEABLE_PATTERN.matcher(expression);
+        Matcher featureDescriptionMatcher = FEATURE_DESCRIPTION_PATTERN.matcher(expression);
+        if (changeableMatcher.matches()) {
+            EStructuralFeature feature = domainType.getEStructuralFeature(changeableMatcher.group(1));
+            String otherFeatureName = changeableMatcher.group(2);
+            EStructuralFeature otherFeature = feature;
+            if (otherFeatureName != null) {
+                otherFeature = domainType.getEStructuralFeature(otherFeatureName);
+            }
+            if (feature != null && otherFeature != null) {
+                result = Optional.of(AQL_PREFIX + (feature.isChangeable() && otherFeature.isChangeable()));
+            }
+        } else if (featureDescriptionMatcher.matches() && !this.typesWithSubtypes.contains(domainType)) {
+            String entryKey = this.documentationService.getDocumentationEntryKey(domainType.getName(), featureDescriptionMatcher.group(1));
+            String documentation = this.documentationService.getDocumentation(entryKey);
+            // The help content is used as a literal, it must not be mistaken for an expression
+            if (documentation != null && !documentation.isBlank() && INTERPRETED_PREFIXES.stream().noneMatch(documentation::startsWith)) {
+                result = Optional.of(documentation);
+            }
+        }
+        return result;
+    }
+
+    private Optional<EClass> findDomainType(String domainType) {
+        Optional<EClass> result = Optional.empty();
+        if (domainType != null) {
+            String[] segments = domainType.split("::?");
+            if (segments.length == 2 && segments[0].equals(this.ePackage.getName()) && this.ePackage.getEClassifier(segments[1]) instanceof EClass eClass) {
+                result = Optional.of(eClass);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,435 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.application.properties;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
+import org.eclipse.sirius.components.collaborative.api.ChangeKind;
+import org.eclipse.sirius.components.forms.description.PageDescription;
+import org.eclipse.sirius.components.representations.VariableManager;
+import org.eclipse.uml2.uml.Element;
+import org.eclipse.uml2.uml.UMLPackage;
+import org.eclipse.uml2.uml.util.UMLUtil;
+import org.springframework.stereotype.Service;
+
+/**
+ * Tracks the semantic elements read by each rendered form of the Details view, so that a form is only refreshed when
+ * one of the elements it displays has changed.
+ * <p>
+ * The elements displayed by a page are recorded while the page is rendered, together with the elements whose label may
+ * be displayed by its widgets: their container, their contents and the elements they reference. These elements are
+ * observed and the forms which have read a modified element are marked as dirty. A form is identified by its form
+ * description, which is created for each Details view. A form which has not been refreshed yet has no read set and is
+ * always refreshed, the read set is recorded during this refresh.
+ * </p>
+ * <p>
+ * Some widgets read elements which are not reachable from the displayed ones, like the stereotype applications or the
+ * elements computed by AQL expressions. A change of the roots of the resources of the displayed elements, which
+ * contain the stereotype applications, or of a stereotype application is thus relevant to all the forms. The read sets
+ * over-approximate what the forms actually read: a form may be refreshed for nothing, but it is never left stale by a
+ * change of an element it displays.
+ * </p>
+ * <p>
+ * The widgets also read elements which are neither displayed nor reachable from the displayed ones, like the options of
+ * a select or the candidates of a reference, which are computed from the whole model. The labels of these candidates
+ * are mostly their names. The resource set of the displayed elements is thus observed as well, and any change of its
+ * structure (an element created, deleted or moved) or of the name of any of its elements marks as dirty the forms
+ * displaying its elements.
+ * </p>
+ * <p>
+ * The read set of a form is released once its form description has been garbage collected, i.e. once the form has
+ * been disposed. The elements which are not read by a form anymore stop being observed the next time they change.
+ * </p>
+ *
+ * @author agent
+ */
+@Service
+public class FormReadSetTracker {
+
+    /**
+     * The number of contents whose references are recorded, only the first items of a containment reference are
+     * rendered with their label.
+     */
+    private static final int MAX_CONTENTS_WITH_REFERENCES = 50;
+
+    private final Map<Object, ReadSet> readSets = new WeakHashMap<>();
+
+    /**
+     * The read sets of the forms which have not been disposed, which are enqueued in {@link #disposedForms} once their
+     * form has been garbage collected.
+     */
+    private final Set<ReadSet> liveReadSets = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private final ReferenceQueue<Object> disposedForms = new ReferenceQueue<>();
+
+    private final Set<PageDescription> trackedPages = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * The read set of the form being refreshed on the current thread. It is only weakly referenced so that a thread
+     * cannot retain the elements read by a disposed form.
+     */
+    private final ThreadLocal<Reference<ReadSet>> recording = new ThreadLocal<>();
+
+    private final ReadSetAdapter adapter = new ReadSetAdapter();
+
+    private final CandidatesAdapter candidatesAdapter = new CandidatesAdapter();
+
+    /**
+     * Returns a copy of the given page which records the elements it displays in the read set of the form being
+     * refreshed.
+     *
+     * @param pageDescription
+     *            a page of the Details view
+     * @return the tracked page
+     */
+    public PageDescription track(PageDescription pageDescription) {
+        Function<VariableManager, List<?>> semanticElementsProvider = pageDescription.getSemanticElementsProvider();
+        PageDescription trackedPage = PageDescription.newPageDescription(pageDescription.getId())//
+                .idProvider(pageDescription.getIdProvider())//
+                .labelProvider(pageDescription.getLabelProvider())//
+                .semanticElementsProvider(variableManager -> this.recordSemanticElements(semanticElementsProvider, variableManager))//
+                .groupDescriptions(pageDescription.getGroupDescriptions())//
+                .toolbarActionDescriptions(pageDescription.getToolbarActionDescriptions())//
+                .canCreatePredicate(pageDescription.getCanCreatePredicate())//
+                .build();
+        synchronized (this) {
+            this.trackedPages.add(trackedPage);
+        }
+        return trackedPage;
+    }
+
+    /**
+     * Indicates if the given page has been created by {@link #track(PageDescription)}.
+     *
+     * @param pageDescription
+     *            a page
+     * @return <code>true</code> if the page records the elements it displays
+     */
+    public synchronized boolean isTracked(PageDescription pageDescription) {
+        return this.trackedPages.contains(pageDescription);
+    }
+
+    /**
+     * Indicates if the given form must be refreshed after the given change. If so, the read set of the form is recorded
+     * again during its refresh, which is expected to follow on the current thread.
+     *
+     * @param form
+     *            the key of the form, i.e. its form description
+     * @param changeDescription
+     *            the description of the change
+     * @return <code>true</code> if the form must be refreshed
+     */
+    public synchronized boolean shouldRefresh(Object form, ChangeDescription changeDescription) {
+        // The recording of the previous refresh performed on this thread is over
+        this.recording.remove();
+        this.releaseDisposedForms();
+
+        boolean result;
+        ReadSet previousReadSet = this.readSets.get(form);
+        if (ChangeKind.SEMANTIC_CHANGE.equals(changeDescription.getKind())) {
+            result = previousReadSet == null || previousReadSet.isDirty();
+        } else {
+            result = !ChangeKind.NOTHING.equals(changeDescription.getKind());
+        }
+        if (result) {
+            if (previousReadSet != null) {
+                this.liveReadSets.remove(previousReadSet);
+            }
+            ReadSet readSet = new ReadSet(form, this.disposedForms);
+            this.readSets.put(form, readSet);
+            this.liveReadSets.add(readSet);
+            this.recording.set(new WeakReference<>(readSet));
+        }
+        return result;
+    }
+
+    private List<?> recordSemanticElements(Function<VariableManager, List<?>> semanticElementsProvider, VariableManager variableManager) {
+        ReadSet readSet = this.getRecordingReadSet();
+        List<?> semanticElements = null;
+        try {
+            semanticElements = semanticElementsProvider.apply(variableManager);
+            if (readSet != null) {
+                this.record(readSet, semanticElements);
+            }
+        } finally {
+            if (readSet != null && semanticElements == null) {
+                // The refresh has failed, the form must be refreshed again on the next change
+                readSet.setDirty();
+                this.recording.remove();
+            }
+        }
+        return semanticElements;
+    }
+
+    private ReadSet getRecordingReadSet() {
+        ReadSet result = null;
+        Reference<ReadSet> reference = this.recording.get();
+        if (reference != null) {
+            result = reference.get();
+        }
+        return result;
+    }
+
+    private void record(ReadSet readSet, List<?> semanticElements) {
+        for (Object semanticElement : semanticElements) {
+            if (semanticElement instanceof EObject eObject) {
+                this.recordDisplayedElement(readSet, eObject);
+            }
+        }
+    }
+
+    private void recordDisplayedElement(ReadSet readSet, EObject eObject) {
+        this.recordElement(readSet, eObject);
+        if (eObject.eContainer() != null) {
+            this.recordElement(readSet, eObject.eContainer());
+        }
+        eObject.eCrossReferences().forEach(reference -> this.recordElement(readSet, reference));
+        int index = 0;
+        for (EObject content : eObject.eContents()) {
+            this.recordElement(readSet, content);
+            if (index < MAX_CONTENTS_WITH_REFERENCES) {
+                content.eCrossReferences().forEach(reference -> this.recordElement(readSet, reference));
+            }
+            index++;
+        }
+        Resource resource = eObject.eResource();
+        if (resource != null && this.recordElement(readSet, resource)) {
+            // The stereotype applications are roots of the resource of their base element
+            resource.getContents().stream()//
+                    .filter(this::isStereotypeApplication)//
+                    .forEach(stereotypeApplication -> this.recordElement(readSet, stereotypeApplication));
+            this.recordCandidatesScope(readSet, resource);
+        }
+    }
+
+    /**
+     * Records the scope in which the candidates of the widgets are computed, i.e. the resource set of the given
+     * resource, and starts observing all its elements.
+     */
+    private void recordCandidatesScope(ReadSet readSet, Resource resource) {
+        Notifier scope = resource;
+        ResourceSet resourceSet = resource.getResourceSet();
+        if (resourceSet != null) {
+            scope = resourceSet;
+        }
+        boolean added;
+        synchronized (this) {
+            added = readSet.add(scope);
+        }
+        if (added && !scope.eAdapters().contains(this.candidatesAdapter)) {
+            scope.eAdapters().add(this.candidatesAdapter);
+        }
+    }
+
+    /**
+     * Records the given element in the given read set and starts observing it.
+     *
+     * @return <code>true</code> if the element was not part of the read set yet
+     */
+    private boolean recordElement(ReadSet readSet, Notifier notifier) {
+        boolean added;
+        synchronized (this) {
+            added = readSet.add(notifier);
+        }
+        if (added && !notifier.eAdapters().contains(this.adapter)) {
+            notifier.eAdapters().add(this.adapter);
+        }
+        return added;
+    }
+
+    private boolean isStereotypeApplication(EObject eObject) {
+        return !(eObject instanceof Element) && UMLUtil.getBaseElement(eObject) != null;
+    }
+
+    private void releaseDisposedForms() {
+        Reference<?> disposedForm = this.disposedForms.poll();
+        while (disposedForm != null) {
+            this.liveReadSets.remove(disposedForm);
+            disposedForm = this.disposedForms.poll();
+        }
+    }
+
+    /**
+     * Handles a change of an observed element.
+     *
+     * @return <code>false</code> if the element is not read by any form anymore
+     */
+    private synchronized boolean markDirty(Notification notification) {
+        Object notifier = notification.getNotifier();
+        boolean result = this.liveReadSets.stream().anyMatch(readSet -> readSet.contains(notifier));
+        if (result && this.isRelevantToAllForms(notification)) {
+            this.liveReadSets.forEach(ReadSet::setDirty);
+        } else if (result) {
+            this.liveReadSets.stream()//
+                    .filter(readSet -> readSet.contains(notifier))//
+                    .forEach(ReadSet::setDirty);
+        }
+        return result;
+    }
+
+    /**
+     * Handles a change in an observed resource set.
+     *
+     * @return <code>false</code> if the resource set is not read by any form anymore
+     */
+    private synchronized boolean markScopeDirty(Notifier scope, Notification notification) {
+        boolean result = this.liveReadSets.stream().anyMatch(readSet -> readSet.contains(scope));
+        if (result && this.isCandidatesChange(notification)) {
+            this.liveReadSets.stream()//
+                    .filter(readSet -> readSet.contains(scope))//
+                    .forEach(ReadSet::setDirty);
+        }
+        return result;
+    }
+
+    /**
+     * Indicates if the given change may modify the candidates of a widget or their labels.
+     */
+    private boolean isCandidatesChange(Notification notification) {
+        boolean result;
+        Object feature = notification.getFeature();
+        if (notification.getNotifier() instanceof ResourceSet) {
+            result = notification.getFeatureID(ResourceSet.class) == ResourceSet.RESOURCE_SET__RESOURCES;
+        } else if (notification.getNotifier() instanceof Resource) {
+            result = notification.getFeatureID(Resource.class) == Resource.RESOURCE__CONTENTS;
+        } else if (feature instanceof EReference reference) {
+            result = reference.isContainment();
+        } else {
+            result = UMLPackage.Literals.NAMED_ELEMENT__NAME.equals(feature);
+        }
+        return result;
+    }
+
+    private boolean isRelevantToAllForms(Notification notification) {
+        boolean result;
+        if (notification.getNotifier() instanceof Resource) {
+            result = notification.getFeatureID(Resource.class) == Resource.RESOURCE__CONTENTS;
+        } else {
+            result = notification.getNotifier() instanceof EObject eObject && this.isStereotypeApplication(eObject);
+        }
+        return result;
+    }
+
+    /**
+     * The elements read by a form, compared by identity. It weakly references its form to be enqueued once the form
+     * has been disposed.
+     *
+     * @author agent
+     */
+    private static final class ReadSet extends WeakReference<Object> {
+
+        private final Set<Object> elements = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        private boolean dirty;
+
+        ReadSet(Object form, ReferenceQueue<Object> disposedForms) {
+            super(form, disposedForms);
+        }
+
+        boolean add(Object element) {
+            return this.elements.add(element);
+        }
+
+        boolean contains(Object element) {
+            return this.elements.contains(element);
+        }
+
+        boolean isDirty() {
+            return this.dirty;
+        }
+
+        void setDirty() {
+            this.dirty = true;
+        }
+    }
+
+    /**
+     * Marks the forms which have read an element as dirty when this element is modified, and stops observing the
+     * elements which are not read by any form anymore.
+     *
+     * @author agent
+     */
+    private final class ReadSetAdapter extends AdapterImpl {
+
+        @Override
+        public void notifyChanged(Notification notification) {
+            if (!notification.isTouch() && !FormReadSetTracker.this.markDirty(notification) && notification.getNotifier() instanceof Notifier notifier) {
+                // The notifiers iterate over a copy of their adapters, the adapter can be removed while notified
+                notifier.eAdapters().remove(this);
+            }
+        }
+    }
+
+    /**
+     * Marks the forms which display the elements of a resource set as dirty when the candidates of their widgets may
+     * have changed, and stops observing the resource sets which are not read by any form anymore.
+     *
+     * @author agent
+     */
+    private final class CandidatesAdapter extends EContentAdapter {
+
+        @Override
+        public void notifyChanged(Notification notification) {
+            super.notifyChanged(notification);
+            Notifier scope = this.getScope(notification.getNotifier());
+            if (!notification.isTouch() && scope != null && !FormReadSetTracker.this.markScopeDirty(scope, notification)) {
+                scope.eAdapters().remove(this);
+            }
+        }
+
+        @Override
+        protected boolean resolve() {
+            // The proxies are not resolved, the elements which have not been loaded are not candidates yet
+            return false;
+        }
+
+        private Notifier getScope(Object notifier) {
+            Notifier result = null;
+            if (notifier instanceof ResourceSet resourceSet) {
+                result = resourceSet;
+            } else if (notifier instanceof Resource resource) {
+                result = this.getScope(resource);
+            } else if (notifier instanceof EObject eObject && eObject.eResource() != null) {
+                result = this.getScope(eObject.eResource());
+            }
+            return result;
+        }
+
+        private Notifier getScope(Resource resource) {
+            Notifier result = resource;
+            if (resource.getResourceSet() != null) {
+                result = resource.getResourceSet();
+            }
+            return result;
+        }
+    }
+}
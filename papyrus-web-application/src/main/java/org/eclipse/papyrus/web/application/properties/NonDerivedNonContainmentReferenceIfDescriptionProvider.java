@@ -146,7 +146,15 @@ public class NonDerivedNonContainmentReferenceIfDescriptionProvider {
     }
 
     private Function<VariableManager, List<?>> getOptionsProvider() {
-        return new EStructuralFeatureChoiceOfValueProvider(PropertiesDefaultDescriptionProvider.ESTRUCTURAL_FEATURE, this.composedAdapterFactory);
+        var choiceOfValueProvider = new EStructuralFeatureChoiceOfValueProvider(PropertiesDefaultDescriptionProvider.ESTRUCTURAL_FEATURE, this.composedAdapterFactory);
+        return variableManager -> {
+            List<?> options = List.of();
+            // The options of a read-only reference are never displayed, there is no need to search the whole model
+            if (!this.readOnlyProvider().apply(variableManager)) {
+                options = choiceOfValueProvider.apply(variableManager);
+            }
+            return options;
+        };
     }
 
     private EStructuralFeature.Setting resolveSetting(VariableManager variableManager) {
@@ -0,0 +1,222 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.application.properties;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EClassifier;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.sirius.components.forms.description.PageDescription;
+import org.eclipse.sirius.components.representations.VariableManager;
+
+/**
+ * Index giving, for each {@link EClass}, the pages of a form which can be displayed for its instances.
+ * <p>
+ * The index is computed from the domain type of the pages and from the
+ * {@code not(self.oclIsKindOf(package::Type))} conjuncts of their precondition, which only depend on the type of the
+ * selected element. The pages returned by {@link #register} look up this index before evaluating their AQL
+ * precondition, so that only the candidate pages of the selected element have their precondition evaluated, whatever
+ * the number of pages of the form.
+ * </p>
+ *
+ * @author agent
+ */
+public class PageDispatchIndex {
+
+    private static final String AQL_PREFIX = "aql:";
+
+    private static final String AND = " and ";
+
+    private static final Pattern EXCLUDED_TYPE_PATTERN = Pattern.compile("not\\(self\\.oclIsKindOf\\((\\w+)::(\\w+)\\)\\)");
+
+    private static final Pattern TYPE_PATTERN = Pattern.compile("(\\w+)::?(\\w+)");
+
+    private final List<PageConstraint> constraints = new ArrayList<>();
+
+    private final Map<EClass, BitSet> candidatesByEClass = new ConcurrentHashMap<>();
+
+    /**
+     * Registers a converted page in the index.
+     *
+     * @param viewPageDescription
+     *            the View-based page from which the page has been converted
+     * @param pageDescription
+     *            the converted page
+     * @return a copy of the converted page, which only evaluates its precondition if the selected element is a
+     *         candidate according to the index
+     */
+    public PageDescription register(org.eclipse.sirius.components.view.form.PageDescription viewPageDescription, PageDescription pageDescription) {
+        int index = this.constraints.size();
+        this.constraints.add(new PageConstraint(this.parseType(viewPageDescription.getDomainType()), this.parseExcludedTypes(viewPageDescription.getPreconditionExpression())));
+        this.candidatesByEClass.clear();
+
+        Predicate<VariableManager> canCreatePredicate = pageDescription.getCanCreatePredicate();
+        return PageDescription.newPageDescription(pageDescription.getId())//
+                .idProvider(pageDescription.getIdProvider())//
+                .labelProvider(pageDescription.getLabelProvider())//
+                .semanticElementsProvider(pageDescription.getSemanticElementsProvider())//
+                .groupDescriptions(pageDescription.getGroupDescriptions())//
+                .toolbarActionDescriptions(pageDescription.getToolbarActionDescriptions())//
+                .canCreatePredicate(variableManager -> this.isCandidate(index, variableManager) && canCreatePredicate.test(variableManager))//
+                .build();
+    }
+
+    /**
+     * Computes the candidate pages of all the {@link EClass}es of the given package, so that the first selection of
+     * their instances does not pay for it.
+     *
+     * @param ePackage
+     *            a package
+     */
+    public void precompute(EPackage ePackage) {
+        for (EClassifier eClassifier : ePackage.getEClassifiers()) {
+            if (eClassifier instanceof EClass eClass) {
+                this.getCandidates(eClass);
+            }
+        }
+    }
+
+    /**
+     * Gets the number of registered pages which can be displayed for the instances of the given {@link EClass}.
+     *
+     * @param eClass
+     *            an {@link EClass}
+     * @return the number of candidate pages
+     */
+    public int getCandidateCount(EClass eClass) {
+        return this.getCandidates(eClass).cardinality();
+    }
+
+    private boolean isCandidate(int index, VariableManager variableManager) {
+        boolean result = true;
+        Object self = variableManager.getVariables().get(VariableManager.SELF);
+        if (self instanceof EObject eObject) {
+            result = this.getCandidates(eObject.eClass()).get(index);
+        }
+        return result;
+    }
+
+    private BitSet getCandidates(EClass eClass) {
+        return this.candidatesByEClass.computeIfAbsent(eClass, this::computeCandidates);
+    }
+
+    private BitSet computeCandidates(EClass eClass) {
+        BitSet candidates = new BitSet(this.constraints.size());
+        for (int i = 0; i < this.constraints.size(); i++) {
+            PageConstraint constraint = this.constraints.get(i);
+            boolean matchesDomainType = constraint.domainType() == null || this.isKindOf(eClass, constraint.domainType());
+            if (matchesDomainType && constraint.excludedTypes().stream().noneMatch(excludedType -> this.isKindOf(eClass, excludedType))) {
+                candidates.set(i);
+            }
+        }
+        return candidates;
+    }
+
+    private boolean isKindOf(EClass eClass, QualifiedType type) {
+        return type.matches(eClass) || eClass.getEAllSuperTypes().stream().anyMatch(type::matches);
+    }
+
+    private QualifiedType parseType(String domainType) {
+        QualifiedType result = null;
+        if (domainType != null) {
+            Matcher matcher = TYPE_PATTERN.matcher(domainType.trim());
+            if (matcher.matches()) {
+                result = new QualifiedType(matcher.group(1), matcher.group(2));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Extracts the types excluded by a precondition of the form {@code aql:A and B and ...}, where some of the
+     * conjuncts are {@code not(self.oclIsKindOf(package::Type))}. Nothing is extracted from other kinds of
+     * preconditions, which are then only evaluated by the interpreter.
+     */
+    private List<QualifiedType> parseExcludedTypes(String preconditionExpression) {
+        List<QualifiedType> excludedTypes = new ArrayList<>();
+        if (preconditionExpression != null && preconditionExpression.startsWith(AQL_PREFIX) && !preconditionExpression.contains(" or ")) {
+            String[] conjuncts = preconditionExpression.substring(AQL_PREFIX.length()).split(AND);
+            boolean isConjunction = true;
+            for (String conjunct : conjuncts) {
+                isConjunction = isConjunction && this.isBalanced(conjunct);
+            }
+            if (isConjunction) {
+                for (String conjunct : conjuncts) {
+                    Matcher matcher = EXCLUDED_TYPE_PATTERN.matcher(conjunct.trim());
+                    if (matcher.matches()) {
+                        excludedTypes.add(new QualifiedType(matcher.group(1), matcher.group(2)));
+                    }
+                }
+            }
+        }
+        return excludedTypes;
+    }
+
+    private boolean isBalanced(String expression) {
+        int depth = 0;
+        for (int i = 0; i < expression.length() && depth >= 0; i++) {
+            char character = expression.charAt(i);
+            if (character == '(') {
+                depth++;
+            } else if (character == ')') {
+                depth--;
+            }
+        }
+        return depth == 0;
+    }
+
+    /**
+     * The type-only constraints of a page.
+     *
+     * @param domainType
+     *            the domain type of the page, or <code>null</code> if the page accepts any element
+     * @param excludedTypes
+     *            the types whose instances are rejected by the precondition of the page
+     * @author agent
+     */
+    private record PageConstraint(QualifiedType domainType, List<QualifiedType> excludedTypes) {
+    }
+
+    /**
+     * A type referenced as {@code package::Type} in a domain type or an expression.
+     *
+     * @param packageName
+     *            the name or the prefix of the package
+     * @param typeName
+     *            the name of the type
+     * @author agent
+     */
+    private record QualifiedType(String packageName, String typeName) {
+
+        QualifiedType {
+            Objects.requireNonNull(packageName);
+            Objects.requireNonNull(typeName);
+        }
+
+        boolean matches(EClass eClass) {
+            EPackage ePackage = eClass.getEPackage();
+            return this.typeName.equals(eClass.getName()) && ePackage != null && (this.packageName.equals(ePackage.getName()) || this.packageName.equals(ePackage.getNsPrefix()));
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.application.properties;
+
+import java.util.Objects;
+
+import org.eclipse.sirius.components.collaborative.api.IRepresentationRefreshPolicy;
+import org.eclipse.sirius.components.collaborative.api.IRepresentationRefreshPolicyProvider;
+import org.eclipse.sirius.components.forms.description.FormDescription;
+import org.eclipse.sirius.components.representations.IRepresentationDescription;
+import org.springframework.stereotype.Service;
+
+/**
+ * Refresh policy of the forms displaying the UML Details view pages: a form is only refreshed when the elements it has
+ * read have changed.
+ *
+ * @see FormReadSetTracker
+ * @author agent
+ */
+@Service
+public class PapyrusFormRefreshPolicyProvider implements IRepresentationRefreshPolicyProvider {
+
+    private final FormReadSetTracker formReadSetTracker;
+
+    public PapyrusFormRefreshPolicyProvider(FormReadSetTracker formReadSetTracker) {
+        this.formReadSetTracker = Objects.requireNonNull(formReadSetTracker);
+    }
+
+    @Override
+    public boolean canHandle(IRepresentationDescription representationDescription) {
+        return representationDescription instanceof FormDescription formDescription && formDescription.getPageDescriptions().stream().anyMatch(this.formReadSetTracker::isTracked);
+    }
+
+    @Override
+    public IRepresentationRefreshPolicy getRepresentationRefreshPolicy(IRepresentationDescription representationDescription) {
+        return changeDescription -> this.formReadSetTracker.shouldRefresh(representationDescription, changeDescription);
+    }
+}
@@ -14,6 +14,7 @@ package org.eclipse.papyrus.web.application.slider;
 
 import java.util.Objects;
 
+import org.eclipse.papyrus.web.custom.widgets.coalescing.WidgetEditCoalescer;
 import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
 import org.eclipse.sirius.components.collaborative.api.ChangeKind;
 import org.eclipse.sirius.components.collaborative.api.Monitoring;
@@ -49,9 +50,12 @@ public class EditSliderValueEventHandler implements IFormEventHandler {
 
     private final Counter counter;
 
-    public EditSliderValueEventHandler(IFormQueryService formQueryService, ICollaborativeFormMessageService messageService, MeterRegistry meterRegistry) {
+    private final WidgetEditCoalescer widgetEditCoalescer;
+
+    public EditSliderValueEventHandler(IFormQueryService formQueryService, ICollaborativeFormMessageService messageService, MeterRegistry meterRegistry, WidgetEditCoalescer widgetEditCoalescer) {
         this.formQueryService = Objects.requireNonNull(formQueryService);
         this.messageService = Objects.requireNonNull(messageService);
+        this.widgetEditCoalescer = Objects.requireNonNull(widgetEditCoalescer);
 
         // @formatter:off
         this.counter = Counter.builder(Monitoring.EVENT_HANDLER)
@@ -88,7 +92,7 @@ public class EditSliderValueEventHandler implements IFormEventHandler {
             }
             if (status instanceof Success success) {
                 payload = new SuccessPayload(formInput.id(), success.getMessages());
-                changeDescription = new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, formInput.representationId(), formInput);
+                changeDescription = this.widgetEditCoalescer.getChangeDescription(editingContext, formInput, input.sliderId(), "");
             } else if (status instanceof Failure failure) {
                 payload = new ErrorPayload(formInput.id(), failure.getMessages());
             }
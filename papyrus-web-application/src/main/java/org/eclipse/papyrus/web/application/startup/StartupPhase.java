@@ -0,0 +1,35 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.application.startup;
+
+/**
+ * A phase of the startup of the server, usually the creation and the initialization of a bean.
+ *
+ * @param name
+ *            the name of the phase, the bean name for a bean
+ * @param type
+ *            the type of the initialized object
+ * @param thread
+ *            the name of the thread running the phase
+ * @param totalMillis
+ *            the wall time of the phase, including its nested phases
+ * @param selfMillis
+ *            the wall time of the phase, excluding its nested phases
+ * @param allocatedBytes
+ *            the bytes allocated by the phase, excluding its nested phases, or <code>-1</code> if the JVM does not
+ *            measure allocations
+ * @author agent
+ */
+public record StartupPhase(String name, String type, String thread, double totalMillis, double selfMillis, long allocatedBytes) {
+}
@@ -0,0 +1,300 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.application.startup;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.InstantiationAwareBeanPostProcessor;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.boot.context.event.SpringApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.OrderUtils;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records the wall time, the allocations and the thread of each initializer run during the startup of the server.
+ * <p>
+ * A bean phase starts before the instantiation of the bean and ends after its initialization, it thus covers its
+ * constructor, the injection of its dependencies and its {@code @PostConstruct} methods. The beans created while
+ * injecting the dependencies of a bean are recorded as nested phases and their time is excluded from the self time of
+ * the bean. The command line runners, such as the loading of the UML images, are wrapped to record each of their
+ * runs as a phase nested in the phase running all the runners. The recording stops once the server is ready, when the
+ * report is logged, so that the beans created afterwards are neither timed nor kept.
+ * </p>
+ *
+ * @author agent
+ */
+@Component
+public class StartupPhaseProfiler implements InstantiationAwareBeanPostProcessor, ApplicationListener<SpringApplicationEvent> {
+
+    /**
+     * The name of the phase running the command line runners.
+     */
+    public static final String RUNNERS_PHASE = "commandLineRunners";
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private static final int LOGGED_PHASES = 20;
+
+    private final Logger logger = LoggerFactory.getLogger(StartupPhaseProfiler.class);
+
+    private final ThreadLocal<Deque<Frame>> frames = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private final List<StartupPhase> phases = new ArrayList<>();
+
+    private final com.sun.management.ThreadMXBean allocationBean;
+
+    private long firstPhaseStart;
+
+    private long readyTime;
+
+    private volatile boolean recording = true;
+
+    /**
+     * Constructor.
+     */
+    public StartupPhaseProfiler() {
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        if (threadBean instanceof com.sun.management.ThreadMXBean sunThreadBean && sunThreadBean.isThreadAllocatedMemorySupported()) {
+            sunThreadBean.setThreadAllocatedMemoryEnabled(true);
+            this.allocationBean = sunThreadBean;
+        } else {
+            this.allocationBean = null;
+        }
+    }
+
+    @Override
+    public Object postProcessBeforeInstantiation(Class<?> beanClass, String beanName) {
+        this.start(beanName, beanClass.getName());
+        return null;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        this.end(beanName);
+        Object result = bean;
+        if (this.recording && bean instanceof CommandLineRunner runner) {
+            result = new ProfiledCommandLineRunner(beanName, runner);
+        }
+        return result;
+    }
+
+    @Override
+    public void onApplicationEvent(SpringApplicationEvent event) {
+        if (event instanceof ApplicationStartedEvent) {
+            this.start(RUNNERS_PHASE, CommandLineRunner.class.getName());
+        } else if (event instanceof ApplicationReadyEvent) {
+            this.stopRecording();
+            this.logReport();
+        }
+    }
+
+    /**
+     * Ends the phase running the command line runners and stops the recording of new phases.
+     */
+    void stopRecording() {
+        this.end(RUNNERS_PHASE);
+        synchronized (this) {
+            this.readyTime = System.nanoTime();
+            this.recording = false;
+        }
+        this.frames.remove();
+    }
+
+    /**
+     * Starts a phase on the current thread, unless the recording is stopped.
+     *
+     * @param name
+     *            the name of the phase
+     * @param type
+     *            the type of the initialized object
+     */
+    void start(String name, String type) {
+        if (this.recording) {
+            Frame frame = new Frame(name, type, System.nanoTime(), this.getAllocatedBytes());
+            synchronized (this) {
+                if (this.firstPhaseStart == 0) {
+                    this.firstPhaseStart = frame.startTime;
+                }
+            }
+            this.frames.get().push(frame);
+        }
+    }
+
+    /**
+     * Ends the last phase with the given name started on the current thread. The phases started after it which are not
+     * ended yet, because their creation failed, are dropped.
+     *
+     * @param name
+     *            the name of the phase
+     */
+    void end(String name) {
+        Deque<Frame> stack = this.frames.get();
+        Frame frame = null;
+        Iterator<Frame> iterator = stack.iterator();
+        while (frame == null && iterator.hasNext()) {
+            Frame candidate = iterator.next();
+            if (candidate.name.equals(name)) {
+                frame = candidate;
+            }
+        }
+        if (frame != null) {
+            while (stack.peek() != frame) {
+                stack.pop();
+            }
+            stack.pop();
+            this.record(frame, stack.peek());
+        }
+    }
+
+    /**
+     * Gets the breakdown of the startup recorded so far.
+     *
+     * @return the startup report
+     */
+    public synchronized StartupReport getReport() {
+        long end = this.readyTime;
+        if (end == 0) {
+            end = System.nanoTime();
+        }
+        double startupMillis = 0;
+        if (this.firstPhaseStart != 0) {
+            startupMillis = (end - this.firstPhaseStart) / NANOS_PER_MILLI;
+        }
+        List<StartupPhase> sortedPhases = this.phases.stream()//
+                .sorted(Comparator.comparingDouble(StartupPhase::selfMillis).reversed())//
+                .toList();
+        return new StartupReport(startupMillis, sortedPhases);
+    }
+
+    private void record(Frame frame, Frame parent) {
+        long totalTime = System.nanoTime() - frame.startTime;
+        long allocated = -1;
+        if (this.allocationBean != null) {
+            allocated = this.getAllocatedBytes() - frame.startAllocatedBytes;
+        }
+        if (parent != null) {
+            parent.childrenTime += totalTime;
+            parent.childrenAllocatedBytes += allocated;
+        }
+        long selfAllocated = allocated;
+        if (allocated >= 0) {
+            selfAllocated = allocated - frame.childrenAllocatedBytes;
+        }
+        StartupPhase phase = new StartupPhase(frame.name, frame.type, Thread.currentThread().getName(), totalTime / NANOS_PER_MILLI, (totalTime - frame.childrenTime) / NANOS_PER_MILLI,
+                selfAllocated);
+        synchronized (this) {
+            this.phases.add(phase);
+        }
+    }
+
+    private long getAllocatedBytes() {
+        long result = -1;
+        if (this.allocationBean != null) {
+            result = this.allocationBean.getCurrentThreadAllocatedBytes();
+        }
+        return result;
+    }
+
+    private void logReport() {
+        if (this.logger.isInfoEnabled()) {
+            StartupReport report = this.getReport();
+            StringBuilder builder = new StringBuilder();
+            builder.append(String.format("Startup completed in %.0f ms, slowest phases (self time):", report.startupMillis()));
+            report.phases().stream().limit(LOGGED_PHASES).forEach(phase -> {
+                builder.append(System.lineSeparator());
+                builder.append(String.format("  %10.1f ms %10.1f ms total %12d bytes  %s (%s) [%s]", phase.selfMillis(), phase.totalMillis(), phase.allocatedBytes(), phase.name(), phase.type(),
+                        phase.thread()));
+            });
+            this.logger.info(builder.toString());
+        }
+    }
+
+    /**
+     * A phase which is not ended yet.
+     *
+     * @author agent
+     */
+    private static final class Frame {
+
+        private final String name;
+
+        private final String type;
+
+        private final long startTime;
+
+        private final long startAllocatedBytes;
+
+        private long childrenTime;
+
+        private long childrenAllocatedBytes;
+
+        Frame(String name, String type, long startTime, long startAllocatedBytes) {
+            this.name = name;
+            this.type = type;
+            this.startTime = startTime;
+            this.startAllocatedBytes = startAllocatedBytes;
+        }
+    }
+
+    /**
+     * Records the run of a command line runner as a phase.
+     *
+     * @author agent
+     */
+    private final class ProfiledCommandLineRunner implements CommandLineRunner, Ordered {
+
+        private final String name;
+
+        private final CommandLineRunner runner;
+
+        ProfiledCommandLineRunner(String name, CommandLineRunner runner) {
+            this.name = name;
+            this.runner = runner;
+        }
+
+        @Override
+        public void run(String... args) throws Exception {
+            StartupPhaseProfiler.this.start(this.name, this.runner.getClass().getName());
+            try {
+                this.runner.run(args);
+            } finally {
+                StartupPhaseProfiler.this.end(this.name);
+            }
+        }
+
+        @Override
+        public int getOrder() {
+            int result;
+            if (this.runner instanceof Ordered ordered) {
+                result = ordered.getOrder();
+            } else {
+                result = OrderUtils.getOrder(this.runner.getClass(), Ordered.LOWEST_PRECEDENCE);
+            }
+            return result;
+        }
+    }
+}
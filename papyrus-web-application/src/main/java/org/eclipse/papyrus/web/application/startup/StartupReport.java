@@ -0,0 +1,28 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.application.startup;
+
+import java.util.List;
+
+/**
+ * The breakdown of the startup of the server.
+ *
+ * @param startupMillis
+ *            the wall time between the creation of the first profiled bean and the moment the server is ready
+ * @param phases
+ *            the phases of the startup, sorted by decreasing self time
+ * @author agent
+ */
+public record StartupReport(double startupMillis, List<StartupPhase> phases) {
+}
@@ -0,0 +1,51 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.application.startup;
+
+import java.util.Objects;
+
+import org.eclipse.sirius.components.graphql.api.URLConstants;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Exposes the breakdown of the startup of the server recorded by the {@link StartupPhaseProfiler}.
+ * <p>
+ * The report reveals the beans of the server, the endpoint is thus only available when the
+ * {@code org.eclipse.papyrus.web.features.startupReport} property is set to {@code true}.
+ * </p>
+ *
+ * @author agent
+ */
+@RestController
+@ConditionalOnProperty(prefix = "org.eclipse.papyrus.web.features", name = "startupReport")
+public class StartupReportController {
+
+    private final StartupPhaseProfiler startupPhaseProfiler;
+
+    public StartupReportController(StartupPhaseProfiler startupPhaseProfiler) {
+        this.startupPhaseProfiler = Objects.requireNonNull(startupPhaseProfiler);
+    }
+
+    /**
+     * Gets the startup report.
+     *
+     * @return the startup report
+     */
+    @GetMapping(URLConstants.API_BASE_PATH + "/startup-report")
+    public StartupReport getStartupReport() {
+        return this.startupPhaseProfiler.getReport();
+    }
+}
@@ -0,0 +1,112 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.application.properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.papyrus.web.application.utils.AbstractWebUMLTest;
+import org.eclipse.sirius.components.forms.description.ForDescription;
+import org.eclipse.sirius.components.forms.description.FormDescription;
+import org.eclipse.sirius.components.forms.description.IfDescription;
+import org.eclipse.sirius.components.representations.VariableManager;
+import org.eclipse.uml2.uml.Class;
+import org.eclipse.uml2.uml.UMLPackage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.web.WebAppConfiguration;
+
+/**
+ * Test class for {@link AdvancedPropertiesDescriptionProvider}.
+ *
+ * @author agent
+ */
+@SpringBootTest
+@WebAppConfiguration
+public class AdvancedPropertiesDescriptionProviderTests extends AbstractWebUMLTest {
+
+    /**
+     * The index of the widget of the String features among the widgets of the Advanced page.
+     */
+    private static final int ESTRING_WIDGET = 0;
+
+    /**
+     * The index of the widget of the Boolean features among the widgets of the Advanced page.
+     */
+    private static final int EBOOLEAN_WIDGET = 1;
+
+    /**
+     * The index of the widget of the enumeration features among the widgets of the Advanced page.
+     */
+    private static final int EENUM_WIDGET = 2;
+
+    @Autowired
+    private AdvancedPropertiesDescriptionProvider advancedPropertiesDescriptionProvider;
+
+    private ForDescription forDescription;
+
+    @BeforeEach
+    public void setUp() {
+        FormDescription formDescription = this.advancedPropertiesDescriptionProvider.getFormDescription();
+        this.forDescription = (ForDescription) formDescription.getPageDescriptions().get(0).getGroupDescriptions().get(0).getControlDescriptions().get(0);
+    }
+
+    @Test
+    public void testFeaturesOfAdvancedPage() {
+        Class umlClass = this.createInResource(Class.class, this.createResource());
+
+        List<?> features = this.getFeatures(umlClass);
+
+        assertThat(features).contains(UMLPackage.eINSTANCE.getNamedElement_Name(), UMLPackage.eINSTANCE.getClassifier_IsAbstract());
+        assertThat(features).allMatch(feature -> ((EStructuralFeature) feature).getEType() != EcorePackage.eINSTANCE.getEObject());
+        // The features computed from the cached plan are the same for another element of the same type
+        assertThat(this.getFeatures(this.createInResource(Class.class, this.createResource()))).isEqualTo(features);
+    }
+
+    @Test
+    public void testWidgetsOfFeatures() {
+        Class umlClass = this.createInResource(Class.class, this.createResource());
+
+        assertThat(this.getMatchingWidgets(umlClass, UMLPackage.eINSTANCE.getNamedElement_Name())).containsExactly(ESTRING_WIDGET);
+        assertThat(this.getMatchingWidgets(umlClass, UMLPackage.eINSTANCE.getClassifier_IsAbstract())).containsExactly(EBOOLEAN_WIDGET);
+        assertThat(this.getMatchingWidgets(umlClass, UMLPackage.eINSTANCE.getNamedElement_Visibility())).containsExactly(EENUM_WIDGET);
+    }
+
+    private List<?> getFeatures(EObject self) {
+        VariableManager variableManager = new VariableManager();
+        variableManager.put(VariableManager.SELF, self);
+        return this.forDescription.getIterableProvider().apply(variableManager);
+    }
+
+    private List<Integer> getMatchingWidgets(EObject self, EStructuralFeature feature) {
+        VariableManager variableManager = new VariableManager();
+        variableManager.put(VariableManager.SELF, self);
+        variableManager.put(AdvancedPropertiesDescriptionProvider.ESTRUCTURAL_FEATURE, feature);
+        List<Integer> result = new ArrayList<>();
+        for (int i = 0; i < this.forDescription.getControlDescriptions().size(); i++) {
+            IfDescription ifDescription = (IfDescription) this.forDescription.getControlDescriptions().get(i);
+            if (Boolean.TRUE.equals(ifDescription.getPredicate().apply(variableManager))) {
+                result.add(i);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,93 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.application.properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.eclipse.papyrus.web.services.properties.UMLDocumentationService;
+import org.eclipse.sirius.components.view.form.FormFactory;
+import org.eclipse.sirius.components.view.form.GroupDescription;
+import org.eclipse.sirius.components.view.form.PageDescription;
+import org.eclipse.sirius.components.view.form.TextfieldDescription;
+import org.eclipse.uml2.uml.UMLPackage;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link EClassInvariantExpressionFolder}.
+ *
+ * @author agent
+ */
+public class EClassInvariantExpressionFolderTest {
+
+    private static final String NAME_DESCRIPTION = "aql:self.getFeatureDescription('name')";
+
+    private static final String QUALIFIED_NAME_CHANGEABLE = "aql:self.eClass().getEStructuralFeature('qualifiedName').changeable";
+
+    private final UMLDocumentationService documentationService = new UMLDocumentationService();
+
+    @Test
+    public void testFoldChangeableExpressions() {
+        TextfieldDescription name = this.createTextfield("aql:self.eClass().getEStructuralFeature('name').changeable", NAME_DESCRIPTION);
+        TextfieldDescription qualifiedName = this.createTextfield(QUALIFIED_NAME_CHANGEABLE, "aql:self.getQualifiedName()");
+        PageDescription page = this.createPage("uml::NamedElement", "var:self", name, qualifiedName);
+
+        int folded = new EClassInvariantExpressionFolder(UMLPackage.eINSTANCE, this.documentationService).fold(page);
+
+        assertEquals(2, folded);
+        assertEquals("aql:true", name.getIsEnabledExpression());
+        assertEquals("aql:false", qualifiedName.getIsEnabledExpression());
+        // NamedElement has subtypes, the help content depends on the actual type of the element
+        assertEquals(NAME_DESCRIPTION, name.getHelpExpression());
+    }
+
+    @Test
+    public void testFoldFeatureDescriptionOfLeafType() {
+        TextfieldDescription name = this.createTextfield(QUALIFIED_NAME_CHANGEABLE, NAME_DESCRIPTION);
+        PageDescription page = this.createPage("uml::Model", "var:self", name);
+
+        new EClassInvariantExpressionFolder(UMLPackage.eINSTANCE, this.documentationService).fold(page);
+
+        assertEquals(this.documentationService.getDocumentation(this.documentationService.getDocumentationEntryKey("Model", "name")), name.getHelpExpression());
+    }
+
+    @Test
+    public void testNoFoldingWhenSelfChanges() {
+        TextfieldDescription name = this.createTextfield(QUALIFIED_NAME_CHANGEABLE, NAME_DESCRIPTION);
+        PageDescription page = this.createPage("uml::Model", "aql:self.ownedComments", name);
+
+        int folded = new EClassInvariantExpressionFolder(UMLPackage.eINSTANCE, this.documentationService).fold(page);
+
+        assertEquals(0, folded);
+        assertEquals(QUALIFIED_NAME_CHANGEABLE, name.getIsEnabledExpression());
+    }
+
+    private PageDescription createPage(String domainType, String semanticCandidatesExpression, TextfieldDescription... widgets) {
+        PageDescription page = FormFactory.eINSTANCE.createPageDescription();
+        page.setDomainType(domainType);
+        GroupDescription group = FormFactory.eINSTANCE.createGroupDescription();
+        group.setSemanticCandidatesExpression(semanticCandidatesExpression);
+        for (TextfieldDescription widget : widgets) {
+            group.getChildren().add(widget);
+        }
+        page.getGroups().add(group);
+        return page;
+    }
+
+    private TextfieldDescription createTextfield(String isEnabledExpression, String helpExpression) {
+        TextfieldDescription textfield = FormFactory.eINSTANCE.createTextfieldDescription();
+        textfield.setIsEnabledExpression(isEnabledExpression);
+        textfield.setHelpExpression(helpExpression);
+        return textfield;
+    }
+}
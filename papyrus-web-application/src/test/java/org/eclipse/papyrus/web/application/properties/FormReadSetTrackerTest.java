@@ -0,0 +1,165 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.application.properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.papyrus.web.services.api.dto.GetStereotypesInput;
+import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
+import org.eclipse.sirius.components.collaborative.api.ChangeKind;
+import org.eclipse.sirius.components.forms.description.PageDescription;
+import org.eclipse.sirius.components.representations.VariableManager;
+import org.eclipse.uml2.uml.Class;
+import org.eclipse.uml2.uml.Package;
+import org.eclipse.uml2.uml.UMLFactory;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link FormReadSetTracker}.
+ *
+ * @author agent
+ */
+public class FormReadSetTrackerTest {
+
+    private static final String RELOAD = "reload";
+
+    private static final String DISPLAYED = "Displayed";
+
+    private static final String OTHER = "Other";
+
+    private final FormReadSetTracker tracker = new FormReadSetTracker();
+
+    private final Object form = new Object();
+
+    @Test
+    public void testRefreshOnlyWhenReadElementChanges() {
+        Package pack = UMLFactory.eINSTANCE.createPackage();
+        Class displayed = pack.createOwnedClass(DISPLAYED, false);
+        Class other = pack.createOwnedClass(OTHER, false);
+        PageDescription page = this.tracker.track(this.createPage());
+        assertTrue(this.tracker.isTracked(page));
+
+        // The first refresh records the read set
+        assertTrue(this.tracker.shouldRefresh(this.form, this.createChange(ChangeKind.SEMANTIC_CHANGE)));
+        page.getSemanticElementsProvider().apply(this.createVariableManager(displayed));
+
+        other.setName("Renamed");
+        assertFalse(this.tracker.shouldRefresh(this.form, this.createChange(ChangeKind.SEMANTIC_CHANGE)));
+        assertFalse(this.tracker.shouldRefresh(this.form, this.createChange(ChangeKind.NOTHING)));
+
+        displayed.setIsAbstract(true);
+        assertTrue(this.tracker.shouldRefresh(this.form, this.createChange(ChangeKind.SEMANTIC_CHANGE)));
+        page.getSemanticElementsProvider().apply(this.createVariableManager(displayed));
+        assertFalse(this.tracker.shouldRefresh(this.form, this.createChange(ChangeKind.SEMANTIC_CHANGE)));
+
+        // The container of the displayed element is part of the read set
+        pack.setName("Package");
+        assertTrue(this.tracker.shouldRefresh(this.form, this.createChange(ChangeKind.SEMANTIC_CHANGE)));
+    }
+
+    @Test
+    public void testRefreshWhenResourceRootsChange() {
+        Resource resource = new ResourceImpl();
+        Package pack = UMLFactory.eINSTANCE.createPackage();
+        resource.getContents().add(pack);
+        Class displayed = pack.createOwnedClass(DISPLAYED, false);
+        PageDescription page = this.tracker.track(this.createPage());
+
+        assertTrue(this.tracker.shouldRefresh(this.form, this.createChange(ChangeKind.SEMANTIC_CHANGE)));
+        page.getSemanticElementsProvider().apply(this.createVariableManager(displayed));
+        assertFalse(this.tracker.shouldRefresh(this.form, this.createChange(ChangeKind.SEMANTIC_CHANGE)));
+
+        // The stereotype applications are resource roots which may be read by any form
+        resource.getContents().add(UMLFactory.eINSTANCE.createPackage());
+        assertTrue(this.tracker.shouldRefresh(this.form, this.createChange(ChangeKind.SEMANTIC_CHANGE)));
+    }
+
+    @Test
+    public void testRefreshWhenCandidatesChange() {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        Resource resource = new ResourceImpl();
+        resourceSet.getResources().add(resource);
+        Package root = UMLFactory.eINSTANCE.createPackage();
+        resource.getContents().add(root);
+        Class displayed = root.createNestedPackage("Displayed package").createOwnedClass(DISPLAYED, false);
+        Package otherPackage = root.createNestedPackage("Other package");
+        Class other = otherPackage.createOwnedClass(OTHER, false);
+        PageDescription page = this.tracker.track(this.createPage());
+
+        assertTrue(this.tracker.shouldRefresh(this.form, this.createChange(ChangeKind.SEMANTIC_CHANGE)));
+        page.getSemanticElementsProvider().apply(this.createVariableManager(displayed));
+
+        // The elements which are not read by the form but may be displayed as candidates
+        other.setIsAbstract(true);
+        assertFalse(this.tracker.shouldRefresh(this.form, this.createChange(ChangeKind.SEMANTIC_CHANGE)));
+
+        other.setName("Renamed");
+        assertTrue(this.tracker.shouldRefresh(this.form, this.createChange(ChangeKind.SEMANTIC_CHANGE)));
+        page.getSemanticElementsProvider().apply(this.createVariableManager(displayed));
+        assertFalse(this.tracker.shouldRefresh(this.form, this.createChange(ChangeKind.SEMANTIC_CHANGE)));
+
+        otherPackage.createOwnedClass("Created", false);
+        assertTrue(this.tracker.shouldRefresh(this.form, this.createChange(ChangeKind.SEMANTIC_CHANGE)));
+    }
+
+    @Test
+    public void testStopObservingElementsNotReadAnymore() {
+        Class displayed = UMLFactory.eINSTANCE.createPackage().createOwnedClass(DISPLAYED, false);
+        Class other = UMLFactory.eINSTANCE.createPackage().createOwnedClass(OTHER, false);
+        PageDescription page = this.tracker.track(this.createPage());
+        int adapterCount = displayed.eAdapters().size();
+
+        assertTrue(this.tracker.shouldRefresh(this.form, this.createChange(ChangeKind.SEMANTIC_CHANGE)));
+        page.getSemanticElementsProvider().apply(this.createVariableManager(displayed));
+        assertEquals(adapterCount + 1, displayed.eAdapters().size());
+
+        // The form now displays another element
+        assertTrue(this.tracker.shouldRefresh(this.form, this.createChange(RELOAD)));
+        page.getSemanticElementsProvider().apply(this.createVariableManager(other));
+
+        displayed.setIsAbstract(true);
+        assertEquals(adapterCount, displayed.eAdapters().size());
+        assertFalse(this.tracker.shouldRefresh(this.form, this.createChange(ChangeKind.SEMANTIC_CHANGE)));
+    }
+
+    private ChangeDescription createChange(String kind) {
+        return new ChangeDescription(kind, UUID.randomUUID().toString(), new GetStereotypesInput(UUID.randomUUID(), ""));
+    }
+
+    private VariableManager createVariableManager(Object self) {
+        VariableManager variableManager = new VariableManager();
+        variableManager.put(VariableManager.SELF, self);
+        return variableManager;
+    }
+
+    private PageDescription createPage() {
+        return PageDescription.newPageDescription("page")//
+                .idProvider(variableManager -> "page")//
+                .labelProvider(variableManager -> "Page")//
+                .semanticElementsProvider(variableManager -> variableManager.get(VariableManager.SELF, Object.class).stream().toList())//
+                .groupDescriptions(List.of())//
+                .toolbarActionDescriptions(List.of())//
+                .canCreatePredicate(variableManager -> true)//
+                .build();
+    }
+}
@@ -0,0 +1,90 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.application.properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.sirius.components.forms.description.PageDescription;
+import org.eclipse.sirius.components.representations.VariableManager;
+import org.eclipse.sirius.components.view.form.FormFactory;
+import org.eclipse.uml2.uml.UMLFactory;
+import org.eclipse.uml2.uml.UMLPackage;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link PageDispatchIndex}.
+ *
+ * @author agent
+ */
+public class PageDispatchIndexTest {
+
+    private static final String PRECONDITION = "aql:not(self.oclIsKindOf(uml::Component)) and not(selection->size()>1)";
+
+    @Test
+    public void testCandidatesFromDomainTypeAndExcludedTypes() {
+        PageDispatchIndex index = new PageDispatchIndex();
+        index.register(this.createViewPage("uml::Class", PRECONDITION), this.createPage(new AtomicInteger()));
+        index.register(this.createViewPage("uml::Element", "aql:not(selection->size()>1)"), this.createPage(new AtomicInteger()));
+        index.register(this.createViewPage("uml::Package", null), this.createPage(new AtomicInteger()));
+
+        assertEquals(2, index.getCandidateCount(UMLPackage.eINSTANCE.getClass_()));
+        // Component is a Class but excluded by the precondition of the first page
+        assertEquals(1, index.getCandidateCount(UMLPackage.eINSTANCE.getComponent()));
+        // Model is a Package
+        assertEquals(2, index.getCandidateCount(UMLPackage.eINSTANCE.getModel()));
+    }
+
+    @Test
+    public void testPreconditionOnlyEvaluatedOnCandidates() {
+        PageDispatchIndex index = new PageDispatchIndex();
+        AtomicInteger evaluations = new AtomicInteger();
+        PageDescription page = index.register(this.createViewPage("uml::Class", PRECONDITION), this.createPage(evaluations));
+
+        assertFalse(page.getCanCreatePredicate().test(this.createVariableManager(UMLFactory.eINSTANCE.createComponent())));
+        assertFalse(page.getCanCreatePredicate().test(this.createVariableManager(UMLFactory.eINSTANCE.createPackage())));
+        assertEquals(0, evaluations.get());
+
+        assertTrue(page.getCanCreatePredicate().test(this.createVariableManager(UMLFactory.eINSTANCE.createClass())));
+        assertEquals(1, evaluations.get());
+    }
+
+    private org.eclipse.sirius.components.view.form.PageDescription createViewPage(String domainType, String preconditionExpression) {
+        org.eclipse.sirius.components.view.form.PageDescription viewPage = FormFactory.eINSTANCE.createPageDescription();
+        viewPage.setDomainType(domainType);
+        viewPage.setPreconditionExpression(preconditionExpression);
+        return viewPage;
+    }
+
+    private VariableManager createVariableManager(Object self) {
+        VariableManager variableManager = new VariableManager();
+        variableManager.put(VariableManager.SELF, self);
+        return variableManager;
+    }
+
+    private PageDescription createPage(AtomicInteger evaluations) {
+        return PageDescription.newPageDescription("page")//
+                .idProvider(variableManager -> "page")//
+                .labelProvider(variableManager -> "Page")//
+                .semanticElementsProvider(variableManager -> List.of())//
+                .groupDescriptions(List.of())//
+                .toolbarActionDescriptions(List.of())//
+                .canCreatePredicate(variableManager -> evaluations.incrementAndGet() > 0)//
+                .build();
+    }
+}
@@ -33,7 +33,11 @@ import org.eclipse.papyrus.web.application.services.AbstractDiagramTest;
 import org.eclipse.papyrus.web.services.aqlservices.AbstractDiagramService;
 import org.eclipse.papyrus.web.services.aqlservices.activity.ActivityDiagramService;
 import org.eclipse.papyrus.web.tests.utils.MockLogger;
+import org.eclipse.sirius.components.collaborative.diagrams.DiagramContext;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.diagrams.Diagram;
 import org.eclipse.sirius.components.diagrams.Node;
+import org.eclipse.sirius.components.diagrams.ViewDeletionRequest;
 import org.eclipse.uml2.uml.AcceptCallAction;
 import org.eclipse.uml2.uml.AcceptEventAction;
 import org.eclipse.uml2.uml.ActionInputPin;
@@ -80,6 +84,8 @@ public class ActivityDiagramServiceTests extends AbstractDiagramTest {
 
     private static final String AD_ACTIVITY_PARTITION_NODE_NAME = ID_BUILDER.getSpecializedDomainNodeName(UML.getActivityPartition(), SHARED_SUFFIX);
 
+    private static final String AD_DECISION_NODE_NAME = ID_BUILDER.getSpecializedDomainNodeName(UML.getDecisionNode(), SHARED_SUFFIX);
+
     private static final String AD_EXPANSION_REGION_NODE_NAME = ID_BUILDER.getSpecializedDomainNodeName(UML.getExpansionRegion(), SHARED_SUFFIX);
 
     private static final String AD_EXPANSION_NODE_NAME = ID_BUILDER.getDomainNodeName(UML.getExpansionNode());
@@ -795,6 +801,32 @@ public class ActivityDiagramServiceTests extends AbstractDiagramTest {
         assertEquals(UMLCharacters.ST_LEFT + "decisionInput" + UMLCharacters.ST_RIGHT + UMLCharacters.SPACE + activity.getName(), this.getDiagramService().getDecisionInputNoteLabel(decisionNode));
     }
 
+    /**
+     * Tests {@link ActivityDiagramService#showDecisionNodeNote(DecisionNode, DiagramContext, Diagram, IEditingContext)}
+     * on a displayed {@link DecisionNode}, with and without a deletion request.
+     */
+    @Test
+    public void testShowDecisionNodeNote() {
+        Activity activity = this.init();
+        DecisionNode decisionNode = this.createIn(DecisionNode.class, activity);
+        Node activityNode = this.getDiagramHelper().createNodeInDiagram(AD_ACTIVITY_NODE_NAME, activity);
+        Diagram diagram = this.getDiagramHelper().getDiagram();
+        assertFalse(this.getDiagramService().showDecisionNodeNote(decisionNode, new DiagramContext(diagram), diagram, this.getEditingContext()));
+
+        Node decisionNodeNode = this.getDiagramHelper().createNodeInParent(AD_DECISION_NODE_NAME, decisionNode, activityNode);
+        Diagram diagramWithDecisionNode = this.getDiagramHelper().getDiagram();
+        // The decision input is not set
+        assertFalse(this.getDiagramService().showDecisionNodeNote(decisionNode, new DiagramContext(diagramWithDecisionNode), diagramWithDecisionNode, this.getEditingContext()));
+
+        decisionNode.setDecisionInput(activity);
+        assertTrue(this.getDiagramService().showDecisionNodeNote(decisionNode, new DiagramContext(diagramWithDecisionNode), diagramWithDecisionNode, this.getEditingContext()));
+
+        // Each refresh renders from a new previous diagram state
+        DiagramContext deletionContext = new DiagramContext(diagramWithDecisionNode);
+        deletionContext.getViewDeletionRequests().add(ViewDeletionRequest.newViewDeletionRequest().elementId(decisionNodeNode.getId()).build());
+        assertFalse(this.getDiagramService().showDecisionNodeNote(decisionNode, deletionContext, Diagram.newDiagram(diagramWithDecisionNode).build(), this.getEditingContext()));
+    }
+
     private Activity init() {
         Resource resource = this.createResource();
         Package pack = this.createInResource(Package.class, resource);
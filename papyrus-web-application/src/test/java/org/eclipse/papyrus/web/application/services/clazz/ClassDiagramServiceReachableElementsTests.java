@@ -0,0 +1,65 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.application.services.clazz;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.papyrus.web.application.utils.AbstractWebUMLTest;
+import org.eclipse.papyrus.web.services.aqlservices.clazz.ClassDiagramService;
+import org.eclipse.sirius.components.diagrams.renderer.DiagramRenderingCache;
+import org.eclipse.uml2.uml.Class;
+import org.eclipse.uml2.uml.Component;
+import org.eclipse.uml2.uml.Model;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.web.WebAppConfiguration;
+
+/**
+ * Test class for the reachable elements memoized during the rendering of a diagram.
+ *
+ * @author agent
+ */
+@SpringBootTest
+@WebAppConfiguration
+public class ClassDiagramServiceReachableElementsTests extends AbstractWebUMLTest {
+
+    private static final String CLASS_TYPE = "Class";
+
+    @Autowired
+    private ClassDiagramService classDiagramService;
+
+    @Test
+    public void testReachableElementsDoNotDependOnTheFirstContext() {
+        Resource firstResource = this.createResource();
+        Class firstClass = this.createIn(Class.class, this.createInResource(Model.class, firstResource));
+        Resource secondResource = this.createResource();
+        Model secondModel = this.createInResource(Model.class, secondResource);
+        Class secondClass = this.createIn(Class.class, secondModel);
+        Component component = this.createIn(Component.class, secondModel);
+
+        DiagramRenderingCache cache = new DiagramRenderingCache();
+        List<EObject> fromFirstClass = this.classDiagramService.getAllReachable(firstClass, CLASS_TYPE, true, cache);
+        List<EObject> fromSecondClass = this.classDiagramService.getAllReachable(secondClass, CLASS_TYPE, true, cache);
+
+        assertThat(fromFirstClass).contains(firstClass, secondClass, component);
+        assertThat(fromSecondClass).isSameAs(fromFirstClass);
+        assertThat(fromFirstClass).containsExactlyInAnyOrderElementsOf(this.classDiagramService.getAllReachable(secondClass, CLASS_TYPE, true, null));
+        assertThat(this.classDiagramService.getAllReachable(secondClass, CLASS_TYPE, false, cache)).contains(firstClass, secondClass).doesNotContain(component);
+    }
+}
@@ -0,0 +1,72 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.application.services.destroy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.eclipse.papyrus.web.application.utils.AbstractWebUMLTest;
+import org.eclipse.papyrus.web.services.api.dto.DeleteSemanticElementsInput;
+import org.eclipse.papyrus.web.services.api.dto.DeleteSemanticElementsSuccessPayload;
+import org.eclipse.papyrus.web.services.editingcontext.handlers.DeleteSemanticElementsEventHandler;
+import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
+import org.eclipse.sirius.components.collaborative.api.ChangeKind;
+import org.eclipse.sirius.components.core.api.IPayload;
+import org.eclipse.uml2.uml.Class;
+import org.eclipse.uml2.uml.Model;
+import org.eclipse.uml2.uml.Package;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.web.WebAppConfiguration;
+
+import reactor.core.publisher.Sinks;
+
+/**
+ * Test class for {@link DeleteSemanticElementsEventHandler}.
+ *
+ * @author agent
+ */
+@SpringBootTest
+@WebAppConfiguration
+public class DeleteSemanticElementsEventHandlerTests extends AbstractWebUMLTest {
+
+    @Autowired
+    private DeleteSemanticElementsEventHandler handler;
+
+    @Test
+    public void testDeleteSelection() {
+        Model model = this.createInResource(Model.class, this.createResource());
+        Package pack = this.createIn(Package.class, model);
+        Class nestedClass = this.createIn(Class.class, pack);
+        Class rootClass = this.createIn(Class.class, model);
+        Class keptClass = this.createIn(Class.class, model);
+
+        List<String> elementIds = List.of(this.getObjectService().getId(nestedClass), this.getObjectService().getId(pack), this.getObjectService().getId(rootClass));
+        var input = new DeleteSemanticElementsInput(UUID.randomUUID(), this.getEditingContext().getId(), elementIds);
+
+        Sinks.Many<ChangeDescription> changeDescriptionSink = Sinks.many().unicast().onBackpressureBuffer();
+        Sinks.One<IPayload> payloadSink = Sinks.one();
+        this.handler.handle(payloadSink, changeDescriptionSink, this.getEditingContext(), input);
+
+        assertThat(changeDescriptionSink.asFlux().blockFirst().getKind()).isEqualTo(ChangeKind.SEMANTIC_CHANGE);
+        IPayload payload = payloadSink.asMono().block();
+        assertThat(payload).isInstanceOf(DeleteSemanticElementsSuccessPayload.class);
+        // The nested class is destroyed with its package but is still counted
+        assertThat(((DeleteSemanticElementsSuccessPayload) payload).getDeletedElementCount()).isEqualTo(3);
+        assertThat(model.getPackagedElements()).containsExactly(keptClass);
+    }
+}
@@ -0,0 +1,89 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.application.services.explorer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.papyrus.web.application.utils.AbstractWebUMLTest;
+import org.eclipse.papyrus.web.services.explorer.ExplorerNavigationServiceCustomImpl;
+import org.eclipse.sirius.web.services.explorer.api.IExplorerNavigationService;
+import org.eclipse.uml2.uml.Class;
+import org.eclipse.uml2.uml.Model;
+import org.eclipse.uml2.uml.Package;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.web.WebAppConfiguration;
+
+/**
+ * Test class for {@link ExplorerNavigationServiceCustomImpl}.
+ *
+ * @author agent
+ */
+@SpringBootTest
+@WebAppConfiguration
+public class ExplorerNavigationServiceCustomImplTests extends AbstractWebUMLTest {
+
+    private static final String RESOURCE_ID = "explorerNavigationResource";
+
+    @Autowired
+    private IExplorerNavigationService explorerNavigationService;
+
+    @Autowired
+    private ExplorerNavigationServiceCustomImpl explorerNavigationServiceCustomImpl;
+
+    @Test
+    public void testAncestorsOfSemanticElement() {
+        Resource resource = this.createResource(RESOURCE_ID);
+        Model model = this.createInResource(Model.class, resource);
+        Package pack = this.createIn(Package.class, model);
+        Class umlClass = this.createIn(Class.class, pack);
+
+        assertThat(this.explorerNavigationService.getAncestors(this.getEditingContext(), this.getObjectService().getId(umlClass)))//
+                .containsExactly(this.getObjectService().getId(pack), this.getObjectService().getId(model), RESOURCE_ID);
+        assertThat(this.explorerNavigationService.getAncestors(this.getEditingContext(), this.getObjectService().getId(model))).containsExactly(RESOURCE_ID);
+    }
+
+    @Test
+    public void testAncestorsOfSeveralElements() {
+        Resource resource = this.createResource(RESOURCE_ID);
+        Model model = this.createInResource(Model.class, resource);
+        Package pack = this.createIn(Package.class, model);
+        Class class1 = this.createIn(Class.class, pack);
+        Class class2 = this.createIn(Class.class, pack);
+        String unknownId = UUID.randomUUID().toString();
+        String class1Id = this.getObjectService().getId(class1);
+        String class2Id = this.getObjectService().getId(class2);
+        String packId = this.getObjectService().getId(pack);
+        String modelId = this.getObjectService().getId(model);
+
+        Map<String, List<String>> ancestors = this.explorerNavigationServiceCustomImpl.getAncestors(this.getEditingContext(), List.of(class1Id, packId, class2Id, unknownId));
+
+        assertThat(ancestors).containsOnlyKeys(class1Id, packId, class2Id, unknownId);
+        assertThat(ancestors.get(class1Id)).containsExactly(packId, modelId, RESOURCE_ID);
+        assertThat(ancestors.get(packId)).containsExactly(modelId, RESOURCE_ID);
+        assertThat(ancestors.get(class2Id)).containsExactly(packId, modelId, RESOURCE_ID);
+        assertThat(ancestors.get(unknownId)).isEmpty();
+    }
+
+    @Test
+    public void testAncestorsOfUnknownElement() {
+        assertThat(this.explorerNavigationService.getAncestors(this.getEditingContext(), UUID.randomUUID().toString())).isEmpty();
+    }
+}
@@ -0,0 +1,107 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.application.startup;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.CommandLineRunner;
+
+/**
+ * Test class for {@link StartupPhaseProfiler}.
+ *
+ * @author agent
+ */
+public class StartupPhaseProfilerTest {
+
+    private static final String OUTER = "outer";
+
+    private static final String INNER = "inner";
+
+    @Test
+    public void testNestedPhasesAreExcludedFromSelfTime() throws InterruptedException {
+        StartupPhaseProfiler profiler = new StartupPhaseProfiler();
+        profiler.start(OUTER, String.class.getName());
+        profiler.start(INNER, Integer.class.getName());
+        Thread.sleep(20);
+        profiler.end(INNER);
+        profiler.end(OUTER);
+
+        Map<String, StartupPhase> phases = this.getPhases(profiler.getReport().phases());
+        StartupPhase outer = phases.get(OUTER);
+        StartupPhase inner = phases.get(INNER);
+        assertEquals(2, phases.size());
+        assertEquals(Integer.class.getName(), inner.type());
+        assertEquals(Thread.currentThread().getName(), inner.thread());
+        assertTrue(inner.selfMillis() >= 20);
+        assertTrue(outer.totalMillis() >= inner.totalMillis());
+        assertTrue(outer.selfMillis() < inner.selfMillis());
+        // The phases are sorted by decreasing self time
+        assertEquals(INNER, profiler.getReport().phases().get(0).name());
+    }
+
+    @Test
+    public void testFailedPhasesAreDropped() {
+        StartupPhaseProfiler profiler = new StartupPhaseProfiler();
+        profiler.start(OUTER, String.class.getName());
+        profiler.start(INNER, Integer.class.getName());
+        profiler.end(OUTER);
+        profiler.end("unknown");
+
+        assertEquals(List.of(OUTER), profiler.getReport().phases().stream().map(StartupPhase::name).toList());
+    }
+
+    @Test
+    public void testCommandLineRunnersAreProfiled() throws Exception {
+        StartupPhaseProfiler profiler = new StartupPhaseProfiler();
+        CommandLineRunner runner = args -> Thread.sleep(20);
+        Object wrappedRunner = profiler.postProcessAfterInitialization(runner, INNER);
+
+        profiler.start(StartupPhaseProfiler.RUNNERS_PHASE, CommandLineRunner.class.getName());
+        ((CommandLineRunner) wrappedRunner).run();
+        profiler.stopRecording();
+
+        Map<String, StartupPhase> phases = this.getPhases(profiler.getReport().phases());
+        assertEquals(runner.getClass().getName(), phases.get(INNER).type());
+        assertTrue(phases.get(INNER).selfMillis() >= 20);
+        assertTrue(phases.get(StartupPhaseProfiler.RUNNERS_PHASE).selfMillis() < phases.get(INNER).selfMillis());
+    }
+
+    @Test
+    public void testRecordingStopsWhenReady() {
+        StartupPhaseProfiler profiler = new StartupPhaseProfiler();
+        profiler.start(OUTER, String.class.getName());
+        profiler.end(OUTER);
+        profiler.stopRecording();
+
+        CommandLineRunner runner = args -> {
+        };
+        assertSame(runner, profiler.postProcessAfterInitialization(runner, INNER));
+        profiler.start(INNER, Integer.class.getName());
+        profiler.end(INNER);
+
+        assertEquals(List.of(OUTER), profiler.getReport().phases().stream().map(StartupPhase::name).toList());
+    }
+
+    private Map<String, StartupPhase> getPhases(List<StartupPhase> phases) {
+        return phases.stream().collect(Collectors.toMap(StartupPhase::name, Function.identity()));
+    }
+}
@@ -29,6 +29,7 @@ import org.eclipse.emf.common.util.EList;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.papyrus.web.application.utils.AbstractWebUMLTest;
+import org.eclipse.papyrus.web.persistence.entities.ContentCodec;
 import org.eclipse.papyrus.web.persistence.entities.ProfileResourceEntity;
 import org.eclipse.papyrus.web.persistence.repositories.IProfileRepository;
 import org.eclipse.papyrus.web.services.api.dto.ApplyProfileInput;
@@ -178,6 +179,7 @@ public class UMLProfileServiceTests extends AbstractWebUMLTest {
 
         Optional<ProfileResourceEntity> profileResourceEntity = this.profileRepository.findById(UUID.nameUUIDFromBytes(modelWithProfileResource.getURI().lastSegment().getBytes()));
         assertTrue(profileResourceEntity.isPresent());
+        assertEquals(ContentCodec.GZIP, profileResourceEntity.get().getContentCodec());
         profileResourceEntity.get().getContent().contains(profileId);
 
         Optional<UMLProfileVersion> profileLastVersion = this.profileService.getProfileLastVersion(this.getEditingContext(), profileId);
@@ -24,6 +24,7 @@ import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.resource.URIHandler;
 import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
 import org.eclipse.papyrus.web.application.configuration.JPAConfiguration;
+import org.eclipse.papyrus.web.tests.utils.TestDatabase;
 import org.eclipse.papyrus.web.tests.utils.UMLTestHelper;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IEditingContextSearchService;
@@ -37,7 +38,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
-import org.testcontainers.containers.PostgreSQLContainer;
 
 /**
  * Abstract test class for testing web UML features.
@@ -48,7 +48,7 @@ import org.testcontainers.containers.PostgreSQLContainer;
 public class AbstractWebUMLTest {
 
     // Emulate a POSTGRESQL database.
-    public static final PostgreSQLContainer<?> POSTGRESQL_CONTAINER;
+    public static final TestDatabase DATABASE;
 
     protected static final UMLPackage UML = UMLPackage.eINSTANCE;
 
@@ -65,8 +65,7 @@ public class AbstractWebUMLTest {
     private IEditingContext editingContext;
 
     static {
-        POSTGRESQL_CONTAINER = new PostgreSQLContainer<>("postgres:latest").withReuse(true);
-        POSTGRESQL_CONTAINER.start();
+        DATABASE = TestDatabase.start();
     }
 
     @BeforeEach
@@ -82,9 +81,9 @@ public class AbstractWebUMLTest {
     // Plug emulated database in application
     @DynamicPropertySource
     public static void registerProperties(DynamicPropertyRegistry registry) {
-        registry.add("spring.datasource.url", POSTGRESQL_CONTAINER::getJdbcUrl);
-        registry.add("spring.datasource.username", POSTGRESQL_CONTAINER::getUsername);
-        registry.add("spring.datasource.password", POSTGRESQL_CONTAINER::getPassword);
+        registry.add("spring.datasource.url", DATABASE::getJdbcUrl);
+        registry.add("spring.datasource.username", DATABASE::getUsername);
+        registry.add("spring.datasource.password", DATABASE::getPassword);
     }
 
     protected IObjectService getObjectService() {
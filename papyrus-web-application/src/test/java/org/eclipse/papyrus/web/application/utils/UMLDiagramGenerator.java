@@ -0,0 +1,93 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.application.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.papyrus.web.services.aqlservices.AbstractDiagramService;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.uml2.uml.Association;
+import org.eclipse.uml2.uml.Package;
+import org.eclipse.uml2.uml.PackageableElement;
+
+/**
+ * Generates large diagrams on the models created by {@link org.eclipse.papyrus.web.tests.utils.UMLModelGenerator}, by
+ * dropping the content of a package on a new diagram.
+ *
+ * @author agent
+ */
+public class UMLDiagramGenerator {
+
+    private final IEditingContext editingContext;
+
+    private final DiagramTestHelper diagramHelper;
+
+    private final AbstractDiagramService diagramService;
+
+    /**
+     * Constructor.
+     *
+     * @param editingContext
+     *            the editing context containing the model
+     * @param diagramHelper
+     *            the helper used to create the diagram
+     * @param diagramService
+     *            the service of the generated diagram, used to drop the semantic elements
+     */
+    public UMLDiagramGenerator(IEditingContext editingContext, DiagramTestHelper diagramHelper, AbstractDiagramService diagramService) {
+        this.editingContext = editingContext;
+        this.diagramHelper = diagramHelper;
+        this.diagramService = diagramService;
+    }
+
+    /**
+     * Creates a diagram on the given package and drops at most <code>maxNodeCount</code> of its packaged elements on
+     * it. The associations are dropped once all the other elements have been dropped, so that their ends are
+     * displayed.
+     *
+     * @param pack
+     *            the owner of the diagram
+     * @param diagramName
+     *            the name of the diagram description
+     * @param maxNodeCount
+     *            the maximal number of dropped elements which are not associations
+     * @return the generated diagram
+     */
+    public Diagram generate(Package pack, String diagramName, int maxNodeCount) {
+        List<PackageableElement> nodeElements = new ArrayList<>();
+        List<PackageableElement> edgeElements = new ArrayList<>();
+        for (PackageableElement element : pack.getPackagedElements()) {
+            if (element instanceof Association) {
+                edgeElements.add(element);
+            } else if (nodeElements.size() < maxNodeCount) {
+                nodeElements.add(element);
+            }
+        }
+
+        this.diagramHelper.init(pack, diagramName);
+        this.diagramHelper.modify(context -> {
+            for (PackageableElement element : nodeElements) {
+                this.diagramService.semanticDrop(element, null, this.editingContext, context, this.diagramHelper.getConvertedNodes());
+            }
+        });
+        this.diagramHelper.modify(context -> {
+            for (PackageableElement element : edgeElements) {
+                this.diagramService.semanticDrop(element, null, this.editingContext, context, this.diagramHelper.getConvertedNodes());
+            }
+        });
+        return this.diagramHelper.getDiagram();
+    }
+}
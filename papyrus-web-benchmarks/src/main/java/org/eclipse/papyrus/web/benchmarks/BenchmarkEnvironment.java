@@ -0,0 +1,171 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.UUID;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
+import org.eclipse.papyrus.web.application.configuration.JPAConfiguration;
+import org.eclipse.papyrus.web.application.utils.ClassPathResourceFactory;
+import org.eclipse.papyrus.web.application.utils.ClassPathResourceURIHandler;
+import org.eclipse.papyrus.web.application.utils.DiagramTestHelper;
+import org.eclipse.papyrus.web.application.utils.IntegrationTestConfiguration;
+import org.eclipse.papyrus.web.services.representations.PapyrusRepresentationDescriptionRegistry;
+import org.eclipse.papyrus.web.sirius.contributions.IDiagramBuilderService;
+import org.eclipse.papyrus.web.sirius.contributions.IDiagramNavigationService;
+import org.eclipse.papyrus.web.sirius.contributions.IDiagramOperationsService;
+import org.eclipse.papyrus.web.sirius.contributions.IViewDiagramDescriptionService;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IEditingContextSearchService;
+import org.eclipse.sirius.components.core.api.IObjectService;
+import org.eclipse.sirius.components.emf.services.JSONResourceFactory;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.eclipse.sirius.components.view.emf.diagram.IDiagramIdProvider;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+/**
+ * The Papyrus Web server used by the benchmarks.
+ * <p>
+ * It runs fully offline: the database is an embedded PostgreSQL server started in a temporary directory, and the
+ * Spring context is the one used by the integration tests, listening on a random port. A single environment is
+ * shared by all the benchmarks of a JMH fork and is stopped when the fork exits.
+ * </p>
+ *
+ * @author agent
+ */
+public final class BenchmarkEnvironment {
+
+    private static final String DATABASE_NAME = "postgres";
+
+    private static final String DATABASE_USER = "postgres";
+
+    private static BenchmarkEnvironment instance;
+
+    private final EmbeddedPostgres database;
+
+    private final ConfigurableApplicationContext applicationContext;
+
+    private BenchmarkEnvironment(EmbeddedPostgres database, ConfigurableApplicationContext applicationContext) {
+        this.database = database;
+        this.applicationContext = applicationContext;
+    }
+
+    /**
+     * Gets the environment of the current JVM, starting it on the first call.
+     *
+     * @return the benchmark environment
+     */
+    public static synchronized BenchmarkEnvironment get() {
+        if (instance == null) {
+            instance = start();
+            Runtime.getRuntime().addShutdownHook(new Thread(instance::stop, "papyrus-web-benchmarks-shutdown"));
+        }
+        return instance;
+    }
+
+    private static BenchmarkEnvironment start() {
+        try {
+            EmbeddedPostgres database = EmbeddedPostgres.start();
+            ConfigurableApplicationContext applicationContext = new SpringApplicationBuilder(IntegrationTestConfiguration.class, JPAConfiguration.class)//
+                    .web(WebApplicationType.SERVLET)//
+                    .run("--server.port=0", //
+                            "--spring.datasource.url=" + database.getJdbcUrl(DATABASE_USER, DATABASE_NAME), //
+                            "--spring.datasource.username=" + DATABASE_USER, //
+                            "--spring.datasource.password=", //
+                            "--logging.level.org.eclipse.papyrus.web=warn");
+            return new BenchmarkEnvironment(database, applicationContext);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private void stop() {
+        this.applicationContext.close();
+        try {
+            this.database.close();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * Gets the bean of the given type from the Spring context.
+     *
+     * @param <T>
+     *            the type of the bean
+     * @param type
+     *            the type of the bean
+     * @return the bean
+     */
+    public <T> T getBean(Class<T> type) {
+        return this.applicationContext.getBean(type);
+    }
+
+    /**
+     * Creates a new empty editing context, not backed by any persisted project.
+     *
+     * @return a new editing context
+     */
+    public IEMFEditingContext createEditingContext() {
+        IEditingContext editingContext = this.getBean(IEditingContextSearchService.class).findById(UUID.randomUUID().toString()).orElseThrow();
+        AdapterFactoryEditingDomain editingDomain = ((IEMFEditingContext) editingContext).getDomain();
+        editingDomain.getResourceSet().getURIConverter().getURIHandlers().add(0, new ClassPathResourceURIHandler());
+        editingDomain.getResourceSet().getResourceFactoryRegistry().getProtocolToFactoryMap().put(ClassPathResourceURIHandler.CLASSPATH,
+                new ClassPathResourceFactory(editingDomain.getResourceSet().getResourceFactoryRegistry()));
+        return (IEMFEditingContext) editingContext;
+    }
+
+    /**
+     * Creates a helper used to build and modify a diagram in the given editing context.
+     *
+     * @param editingContext
+     *            the editing context
+     * @return a new diagram helper
+     */
+    public DiagramTestHelper createDiagramHelper(IEditingContext editingContext) {
+        return new DiagramTestHelper(editingContext, this.getBean(IObjectService.class), this.getBean(PapyrusRepresentationDescriptionRegistry.class), this.getBean(IDiagramBuilderService.class),
+                this.getBean(IDiagramOperationsService.class), this.getBean(IDiagramNavigationService.class), this.getBean(IViewDiagramDescriptionService.class),
+                this.getBean(IDiagramIdProvider.class));
+    }
+
+    /**
+     * Serializes a copy of the given root element in the JSON format used to store documents.
+     *
+     * @param root
+     *            the root element to serialize
+     * @return the serialized element
+     */
+    public String toJson(EObject root) {
+        Resource resource = new JSONResourceFactory().createResourceFromPath(UUID.randomUUID().toString());
+        resource.getContents().add(EcoreUtil.copy(root));
+        try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+            resource.save(outputStream, new HashMap<>());
+            return outputStream.toString(StandardCharsets.UTF_8);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+}
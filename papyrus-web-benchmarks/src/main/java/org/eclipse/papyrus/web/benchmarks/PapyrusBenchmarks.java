@@ -0,0 +1,66 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmarks.
+ * <p>
+ * Accepts the regular JMH command line options. Unless another format is requested with {@code -rf}, the results are
+ * written in JSON to {@code papyrus-web-benchmarks.json} (or to the file given with {@code -rff}) so that they can be
+ * compared across releases.
+ * </p>
+ *
+ * @author agent
+ */
+public final class PapyrusBenchmarks {
+
+    /**
+     * The default file receiving the results.
+     */
+    private static final String DEFAULT_RESULT_FILE = "papyrus-web-benchmarks.json";
+
+    private PapyrusBenchmarks() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Runs the benchmarks.
+     *
+     * @param args
+     *            the JMH command line options
+     * @throws CommandLineOptionException
+     *             if the command line options are invalid
+     * @throws RunnerException
+     *             if a benchmark failed
+     */
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLineOptions);
+        if (!commandLineOptions.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        if (!commandLineOptions.getResult().hasValue()) {
+            options.result(DEFAULT_RESULT_FILE);
+        }
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,105 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.benchmarks.diagrams;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.papyrus.web.application.representations.uml.CDDiagramDescriptionBuilder;
+import org.eclipse.papyrus.web.application.utils.DiagramTestHelper;
+import org.eclipse.papyrus.web.application.utils.UMLDiagramGenerator;
+import org.eclipse.papyrus.web.benchmarks.BenchmarkEnvironment;
+import org.eclipse.papyrus.web.services.aqlservices.clazz.ClassDiagramService;
+import org.eclipse.papyrus.web.tests.utils.UMLModelGenerator;
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.emf.services.JSONResourceFactory;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.eclipse.uml2.uml.Model;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the refresh of a Class Diagram displaying thousands of classes, some of them stereotyped, and the
+ * associations between them. The diagram is generated once per trial with {@link UMLDiagramGenerator}.
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DiagramRefreshBenchmark {
+
+    /**
+     * The seed of the generated model, fixed so that all the runs measure the same model.
+     */
+    private static final long SEED = 1L;
+
+    /**
+     * The number of stereotypes of the profile applied on the generated model.
+     */
+    private static final int STEREOTYPE_COUNT = 5;
+
+    /**
+     * The probability for a generated class to be stereotyped.
+     */
+    private static final double STEREOTYPE_RATIO = 0.5;
+
+    // CHECKSTYLE:OFF JMH injects the parameters in public fields
+    @Param({ "1000", "5000" })
+    public int nodeCount;
+    // CHECKSTYLE:ON
+
+    private DiagramTestHelper diagramHelper;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkEnvironment environment = BenchmarkEnvironment.get();
+        IEMFEditingContext editingContext = environment.createEditingContext();
+        Resource resource = new JSONResourceFactory().createResourceFromPath("diagramRefresh");
+        editingContext.getDomain().getResourceSet().getResources().add(resource);
+        UMLModelGenerator modelGenerator = new UMLModelGenerator(SEED)//
+                .packageDepth(0)//
+                .classesPerPackage(this.nodeCount)//
+                .associationsPerPackage(this.nodeCount / 10)//
+                .activities(0, 0)//
+                .stateMachines(0, 0);
+        modelGenerator.builtInProfile(editingContext.getDomain().getResourceSet(), STEREOTYPE_COUNT, STEREOTYPE_RATIO);
+        Model model = modelGenerator.generate();
+        resource.getContents().add(model);
+        modelGenerator.applyProfile(model);
+
+        this.diagramHelper = environment.createDiagramHelper(editingContext);
+        new UMLDiagramGenerator(editingContext, this.diagramHelper, environment.getBean(ClassDiagramService.class)).generate(model, CDDiagramDescriptionBuilder.CD_REP_NAME,
+                this.nodeCount);
+    }
+
+    @Benchmark
+    public Diagram refreshDiagram() {
+        this.diagramHelper.refresh();
+        return this.diagramHelper.getDiagram();
+    }
+}
@@ -0,0 +1,125 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.benchmarks.diagrams;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.papyrus.web.application.representations.uml.CDDiagramDescriptionBuilder;
+import org.eclipse.papyrus.web.application.utils.DiagramTestHelper;
+import org.eclipse.papyrus.web.benchmarks.BenchmarkEnvironment;
+import org.eclipse.papyrus.web.services.aqlservices.clazz.ClassDiagramService;
+import org.eclipse.papyrus.web.services.aqlservices.utils.ViewHelper;
+import org.eclipse.papyrus.web.sirius.contributions.IDiagramOperationsService;
+import org.eclipse.papyrus.web.sirius.contributions.IViewDiagramDescriptionService;
+import org.eclipse.papyrus.web.tests.utils.UMLModelGenerator;
+import org.eclipse.sirius.components.core.api.IObjectService;
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.emf.services.JSONResourceFactory;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.eclipse.uml2.uml.Class;
+import org.eclipse.uml2.uml.Package;
+import org.eclipse.uml2.uml.PackageableElement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the creation of a single node on a Class Diagram already displaying N nodes, which is the cost paid by
+ * every creation tool on a large diagram.
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class NodeCreationBenchmark {
+
+    /**
+     * The seed of the generated model, fixed so that all the runs measure the same model.
+     */
+    private static final long SEED = 1L;
+
+    // CHECKSTYLE:OFF JMH injects the parameters in public fields
+    @Param({ "10", "100", "1000" })
+    public int nodeCount;
+    // CHECKSTYLE:ON
+
+    private IObjectService objectService;
+
+    private IViewDiagramDescriptionService viewDiagramDescriptionService;
+
+    private IDiagramOperationsService diagramOperationsService;
+
+    private DiagramTestHelper diagramHelper;
+
+    private Class newClass;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        BenchmarkEnvironment environment = BenchmarkEnvironment.get();
+        this.objectService = environment.getBean(IObjectService.class);
+        this.viewDiagramDescriptionService = environment.getBean(IViewDiagramDescriptionService.class);
+        this.diagramOperationsService = environment.getBean(IDiagramOperationsService.class);
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        BenchmarkEnvironment environment = BenchmarkEnvironment.get();
+        IEMFEditingContext editingContext = environment.createEditingContext();
+        Resource resource = new JSONResourceFactory().createResourceFromPath("nodeCreation");
+        editingContext.getDomain().getResourceSet().getResources().add(resource);
+        Package pack = new UMLModelGenerator(SEED)//
+                .packageDepth(0)//
+                .classesPerPackage(this.nodeCount)//
+                .attributesPerClass(0)//
+                .operationsPerClass(0)//
+                .associationsPerPackage(0)//
+                .activities(0, 0)//
+                .stateMachines(0, 0)//
+                .generate();
+        resource.getContents().add(pack);
+
+        this.diagramHelper = environment.createDiagramHelper(editingContext);
+        this.diagramHelper.init(pack, CDDiagramDescriptionBuilder.CD_REP_NAME);
+        ClassDiagramService classDiagramService = environment.getBean(ClassDiagramService.class);
+        this.diagramHelper.modify(context -> {
+            for (PackageableElement element : pack.getPackagedElements()) {
+                classDiagramService.semanticDrop(element, null, editingContext, context, this.diagramHelper.getConvertedNodes());
+            }
+        });
+        this.newClass = pack.createOwnedClass("NewClass", false);
+    }
+
+    @Benchmark
+    public Diagram createNode() {
+        this.diagramHelper.modify(context -> {
+            ViewHelper.create(this.objectService, this.viewDiagramDescriptionService, this.diagramOperationsService, context, this.diagramHelper.getConvertedNodes())
+                    .createRootView(this.newClass);
+        });
+        return this.diagramHelper.getDiagram();
+    }
+}
@@ -0,0 +1,111 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.benchmarks.diagrams;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.papyrus.web.application.representations.uml.CDDiagramDescriptionBuilder;
+import org.eclipse.papyrus.web.application.utils.DiagramTestHelper;
+import org.eclipse.papyrus.web.benchmarks.BenchmarkEnvironment;
+import org.eclipse.papyrus.web.services.aqlservices.clazz.ClassDiagramService;
+import org.eclipse.papyrus.web.tests.utils.UMLModelGenerator;
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.emf.services.JSONResourceFactory;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.eclipse.uml2.uml.Package;
+import org.eclipse.uml2.uml.PackageableElement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the semantic drop of N classes on an empty Class Diagram, as done when a multi-selection is dragged from
+ * the explorer. This goes through {@code AbstractDropSwitch} and {@code ViewHelper.createView} for each element.
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class SemanticDropBenchmark {
+
+    /**
+     * The seed of the generated model, fixed so that all the runs measure the same model.
+     */
+    private static final long SEED = 1L;
+
+    // CHECKSTYLE:OFF JMH injects the parameters in public fields
+    @Param({ "10", "100", "1000" })
+    public int elementCount;
+    // CHECKSTYLE:ON
+
+    private ClassDiagramService classDiagramService;
+
+    private IEMFEditingContext editingContext;
+
+    private DiagramTestHelper diagramHelper;
+
+    private List<PackageableElement> droppedElements;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        this.classDiagramService = BenchmarkEnvironment.get().getBean(ClassDiagramService.class);
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        BenchmarkEnvironment environment = BenchmarkEnvironment.get();
+        this.editingContext = environment.createEditingContext();
+        Resource resource = new JSONResourceFactory().createResourceFromPath("semanticDrop");
+        this.editingContext.getDomain().getResourceSet().getResources().add(resource);
+        Package pack = new UMLModelGenerator(SEED)//
+                .packageDepth(0)//
+                .classesPerPackage(this.elementCount)//
+                .attributesPerClass(0)//
+                .operationsPerClass(0)//
+                .associationsPerPackage(0)//
+                .activities(0, 0)//
+                .stateMachines(0, 0)//
+                .generate();
+        resource.getContents().add(pack);
+        this.droppedElements = List.copyOf(pack.getPackagedElements());
+
+        this.diagramHelper = environment.createDiagramHelper(this.editingContext);
+        this.diagramHelper.init(pack, CDDiagramDescriptionBuilder.CD_REP_NAME);
+    }
+
+    @Benchmark
+    public Diagram dropOnDiagram() {
+        this.diagramHelper.modify(context -> {
+            for (PackageableElement droppedElement : this.droppedElements) {
+                this.classDiagramService.semanticDrop(droppedElement, null, this.editingContext, context, this.diagramHelper.getConvertedNodes());
+            }
+        });
+        return this.diagramHelper.getDiagram();
+    }
+}
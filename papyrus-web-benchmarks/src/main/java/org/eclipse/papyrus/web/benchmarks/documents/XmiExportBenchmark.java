@@ -0,0 +1,86 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.benchmarks.documents;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.papyrus.web.application.utils.mutations.CreateProjectMutationRunner;
+import org.eclipse.papyrus.web.benchmarks.BenchmarkEnvironment;
+import org.eclipse.papyrus.web.tests.utils.UMLModelGenerator;
+import org.eclipse.sirius.web.services.api.document.Document;
+import org.eclipse.sirius.web.services.api.document.IDocumentService;
+import org.eclipse.uml2.uml.Model;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the export of a stored UML document of N classes to XMI, as done by the document download endpoint.
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class XmiExportBenchmark {
+
+    /**
+     * The seed of the generated model, fixed so that all the runs measure the same model.
+     */
+    private static final long SEED = 1L;
+
+    /**
+     * The number of classes owned by the model and by each of its packages.
+     */
+    private static final int CLASSES_PER_PACKAGE = 50;
+
+    // CHECKSTYLE:OFF JMH injects the parameters in public fields
+    @Param({ "1000", "10000" })
+    public int classCount;
+    // CHECKSTYLE:ON
+
+    private IDocumentService documentService;
+
+    private Document document;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkEnvironment environment = BenchmarkEnvironment.get();
+        this.documentService = environment.getBean(IDocumentService.class);
+        String projectId = environment.getBean(CreateProjectMutationRunner.class).createProject("XmiExport" + this.classCount);
+        Model model = new UMLModelGenerator(SEED)//
+                .packageDepth(1)//
+                .packagesPerPackage(this.classCount / CLASSES_PER_PACKAGE - 1)//
+                .classesPerPackage(CLASSES_PER_PACKAGE)//
+                .generate();
+        this.document = this.documentService.createDocument(projectId, "model.uml", environment.toJson(model)).orElseThrow();
+    }
+
+    @Benchmark
+    public byte[] exportToXmi() {
+        return this.documentService.getBytes(this.document, IDocumentService.RESOURCE_KIND_XMI).orElseThrow();
+    }
+}
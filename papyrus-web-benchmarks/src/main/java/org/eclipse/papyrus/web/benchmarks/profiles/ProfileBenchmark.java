@@ -0,0 +1,135 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.benchmarks.profiles;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.papyrus.web.benchmarks.BenchmarkEnvironment;
+import org.eclipse.papyrus.web.services.api.dto.ApplyProfileInput;
+import org.eclipse.papyrus.web.services.api.uml.profile.IUMLProfileService;
+import org.eclipse.papyrus.web.services.api.uml.profile.PublishProfileInput;
+import org.eclipse.papyrus.web.services.api.uml.profile.UMLProfileMetadata;
+import org.eclipse.sirius.components.core.api.IObjectService;
+import org.eclipse.sirius.components.core.api.IPayload;
+import org.eclipse.sirius.components.emf.services.JSONResourceFactory;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.eclipse.uml2.uml.Model;
+import org.eclipse.uml2.uml.UMLFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.ClassPathResource;
+
+/**
+ * Measures the publication of a dynamic profile, the listing of the available profiles and the application of a
+ * published profile on a model.
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ProfileBenchmark {
+
+    /**
+     * The id of the profile defined in {@code profile/profile.json}.
+     */
+    private static final String PROFILE_ID = "7420affe-b576-4013-b5d2-02cb0f3c48b1";
+
+    private IUMLProfileService profileService;
+
+    private IEMFEditingContext editingContext;
+
+    private String publishedProfileUri;
+
+    private int publicationCount;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkEnvironment environment = BenchmarkEnvironment.get();
+        this.profileService = environment.getBean(IUMLProfileService.class);
+        this.editingContext = environment.createEditingContext();
+
+        Resource profileResource = new JSONResourceFactory().createResourceFromPath("benchmarkProfile");
+        this.editingContext.getDomain().getResourceSet().getResources().add(profileResource);
+        try (InputStream input = new ClassPathResource("profile/profile.json").getInputStream()) {
+            profileResource.load(input, Collections.emptyMap());
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+
+        this.publishProfile();
+        this.publishedProfileUri = "pathmap://WEB_DYNAMIC_PROFILE/" + UUID.nameUUIDFromBytes(profileResource.getURI().lastSegment().getBytes()) + "#" + PROFILE_ID;
+    }
+
+    @Benchmark
+    public IPayload publishProfile() {
+        this.publicationCount++;
+        return this.profileService.publishProfile(this.editingContext, new PublishProfileInput(UUID.randomUUID(), this.editingContext.getId(), PROFILE_ID, "1.0." + this.publicationCount,
+                "comment", "copyright", "date", "author", true));
+    }
+
+    @Benchmark
+    public List<UMLProfileMetadata> getAllUMLProfiles() {
+        return this.profileService.getAllUMLProfiles();
+    }
+
+    @Benchmark
+    public IPayload applyProfile(TargetModel targetModel) {
+        return this.profileService.applyProfile(targetModel.editingContext, new ApplyProfileInput(UUID.randomUUID(), targetModel.editingContext.getId(), targetModel.modelId,
+                this.publishedProfileUri));
+    }
+
+    /**
+     * A fresh model, in a fresh editing context, on which the published profile is applied.
+     *
+     * @author agent
+     */
+    @State(Scope.Thread)
+    public static class TargetModel {
+
+        private IEMFEditingContext editingContext;
+
+        private String modelId;
+
+        @Setup(Level.Invocation)
+        public void setUp() {
+            BenchmarkEnvironment environment = BenchmarkEnvironment.get();
+            this.editingContext = environment.createEditingContext();
+            Resource resource = new JSONResourceFactory().createResourceFromPath("targetModel");
+            this.editingContext.getDomain().getResourceSet().getResources().add(resource);
+            Model model = UMLFactory.eINSTANCE.createModel();
+            resource.getContents().add(model);
+            this.modelId = environment.getBean(IObjectService.class).getId(model);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.benchmarks.properties;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.papyrus.web.services.aqlservices.properties.PropertiesHelpContentServices;
+import org.eclipse.papyrus.web.services.aqlservices.properties.PropertiesReferenceTypeServices;
+import org.eclipse.papyrus.web.services.aqlservices.scope.ReachableElementsServices;
+import org.eclipse.papyrus.web.services.properties.UMLDocumentationService;
+import org.eclipse.papyrus.web.tests.utils.MockLogger;
+import org.eclipse.papyrus.web.tests.utils.UMLModelGenerator;
+import org.eclipse.sirius.components.emf.services.JSONResourceFactory;
+import org.eclipse.uml2.uml.Class;
+import org.eclipse.uml2.uml.Model;
+import org.eclipse.uml2.uml.Property;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the evaluation of the services called when the Details view of a Property is rendered in a model of N
+ * classes: the help content and the type of each feature, and the candidates of the "type" reference widget.
+ * <p>
+ * The services are called directly, without going through the form renderer, so that the measure only depends on
+ * Papyrus Web code.
+ * </p>
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PropertyPageBenchmark {
+
+    /**
+     * The seed of the generated model, fixed so that all the runs measure the same model.
+     */
+    private static final long SEED = 1L;
+
+    /**
+     * The number of classes owned by the model and by each of its packages.
+     */
+    private static final int CLASSES_PER_PACKAGE = 50;
+
+    // CHECKSTYLE:OFF JMH injects the parameters in public fields
+    @Param({ "1000", "10000" })
+    public int classCount;
+    // CHECKSTYLE:ON
+
+    private final ReachableElementsServices reachableElementsServices = new ReachableElementsServices();
+
+    private final PropertiesHelpContentServices helpContentServices = new PropertiesHelpContentServices(new UMLDocumentationService());
+
+    private final PropertiesReferenceTypeServices referenceTypeServices = new PropertiesReferenceTypeServices(new MockLogger());
+
+    private Property property;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Model model = new UMLModelGenerator(SEED)//
+                .packageDepth(1)//
+                .packagesPerPackage(this.classCount / CLASSES_PER_PACKAGE - 1)//
+                .classesPerPackage(CLASSES_PER_PACKAGE)//
+                .generate();
+        Resource resource = new JSONResourceFactory().createResourceFromPath("propertyPage");
+        resource.getContents().add(model);
+        Class lastClass = (Class) model.getNestedPackages().get(model.getNestedPackages().size() - 1).getOwnedTypes().get(0);
+        this.property = lastClass.getOwnedAttributes().get(0);
+    }
+
+    @Benchmark
+    public void renderPropertyPage(Blackhole blackhole) {
+        for (EStructuralFeature feature : this.property.eClass().getEAllStructuralFeatures()) {
+            blackhole.consume(this.helpContentServices.getFeatureDescription(this.property, feature.getName()));
+            blackhole.consume(this.referenceTypeServices.getFeatureTypeQualifiedName(this.property, feature.getName()));
+        }
+        blackhole.consume(this.reachableElementsServices.getAllReachableElements(this.property, "type"));
+    }
+}
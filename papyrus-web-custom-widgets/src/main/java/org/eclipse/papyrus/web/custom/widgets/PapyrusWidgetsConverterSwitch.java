@@ -350,6 +350,19 @@ public class PapyrusWidgetsConverterSwitch extends PapyrusWidgetsSwitch<Optional
         };
     }
 
+    private Function<VariableManager, List<?>> getReferenceOptionsProvider(String expression, String isEnabledExpression) {
+        Function<VariableManager, List<?>> optionsProvider = this.getOptionsProvider(expression);
+        Function<VariableManager, Boolean> readOnlyProvider = this.getReadOnlyValueProvider(isEnabledExpression);
+        return variableManager -> {
+            List<?> options = List.of();
+            // The options of a disabled reference are never displayed, there is no need to search the whole model
+            if (!readOnlyProvider.apply(variableManager)) {
+                options = optionsProvider.apply(variableManager);
+            }
+            return options;
+        };
+    }
+
     private Function<VariableManager, List<?>> getValuesProvider(String expression) {
         String safeExpression = Optional.ofNullable(expression).orElse("");
         return variableManager -> {
@@ -405,7 +418,7 @@ public class PapyrusWidgetsConverterSwitch extends PapyrusWidgetsSwitch<Optional
                 .isReadOnlyProvider(this.getReadOnlyValueProvider(referenceDescription.getIsEnabledExpression()))//
                 .idProvider(new WidgetIdProvider()) //
                 .labelProvider(variableManager -> new StringValueProvider(this.interpreter, referenceDescription.getLabelExpression()).apply(variableManager)) //
-                .optionsProvider(this.getOptionsProvider(referenceDescription.getDropdownOptionsExpression())) //
+                .optionsProvider(this.getReferenceOptionsProvider(referenceDescription.getDropdownOptionsExpression(), referenceDescription.getIsEnabledExpression())) //
                 .iconURLProvider(variableManager -> List.of()) //
                 .itemsProvider(this.getValuesProvider(referenceDescription.getValueExpression())) //
                 .itemIdProvider(this::getItemId) //
@@ -443,7 +456,7 @@ public class PapyrusWidgetsConverterSwitch extends PapyrusWidgetsSwitch<Optional
                 .idProvider(new WidgetIdProvider()) //
                 .isReadOnlyProvider(this.getReadOnlyValueProvider(referenceDescription.getIsEnabledExpression()))//
                 .labelProvider(variableManager -> new StringValueProvider(this.interpreter, referenceDescription.getLabelExpression()).apply(variableManager)) //
-                .optionsProvider(this.getOptionsProvider(referenceDescription.getDropdownOptionsExpression())) //
+                .optionsProvider(this.getReferenceOptionsProvider(referenceDescription.getDropdownOptionsExpression(), referenceDescription.getIsEnabledExpression())) //
                 .iconURLProvider(variableManager -> List.of()) //
                 .itemsProvider(this.getValuesProvider(referenceDescription.getValueExpression())) //
                 .itemIdProvider(this::getItemId) //
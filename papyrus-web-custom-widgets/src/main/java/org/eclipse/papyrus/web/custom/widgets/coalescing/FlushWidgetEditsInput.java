@@ -0,0 +1,30 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.custom.widgets.coalescing;
+
+import java.util.UUID;
+
+import org.eclipse.sirius.components.core.api.IInput;
+
+/**
+ * Input sent at the end of a burst of coalesced widget edits.
+ *
+ * @param id
+ *            the id of the input
+ * @param representationId
+ *            the id of the form containing the edited widget
+ * @author agent
+ */
+public record FlushWidgetEditsInput(UUID id, String representationId) implements IInput {
+}
@@ -0,0 +1,199 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.custom.widgets.coalescing;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
+import org.eclipse.sirius.components.collaborative.api.ChangeKind;
+import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessorRegistry;
+import org.eclipse.sirius.components.collaborative.forms.api.IFormInput;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IEditingContextPersistenceService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Coalesces the high-frequency edits of a widget, such as the drag of a slider or the typing in the body of a language
+ * expression.
+ * <p>
+ * Every edit is applied in order, but only the first edit of a burst produces a semantic change. The following edits of
+ * the same widget received within the coalescing window produce a change of kind {@link ChangeKind#NOTHING}, and a
+ * single semantic change is emitted once no edit has been received for the whole window. A burst thus triggers two
+ * refreshes of the representations of the editing context, instead of one per edit.
+ * </p>
+ * <p>
+ * Only the refresh is coalesced: since a change of kind {@link ChangeKind#NOTHING} does not persist the editing context,
+ * the coalesced edits are persisted directly. The semantic change ending a burst can thus be dropped if the editing
+ * context has been unloaded in the meantime, no edit is lost.
+ * </p>
+ * <p>
+ * The window, in milliseconds, is configured with {@code org.eclipse.papyrus.web.widgets.editCoalescingWindow}, the
+ * coalescing is disabled if it is not positive.
+ * </p>
+ *
+ * @author agent
+ */
+@Service
+public class WidgetEditCoalescer {
+
+    private final Map<EditKey, Burst> bursts = new HashMap<>();
+
+    private final ObjectProvider<IEditingContextEventProcessorRegistry> editingContextEventProcessorRegistry;
+
+    private final IEditingContextPersistenceService editingContextPersistenceService;
+
+    private final long window;
+
+    /**
+     * Constructor.
+     *
+     * @param editingContextEventProcessorRegistry
+     *            the registry used to send the semantic change ending a burst, resolved lazily since it depends on the
+     *            event handlers using this service
+     * @param editingContextPersistenceService
+     *            the service used to persist the coalesced edits
+     * @param window
+     *            the coalescing window, in milliseconds
+     */
+    public WidgetEditCoalescer(ObjectProvider<IEditingContextEventProcessorRegistry> editingContextEventProcessorRegistry, IEditingContextPersistenceService editingContextPersistenceService,
+            @Value("${org.eclipse.papyrus.web.widgets.editCoalescingWindow:250}") long window) {
+        this.editingContextEventProcessorRegistry = Objects.requireNonNull(editingContextEventProcessorRegistry);
+        this.editingContextPersistenceService = Objects.requireNonNull(editingContextPersistenceService);
+        this.window = window;
+    }
+
+    /**
+     * Gets the description of the change made by a successful edit of a widget.
+     *
+     * @param editingContext
+     *            the editing context
+     * @param formInput
+     *            the input of the edit
+     * @param widgetId
+     *            the id of the edited widget
+     * @param feature
+     *            identifies the edited value when a widget edits several ones, may be empty
+     * @return a semantic change for the first edit of a burst, a change of kind {@link ChangeKind#NOTHING} for the
+     *         following ones, which are persisted by this method
+     */
+    public ChangeDescription getChangeDescription(IEditingContext editingContext, IFormInput formInput, String widgetId, String feature) {
+        String kind = ChangeKind.SEMANTIC_CHANGE;
+        if (this.window > 0 && this.isCoalesced(new EditKey(editingContext.getId(), formInput.representationId(), widgetId, feature), System.currentTimeMillis())) {
+            kind = ChangeKind.NOTHING;
+            this.editingContextPersistenceService.persist(editingContext);
+        }
+        return new ChangeDescription(kind, formInput.representationId(), formInput);
+    }
+
+    /**
+     * Registers an edit and indicates if it belongs to a burst whose semantic change has already been emitted.
+     *
+     * @param key
+     *            the edited value
+     * @param timestamp
+     *            the time of the edit, in milliseconds
+     * @return <code>true</code> if the semantic change of this edit is deferred to the end of the burst
+     */
+    synchronized boolean isCoalesced(EditKey key, long timestamp) {
+        Burst burst = this.bursts.get(key);
+        boolean coalesced = burst != null && timestamp - burst.lastEdit < this.window;
+        if (coalesced) {
+            burst.lastEdit = timestamp;
+            burst.changeDeferred = true;
+        } else {
+            // The end of the burst is scheduled even for a single edit, so that its burst is discarded
+            Burst newBurst = new Burst(timestamp);
+            this.bursts.put(key, newBurst);
+            this.scheduleFlush(key, newBurst, this.window);
+        }
+        return coalesced;
+    }
+
+    /**
+     * Indicates if the given value is being edited, i.e. if the end of its last burst has not been handled yet.
+     *
+     * @param key
+     *            the edited value
+     * @return <code>true</code> if a burst of edits of this value is in progress
+     */
+    synchronized boolean isEdited(EditKey key) {
+        return this.bursts.containsKey(key);
+    }
+
+    private void scheduleFlush(EditKey key, Burst burst, long delay) {
+        Mono.delay(Duration.ofMillis(delay)).subscribe(tick -> this.flush(key, burst));
+    }
+
+    private void flush(EditKey key, Burst burst) {
+        boolean changeDeferred = false;
+        synchronized (this) {
+            // A burst replaced by a new one has been ended by the semantic change of the first edit of the new burst
+            if (this.bursts.get(key) == burst) {
+                long remaining = burst.lastEdit + this.window - System.currentTimeMillis();
+                if (remaining > 0) {
+                    this.scheduleFlush(key, burst, remaining);
+                } else {
+                    this.bursts.remove(key);
+                    changeDeferred = burst.changeDeferred;
+                }
+            }
+        }
+        if (changeDeferred) {
+            IEditingContextEventProcessorRegistry registry = this.editingContextEventProcessorRegistry.getObject();
+            // Dispatching an input would load again an editing context disposed during the burst, its coalesced edits
+            // have been persisted one by one
+            boolean loaded = registry.getEditingContextEventProcessors().stream()//
+                    .anyMatch(editingContextEventProcessor -> key.editingContextId().equals(editingContextEventProcessor.getEditingContextId()));
+            if (loaded) {
+                var input = new FlushWidgetEditsInput(UUID.randomUUID(), key.representationId());
+                registry.dispatchEvent(key.editingContextId(), input).subscribe();
+            }
+        }
+    }
+
+    /**
+     * The value edited by a widget.
+     *
+     * @author agent
+     */
+    record EditKey(String editingContextId, String representationId, String widgetId, String feature) {
+    }
+
+    /**
+     * The edits of a value received without interruption longer than the coalescing window.
+     *
+     * @author agent
+     */
+    private static final class Burst {
+
+        private long lastEdit;
+
+        /**
+         * Indicates if some edits of the burst have produced a change of kind {@link ChangeKind#NOTHING}.
+         */
+        private boolean changeDeferred;
+
+        Burst(long lastEdit) {
+            this.lastEdit = lastEdit;
+        }
+    }
+}
@@ -16,6 +16,7 @@ package org.eclipse.papyrus.web.custom.widgets.containmentreference;
 import java.text.MessageFormat;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -49,6 +50,10 @@ public final class ContainmentReferenceElementProps implements IProps {
 
     private List<ContainmentReferenceItem> values;
 
+    private int itemCount;
+
+    private BiFunction<Integer, Integer, List<ContainmentReferenceItem>> valuesProvider;
+
     private String ownerKind;
 
     private String referenceKind;
@@ -99,6 +104,14 @@ public final class ContainmentReferenceElementProps implements IProps {
         return this.values;
     }
 
+    public int getItemCount() {
+        return this.itemCount;
+    }
+
+    public BiFunction<Integer, Integer, List<ContainmentReferenceItem>> getValuesProvider() {
+        return this.valuesProvider;
+    }
+
     public String getOwnerKind() {
         return this.ownerKind;
     }
@@ -162,6 +175,10 @@ public final class ContainmentReferenceElementProps implements IProps {
 
         private List<ContainmentReferenceItem> values;
 
+        private int itemCount;
+
+        private BiFunction<Integer, Integer, List<ContainmentReferenceItem>> valuesProvider;
+
         private String ownerKind;
 
         private String referenceKind;
@@ -209,6 +226,16 @@ public final class ContainmentReferenceElementProps implements IProps {
             return this;
         }
 
+        public Builder itemCount(int itemCount) {
+            this.itemCount = itemCount;
+            return this;
+        }
+
+        public Builder valuesProvider(BiFunction<Integer, Integer, List<ContainmentReferenceItem>> valuesProvider) {
+            this.valuesProvider = Objects.requireNonNull(valuesProvider);
+            return this;
+        }
+
         public Builder ownerKind(String ownerKind) {
             this.ownerKind = Objects.requireNonNull(ownerKind);
             return this;
@@ -262,6 +289,8 @@ public final class ContainmentReferenceElementProps implements IProps {
             props.iconURL = this.iconURL;
             props.readOnly = this.readOnly;
             props.values = Objects.requireNonNull(this.values);
+            props.itemCount = this.itemCount;
+            props.valuesProvider = this.valuesProvider; // Optional on purpose
             props.ownerKind = Objects.requireNonNull(this.ownerKind);
             props.referenceKind = Objects.requireNonNull(this.referenceKind);
             props.many = this.many;
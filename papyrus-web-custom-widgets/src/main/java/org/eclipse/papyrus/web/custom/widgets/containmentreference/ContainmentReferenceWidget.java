@@ -16,6 +16,8 @@ package org.eclipse.papyrus.web.custom.widgets.containmentreference;
 import java.text.MessageFormat;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -29,6 +31,11 @@ import org.eclipse.sirius.components.widget.reference.ReferenceWidgetStyle;
 
 /**
  * A custom widget to handle containment reference.
+ * <p>
+ * All the items are rendered with the widget unless its description opts in for a summary, see
+ * {@link #getReferenceValues()} and {@link #getItemCount()}. The other items are then computed on demand with
+ * {@link #getReferenceValues(int, int)}, e.g. when the end-user scrolls the list.
+ * </p>
  *
  * @author Jerome Gout
  */
@@ -39,6 +46,10 @@ public final class ContainmentReferenceWidget extends AbstractWidget {
 
     private List<ContainmentReferenceItem> referenceValues;
 
+    private int itemCount;
+
+    private BiFunction<Integer, Integer, List<ContainmentReferenceItem>> referenceValuesProvider;
+
     private String ownerId;
 
     private String ownerKind;
@@ -67,6 +78,44 @@ public final class ContainmentReferenceWidget extends AbstractWidget {
         return this.referenceValues;
     }
 
+    public int getItemCount() {
+        return this.itemCount;
+    }
+
+    /**
+     * Computes the items of the containment reference in the given range.
+     *
+     * @param offset
+     *            the index of the first item
+     * @param limit
+     *            the maximum number of items
+     * @return the items in the given range
+     */
+    public List<ContainmentReferenceItem> getReferenceValues(int offset, int limit) {
+        return this.referenceValuesProvider.apply(offset, limit);
+    }
+
+    /**
+     * Finds the item with the given id, the items which have not been rendered with the widget are only computed if
+     * the item is not a rendered one.
+     *
+     * @param itemId
+     *            the id of an item
+     * @return the item with the given id
+     */
+    public Optional<ContainmentReferenceItem> findReferenceValue(String itemId) {
+        Optional<ContainmentReferenceItem> result = this.referenceValues.stream()//
+                .filter(item -> item.getId().equals(itemId))//
+                .findFirst();
+        int renderedCount = this.referenceValues.size();
+        if (result.isEmpty() && this.itemCount > renderedCount) {
+            result = this.getReferenceValues(renderedCount, this.itemCount - renderedCount).stream()//
+                    .filter(item -> item.getId().equals(itemId))//
+                    .findFirst();
+        }
+        return result;
+    }
+
     public String getDescriptionId() {
         return this.descriptionId;
     }
@@ -129,6 +178,10 @@ public final class ContainmentReferenceWidget extends AbstractWidget {
 
         private List<ContainmentReferenceItem> referenceValues;
 
+        private Integer itemCount;
+
+        private BiFunction<Integer, Integer, List<ContainmentReferenceItem>> referenceValuesProvider;
+
         private String ownerKind;
 
         private String referenceKind;
@@ -181,6 +234,16 @@ public final class ContainmentReferenceWidget extends AbstractWidget {
             return this;
         }
 
+        public Builder itemCount(int itemCount) {
+            this.itemCount = itemCount;
+            return this;
+        }
+
+        public Builder referenceValuesProvider(BiFunction<Integer, Integer, List<ContainmentReferenceItem>> referenceValuesProvider) {
+            this.referenceValuesProvider = Objects.requireNonNull(referenceValuesProvider);
+            return this;
+        }
+
         public Builder ownerKind(String ownerKind) {
             this.ownerKind = Objects.requireNonNull(ownerKind);
             return this;
@@ -234,6 +297,9 @@ public final class ContainmentReferenceWidget extends AbstractWidget {
             widget.iconURL = this.iconURL;
             widget.diagnostics = Objects.requireNonNull(this.diagnostics);
             widget.referenceValues = Objects.requireNonNull(this.referenceValues);
+            // By default, all the items are rendered with the widget
+            widget.itemCount = Objects.requireNonNullElse(this.itemCount, widget.referenceValues.size());
+            widget.referenceValuesProvider = Objects.requireNonNullElse(this.referenceValuesProvider, this::getRenderedValues);
             widget.ownerKind = Objects.requireNonNull(this.ownerKind);
             widget.referenceKind = Objects.requireNonNull(this.referenceKind);
             widget.many = this.many;
@@ -247,5 +313,10 @@ public final class ContainmentReferenceWidget extends AbstractWidget {
             return widget;
         }
 
+        private List<ContainmentReferenceItem> getRenderedValues(int offset, int limit) {
+            int fromIndex = Math.min(Math.max(offset, 0), this.referenceValues.size());
+            int toIndex = Math.min(fromIndex + Math.max(limit, 0), this.referenceValues.size());
+            return this.referenceValues.subList(fromIndex, toIndex);
+        }
     }
 }
@@ -13,8 +13,10 @@
  *****************************************************************************/
 package org.eclipse.papyrus.web.custom.widgets.containmentreference;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -32,6 +34,12 @@ import org.eclipse.sirius.components.widget.reference.ReferenceWidgetStyle;
 
 /**
  * The component used to create the containment reference widget and its items.
+ * <p>
+ * All the items are rendered with the widget by default. If the description has a
+ * {@link ContainmentReferenceWidgetDescription#getSummarySize() summary size}, only the first items are rendered with
+ * the widget and the label, kind and icon of the other items are computed on demand, when they are displayed. This is
+ * only meant for clients which ask for the other items.
+ * </p>
  *
  * @author Jerome Gout
  */
@@ -52,6 +60,7 @@ public class ContainmentReferenceWidgetComponent implements IComponent {
     public ContainmentReferenceWidgetComponent(ContainmentReferenceWidgetComponentProps props) {
         this.props = Objects.requireNonNull(props);
     }
+
     @Override
     public Element render() {
         VariableManager variableManager = this.props.getVariableManager();
@@ -73,7 +82,15 @@ public class ContainmentReferenceWidgetComponent implements IComponent {
         boolean isMany = referenceDescription.getIsManyProvider().apply(variableManager);
         ReferenceWidgetStyle style = referenceDescription.getStyleProvider().apply(variableManager);
 
-        List<ContainmentReferenceItem> items = this.getItems(variableManager, referenceDescription);
+        // The items are captured so that the items computed on demand are the ones of this rendering
+        List<?> rawValues = new ArrayList<>(referenceDescription.getItemsProvider().apply(variableManager));
+        BiFunction<Integer, Integer, List<ContainmentReferenceItem>> itemsProvider = (offset, limit) -> {
+            int fromIndex = Math.min(Math.max(offset, 0), rawValues.size());
+            int toIndex = Math.min(fromIndex + Math.max(limit, 0), rawValues.size());
+            return this.getItems(variableManager, referenceDescription, rawValues.subList(fromIndex, toIndex));
+        };
+        int renderedCount = Objects.requireNonNullElse(referenceDescription.getSummarySize(), rawValues.size());
+        List<ContainmentReferenceItem> items = itemsProvider.apply(0, renderedCount);
 
         List<Element> children = List.of(new Element(DiagnosticComponent.class, new DiagnosticComponentProps(referenceDescription, variableManager)));
 
@@ -82,6 +99,8 @@ public class ContainmentReferenceWidgetComponent implements IComponent {
                 .iconURL(iconURL)
                 .descriptionId(referenceDescription.getId())
                 .values(items)
+                .itemCount(rawValues.size())
+                .valuesProvider(itemsProvider)
                 .ownerKind(ownerKind)
                 .referenceKind(referenceKind)
                 .many(isMany)
@@ -117,9 +136,8 @@ public class ContainmentReferenceWidgetComponent implements IComponent {
         return new Element(ContainmentReferenceElementProps.TYPE, builder.build());
     }
 
-    private List<ContainmentReferenceItem> getItems(VariableManager variableManager, ContainmentReferenceWidgetDescription referenceDescription) {
-        List<?> rawValue = referenceDescription.getItemsProvider().apply(variableManager);
-        List<ContainmentReferenceItem> items = rawValue.stream()
+    private List<ContainmentReferenceItem> getItems(VariableManager variableManager, ContainmentReferenceWidgetDescription referenceDescription, List<?> rawValues) {
+        List<ContainmentReferenceItem> items = rawValues.stream()
                 .map(object -> {
                     VariableManager childVariables = variableManager.createChild();
                     childVariables.put(ContainmentReferenceWidgetComponent.ITEM_VARIABLE, object);
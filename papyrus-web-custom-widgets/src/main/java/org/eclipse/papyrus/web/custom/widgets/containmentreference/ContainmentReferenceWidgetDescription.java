@@ -75,6 +75,8 @@ public final class ContainmentReferenceWidgetDescription extends AbstractWidgetD
 
     private Function<VariableManager, IStatus> moveHandlerProvider;
 
+    private Integer summarySize;
+
     private ContainmentReferenceWidgetDescription() {
         // Prevent instantiation
     }
@@ -171,6 +173,15 @@ public final class ContainmentReferenceWidgetDescription extends AbstractWidgetD
         return this.moveHandlerProvider;
     }
 
+    /**
+     * Gets the number of items rendered with the widget, the other items are only computed on demand.
+     *
+     * @return the number of items rendered with the widget or <code>null</code> if all the items are rendered
+     */
+    public Integer getSummarySize() {
+        return this.summarySize;
+    }
+
     @Override
     public String toString() {
         String pattern = "{0} '{'id: {1}'}'";
@@ -231,6 +242,8 @@ public final class ContainmentReferenceWidgetDescription extends AbstractWidgetD
 
         private Function<VariableManager, IStatus> moveHandlerProvider;
 
+        private Integer summarySize;
+
         private Builder(String id) {
             this.id = Objects.requireNonNull(id);
         }
@@ -350,6 +363,11 @@ public final class ContainmentReferenceWidgetDescription extends AbstractWidgetD
             return this;
         }
 
+        public Builder summarySize(int summarySize) {
+            this.summarySize = summarySize;
+            return this;
+        }
+
         public ContainmentReferenceWidgetDescription build() {
             ContainmentReferenceWidgetDescription description = new ContainmentReferenceWidgetDescription();
             description.id = Objects.requireNonNull(this.id);
@@ -376,6 +394,7 @@ public final class ContainmentReferenceWidgetDescription extends AbstractWidgetD
             description.itemClickHandlerProvider = this.itemClickHandlerProvider; // Optional on purpose
             description.createElementHandlerProvider = this.createElementHandlerProvider;  // Optional on purpose
             description.moveHandlerProvider = this.moveHandlerProvider;  // Optional on purpose
+            description.summarySize = this.summarySize; // Optional on purpose
             return description;
         }
     }
@@ -78,6 +78,7 @@ public class ContainmentReferenceWidgetDescriptor implements IWidgetDescriptor {
                     .referenceKind(props.getReferenceKind())
                     .many(props.isMany())
                     .referenceValues(props.getValues())
+                    .itemCount(props.getItemCount())
                     .ownerId(props.getOwnerId())
                     .canMove(props.isMany() && props.getMoveHandler() != null) // Only multi-valued containment references can reorder items
                     .createElementHandler(props.getCreateElementHandler())
@@ -85,6 +86,9 @@ public class ContainmentReferenceWidgetDescriptor implements IWidgetDescriptor {
             if (props.getHelpTextProvider() != null) {
                 builder.helpTextProvider(props.getHelpTextProvider());
             }
+            if (props.getValuesProvider() != null) {
+                builder.referenceValuesProvider(props.getValuesProvider());
+            }
             if (props.getStyle() != null) {
                 builder.style(props.getStyle());
             }
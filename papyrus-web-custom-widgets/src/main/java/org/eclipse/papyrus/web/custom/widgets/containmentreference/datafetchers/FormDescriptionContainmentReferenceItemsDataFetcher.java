@@ -0,0 +1,69 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.custom.widgets.containmentreference.datafetchers;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.papyrus.web.custom.widgets.containmentreference.ContainmentReferenceItem;
+import org.eclipse.papyrus.web.custom.widgets.containmentreference.dto.ContainmentReferenceItemsQueryInput;
+import org.eclipse.papyrus.web.custom.widgets.containmentreference.dto.ContainmentReferenceItemsQueryPayload;
+import org.eclipse.sirius.components.annotations.spring.graphql.QueryDataFetcher;
+import org.eclipse.sirius.components.graphql.api.IDataFetcherWithFieldCoordinates;
+import org.eclipse.sirius.components.graphql.api.IEditingContextDispatcher;
+import org.eclipse.sirius.components.graphql.api.IExceptionWrapper;
+import org.eclipse.sirius.components.graphql.api.LocalContextConstants;
+
+import graphql.schema.DataFetchingEnvironment;
+
+/**
+ * Data fetcher used to retrieve the items of a containment reference widget which have not been rendered with the
+ * widget.
+ *
+ * @author agent
+ */
+@QueryDataFetcher(type = "FormDescription", field = "containmentReferenceItems")
+public class FormDescriptionContainmentReferenceItemsDataFetcher implements IDataFetcherWithFieldCoordinates<CompletableFuture<List<ContainmentReferenceItem>>> {
+
+    private final IExceptionWrapper exceptionWrapper;
+
+    private final IEditingContextDispatcher editingContextDispatcher;
+
+    public FormDescriptionContainmentReferenceItemsDataFetcher(IExceptionWrapper exceptionWrapper, IEditingContextDispatcher editingContextDispatcher) {
+        this.exceptionWrapper = Objects.requireNonNull(exceptionWrapper);
+        this.editingContextDispatcher = Objects.requireNonNull(editingContextDispatcher);
+    }
+
+    @Override
+    public CompletableFuture<List<ContainmentReferenceItem>> get(DataFetchingEnvironment environment) throws Exception {
+        Map<String, Object> localContext = environment.getLocalContext();
+        String editingContextId = Optional.ofNullable(localContext.get(LocalContextConstants.EDITING_CONTEXT_ID)).map(Object::toString).orElse(null);
+        String representationId = Optional.ofNullable(localContext.get(LocalContextConstants.REPRESENTATION_ID)).map(Object::toString).orElse(null);
+        String containmentReferenceId = environment.getArgument("containmentReferenceId");
+        int offset = environment.getArgument("offset");
+        int limit = environment.getArgument("limit");
+        var input = new ContainmentReferenceItemsQueryInput(UUID.randomUUID(), editingContextId, representationId, containmentReferenceId, offset, limit);
+
+        return this.exceptionWrapper.wrapMono(() -> this.editingContextDispatcher.dispatchQuery(input.editingContextId(), input), input)
+                .filter(ContainmentReferenceItemsQueryPayload.class::isInstance)
+                .map(ContainmentReferenceItemsQueryPayload.class::cast)
+                .map(ContainmentReferenceItemsQueryPayload::items)
+                .toFuture();
+    }
+
+}
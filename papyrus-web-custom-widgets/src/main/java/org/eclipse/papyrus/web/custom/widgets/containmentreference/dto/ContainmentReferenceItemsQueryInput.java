@@ -0,0 +1,28 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.custom.widgets.containmentreference.dto;
+
+import java.util.UUID;
+
+import org.eclipse.sirius.components.collaborative.forms.api.IFormInput;
+
+/**
+ * Input object for the query to retrieve the items of a containment reference widget which have not been rendered with
+ * the widget.
+ *
+ * @author agent
+ */
+public record ContainmentReferenceItemsQueryInput(UUID id, String editingContextId, String representationId, String containmentReferenceId, int offset, int limit) implements IFormInput {
+
+}
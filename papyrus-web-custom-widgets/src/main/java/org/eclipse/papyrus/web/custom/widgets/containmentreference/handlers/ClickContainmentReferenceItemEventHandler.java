@@ -13,7 +13,6 @@
  *****************************************************************************/
 package org.eclipse.papyrus.web.custom.widgets.containmentreference.handlers;
 
-import java.util.Collection;
 import java.util.Objects;
 
 import org.eclipse.papyrus.web.custom.widgets.containmentreference.ContainmentReferenceItem;
@@ -87,11 +86,7 @@ public class ClickContainmentReferenceItemEventHandler implements IFormEventHand
                 status = new Failure("Read-only widget can not be edited");
             } else {
                 var optionalReferenceValue = optionalReferenceWidget
-                        .stream()
-                        .map(ContainmentReferenceWidget::getReferenceValues)
-                        .flatMap(Collection::stream)
-                        .filter(item -> item.getId().equals(input.referenceItemId()))
-                        .findFirst();
+                        .flatMap(widget -> widget.findReferenceValue(input.referenceItemId()));
 
                 status = optionalReferenceValue.map(ContainmentReferenceItem::getClickHandler)
                         .map(handler -> handler.apply(input.clickEventKind()))
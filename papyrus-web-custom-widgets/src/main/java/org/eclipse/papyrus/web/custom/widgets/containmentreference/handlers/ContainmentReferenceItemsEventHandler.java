@@ -0,0 +1,89 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.custom.widgets.containmentreference.handlers;
+
+import java.util.Objects;
+
+import org.eclipse.papyrus.web.custom.widgets.containmentreference.ContainmentReferenceWidget;
+import org.eclipse.papyrus.web.custom.widgets.containmentreference.dto.ContainmentReferenceItemsQueryInput;
+import org.eclipse.papyrus.web.custom.widgets.containmentreference.dto.ContainmentReferenceItemsQueryPayload;
+import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
+import org.eclipse.sirius.components.collaborative.api.ChangeKind;
+import org.eclipse.sirius.components.collaborative.api.Monitoring;
+import org.eclipse.sirius.components.collaborative.forms.api.IFormEventHandler;
+import org.eclipse.sirius.components.collaborative.forms.api.IFormInput;
+import org.eclipse.sirius.components.collaborative.forms.api.IFormQueryService;
+import org.eclipse.sirius.components.collaborative.forms.messages.ICollaborativeFormMessageService;
+import org.eclipse.sirius.components.core.api.ErrorPayload;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IPayload;
+import org.eclipse.sirius.components.forms.Form;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Sinks.Many;
+import reactor.core.publisher.Sinks.One;
+
+/**
+ * Handler invoked when the end-user displays items of a containment reference widget which have not been rendered
+ * with the widget.
+ *
+ * @author agent
+ */
+@Service
+public class ContainmentReferenceItemsEventHandler implements IFormEventHandler {
+
+    private final ICollaborativeFormMessageService messageService;
+
+    private final Counter counter;
+
+    private final IFormQueryService formQueryService;
+
+    public ContainmentReferenceItemsEventHandler(IFormQueryService formQueryService, ICollaborativeFormMessageService messageService, MeterRegistry meterRegistry) {
+        this.formQueryService = Objects.requireNonNull(formQueryService);
+        this.messageService = Objects.requireNonNull(messageService);
+
+        this.counter = Counter.builder(Monitoring.EVENT_HANDLER)
+                .tag(Monitoring.NAME, this.getClass().getSimpleName())
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean canHandle(IFormInput formInput) {
+        return formInput instanceof ContainmentReferenceItemsQueryInput;
+    }
+
+    @Override
+    public void handle(One<IPayload> payloadSink, Many<ChangeDescription> changeDescriptionSink, IEditingContext editingContext, Form form, IFormInput formInput) {
+        this.counter.increment();
+
+        String message = this.messageService.invalidInput(formInput.getClass().getSimpleName(), ContainmentReferenceItemsQueryInput.class.getSimpleName());
+        IPayload payload = new ErrorPayload(formInput.id(), message);
+        ChangeDescription changeDescription = new ChangeDescription(ChangeKind.NOTHING, formInput.representationId(), formInput);
+
+        if (formInput instanceof ContainmentReferenceItemsQueryInput input) {
+            // An unknown widget is reported as an error, the client would otherwise display an empty page
+            payload = this.formQueryService.findWidget(form, input.containmentReferenceId())
+                    .filter(ContainmentReferenceWidget.class::isInstance)
+                    .map(ContainmentReferenceWidget.class::cast)
+                    .<IPayload> map(widget -> new ContainmentReferenceItemsQueryPayload(formInput.id(), widget.getReferenceValues(input.offset(), input.limit())))
+                    .orElse(payload);
+        }
+
+        changeDescriptionSink.tryEmitNext(changeDescription);
+        payloadSink.tryEmitValue(payload);
+    }
+
+}
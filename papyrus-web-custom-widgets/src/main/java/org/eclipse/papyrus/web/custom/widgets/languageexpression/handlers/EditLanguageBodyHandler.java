@@ -15,6 +15,7 @@ package org.eclipse.papyrus.web.custom.widgets.languageexpression.handlers;
 
 import java.util.Objects;
 
+import org.eclipse.papyrus.web.custom.widgets.coalescing.WidgetEditCoalescer;
 import org.eclipse.papyrus.web.custom.widgets.languageexpression.LanguageExpression;
 import org.eclipse.papyrus.web.custom.widgets.languageexpression.dto.DeleteLanguageInput;
 import org.eclipse.papyrus.web.custom.widgets.languageexpression.dto.EditLanguageBodyInput;
@@ -53,9 +54,12 @@ public class EditLanguageBodyHandler implements IFormEventHandler {
 
     private final Counter counter;
 
-    public EditLanguageBodyHandler(IFormQueryService formQueryService, ICollaborativeFormMessageService messageService, MeterRegistry meterRegistry) {
+    private final WidgetEditCoalescer widgetEditCoalescer;
+
+    public EditLanguageBodyHandler(IFormQueryService formQueryService, ICollaborativeFormMessageService messageService, MeterRegistry meterRegistry, WidgetEditCoalescer widgetEditCoalescer) {
         this.formQueryService = Objects.requireNonNull(formQueryService);
         this.messageService = Objects.requireNonNull(messageService);
+        this.widgetEditCoalescer = Objects.requireNonNull(widgetEditCoalescer);
 
         this.counter = Counter.builder(Monitoring.EVENT_HANDLER)
                 .tag(Monitoring.NAME, this.getClass().getSimpleName())
@@ -88,7 +92,7 @@ public class EditLanguageBodyHandler implements IFormEventHandler {
             }
             if (status instanceof Success success) {
                 payload = new SuccessPayload(formInput.id(), success.getMessages());
-                changeDescription = new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, formInput.representationId(), formInput);
+                changeDescription = this.widgetEditCoalescer.getChangeDescription(editingContext, formInput, input.languageExpressionId(), input.language());
             } else if (status instanceof Failure failure) {
                 payload = new ErrorPayload(formInput.id(), failure.getMessages());
             }
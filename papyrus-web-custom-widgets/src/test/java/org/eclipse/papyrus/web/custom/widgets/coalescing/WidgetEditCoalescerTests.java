@@ -0,0 +1,133 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.custom.widgets.coalescing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.eclipse.papyrus.web.custom.widgets.coalescing.WidgetEditCoalescer.EditKey;
+import org.eclipse.papyrus.web.custom.widgets.containmentreference.dto.RemoveContainmentReferenceItemInput;
+import org.eclipse.sirius.components.collaborative.api.ChangeKind;
+import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessorRegistry;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+/**
+ * Test class for {@link WidgetEditCoalescer}.
+ *
+ * @author agent
+ */
+public class WidgetEditCoalescerTests {
+
+    private static final long WINDOW = 1000;
+
+    private static final String EDITING_CONTEXT_ID = "editingContext";
+
+    private static final String FORM_ID = "form";
+
+    private static final String SLIDER = "slider";
+
+    /**
+     * The flush of a burst is scheduled far enough in the future to never be dispatched during the test.
+     */
+    private final WidgetEditCoalescer coalescer = new WidgetEditCoalescer(new StaticListableBeanFactory().getBeanProvider(IEditingContextEventProcessorRegistry.class), editingContext -> {
+        // Not checked
+    }, WINDOW);
+
+    @Test
+    public void testEditsOfABurstAreCoalesced() {
+        EditKey key = new EditKey(EDITING_CONTEXT_ID, FORM_ID, SLIDER, "");
+
+        assertFalse(this.coalescer.isCoalesced(key, 0));
+        assertTrue(this.coalescer.isCoalesced(key, 100));
+        // The window is measured from the last edit of the burst
+        assertTrue(this.coalescer.isCoalesced(key, 100 + WINDOW - 1));
+        assertFalse(this.coalescer.isCoalesced(key, 100 + 3 * WINDOW));
+    }
+
+    @Test
+    public void testSingleEditIsDiscarded() throws InterruptedException {
+        WidgetEditCoalescer shortWindowCoalescer = new WidgetEditCoalescer(new StaticListableBeanFactory().getBeanProvider(IEditingContextEventProcessorRegistry.class), editingContext -> {
+            // Not checked
+        }, 10);
+        EditKey key = new EditKey(EDITING_CONTEXT_ID, FORM_ID, SLIDER, "");
+
+        assertFalse(shortWindowCoalescer.isCoalesced(key, System.currentTimeMillis()));
+        assertTrue(shortWindowCoalescer.isEdited(key));
+        long deadline = System.currentTimeMillis() + WINDOW;
+        while (shortWindowCoalescer.isEdited(key) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertFalse(shortWindowCoalescer.isEdited(key));
+    }
+
+    @Test
+    public void testEditsOfDifferentValuesAreNotCoalesced() {
+        EditKey javaBody = new EditKey(EDITING_CONTEXT_ID, FORM_ID, "languageExpression", "JAVA");
+        EditKey oclBody = new EditKey(EDITING_CONTEXT_ID, FORM_ID, "languageExpression", "OCL");
+
+        assertFalse(this.coalescer.isCoalesced(javaBody, 0));
+        assertFalse(this.coalescer.isCoalesced(oclBody, 10));
+        assertTrue(this.coalescer.isCoalesced(javaBody, 20));
+    }
+
+    @Test
+    public void testCoalescedEditsPersistedWhenContextDisposedDuringBurst() throws InterruptedException {
+        // The editing context is disposed during the burst: the registry does not know it anymore
+        List<String> dispatchedEditingContextIds = new ArrayList<>();
+        IEditingContextEventProcessorRegistry registry = (IEditingContextEventProcessorRegistry) Proxy.newProxyInstance(this.getClass().getClassLoader(),
+                new Class<?>[] { IEditingContextEventProcessorRegistry.class }, (proxy, method, arguments) -> {
+                    Object result = null;
+                    if ("getEditingContextEventProcessors".equals(method.getName())) {
+                        result = List.of();
+                    } else if ("dispatchEvent".equals(method.getName())) {
+                        dispatchedEditingContextIds.add(String.valueOf(arguments[0]));
+                    }
+                    return result;
+                });
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("editingContextEventProcessorRegistry", registry);
+        List<IEditingContext> persistedEditingContexts = new ArrayList<>();
+        WidgetEditCoalescer shortWindowCoalescer = new WidgetEditCoalescer(beanFactory.getBeanProvider(IEditingContextEventProcessorRegistry.class), persistedEditingContexts::add, 200);
+        IEditingContext editingContext = new IEditingContext.NoOp() {
+            @Override
+            public String getId() {
+                return EDITING_CONTEXT_ID;
+            }
+        };
+        var input = new RemoveContainmentReferenceItemInput(UUID.randomUUID(), EDITING_CONTEXT_ID, FORM_ID, SLIDER, "");
+
+        assertEquals(ChangeKind.SEMANTIC_CHANGE, shortWindowCoalescer.getChangeDescription(editingContext, input, SLIDER, "").getKind());
+        assertTrue(persistedEditingContexts.isEmpty());
+        // The last edit of the burst is persisted although its semantic change is deferred
+        assertEquals(ChangeKind.NOTHING, shortWindowCoalescer.getChangeDescription(editingContext, input, SLIDER, "").getKind());
+        assertEquals(List.of(editingContext), persistedEditingContexts);
+
+        EditKey key = new EditKey(EDITING_CONTEXT_ID, FORM_ID, SLIDER, "");
+        long deadline = System.currentTimeMillis() + 10 * WINDOW;
+        while (shortWindowCoalescer.isEdited(key) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertFalse(shortWindowCoalescer.isEdited(key));
+        // The end of the burst does not load the disposed editing context again
+        assertTrue(dispatchedEditingContextIds.isEmpty());
+    }
+}
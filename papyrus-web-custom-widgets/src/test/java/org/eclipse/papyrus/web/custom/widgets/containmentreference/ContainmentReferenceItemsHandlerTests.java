@@ -0,0 +1,174 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.custom.widgets.containmentreference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.eclipse.papyrus.web.custom.widgets.containmentreference.dto.ContainmentReferenceItemsQueryInput;
+import org.eclipse.papyrus.web.custom.widgets.containmentreference.dto.ContainmentReferenceItemsQueryPayload;
+import org.eclipse.papyrus.web.custom.widgets.containmentreference.handlers.ContainmentReferenceItemsEventHandler;
+import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
+import org.eclipse.sirius.components.collaborative.api.ChangeKind;
+import org.eclipse.sirius.components.collaborative.forms.api.IFormQueryService;
+import org.eclipse.sirius.components.collaborative.forms.messages.ICollaborativeFormMessageService;
+import org.eclipse.sirius.components.core.api.ErrorPayload;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IPayload;
+import org.eclipse.sirius.components.forms.AbstractWidget;
+import org.eclipse.sirius.components.forms.Form;
+import org.eclipse.sirius.components.representations.Element;
+import org.eclipse.sirius.components.representations.VariableManager;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Unit tests for the retrieval of the items of a containment reference widget which have not been rendered with the
+ * widget.
+ *
+ * @author agent
+ */
+public class ContainmentReferenceItemsHandlerTests {
+
+    private static final String WIDGET_ID = "Containement Reference id";
+
+    private static final int ITEM_COUNT = 10;
+
+    private final AtomicInteger computedItems = new AtomicInteger();
+
+    @Test
+    public void testContainmentReferenceItemsHandler() {
+        ContainmentReferenceWidget refWidget = this.createWidget();
+        IFormQueryService formQueryService = new IFormQueryService.NoOp() {
+            @Override
+            public Optional<AbstractWidget> findWidget(Form form, String widgetId) {
+                return Optional.of(refWidget);
+            }
+        };
+        var input = new ContainmentReferenceItemsQueryInput(UUID.randomUUID(), UUID.randomUUID().toString(), UUID.randomUUID().toString(), WIDGET_ID, 2, 5);
+
+        ContainmentReferenceItemsEventHandler handler = new ContainmentReferenceItemsEventHandler(formQueryService, new ICollaborativeFormMessageService.NoOp(), new SimpleMeterRegistry());
+        assertThat(handler.canHandle(input)).isTrue();
+
+        Sinks.Many<ChangeDescription> changeDescriptionSink = Sinks.many().unicast().onBackpressureBuffer();
+        Sinks.One<IPayload> payloadSink = Sinks.one();
+        handler.handle(payloadSink, changeDescriptionSink, new IEditingContext.NoOp(), null, input);
+
+        assertThat(changeDescriptionSink.asFlux().blockFirst().getKind()).isEqualTo(ChangeKind.NOTHING);
+        IPayload payload = payloadSink.asMono().block();
+        assertThat(payload).isInstanceOf(ContainmentReferenceItemsQueryPayload.class);
+        assertThat(((ContainmentReferenceItemsQueryPayload) payload).items()).extracting(ContainmentReferenceItem::getId).containsExactly("2", "3", "4", "5", "6");
+        assertThat(this.computedItems.get()).isEqualTo(5);
+    }
+
+    @Test
+    public void testUnknownWidget() {
+        var input = new ContainmentReferenceItemsQueryInput(UUID.randomUUID(), UUID.randomUUID().toString(), UUID.randomUUID().toString(), WIDGET_ID, 0, 5);
+
+        ContainmentReferenceItemsEventHandler handler = new ContainmentReferenceItemsEventHandler(new IFormQueryService.NoOp(), new ICollaborativeFormMessageService.NoOp(), new SimpleMeterRegistry());
+
+        Sinks.Many<ChangeDescription> changeDescriptionSink = Sinks.many().unicast().onBackpressureBuffer();
+        Sinks.One<IPayload> payloadSink = Sinks.one();
+        handler.handle(payloadSink, changeDescriptionSink, new IEditingContext.NoOp(), null, input);
+
+        assertThat(payloadSink.asMono().block()).isInstanceOf(ErrorPayload.class);
+    }
+
+    @Test
+    public void testFindNotRenderedItem() {
+        ContainmentReferenceWidget refWidget = this.createWidget();
+
+        assertThat(refWidget.findReferenceValue("0")).isPresent();
+        assertThat(this.computedItems.get()).isZero();
+
+        assertThat(refWidget.findReferenceValue("8")).map(ContainmentReferenceItem::getLabel).hasValue("Item 8");
+        assertThat(refWidget.findReferenceValue("unknown")).isEmpty();
+    }
+
+    @Test
+    public void testRenderAllItemsByDefault() {
+        ContainmentReferenceElementProps props = this.render(this.createDescription().build());
+
+        assertThat(props.getValues()).hasSize(ITEM_COUNT);
+        assertThat(props.getItemCount()).isEqualTo(ITEM_COUNT);
+    }
+
+    @Test
+    public void testRenderSummary() {
+        ContainmentReferenceElementProps props = this.render(this.createDescription().summarySize(3).build());
+
+        assertThat(props.getValues()).extracting(ContainmentReferenceItem::getId).containsExactly("0", "1", "2");
+        assertThat(props.getItemCount()).isEqualTo(ITEM_COUNT);
+        assertThat(props.getValuesProvider().apply(8, 5)).extracting(ContainmentReferenceItem::getId).containsExactly("8", "9");
+    }
+
+    private ContainmentReferenceElementProps render(ContainmentReferenceWidgetDescription description) {
+        Element element = new ContainmentReferenceWidgetComponent(new ContainmentReferenceWidgetComponentProps(new VariableManager(), description)).render();
+        return (ContainmentReferenceElementProps) element.getProps();
+    }
+
+    private ContainmentReferenceWidgetDescription.Builder createDescription() {
+        return ContainmentReferenceWidgetDescription.newContainmentReferenceWidgetDescription(WIDGET_ID)
+                .idProvider(variableManager -> WIDGET_ID)
+                .targetObjectIdProvider(variableManager -> "")
+                .labelProvider(variableManager -> "")
+                .itemsProvider(variableManager -> IntStream.range(0, ITEM_COUNT).boxed().toList())
+                .itemIdProvider(variableManager -> variableManager.get(ContainmentReferenceWidgetComponent.ITEM_VARIABLE, Integer.class).map(String::valueOf).orElse(""))
+                .itemLabelProvider(variableManager -> "")
+                .itemKindProvider(variableManager -> "")
+                .itemIconURLProvider(variableManager -> List.of())
+                .ownerKindProvider(variableManager -> "")
+                .referenceKindProvider(variableManager -> "")
+                .isManyProvider(variableManager -> true)
+                .styleProvider(variableManager -> null)
+                .ownerIdProvider(variableManager -> "")
+                .diagnosticsProvider(variableManager -> List.of())
+                .kindProvider(object -> "")
+                .messageProvider(object -> "");
+    }
+
+    private ContainmentReferenceWidget createWidget() {
+        return ContainmentReferenceWidget.newContainmentReferenceWidget(WIDGET_ID)
+                .iconURL(List.of())
+                .diagnostics(List.of())
+                .referenceValues(List.of(this.createItem(0, false)))
+                .itemCount(ITEM_COUNT)
+                .referenceValuesProvider((offset, limit) -> IntStream.range(offset, Math.min(offset + limit, ITEM_COUNT)).mapToObj(index -> this.createItem(index, true)).toList())
+                .descriptionId("")
+                .label("")
+                .readOnly(false)
+                .ownerId("")
+                .ownerKind("")
+                .referenceKind("")
+                .many(true)
+                .build();
+    }
+
+    private ContainmentReferenceItem createItem(int index, boolean onDemand) {
+        if (onDemand) {
+            this.computedItems.incrementAndGet();
+        }
+        return ContainmentReferenceItem.newReferenceItem(String.valueOf(index))
+                .label("Item " + index)
+                .kind("")
+                .build();
+    }
+}
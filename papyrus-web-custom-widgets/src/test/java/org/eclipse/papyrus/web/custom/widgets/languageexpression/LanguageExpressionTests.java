@@ -22,6 +22,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
+import org.eclipse.papyrus.web.custom.widgets.coalescing.WidgetEditCoalescer;
 import org.eclipse.papyrus.web.custom.widgets.languageexpression.dto.AddLanguageInput;
 import org.eclipse.papyrus.web.custom.widgets.languageexpression.dto.DeleteLanguageInput;
 import org.eclipse.papyrus.web.custom.widgets.languageexpression.dto.EditLanguageBodyInput;
@@ -32,6 +33,7 @@ import org.eclipse.papyrus.web.custom.widgets.languageexpression.handlers.Delete
 import org.eclipse.papyrus.web.custom.widgets.languageexpression.handlers.EditLanguageBodyHandler;
 import org.eclipse.papyrus.web.custom.widgets.languageexpression.handlers.MoveLanguageHandler;
 import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
+import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessorRegistry;
 import org.eclipse.sirius.components.collaborative.forms.api.IFormQueryService;
 import org.eclipse.sirius.components.collaborative.forms.messages.ICollaborativeFormMessageService;
 import org.eclipse.sirius.components.core.api.ErrorPayload;
@@ -45,6 +47,7 @@ import org.eclipse.sirius.components.forms.Page;
 import org.eclipse.sirius.components.representations.IStatus;
 import org.eclipse.sirius.components.representations.Success;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
 
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import reactor.core.publisher.Sinks;
@@ -233,7 +236,10 @@ public class LanguageExpressionTests {
             }
         };
 
-        EditLanguageBodyHandler handler = new EditLanguageBodyHandler(formQueryService, new ICollaborativeFormMessageService.NoOp(), new SimpleMeterRegistry());
+        EditLanguageBodyHandler handler = new EditLanguageBodyHandler(formQueryService, new ICollaborativeFormMessageService.NoOp(), new SimpleMeterRegistry(),
+                new WidgetEditCoalescer(new StaticListableBeanFactory().getBeanProvider(IEditingContextEventProcessorRegistry.class), editingContext -> {
+                    // The edits are not coalesced
+                }, 0));
         assertThat(handler.canHandle(input)).isTrue();
 
         Sinks.Many<ChangeDescription> changeDescriptionSink = Sinks.many().unicast().onBackpressureBuffer();
@@ -458,7 +464,10 @@ public class LanguageExpressionTests {
             }
         };
 
-        EditLanguageBodyHandler handler = new EditLanguageBodyHandler(formQueryService, new ICollaborativeFormMessageService.NoOp(), new SimpleMeterRegistry());
+        EditLanguageBodyHandler handler = new EditLanguageBodyHandler(formQueryService, new ICollaborativeFormMessageService.NoOp(), new SimpleMeterRegistry(),
+                new WidgetEditCoalescer(new StaticListableBeanFactory().getBeanProvider(IEditingContextEventProcessorRegistry.class), editingContext -> {
+                    // The edits are not coalesced
+                }, 0));
         assertThat(handler.canHandle(input)).isTrue();
 
         Sinks.Many<ChangeDescription> changeDescriptionSink = Sinks.many().unicast().onBackpressureBuffer();
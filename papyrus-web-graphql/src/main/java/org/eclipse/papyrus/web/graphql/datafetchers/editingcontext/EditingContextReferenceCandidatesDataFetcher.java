@@ -0,0 +1,73 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.graphql.datafetchers.editingcontext;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.papyrus.web.services.api.dto.GetReferenceCandidatesInput;
+import org.eclipse.sirius.components.annotations.spring.graphql.QueryDataFetcher;
+import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessorRegistry;
+import org.eclipse.sirius.components.core.api.ErrorPayload;
+import org.eclipse.sirius.components.core.api.IPayload;
+import org.eclipse.sirius.components.graphql.api.IDataFetcherWithFieldCoordinates;
+import org.eclipse.sirius.web.graphql.messages.IGraphQLMessageService;
+
+import graphql.schema.DataFetchingEnvironment;
+
+/**
+ * The data fetcher used to retrieve one page of the candidates of a reference matching the text typed by the user.
+ * <p>
+ * The candidates and their labels are the ones displayed by the reference widgets of the UML detail view, so that a
+ * widget can fetch its options page by page while the user types instead of receiving all of them with the form. It
+ * will be used to fetch the data for the following GraphQL field:
+ * </p>
+ *
+ * <pre>
+ * type EditingContext {
+ *   referenceCandidates(ownerId: ID!, referenceName: String!, filter: String, offset: Int, limit: Int): GetReferenceCandidatesPayload!
+ * }
+ * </pre>
+ *
+ * @author agent
+ */
+@QueryDataFetcher(type = "EditingContext", field = "referenceCandidates")
+public class EditingContextReferenceCandidatesDataFetcher implements IDataFetcherWithFieldCoordinates<CompletableFuture<IPayload>> {
+
+    private final IEditingContextEventProcessorRegistry editingContextEventProcessorRegistry;
+
+    private final IGraphQLMessageService messageService;
+
+    public EditingContextReferenceCandidatesDataFetcher(IEditingContextEventProcessorRegistry editingContextEventProcessorRegistry, IGraphQLMessageService messageService) {
+        this.editingContextEventProcessorRegistry = Objects.requireNonNull(editingContextEventProcessorRegistry);
+        this.messageService = Objects.requireNonNull(messageService);
+    }
+
+    @Override
+    public CompletableFuture<IPayload> get(DataFetchingEnvironment environment) throws Exception {
+        String editingContextId = environment.getSource();
+        String ownerId = environment.getArgument("ownerId");
+        String referenceName = environment.getArgument("referenceName");
+        String filter = environment.getArgument("filter");
+        int offset = Optional.ofNullable(environment.<Integer> getArgument("offset")).orElse(0);
+        int limit = Optional.ofNullable(environment.<Integer> getArgument("limit")).orElse(0);
+
+        GetReferenceCandidatesInput input = new GetReferenceCandidatesInput(UUID.randomUUID(), ownerId, referenceName, filter, offset, limit);
+        return this.editingContextEventProcessorRegistry.dispatchEvent(editingContextId, input)//
+                .defaultIfEmpty(new ErrorPayload(input.id(), this.messageService.unexpectedError()))//
+                .toFuture();
+    }
+}
@@ -0,0 +1,66 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.graphql.datafetchers.subscription;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.Objects;
+
+import org.eclipse.papyrus.web.services.api.uml.profile.IProfilePublicationService;
+import org.eclipse.papyrus.web.services.api.uml.profile.PublishProfileEventInput;
+import org.eclipse.sirius.components.annotations.spring.graphql.SubscriptionDataFetcher;
+import org.eclipse.sirius.components.core.api.IPayload;
+import org.eclipse.sirius.components.graphql.api.IDataFetcherWithFieldCoordinates;
+import org.reactivestreams.Publisher;
+
+import graphql.execution.DataFetcherResult;
+import graphql.schema.DataFetchingEnvironment;
+
+/**
+ * The data fetcher used to follow the publication of a profile.
+ * <p>
+ * It will be used to fetch the data for the following GraphQL field:
+ * </p>
+ *
+ * <pre>
+ * type Subscription {
+ *   publishProfileEvent(input: PublishProfileEventInput!): PublishProfileEventPayload!
+ * }
+ * </pre>
+ *
+ * @author agent
+ */
+@SubscriptionDataFetcher(type = "Subscription", field = "publishProfileEvent")
+public class SubscriptionPublishProfileEventDataFetcher implements IDataFetcherWithFieldCoordinates<Publisher<DataFetcherResult<IPayload>>> {
+
+    private final ObjectMapper objectMapper;
+
+    private final IProfilePublicationService profilePublicationService;
+
+    public SubscriptionPublishProfileEventDataFetcher(ObjectMapper objectMapper, IProfilePublicationService profilePublicationService) {
+        this.objectMapper = Objects.requireNonNull(objectMapper);
+        this.profilePublicationService = Objects.requireNonNull(profilePublicationService);
+    }
+
+    @Override
+    public Publisher<DataFetcherResult<IPayload>> get(DataFetchingEnvironment environment) throws Exception {
+        Object argument = environment.getArgument("input");
+        var input = this.objectMapper.convertValue(argument, PublishProfileEventInput.class);
+
+        return this.profilePublicationService.getPublicationEvents(input.editingContextId(), input.publicationId())
+                .map(payload -> DataFetcherResult.<IPayload> newResult()
+                        .data(payload)
+                        .build());
+    }
+}
@@ -0,0 +1,83 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.persistence.entities;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The codecs used to store the content of an entity in a binary column.
+ *
+ * @author agent
+ */
+public enum ContentCodec {
+
+    /**
+     * The content is stored without any transformation.
+     */
+    IDENTITY {
+        @Override
+        public InputStream decode(InputStream inputStream) {
+            return inputStream;
+        }
+
+        @Override
+        public OutputStream encode(OutputStream outputStream) {
+            return outputStream;
+        }
+    },
+
+    /**
+     * The content is compressed with GZIP.
+     */
+    GZIP {
+        @Override
+        public InputStream decode(InputStream inputStream) throws IOException {
+            return new GZIPInputStream(inputStream, BUFFER_SIZE);
+        }
+
+        @Override
+        public OutputStream encode(OutputStream outputStream) throws IOException {
+            return new GZIPOutputStream(outputStream, BUFFER_SIZE);
+        }
+    };
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Wraps the given stream of encoded content into a stream of the original content.
+     *
+     * @param inputStream
+     *            the stream of encoded content
+     * @return a stream decoding the content on the fly
+     * @throws IOException
+     *             if the stream cannot be decoded
+     */
+    public abstract InputStream decode(InputStream inputStream) throws IOException;
+
+    /**
+     * Wraps the given stream into a stream encoding the content written into it. The returned stream must be closed
+     * to flush the encoded content.
+     *
+     * @param outputStream
+     *            the stream receiving the encoded content
+     * @return a stream encoding the content on the fly
+     * @throws IOException
+     *             if the stream cannot be created
+     */
+    public abstract OutputStream encode(OutputStream outputStream) throws IOException;
+}
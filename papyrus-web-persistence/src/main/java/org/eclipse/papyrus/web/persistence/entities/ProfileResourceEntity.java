@@ -13,15 +13,27 @@
  *******************************************************************************/
 package org.eclipse.papyrus.web.persistence.entities;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
 import java.util.UUID;
 
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 
 /**
  * Profile entity used by the persistence layer.
+ * <p>
+ * The content is either stored as text in {@code content} (rows written before the introduction of the compression or
+ * with {@link #setContent(String)}) or as an encoded binary payload in {@code compressedContent}, in which case
+ * {@code contentCodec} gives the codec used to encode it.
+ * </p>
  *
  * @author sbegaudeau
  */
@@ -34,6 +46,11 @@ public class ProfileResourceEntity {
 
     private String content;
 
+    private byte[] compressedContent;
+
+    @Enumerated(EnumType.STRING)
+    private ContentCodec contentCodec;
+
     public UUID getId() {
         return this.id;
     }
@@ -42,12 +59,77 @@ public class ProfileResourceEntity {
         this.id = id;
     }
 
+    /**
+     * Gets the content of the profile resource as a string, decoding it if needed.
+     * <p>
+     * Prefer {@link #getContentInputStream()} which does not build the whole content in memory.
+     * </p>
+     *
+     * @return the content of the profile resource
+     */
     public String getContent() {
-        return this.content;
+        String result = this.content;
+        if (this.compressedContent != null) {
+            try (InputStream inputStream = this.getContentInputStream()) {
+                result = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        }
+        return result;
     }
 
+    /**
+     * Sets the content of the profile resource as uncompressed text.
+     *
+     * @param content
+     *            the content of the profile resource
+     */
     public void setContent(String content) {
         this.content = content;
+        this.compressedContent = null;
+        this.contentCodec = null;
+    }
+
+    /**
+     * Sets the content of the profile resource as an encoded binary payload.
+     *
+     * @param codec
+     *            the codec used to encode the payload
+     * @param encodedContent
+     *            the encoded content of the profile resource
+     */
+    public void setCompressedContent(ContentCodec codec, byte[] encodedContent) {
+        this.contentCodec = codec;
+        this.compressedContent = encodedContent;
+        this.content = null;
+    }
+
+    public ContentCodec getContentCodec() {
+        return this.contentCodec;
+    }
+
+    /**
+     * Opens a stream on the content of the profile resource, decoding it on the fly if needed.
+     *
+     * @return a stream on the decoded content
+     * @throws IOException
+     *             if the content cannot be decoded
+     */
+    public InputStream getContentInputStream() throws IOException {
+        InputStream result;
+        if (this.compressedContent != null) {
+            ContentCodec codec = this.contentCodec;
+            if (codec == null) {
+                codec = ContentCodec.IDENTITY;
+            }
+            result = codec.decode(new ByteArrayInputStream(this.compressedContent));
+        } else if (this.content != null) {
+            result = new ByteArrayInputStream(this.content.getBytes(StandardCharsets.UTF_8));
+        } else {
+            result = InputStream.nullInputStream();
+        }
+        return result;
     }
 
     @Override
@@ -0,0 +1,4 @@
+ALTER TABLE Profile ALTER COLUMN content DROP NOT NULL;
+ALTER TABLE Profile ADD COLUMN compressedContent BYTEA;
+ALTER TABLE Profile ADD COLUMN contentCodec VARCHAR(16);
+ALTER TABLE Profile ADD CONSTRAINT ck_profile_content CHECK (content IS NOT NULL OR compressedContent IS NOT NULL);
@@ -12,16 +12,30 @@
  *******************************************************************************/
 package org.eclipse.papyrus.web.persistence.repositories;
 
+import org.eclipse.papyrus.web.tests.utils.TestDatabase;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
 /**
  * Superclass of the integration test classes used to adopt the singleton container pattern from testcontainers.
+ * <p>
+ * The database is an embedded PostgreSQL server instead of a container when the tests are run with the
+ * {@code embedded-db} Maven profile, see {@link TestDatabase}.
+ * </p>
  *
  * @author sbegaudeau
  */
 public abstract class AbstractIntegrationTests {
-    static final TestPostgreSQLContainer POSTGRESQL_CONTAINER;
+    static final TestDatabase DATABASE;
 
     static {
-        POSTGRESQL_CONTAINER = new TestPostgreSQLContainer();
-        POSTGRESQL_CONTAINER.start();
+        DATABASE = TestDatabase.start();
+    }
+
+    @DynamicPropertySource
+    public static void registerProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", DATABASE::getJdbcUrl);
+        registry.add("spring.datasource.username", DATABASE::getUsername);
+        registry.add("spring.datasource.password", DATABASE::getPassword);
     }
 }
@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (c) 2021, 2022 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.papyrus.web.persistence.repositories;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.eclipse.papyrus.web.persistence.entities.ContentCodec;
+import org.eclipse.papyrus.web.persistence.entities.ProfileResourceEntity;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ContextConfiguration;
+
+/**
+ * Integration tests of the profile repository.
+ *
+ * @author agent
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@ContextConfiguration(classes = PersistenceTestConfiguration.class)
+public class ProfileRepositoryIntegrationTests extends AbstractIntegrationTests {
+
+    /**
+     * A content with non ASCII characters, which must be decoded with the charset used to encode it.
+     */
+    private static final String CONTENT = "<uml:Profile xmi:id=\"_profile\" name=\"Profil \u00e9t\u00e9 \u2013 \u00b5\"/>";
+
+    @Autowired
+    private IProfileRepository profileRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    public void testReadLegacyUncompressedProfile() throws IOException {
+        UUID id = UUID.randomUUID();
+        // A row written before the introduction of the compression only has a text content
+        this.jdbcTemplate.update("INSERT INTO Profile (id, content) VALUES (?, ?)", id, CONTENT);
+
+        ProfileResourceEntity profileResourceEntity = this.profileRepository.findById(id).orElseThrow();
+
+        assertThat(profileResourceEntity.getContentCodec()).isNull();
+        assertThat(profileResourceEntity.getContent()).isEqualTo(CONTENT);
+        assertThat(this.readContent(profileResourceEntity)).isEqualTo(CONTENT);
+    }
+
+    @Test
+    public void testReadCompressedProfile() throws IOException {
+        UUID id = UUID.randomUUID();
+        ProfileResourceEntity profileResourceEntity = new ProfileResourceEntity();
+        profileResourceEntity.setId(id);
+        profileResourceEntity.setCompressedContent(ContentCodec.GZIP, this.encode(ContentCodec.GZIP, CONTENT));
+        this.profileRepository.save(profileResourceEntity);
+        this.entityManager.flush();
+        this.entityManager.clear();
+
+        ProfileResourceEntity readProfileResourceEntity = this.profileRepository.findById(id).orElseThrow();
+
+        assertThat(readProfileResourceEntity.getContentCodec()).isEqualTo(ContentCodec.GZIP);
+        assertThat(this.readContent(readProfileResourceEntity)).isEqualTo(CONTENT);
+    }
+
+    private byte[] encode(ContentCodec codec, String content) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (OutputStream encodingStream = codec.encode(outputStream)) {
+            encodingStream.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+        return outputStream.toByteArray();
+    }
+
+    private String readContent(ProfileResourceEntity profileResourceEntity) throws IOException {
+        try (InputStream inputStream = profileResourceEntity.getContentInputStream()) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -1775,7 +1775,7 @@ public class ADDiagramDescriptionBuilder extends AbstractRepresentationDescripti
                 List.of(this.umlPackage.getInitialNode()));
 
         EdgeDescription adControlFlowEdgeDescription = this.getViewBuilder().createDefaultSynchonizedDomainBaseEdgeDescription(this.umlPackage.getControlFlow(),
-                this.getQueryBuilder().queryAllReachableExactType(this.umlPackage.getControlFlow()), sourceDescriptionSupplier, targetDescriptionSupplier);
+                this.getQueryBuilder().queryAllReachableExactTypeMemoized(this.umlPackage.getControlFlow()), sourceDescriptionSupplier, targetDescriptionSupplier);
         adControlFlowEdgeDescription.getStyle().setLineStyle(LineStyle.SOLID);
         adControlFlowEdgeDescription.getStyle().setTargetArrowStyle(ArrowStyle.INPUT_ARROW);
         EdgeTool adControlFlowEdgeCreationTool = this.getViewBuilder().createDefaultDomainBasedEdgeTool(adControlFlowEdgeDescription, this.umlPackage.getActivity_Edge());
@@ -1824,7 +1824,7 @@ public class ADDiagramDescriptionBuilder extends AbstractRepresentationDescripti
                 List.of());
 
         EdgeDescription adObjectFlowEdgeDescription = this.getViewBuilder().createDefaultSynchonizedDomainBaseEdgeDescription(this.umlPackage.getObjectFlow(),
-                this.getQueryBuilder().queryAllReachableExactType(this.umlPackage.getObjectFlow()), sourceDescriptionSupplier, targetDescriptionSupplier);
+                this.getQueryBuilder().queryAllReachableExactTypeMemoized(this.umlPackage.getObjectFlow()), sourceDescriptionSupplier, targetDescriptionSupplier);
         adObjectFlowEdgeDescription.setEndLabelExpression(this.getQueryBuilder().createDomainBaseEdgeTargetLabelExpression());
         adObjectFlowEdgeDescription.getStyle().setLineStyle(LineStyle.SOLID);
         adObjectFlowEdgeDescription.getStyle().setTargetArrowStyle(ArrowStyle.INPUT_ARROW);
@@ -108,7 +108,7 @@ public final class CDDiagramDescriptionBuilder extends AbstractRepresentationDes
 
     private void createUsageDescription(DiagramDescription diagramDescription) {
         Supplier<List<NodeDescription>> classifierCollector = () -> this.collectNodesWithDomain(diagramDescription, this.pack.getNamedElement());
-        EdgeDescription usageDescription = this.getViewBuilder().createDefaultSynchonizedDomainBaseEdgeDescription(this.pack.getUsage(), this.getQueryBuilder().queryAllReachable(this.pack.getUsage()),
+        EdgeDescription usageDescription = this.getViewBuilder().createDefaultSynchonizedDomainBaseEdgeDescription(this.pack.getUsage(), this.getQueryBuilder().queryAllReachableMemoized(this.pack.getUsage()),
                 classifierCollector, classifierCollector);
         EdgeStyle style = usageDescription.getStyle();
         style.setLineStyle(LineStyle.DASH);
@@ -126,7 +126,7 @@ public final class CDDiagramDescriptionBuilder extends AbstractRepresentationDes
         Supplier<List<NodeDescription>> sourceAndTargetDescriptionsSupplier = () -> this.collectNodesWithDomain(diagramDescription, this.pack.getClassifier());
 
         EClass association = this.pack.getAssociation();
-        EdgeDescription cdAssociation = this.getViewBuilder().createDefaultSynchonizedDomainBaseEdgeDescription(association, this.getQueryBuilder().queryAllReachableExactType(association),
+        EdgeDescription cdAssociation = this.getViewBuilder().createDefaultSynchonizedDomainBaseEdgeDescription(association, this.getQueryBuilder().queryAllReachableExactTypeMemoized(association),
                 sourceAndTargetDescriptionsSupplier, sourceAndTargetDescriptionsSupplier);
         cdAssociation.getStyle().setLineStyle(LineStyle.SOLID);
         cdAssociation.getStyle().setTargetArrowStyle(ArrowStyle.NONE);
@@ -251,7 +251,7 @@ public final class CDDiagramDescriptionBuilder extends AbstractRepresentationDes
         Supplier<List<NodeDescription>> sourceAndTargetDescriptionsSupplier = () -> this.collectNodesWithDomain(diagramDescription, this.pack.getClassifier());
 
         EClass generalization = this.pack.getGeneralization();
-        EdgeDescription cdGeneralization = this.getViewBuilder().createDefaultSynchonizedDomainBaseEdgeDescription(generalization, this.getQueryBuilder().queryAllReachableExactType(generalization),
+        EdgeDescription cdGeneralization = this.getViewBuilder().createDefaultSynchonizedDomainBaseEdgeDescription(generalization, this.getQueryBuilder().queryAllReachableExactTypeMemoized(generalization),
                 sourceAndTargetDescriptionsSupplier, sourceAndTargetDescriptionsSupplier);
         cdGeneralization.getStyle().setLineStyle(LineStyle.SOLID);
         cdGeneralization.getStyle().setTargetArrowStyle(ArrowStyle.INPUT_CLOSED_ARROW);
@@ -270,7 +270,7 @@ public final class CDDiagramDescriptionBuilder extends AbstractRepresentationDes
         Supplier<List<NodeDescription>> targetDescriptionsSupplier = () -> this.collectNodesWithDomain(diagramDescription, this.pack.getInterface());
 
         EdgeDescription cdInterfaceRealization = this.getViewBuilder().createDefaultSynchonizedDomainBaseEdgeDescription(this.pack.getInterfaceRealization(),
-                this.getQueryBuilder().queryAllReachableExactType(this.pack.getInterfaceRealization()), sourceDescriptionsSupplier, targetDescriptionsSupplier);
+                this.getQueryBuilder().queryAllReachableExactTypeMemoized(this.pack.getInterfaceRealization()), sourceDescriptionsSupplier, targetDescriptionsSupplier);
         cdInterfaceRealization.getStyle().setLineStyle(LineStyle.DASH);
         cdInterfaceRealization.getStyle().setTargetArrowStyle(ArrowStyle.INPUT_CLOSED_ARROW);
         EdgeTool cdInterfaceRealizationCreationTool = this.getViewBuilder().createDefaultDomainBasedEdgeTool(cdInterfaceRealization, this.pack.getBehavioredClassifier_InterfaceRealization());
@@ -507,7 +507,7 @@ public final class CDDiagramDescriptionBuilder extends AbstractRepresentationDes
     private void createDependencyDescription(DiagramDescription diagramDescription) {
         Supplier<List<NodeDescription>> namedElementDescriptions = () -> this.collectNodesWithDomain(diagramDescription, this.pack.getNamedElement());
         EdgeDescription cdDependency = this.getViewBuilder().createDefaultSynchonizedDomainBaseEdgeDescription(this.pack.getDependency(),
-                this.getQueryBuilder().queryAllReachableExactType(this.pack.getDependency()), namedElementDescriptions, namedElementDescriptions);
+                this.getQueryBuilder().queryAllReachableExactTypeMemoized(this.pack.getDependency()), namedElementDescriptions, namedElementDescriptions);
         cdDependency.getStyle().setLineStyle(LineStyle.DASH);
         cdDependency.getStyle().setTargetArrowStyle(ArrowStyle.INPUT_ARROW);
         EdgeTool creationTool = this.getViewBuilder().createDefaultDomainBasedEdgeTool(cdDependency, this.pack.getPackage_PackagedElement());
@@ -522,7 +522,7 @@ public final class CDDiagramDescriptionBuilder extends AbstractRepresentationDes
     private void createAbstractionDescription(DiagramDescription diagramDescription) {
         Supplier<List<NodeDescription>> namedElementDescriptions = () -> this.collectNodesWithDomain(diagramDescription, this.pack.getNamedElement());
         EdgeDescription cdAbstraction = this.getViewBuilder().createDefaultSynchonizedDomainBaseEdgeDescription(this.pack.getAbstraction(),
-                this.getQueryBuilder().queryAllReachableExactType(this.pack.getAbstraction()), namedElementDescriptions, namedElementDescriptions);
+                this.getQueryBuilder().queryAllReachableExactTypeMemoized(this.pack.getAbstraction()), namedElementDescriptions, namedElementDescriptions);
         cdAbstraction.getStyle().setLineStyle(LineStyle.DASH);
         cdAbstraction.getStyle().setTargetArrowStyle(ArrowStyle.INPUT_ARROW);
         EdgeTool creationTool = this.getViewBuilder().createDefaultDomainBasedEdgeTool(cdAbstraction, this.pack.getPackage_PackagedElement());
@@ -537,7 +537,7 @@ public final class CDDiagramDescriptionBuilder extends AbstractRepresentationDes
     private void createPackageMergeDescription(DiagramDescription diagramDescription) {
         Supplier<List<NodeDescription>> packageDescriptions = () -> this.collectNodesWithDomain(diagramDescription, this.pack.getPackage());
         EdgeDescription cdPackageMerge = this.getViewBuilder().createDefaultSynchonizedDomainBaseEdgeDescription(this.pack.getPackageMerge(),
-                this.getQueryBuilder().queryAllReachable(this.pack.getPackageMerge()), packageDescriptions, packageDescriptions);
+                this.getQueryBuilder().queryAllReachableMemoized(this.pack.getPackageMerge()), packageDescriptions, packageDescriptions);
         cdPackageMerge.getStyle().setLineStyle(LineStyle.DASH);
         cdPackageMerge.getStyle().setTargetArrowStyle(ArrowStyle.INPUT_ARROW);
         EdgeTool creationTool = this.getViewBuilder().createDefaultDomainBasedEdgeTool(cdPackageMerge, this.pack.getPackage_PackageMerge());
@@ -551,7 +551,7 @@ public final class CDDiagramDescriptionBuilder extends AbstractRepresentationDes
     private void createPackageImportDescription(DiagramDescription diagramDescription) {
         Supplier<List<NodeDescription>> packageDescriptions = () -> this.collectNodesWithDomain(diagramDescription, this.pack.getPackage());
         EdgeDescription cdPackageImport = this.getViewBuilder().createDefaultSynchonizedDomainBaseEdgeDescription(this.pack.getPackageImport(),
-                this.getQueryBuilder().queryAllReachable(this.pack.getPackageImport()), packageDescriptions, packageDescriptions);
+                this.getQueryBuilder().queryAllReachableMemoized(this.pack.getPackageImport()), packageDescriptions, packageDescriptions);
         cdPackageImport.getStyle().setLineStyle(LineStyle.DASH);
         cdPackageImport.getStyle().setTargetArrowStyle(ArrowStyle.INPUT_ARROW);
 
@@ -217,7 +217,7 @@ public final class CODDiagramDescriptionBuilder extends AbstractRepresentationDe
         Supplier<List<NodeDescription>> sourceAndTargetDescriptionsSupplier = () -> this.collectNodesWithDomain(diagramDescription, this.umlPackage.getLifeline());
 
         EClass messageEClass = this.umlPackage.getMessage();
-        EdgeDescription codMessageEdgeDescription = this.getViewBuilder().createDefaultSynchonizedDomainBaseEdgeDescription(messageEClass, this.getQueryBuilder().queryAllReachable(messageEClass),
+        EdgeDescription codMessageEdgeDescription = this.getViewBuilder().createDefaultSynchonizedDomainBaseEdgeDescription(messageEClass, this.getQueryBuilder().queryAllReachableMemoized(messageEClass),
                 sourceAndTargetDescriptionsSupplier, sourceAndTargetDescriptionsSupplier);
         codMessageEdgeDescription.getStyle().setLineStyle(LineStyle.SOLID);
         codMessageEdgeDescription.getStyle().setTargetArrowStyle(ArrowStyle.INPUT_CLOSED_ARROW);
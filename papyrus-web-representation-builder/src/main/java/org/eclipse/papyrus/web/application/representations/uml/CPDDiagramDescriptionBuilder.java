@@ -619,7 +619,7 @@ public final class CPDDiagramDescriptionBuilder extends AbstractRepresentationDe
         Supplier<List<NodeDescription>> componentTargetCollector = () -> this.collectNodesWithDomain(diagramDescription, this.umlPackage.getComponent());
         Supplier<List<NodeDescription>> classifierSourceCollector = () -> this.collectNodesWithDomain(diagramDescription, this.umlPackage.getClassifier());
         EdgeDescription cpdComponentRealizationEdgeDescription = this.getViewBuilder().createDefaultSynchonizedDomainBaseEdgeDescription(this.umlPackage.getComponentRealization(),
-                this.getQueryBuilder().queryAllReachableExactType(this.umlPackage.getComponentRealization()), classifierSourceCollector, componentTargetCollector);
+                this.getQueryBuilder().queryAllReachableExactTypeMemoized(this.umlPackage.getComponentRealization()), classifierSourceCollector, componentTargetCollector);
         EdgeStyle style = cpdComponentRealizationEdgeDescription.getStyle();
         style.setLineStyle(LineStyle.DASH);
         style.setTargetArrowStyle(ArrowStyle.INPUT_CLOSED_ARROW);
@@ -636,7 +636,7 @@ public final class CPDDiagramDescriptionBuilder extends AbstractRepresentationDe
         Supplier<List<NodeDescription>> sourceAndTargets = () -> this.collectNodesWithDomain(diagramDescription, this.umlPackage.getPort(), this.umlPackage.getProperty());
 
         EdgeDescription cpdConnectorEdgeDescription = this.getViewBuilder().createDefaultSynchonizedDomainBaseEdgeDescription(this.umlPackage.getConnector(),
-                this.getQueryBuilder().queryAllReachable(this.umlPackage.getConnector()), sourceAndTargets, sourceAndTargets);
+                this.getQueryBuilder().queryAllReachableMemoized(this.umlPackage.getConnector()), sourceAndTargets, sourceAndTargets);
         cpdConnectorEdgeDescription.setBeginLabelExpression(this.getQueryBuilder().createDomainBaseEdgeSourceLabelExpression());
         cpdConnectorEdgeDescription.setEndLabelExpression(this.getQueryBuilder().createDomainBaseEdgeTargetLabelExpression());
         // Use ConnectorEnd#partWithPort to handle complex Connector edges
@@ -676,7 +676,7 @@ public final class CPDDiagramDescriptionBuilder extends AbstractRepresentationDe
 
         EClass generalizationEClass = this.umlPackage.getGeneralization();
         EdgeDescription cpdGeneralizationEdgeDescription = this.getViewBuilder().createDefaultSynchonizedDomainBaseEdgeDescription(generalizationEClass,
-                this.getQueryBuilder().queryAllReachableExactType(generalizationEClass), sourceAndTargetDescriptionsSupplier, sourceAndTargetDescriptionsSupplier, false);
+                this.getQueryBuilder().queryAllReachableExactTypeMemoized(generalizationEClass), sourceAndTargetDescriptionsSupplier, sourceAndTargetDescriptionsSupplier, false);
         cpdGeneralizationEdgeDescription.getStyle().setLineStyle(LineStyle.SOLID);
         cpdGeneralizationEdgeDescription.getStyle().setTargetArrowStyle(ArrowStyle.INPUT_CLOSED_ARROW);
         EdgeTool cpdGeneralizationEdgeCreationTool = this.getViewBuilder().createDefaultDomainBasedEdgeTool(cpdGeneralizationEdgeDescription, this.umlPackage.getClassifier_Generalization());
@@ -699,7 +699,7 @@ public final class CPDDiagramDescriptionBuilder extends AbstractRepresentationDe
         Supplier<List<NodeDescription>> interfaceTargetCollector = () -> this.collectNodesWithDomain(diagramDescription, this.umlPackage.getInterface());
         Supplier<List<NodeDescription>> behavioredClassifierSourceCollector = () -> this.collectNodesWithDomain(diagramDescription, this.umlPackage.getBehavioredClassifier());
         EdgeDescription cpdInterfaceRealizationEdgeDescription = this.getViewBuilder().createDefaultSynchonizedDomainBaseEdgeDescription(this.umlPackage.getInterfaceRealization(),
-                this.getQueryBuilder().queryAllReachableExactType(this.umlPackage.getInterfaceRealization()), behavioredClassifierSourceCollector, interfaceTargetCollector);
+                this.getQueryBuilder().queryAllReachableExactTypeMemoized(this.umlPackage.getInterfaceRealization()), behavioredClassifierSourceCollector, interfaceTargetCollector);
         EdgeStyle style = cpdInterfaceRealizationEdgeDescription.getStyle();
         style.setLineStyle(LineStyle.DASH);
         style.setTargetArrowStyle(ArrowStyle.INPUT_CLOSED_ARROW);
@@ -721,7 +721,7 @@ public final class CPDDiagramDescriptionBuilder extends AbstractRepresentationDe
         Supplier<List<NodeDescription>> packageableELementTargetCollector = () -> this.collectNodesWithDomain(diagramDescription, this.umlPackage.getPackageableElement());
         Supplier<List<NodeDescription>> namedElementSourceCollector = () -> this.collectNodesWithDomain(diagramDescription, this.umlPackage.getNamedElement());
         EdgeDescription cpdManifestationEdgeDescription = this.getViewBuilder().createDefaultSynchonizedDomainBaseEdgeDescription(this.umlPackage.getManifestation(),
-                this.getQueryBuilder().queryAllReachableExactType(this.umlPackage.getManifestation()), namedElementSourceCollector, packageableELementTargetCollector);
+                this.getQueryBuilder().queryAllReachableExactTypeMemoized(this.umlPackage.getManifestation()), namedElementSourceCollector, packageableELementTargetCollector);
         EdgeStyle style = cpdManifestationEdgeDescription.getStyle();
         style.setLineStyle(LineStyle.DASH);
         style.setTargetArrowStyle(ArrowStyle.INPUT_ARROW);
@@ -742,7 +742,7 @@ public final class CPDDiagramDescriptionBuilder extends AbstractRepresentationDe
     private void createSubstitutionEdgeDescription(DiagramDescription diagramDescription) {
         Supplier<List<NodeDescription>> classifierSourceTargetCollector = () -> this.collectNodesWithDomain(diagramDescription, this.umlPackage.getClassifier());
         EdgeDescription cpdSubstitutionEdgeDescription = this.getViewBuilder().createDefaultSynchonizedDomainBaseEdgeDescription(this.umlPackage.getSubstitution(),
-                this.getQueryBuilder().queryAllReachableExactType(this.umlPackage.getSubstitution()), classifierSourceTargetCollector, classifierSourceTargetCollector);
+                this.getQueryBuilder().queryAllReachableExactTypeMemoized(this.umlPackage.getSubstitution()), classifierSourceTargetCollector, classifierSourceTargetCollector);
         EdgeStyle style = cpdSubstitutionEdgeDescription.getStyle();
         style.setLineStyle(LineStyle.DASH);
         style.setTargetArrowStyle(ArrowStyle.INPUT_CLOSED_ARROW);
@@ -779,7 +779,7 @@ public final class CPDDiagramDescriptionBuilder extends AbstractRepresentationDe
     private void createDependencyOrSubTypeEdgeDescription(DiagramDescription diagramDescription, EClass edgeToCreate, LineStyle lineStyle, ArrowStyle arrowStyle) {
         Supplier<List<NodeDescription>> namedElementCollector = () -> this.collectNodesWithDomain(diagramDescription, this.umlPackage.getNamedElement());
         EdgeDescription cpdDependencyEdgeDescription = this.getViewBuilder().createDefaultSynchonizedDomainBaseEdgeDescription(edgeToCreate,
-                this.getQueryBuilder().queryAllReachableExactType(edgeToCreate), namedElementCollector, namedElementCollector);
+                this.getQueryBuilder().queryAllReachableExactTypeMemoized(edgeToCreate), namedElementCollector, namedElementCollector);
         EdgeStyle style = cpdDependencyEdgeDescription.getStyle();
         style.setLineStyle(lineStyle);
         style.setTargetArrowStyle(arrowStyle);
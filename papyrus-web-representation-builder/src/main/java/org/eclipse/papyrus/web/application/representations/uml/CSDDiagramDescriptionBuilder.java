@@ -90,7 +90,7 @@ public class CSDDiagramDescriptionBuilder extends AbstractRepresentationDescript
     private void createGeneralizationDescription(DiagramDescription diagramDescription) {
         Supplier<List<NodeDescription>> namedElementCollector = () -> this.collectNodesWithDomain(diagramDescription, this.pack.getClassifier());
         EdgeDescription connectorDescription = this.getViewBuilder().createDefaultSynchonizedDomainBaseEdgeDescription(this.pack.getGeneralization(),
-                this.getQueryBuilder().queryAllReachable(this.pack.getGeneralization()), namedElementCollector, namedElementCollector);
+                this.getQueryBuilder().queryAllReachableMemoized(this.pack.getGeneralization()), namedElementCollector, namedElementCollector);
         EdgeStyle style = connectorDescription.getStyle();
         style.setTargetArrowStyle(ArrowStyle.INPUT_CLOSED_ARROW);
         diagramDescription.getEdgeDescriptions().add(connectorDescription);
@@ -106,7 +106,7 @@ public class CSDDiagramDescriptionBuilder extends AbstractRepresentationDescript
         Supplier<List<NodeDescription>> sourceAndTargets = () -> this.collectNodesWithDomain(diagramDescription, this.pack.getPort(), this.pack.getProperty());
 
         EdgeDescription connectorDescription = this.getViewBuilder().createDefaultSynchonizedDomainBaseEdgeDescription(this.pack.getConnector(),
-                this.getQueryBuilder().queryAllReachable(this.pack.getConnector()), sourceAndTargets, sourceAndTargets);
+                this.getQueryBuilder().queryAllReachableMemoized(this.pack.getConnector()), sourceAndTargets, sourceAndTargets);
         connectorDescription.setBeginLabelExpression(this.getQueryBuilder().createDomainBaseEdgeSourceLabelExpression());
         connectorDescription.setEndLabelExpression(this.getQueryBuilder().createDomainBaseEdgeTargetLabelExpression());
         // Use ConnectorEnd#partWithPort to handle complex Connector edges
@@ -127,7 +127,7 @@ public class CSDDiagramDescriptionBuilder extends AbstractRepresentationDescript
     private void createUsageDescription(DiagramDescription diagramDescription) {
         Supplier<List<NodeDescription>> classifierCollector = () -> this.collectNodesWithDomain(diagramDescription, this.pack.getNamedElement());
         EdgeDescription connectorDescription = this.getViewBuilder().createDefaultSynchonizedDomainBaseEdgeDescription(this.pack.getUsage(),
-                this.getQueryBuilder().queryAllReachable(this.pack.getUsage()), classifierCollector, classifierCollector);
+                this.getQueryBuilder().queryAllReachableMemoized(this.pack.getUsage()), classifierCollector, classifierCollector);
         EdgeStyle style = connectorDescription.getStyle();
         style.setLineStyle(LineStyle.DASH);
         style.setTargetArrowStyle(ArrowStyle.INPUT_ARROW);
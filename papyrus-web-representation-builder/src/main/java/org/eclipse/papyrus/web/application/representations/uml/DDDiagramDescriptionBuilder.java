@@ -634,7 +634,7 @@ public final class DDDiagramDescriptionBuilder extends AbstractRepresentationDes
         Supplier<List<NodeDescription>> nodeSourcesAndTargets = () -> this.collectNodesWithDomain(diagramDescription, this.umlPackage.getNode());
         EClass communicationPathEClass = this.umlPackage.getCommunicationPath();
         EdgeDescription ddCommunicationPathEdgeDescription = this.getViewBuilder().createDefaultSynchonizedDomainBaseEdgeDescription(communicationPathEClass,
-                this.getQueryBuilder().queryAllReachableExactType(communicationPathEClass), nodeSourcesAndTargets, nodeSourcesAndTargets);
+                this.getQueryBuilder().queryAllReachableExactTypeMemoized(communicationPathEClass), nodeSourcesAndTargets, nodeSourcesAndTargets);
 
         ddCommunicationPathEdgeDescription.setBeginLabelExpression(this.getQueryBuilder().createDomainBaseEdgeSourceLabelExpression());
         ddCommunicationPathEdgeDescription.setEndLabelExpression(this.getQueryBuilder().createDomainBaseEdgeTargetLabelExpression());
@@ -660,7 +660,7 @@ public final class DDDiagramDescriptionBuilder extends AbstractRepresentationDes
     private void createDependencyEdgeDescription(DiagramDescription diagramDescription) {
         Supplier<List<NodeDescription>> namedElementCollector = () -> this.collectNodesWithDomain(diagramDescription, this.umlPackage.getNamedElement());
         EdgeDescription ddDependencyEdgeDescription = this.getViewBuilder().createDefaultSynchonizedDomainBaseEdgeDescription(this.umlPackage.getDependency(),
-                this.getQueryBuilder().queryAllReachableExactType(this.umlPackage.getDependency()),
+                this.getQueryBuilder().queryAllReachableExactTypeMemoized(this.umlPackage.getDependency()),
                 namedElementCollector, namedElementCollector);
         EdgeStyle style = ddDependencyEdgeDescription.getStyle();
         style.setLineStyle(LineStyle.DASH);
@@ -686,7 +686,7 @@ public final class DDDiagramDescriptionBuilder extends AbstractRepresentationDes
 
         EClass deploymentEClass = this.umlPackage.getDeployment();
         EdgeDescription ddDeploymentEdgeDescription = this.getViewBuilder().createDefaultSynchonizedDomainBaseEdgeDescription(deploymentEClass,
-                this.getQueryBuilder().queryAllReachableExactType(deploymentEClass),
+                this.getQueryBuilder().queryAllReachableExactTypeMemoized(deploymentEClass),
                 sourceDeployedArtifact, targetDeploymentTarget);
         ddDeploymentEdgeDescription.getStyle().setLineStyle(LineStyle.DASH);
         ddDeploymentEdgeDescription.getStyle().setTargetArrowStyle(ArrowStyle.INPUT_ARROW);
@@ -711,7 +711,7 @@ public final class DDDiagramDescriptionBuilder extends AbstractRepresentationDes
 
         EClass generalizationEClass = this.umlPackage.getGeneralization();
         EdgeDescription ddGeneralizationEdgeDescription = this.getViewBuilder().createDefaultSynchonizedDomainBaseEdgeDescription(generalizationEClass,
-                this.getQueryBuilder().queryAllReachableExactType(generalizationEClass), sourceAndTargetDescriptionsSupplier, sourceAndTargetDescriptionsSupplier, false);
+                this.getQueryBuilder().queryAllReachableExactTypeMemoized(generalizationEClass), sourceAndTargetDescriptionsSupplier, sourceAndTargetDescriptionsSupplier, false);
         ddGeneralizationEdgeDescription.getStyle().setLineStyle(LineStyle.SOLID);
         ddGeneralizationEdgeDescription.getStyle().setTargetArrowStyle(ArrowStyle.INPUT_CLOSED_ARROW);
         EdgeTool ddGeneralizationEdgeCreationTool = this.getViewBuilder().createDefaultDomainBasedEdgeTool(ddGeneralizationEdgeDescription, this.umlPackage.getClassifier_Generalization());
@@ -736,7 +736,7 @@ public final class DDDiagramDescriptionBuilder extends AbstractRepresentationDes
 
         EClass manifestationEClass = this.umlPackage.getManifestation();
         EdgeDescription ddManifestationEdgeDescription = this.getViewBuilder().createDefaultSynchonizedDomainBaseEdgeDescription(manifestationEClass,
-                this.getQueryBuilder().queryAllReachableExactType(manifestationEClass), namedElementSourceCollector, packageableELementTargetCollector, true);
+                this.getQueryBuilder().queryAllReachableExactTypeMemoized(manifestationEClass), namedElementSourceCollector, packageableELementTargetCollector, true);
         EdgeStyle style = ddManifestationEdgeDescription.getStyle();
         style.setLineStyle(LineStyle.DASH);
         style.setTargetArrowStyle(ArrowStyle.INPUT_ARROW);
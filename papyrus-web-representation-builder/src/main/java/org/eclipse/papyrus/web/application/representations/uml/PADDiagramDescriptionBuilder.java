@@ -109,7 +109,7 @@ public class PADDiagramDescriptionBuilder extends AbstractRepresentationDescript
     private void createDependencyDescription(DiagramDescription diagramDescription) {
         Supplier<List<NodeDescription>> namedElementDescriptions = () -> this.collectNodesWithDomain(diagramDescription, this.pack.getNamedElement());
         EdgeDescription padDependency = this.getViewBuilder().createDefaultSynchonizedDomainBaseEdgeDescription(this.pack.getDependency(),
-                this.getQueryBuilder().queryAllReachableExactType(this.pack.getDependency()), namedElementDescriptions, namedElementDescriptions);
+                this.getQueryBuilder().queryAllReachableExactTypeMemoized(this.pack.getDependency()), namedElementDescriptions, namedElementDescriptions);
         padDependency.getStyle().setLineStyle(LineStyle.DASH);
         padDependency.getStyle().setTargetArrowStyle(ArrowStyle.INPUT_ARROW);
         this.addCreationToolOnNamedElement(diagramDescription, padDependency, this.getViewBuilder().createDefaultDomainBasedEdgeTool(padDependency, this.pack.getPackage_PackagedElement()));
@@ -122,7 +122,7 @@ public class PADDiagramDescriptionBuilder extends AbstractRepresentationDescript
     private void createAbstractionDescription(DiagramDescription diagramDescription) {
         Supplier<List<NodeDescription>> namedElementDescriptions = () -> this.collectNodesWithDomain(diagramDescription, this.pack.getNamedElement());
         EdgeDescription padAbstraction = this.getViewBuilder().createDefaultSynchonizedDomainBaseEdgeDescription(this.pack.getAbstraction(),
-                this.getQueryBuilder().queryAllReachable(this.pack.getAbstraction()), namedElementDescriptions, namedElementDescriptions);
+                this.getQueryBuilder().queryAllReachableMemoized(this.pack.getAbstraction()), namedElementDescriptions, namedElementDescriptions);
         padAbstraction.getStyle().setLineStyle(LineStyle.DASH);
         padAbstraction.getStyle().setTargetArrowStyle(ArrowStyle.INPUT_ARROW);
         this.addCreationToolOnNamedElement(diagramDescription, padAbstraction, this.getViewBuilder().createDefaultDomainBasedEdgeTool(padAbstraction, this.pack.getPackage_PackagedElement()));
@@ -134,7 +134,7 @@ public class PADDiagramDescriptionBuilder extends AbstractRepresentationDescript
     private void createPackageMergeDescription(DiagramDescription diagramDescription) {
         Supplier<List<NodeDescription>> packageDescriptions = () -> this.collectNodesWithDomain(diagramDescription, this.pack.getPackage());
         EdgeDescription padPackageMerge = this.getViewBuilder().createDefaultSynchonizedDomainBaseEdgeDescription(this.pack.getPackageMerge(),
-                this.getQueryBuilder().queryAllReachable(this.pack.getPackageMerge()), packageDescriptions, packageDescriptions);
+                this.getQueryBuilder().queryAllReachableMemoized(this.pack.getPackageMerge()), packageDescriptions, packageDescriptions);
         padPackageMerge.getStyle().setLineStyle(LineStyle.DASH);
         padPackageMerge.getStyle().setTargetArrowStyle(ArrowStyle.INPUT_ARROW);
         this.addCreationToolOnPackage(diagramDescription, padPackageMerge, this.getViewBuilder().createDefaultDomainBasedEdgeTool(padPackageMerge, this.pack.getPackage_PackageMerge()));
@@ -146,7 +146,7 @@ public class PADDiagramDescriptionBuilder extends AbstractRepresentationDescript
     private void createPackageImportDescription(DiagramDescription diagramDescription) {
         Supplier<List<NodeDescription>> packageDescriptions = () -> this.collectNodesWithDomain(diagramDescription, this.pack.getPackage());
         EdgeDescription padPackageImport = this.getViewBuilder().createDefaultSynchonizedDomainBaseEdgeDescription(this.pack.getPackageImport(),
-                this.getQueryBuilder().queryAllReachable(this.pack.getPackageImport()), packageDescriptions, packageDescriptions);
+                this.getQueryBuilder().queryAllReachableMemoized(this.pack.getPackageImport()), packageDescriptions, packageDescriptions);
         padPackageImport.getStyle().setLineStyle(LineStyle.DASH);
         padPackageImport.getStyle().setTargetArrowStyle(ArrowStyle.INPUT_ARROW);
 
@@ -795,7 +795,7 @@ public class PRDDiagramDescriptionBuilder extends AbstractRepresentationDescript
                 .filter(nodeDescription -> !nodeDescription.getName().equals(PRD_METACLASS) && !nodeDescription.getName().equals(PRD_SHARED_METACLASS)).toList();
 
         EClass associationEClass = this.umlPackage.getAssociation();
-        EdgeDescription prdAssociationEdgeDescription = this.getViewBuilder().createDefaultSynchonizedDomainBaseEdgeDescription(associationEClass, this.getQueryBuilder().queryAllReachableExactType(associationEClass),
+        EdgeDescription prdAssociationEdgeDescription = this.getViewBuilder().createDefaultSynchonizedDomainBaseEdgeDescription(associationEClass, this.getQueryBuilder().queryAllReachableExactTypeMemoized(associationEClass),
                 sourceAndTargetDescriptionSupplier, sourceAndTargetDescriptionSupplier);
         prdAssociationEdgeDescription.getStyle().setLineStyle(LineStyle.SOLID);
         prdAssociationEdgeDescription.getStyle().setTargetArrowStyle(ArrowStyle.NONE);
@@ -827,7 +827,7 @@ public class PRDDiagramDescriptionBuilder extends AbstractRepresentationDescript
         Supplier<List<NodeDescription>> targetDescriptionSupplier = () -> this.collectNodesWithDomain(diagramDescription, this.umlPackage.getClass_());
 
         EClass extensionEClass = this.umlPackage.getExtension();
-        EdgeDescription prdExtensionEdgeDescription = this.getViewBuilder().createDefaultSynchonizedDomainBaseEdgeDescription(extensionEClass, this.getQueryBuilder().queryAllReachableExactType(extensionEClass),
+        EdgeDescription prdExtensionEdgeDescription = this.getViewBuilder().createDefaultSynchonizedDomainBaseEdgeDescription(extensionEClass, this.getQueryBuilder().queryAllReachableExactTypeMemoized(extensionEClass),
                 sourceDescriptionSupplier, targetDescriptionSupplier);
         prdExtensionEdgeDescription.getStyle().setLineStyle(LineStyle.SOLID);
         prdExtensionEdgeDescription.getStyle().setTargetArrowStyle(ArrowStyle.INPUT_FILL_CLOSED_ARROW);
@@ -854,7 +854,7 @@ public class PRDDiagramDescriptionBuilder extends AbstractRepresentationDescript
 
         EClass generalizationEClass = this.umlPackage.getGeneralization();
         EdgeDescription prdGeneralizationEdgeDescription = this.getViewBuilder().createDefaultSynchonizedDomainBaseEdgeDescription(generalizationEClass,
-                this.getQueryBuilder().queryAllReachableExactType(generalizationEClass), sourceDescriptionSupplier, targetDescriptionSupplier, false);
+                this.getQueryBuilder().queryAllReachableExactTypeMemoized(generalizationEClass), sourceDescriptionSupplier, targetDescriptionSupplier, false);
         prdGeneralizationEdgeDescription.getStyle().setLineStyle(LineStyle.SOLID);
         prdGeneralizationEdgeDescription.getStyle().setTargetArrowStyle(ArrowStyle.INPUT_CLOSED_ARROW);
         prdGeneralizationEdgeDescription.getStyle().setSourceArrowStyle(ArrowStyle.NONE);
@@ -252,7 +252,7 @@ public class SMDDiagramDescriptionBuilder extends AbstractRepresentationDescript
     private void createTransitionEdgeDescription(DiagramDescription diagramDescription) {
         Supplier<List<NodeDescription>> vertexNodeDescriptions = () -> this.collectNodesWithDomain(diagramDescription, this.umlPackage.getVertex());
         EdgeDescription transitionEdgeDescription = this.getViewBuilder().createDefaultSynchonizedDomainBaseEdgeDescription(this.umlPackage.getTransition(),
-                this.getQueryBuilder().queryAllReachableExactType(this.umlPackage.getTransition()), vertexNodeDescriptions, vertexNodeDescriptions);
+                this.getQueryBuilder().queryAllReachableExactTypeMemoized(this.umlPackage.getTransition()), vertexNodeDescriptions, vertexNodeDescriptions);
         transitionEdgeDescription.getStyle().setTargetArrowStyle(ArrowStyle.INPUT_ARROW);
         diagramDescription.getEdgeDescriptions().add(transitionEdgeDescription);
         transitionEdgeDescription.getPalette().setCenterLabelEditTool(null);
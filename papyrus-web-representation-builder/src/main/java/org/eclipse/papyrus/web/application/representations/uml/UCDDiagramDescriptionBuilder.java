@@ -492,7 +492,7 @@ public final class UCDDiagramDescriptionBuilder extends AbstractRepresentationDe
 
         EClass associationEClass = this.umlPackage.getAssociation();
         EdgeDescription ucdAssociationEdgeDescription = this.getViewBuilder().createDefaultSynchonizedDomainBaseEdgeDescription(associationEClass,
-                this.getQueryBuilder().queryAllReachableExactType(associationEClass),
+                this.getQueryBuilder().queryAllReachableExactTypeMemoized(associationEClass),
                 sourceAndTargetDescriptionsSupplier, sourceAndTargetDescriptionsSupplier);
         ucdAssociationEdgeDescription.getStyle().setLineStyle(LineStyle.SOLID);
         ucdAssociationEdgeDescription.getStyle().setTargetArrowStyle(ArrowStyle.NONE);
@@ -534,7 +534,7 @@ public final class UCDDiagramDescriptionBuilder extends AbstractRepresentationDe
         Supplier<List<NodeDescription>> useCaseCollector = () -> this.collectNodesWithDomain(diagramDescription, this.umlPackage.getUseCase());
         EClass extendEClass = this.umlPackage.getExtend();
         EdgeDescription ucdExtendEdgeDescription = this.getViewBuilder().createDefaultSynchonizedDomainBaseEdgeDescription(extendEClass,
-                this.getQueryBuilder().queryAllReachableExactType(extendEClass),
+                this.getQueryBuilder().queryAllReachableExactTypeMemoized(extendEClass),
                 useCaseCollector, useCaseCollector);
         EdgeStyle style = ucdExtendEdgeDescription.getStyle();
         style.setLineStyle(LineStyle.DASH);
@@ -559,7 +559,7 @@ public final class UCDDiagramDescriptionBuilder extends AbstractRepresentationDe
 
         EClass generalizationEClass = this.umlPackage.getGeneralization();
         EdgeDescription ucdGeneralizationEdgeDescription = this.getViewBuilder().createDefaultSynchonizedDomainBaseEdgeDescription(generalizationEClass,
-                this.getQueryBuilder().queryAllReachableExactType(generalizationEClass), sourceAndTargetDescriptionsSupplier, sourceAndTargetDescriptionsSupplier, false);
+                this.getQueryBuilder().queryAllReachableExactTypeMemoized(generalizationEClass), sourceAndTargetDescriptionsSupplier, sourceAndTargetDescriptionsSupplier, false);
         ucdGeneralizationEdgeDescription.getStyle().setLineStyle(LineStyle.SOLID);
         ucdGeneralizationEdgeDescription.getStyle().setTargetArrowStyle(ArrowStyle.INPUT_CLOSED_ARROW);
         EdgeTool ucdGeneralizationEdgeCreationTool = this.getViewBuilder().createDefaultDomainBasedEdgeTool(ucdGeneralizationEdgeDescription, this.umlPackage.getClassifier_Generalization());
@@ -581,7 +581,7 @@ public final class UCDDiagramDescriptionBuilder extends AbstractRepresentationDe
     private void createIncludeEdgeDescription(DiagramDescription diagramDescription) {
         Supplier<List<NodeDescription>> useCaseCollector = () -> this.collectNodesWithDomain(diagramDescription, this.umlPackage.getUseCase());
         EdgeDescription ucdIncludeEdgeDescription = this.getViewBuilder().createDefaultSynchonizedDomainBaseEdgeDescription(this.umlPackage.getInclude(),
-                this.getQueryBuilder().queryAllReachableExactType(this.umlPackage.getInclude()), useCaseCollector, useCaseCollector);
+                this.getQueryBuilder().queryAllReachableExactTypeMemoized(this.umlPackage.getInclude()), useCaseCollector, useCaseCollector);
         EdgeStyle style = ucdIncludeEdgeDescription.getStyle();
         style.setLineStyle(LineStyle.DASH);
         style.setTargetArrowStyle(ArrowStyle.INPUT_ARROW);
@@ -604,7 +604,7 @@ public final class UCDDiagramDescriptionBuilder extends AbstractRepresentationDe
         Supplier<List<NodeDescription>> sourceDescriptions = () -> this.collectNodesWithDomain(diagramDescription, this.umlPackage.getPackage(), this.umlPackage.getNamespace());
         Supplier<List<NodeDescription>> targetDescriptions = () -> this.collectNodesWithDomain(diagramDescription, this.umlPackage.getPackage());
         EdgeDescription ucdPackageImportEdgeDescription = this.getViewBuilder().createDefaultSynchonizedDomainBaseEdgeDescription(this.umlPackage.getPackageImport(),
-                this.getQueryBuilder().queryAllReachableExactType(this.umlPackage.getPackageImport()), sourceDescriptions, targetDescriptions, false);
+                this.getQueryBuilder().queryAllReachableExactTypeMemoized(this.umlPackage.getPackageImport()), sourceDescriptions, targetDescriptions, false);
         ucdPackageImportEdgeDescription.getStyle().setLineStyle(LineStyle.DASH);
         ucdPackageImportEdgeDescription.getStyle().setTargetArrowStyle(ArrowStyle.INPUT_ARROW);
 
@@ -626,7 +626,7 @@ public final class UCDDiagramDescriptionBuilder extends AbstractRepresentationDe
     private void createPackageMergeEdgeDescription(DiagramDescription diagramDescription) {
         Supplier<List<NodeDescription>> packageDescriptions = () -> this.collectNodesWithDomain(diagramDescription, this.umlPackage.getPackage());
         EdgeDescription ucdPackageMergeEdgeDescription = this.getViewBuilder().createDefaultSynchonizedDomainBaseEdgeDescription(this.umlPackage.getPackageMerge(),
-                this.getQueryBuilder().queryAllReachableExactType(this.umlPackage.getPackageMerge()), packageDescriptions, packageDescriptions, false);
+                this.getQueryBuilder().queryAllReachableExactTypeMemoized(this.umlPackage.getPackageMerge()), packageDescriptions, packageDescriptions, false);
         ucdPackageMergeEdgeDescription.getStyle().setLineStyle(LineStyle.DASH);
         ucdPackageMergeEdgeDescription.getStyle().setTargetArrowStyle(ArrowStyle.INPUT_ARROW);
         EdgeTool ucdPackageMergeEdgeCreationTool = this.getViewBuilder().createDefaultDomainBasedEdgeTool(ucdPackageMergeEdgeDescription, this.umlPackage.getPackage_PackageMerge());
@@ -759,7 +759,7 @@ public final class UCDDiagramDescriptionBuilder extends AbstractRepresentationDe
     private void createDependencyOrSubTypeEdgeDescription(DiagramDescription diagramDescription, EClass edgeToCreate, LineStyle lineStyle, ArrowStyle arrowStyle) {
         Supplier<List<NodeDescription>> namedElementCollector = () -> this.collectNodesWithDomain(diagramDescription, this.umlPackage.getNamedElement());
         EdgeDescription ucdDependencyEdgeDescription = this.getViewBuilder().createDefaultSynchonizedDomainBaseEdgeDescription(edgeToCreate,
-                this.getQueryBuilder().queryAllReachableExactType(edgeToCreate), namedElementCollector, namedElementCollector);
+                this.getQueryBuilder().queryAllReachableExactTypeMemoized(edgeToCreate), namedElementCollector, namedElementCollector);
         EdgeStyle style = ucdDependencyEdgeDescription.getStyle();
         style.setLineStyle(lineStyle);
         style.setTargetArrowStyle(arrowStyle);
@@ -14,6 +14,7 @@
 package org.eclipse.papyrus.web.application.representations.view.aql;
 
 import static org.eclipse.papyrus.web.application.representations.view.aql.CallQuery.queryServiceOnSelf;
+import static org.eclipse.papyrus.web.application.representations.view.aql.Variables.CACHE;
 import static org.eclipse.papyrus.web.application.representations.view.aql.Variables.CONVERTED_NODES;
 import static org.eclipse.papyrus.web.application.representations.view.aql.Variables.DELETION_POLICY;
 import static org.eclipse.papyrus.web.application.representations.view.aql.Variables.DIAGRAM;
@@ -115,6 +116,40 @@ public class QueryHelper {
         return CallQuery.queryServiceOnSelf(Services.GET_ALL_REACHABLE_SERVICE, this.aqlString(type.getName()), "false");
     }
 
+    /**
+     * Query to retrieve all element of a given type in the current ResourceSet, shared by all the evaluations of the
+     * query during the rendering of a diagram.
+     * <p>
+     * The query uses the rendering cache, which is only defined when the semantic candidates of an edge are computed:
+     * this query can thus only be used in the semantic candidates of an edge description. Node descriptions use
+     * {@link #queryAllReachable(EClass)}.
+     * </p>
+     *
+     * @param type
+     *            the searched type
+     * @return the query
+     */
+    public String queryAllReachableMemoized(EClass type) {
+        return CallQuery.queryServiceOnSelf(Services.GET_ALL_REACHABLE_SERVICE, this.aqlString(type.getName()), "true", CACHE);
+    }
+
+    /**
+     * Query to retrieve all elements with the exact expected type current ResourceSet (the subtypes are not returned),
+     * shared by all the evaluations of the query during the rendering of a diagram.
+     * <p>
+     * The query uses the rendering cache, which is only defined when the semantic candidates of an edge are computed:
+     * this query can thus only be used in the semantic candidates of an edge description. Node descriptions use
+     * {@link #queryAllReachableExactType(EClass)}.
+     * </p>
+     *
+     * @param type
+     *            the searched type
+     * @return the query
+     */
+    public String queryAllReachableExactTypeMemoized(EClass type) {
+        return CallQuery.queryServiceOnSelf(Services.GET_ALL_REACHABLE_SERVICE, this.aqlString(type.getName()), "false", CACHE);
+    }
+
     public String createNodeQuery(String domainType, String seflExpression, EReference containementRef) {
         String self;
         if (seflExpression.startsWith(AQL_PREFIX)) {
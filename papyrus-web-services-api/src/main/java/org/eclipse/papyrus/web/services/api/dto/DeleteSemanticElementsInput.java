@@ -0,0 +1,27 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.services.api.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.eclipse.sirius.components.core.api.IInput;
+
+/**
+ * The input object of the mutation deleting a selection of semantic elements at once.
+ *
+ * @author agent
+ */
+public record DeleteSemanticElementsInput(UUID id, String editingContextId, List<String> elementIds) implements IInput {
+}
@@ -0,0 +1,52 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.services.api.dto;
+
+import java.text.MessageFormat;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.eclipse.sirius.components.core.api.IPayload;
+
+/**
+ * The payload of the mutation deleting a selection of semantic elements at once.
+ *
+ * @author agent
+ */
+public final class DeleteSemanticElementsSuccessPayload implements IPayload {
+
+    private final UUID id;
+
+    private final int deletedElementCount;
+
+    public DeleteSemanticElementsSuccessPayload(UUID id, int deletedElementCount) {
+        this.id = Objects.requireNonNull(id);
+        this.deletedElementCount = deletedElementCount;
+    }
+
+    @Override
+    public UUID id() {
+        return this.id;
+    }
+
+    public int getDeletedElementCount() {
+        return this.deletedElementCount;
+    }
+
+    @Override
+    public String toString() {
+        String pattern = "{0} '{'id: {1}, deletedElementCount: {2}'}'";
+        return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.id, this.deletedElementCount);
+    }
+}
@@ -0,0 +1,38 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.services.api.dto;
+
+import java.util.UUID;
+
+import org.eclipse.sirius.components.core.api.IInput;
+
+/**
+ * The input object of the {@code referenceCandidates} query.
+ *
+ * @param id
+ *            the id of the input
+ * @param ownerId
+ *            the id of the element owning the reference
+ * @param referenceName
+ *            the name of the reference
+ * @param filter
+ *            the text typed by the user, may be <code>null</code>
+ * @param offset
+ *            the index of the first candidate of the page
+ * @param limit
+ *            the maximum number of candidates of the page
+ * @author agent
+ */
+public record GetReferenceCandidatesInput(UUID id, String ownerId, String referenceName, String filter, int offset, int limit) implements IInput {
+}
@@ -0,0 +1,53 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.services.api.dto;
+
+import java.text.MessageFormat;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.eclipse.papyrus.web.services.api.reference.ReferenceCandidatesPage;
+import org.eclipse.sirius.components.core.api.IPayload;
+
+/**
+ * The payload of the {@code referenceCandidates} query.
+ *
+ * @author agent
+ */
+public final class GetReferenceCandidatesSuccessPayload implements IPayload {
+
+    private final UUID id;
+
+    private final ReferenceCandidatesPage page;
+
+    public GetReferenceCandidatesSuccessPayload(UUID id, ReferenceCandidatesPage page) {
+        this.id = Objects.requireNonNull(id);
+        this.page = Objects.requireNonNull(page);
+    }
+
+    @Override
+    public UUID id() {
+        return this.id;
+    }
+
+    public ReferenceCandidatesPage getPage() {
+        return this.page;
+    }
+
+    @Override
+    public String toString() {
+        String pattern = "{0} '{'id: {1}, page: {2}'}'";
+        return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.id, this.page);
+    }
+}
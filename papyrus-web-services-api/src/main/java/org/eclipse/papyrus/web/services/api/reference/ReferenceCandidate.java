@@ -0,0 +1,62 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.services.api.reference;
+
+import java.text.MessageFormat;
+import java.util.List;
+
+/**
+ * A candidate value of a reference, as displayed in the dropdown of a reference widget.
+ *
+ * @author agent
+ */
+public class ReferenceCandidate {
+
+    private final String id;
+
+    private final String label;
+
+    private final String kind;
+
+    private final List<String> iconURL;
+
+    public ReferenceCandidate(String id, String label, String kind, List<String> iconURL) {
+        this.id = id;
+        this.label = label;
+        this.kind = kind;
+        this.iconURL = List.copyOf(iconURL);
+    }
+
+    public String getId() {
+        return this.id;
+    }
+
+    public String getLabel() {
+        return this.label;
+    }
+
+    public String getKind() {
+        return this.kind;
+    }
+
+    public List<String> getIconURL() {
+        return this.iconURL;
+    }
+
+    @Override
+    public String toString() {
+        String pattern = "{0} '{'id: {1}, label: {2}, kind: {3}'}'";
+        return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.id, this.label, this.kind);
+    }
+}
@@ -0,0 +1,52 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.services.api.reference;
+
+import java.text.MessageFormat;
+import java.util.List;
+
+/**
+ * One page of the candidates of a reference matching the text typed by the user.
+ * <p>
+ * The total number of candidates is not computed: counting them would require the traversal of the whole model that
+ * the paging avoids. {@link #isHasMore()} tells whether a next page exists.
+ * </p>
+ *
+ * @author agent
+ */
+public class ReferenceCandidatesPage {
+
+    private final List<ReferenceCandidate> candidates;
+
+    private final boolean hasMore;
+
+    public ReferenceCandidatesPage(List<ReferenceCandidate> candidates, boolean hasMore) {
+        this.candidates = List.copyOf(candidates);
+        this.hasMore = hasMore;
+    }
+
+    public List<ReferenceCandidate> getCandidates() {
+        return this.candidates;
+    }
+
+    public boolean isHasMore() {
+        return this.hasMore;
+    }
+
+    @Override
+    public String toString() {
+        String pattern = "{0} '{'candidates: {1}, hasMore: {2}'}'";
+        return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.candidates.size(), this.hasMore);
+    }
+}
@@ -0,0 +1,34 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.services.api.uml.profile;
+
+import java.util.UUID;
+
+import org.eclipse.sirius.components.core.api.IPayload;
+
+/**
+ * Used to indicate the progress of the migration of the stereotype applications to the new definition of an applied
+ * profile.
+ *
+ * @param id
+ *            the id of the migration
+ * @param migrated
+ *            the number of stereotype applications already migrated
+ * @param total
+ *            the number of stereotype applications to migrate
+ * @author agent
+ */
+public record ApplyProfileProgressPayload(UUID id, int migrated, int total) implements IPayload {
+
+}
@@ -0,0 +1,32 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.services.api.uml.profile;
+
+import java.util.UUID;
+
+import org.eclipse.sirius.components.core.api.IPayload;
+
+/**
+ * Used to indicate that the migration of the stereotype applications to the new definition of an applied profile has
+ * been started.
+ * <p>
+ * The profile is not applied yet: the progress and the result of the migration are sent to the subscribers of the
+ * events of the migration with the given id.
+ * </p>
+ *
+ * @author agent
+ */
+public record ApplyProfileStartedPayload(UUID id, UUID migrationId) implements IPayload {
+
+}
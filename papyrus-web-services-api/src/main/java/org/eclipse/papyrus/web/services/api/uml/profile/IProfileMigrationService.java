@@ -0,0 +1,48 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.services.api.uml.profile;
+
+import java.util.UUID;
+
+import org.eclipse.sirius.components.core.api.IPayload;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * Service used to follow the migrations of the stereotype applications to the new definition of an applied profile.
+ * <p>
+ * The migrations are executed chunk by chunk on the thread of the editing context, other inputs being handled between
+ * two chunks: the profile is applied once the events of its migration end with an
+ * {@link org.eclipse.papyrus.web.services.api.dto.ApplyProfileSuccessPayload}.
+ * </p>
+ *
+ * @author agent
+ */
+public interface IProfileMigrationService {
+
+    /**
+     * Gets the events of the migration started by the
+     * {@link org.eclipse.papyrus.web.services.api.dto.ApplyProfileInput} with the given id.
+     * <p>
+     * The flux starts with an {@link ApplyProfileProgressPayload} giving the current progress of the migration and ends
+     * with its result, either an {@link org.eclipse.papyrus.web.services.api.dto.ApplyProfileSuccessPayload} or an
+     * error payload. It is empty if the migration is unknown.
+     * </p>
+     *
+     * @param migrationId
+     *            the id of the migration
+     * @return the events of the migration
+     */
+    Flux<IPayload> getMigrationEvents(UUID migrationId);
+}
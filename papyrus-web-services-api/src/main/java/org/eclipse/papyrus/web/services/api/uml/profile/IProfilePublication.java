@@ -0,0 +1,46 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.services.api.uml.profile;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.eclipse.sirius.components.core.api.IPayload;
+
+/**
+ * The publication of a profile, prepared on the editing context thread and executed from any thread.
+ *
+ * @author agent
+ */
+public interface IProfilePublication {
+
+    UUID getId();
+
+    /**
+     * Gets the payload describing why the publication could not be prepared.
+     *
+     * @return the error payload, or an empty optional if the publication is ready to be executed
+     */
+    Optional<IPayload> getError();
+
+    /**
+     * Serializes the profile and stores it.
+     *
+     * @param progressListener
+     *            notified when the publication moves to a new step
+     * @return the payload describing the result of the publication
+     */
+    IPayload execute(Consumer<PublishProfileStatus> progressListener);
+}
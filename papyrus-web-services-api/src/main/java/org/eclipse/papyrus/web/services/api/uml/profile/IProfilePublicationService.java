@@ -0,0 +1,58 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.services.api.uml.profile;
+
+import java.util.UUID;
+
+import org.eclipse.sirius.components.core.api.IPayload;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * Service used to execute the publications of profiles and to follow them.
+ * <p>
+ * The publications are executed asynchronously: the publication of a profile is done once its events end with a
+ * {@link PublishProfileSuccessPayload}.
+ * </p>
+ *
+ * @author agent
+ */
+public interface IProfilePublicationService {
+
+    /**
+     * Submits a prepared publication, which will be executed outside of the calling thread.
+     *
+     * @param editingContextId
+     *            the id of the editing context containing the published profile
+     * @param publication
+     *            the publication to execute
+     */
+    void submit(String editingContextId, IProfilePublication publication);
+
+    /**
+     * Gets the events of the publication started by the {@link PublishProfileInput} with the given id.
+     * <p>
+     * The flux starts with a {@link PublishProfileProgressPayload} giving the current status of the publication and
+     * ends with its result, either a {@link PublishProfileSuccessPayload} or an error payload. It is empty if the
+     * publication is unknown or has not been submitted from the given editing context.
+     * </p>
+     *
+     * @param editingContextId
+     *            the id of the editing context containing the published profile
+     * @param publicationId
+     *            the id of the publication
+     * @return the events of the publication
+     */
+    Flux<IPayload> getPublicationEvents(String editingContextId, UUID publicationId);
+}
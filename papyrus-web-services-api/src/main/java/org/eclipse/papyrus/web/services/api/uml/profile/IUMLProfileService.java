@@ -31,6 +31,15 @@ public interface IUMLProfileService {
 
     IPayload applyProfile(IEditingContext editingContext, ApplyProfileInput input);
 
+    /**
+     * Starts the application of a profile.<br/>
+     * If the profile is already applied, the stereotype applications are migrated to its new definition chunk by
+     * chunk, other inputs of the editing context being handled between two chunks: the returned
+     * {@link ApplyProfileStartedPayload} only means that the migration has been started, its progress is given by the
+     * {@link IProfileMigrationService}.
+     */
+    IPayload startProfileApplication(IEditingContext editingContext, ApplyProfileInput input);
+
     /**
      * Search the profile among the dynamic profiles and return the last published version.<br/>
      * If the profile is not published yet the returned version is 0.0.0<br/>
@@ -44,6 +53,14 @@ public interface IUMLProfileService {
      */
     IPayload publishProfile(IEditingContext editingContext, PublishProfileInput publishProfileInput);
 
+    /**
+     * Update the given profile with the ecore meta model EPackage and take a snapshot of it, detached from the editing
+     * context.<br/>
+     * This method must be called from the editing context thread, the returned publication can then be executed from
+     * any thread.
+     */
+    IProfilePublication preparePublication(IEditingContext editingContext, PublishProfileInput publishProfileInput);
+
     /**
      * Deletes all profiles with the given name.
      *
@@ -68,6 +85,11 @@ public interface IUMLProfileService {
             return null;
         }
 
+        @Override
+        public IPayload startProfileApplication(IEditingContext editingContext, ApplyProfileInput input) {
+            return null;
+        }
+
         @Override
         public Optional<UMLProfileVersion> getProfileLastVersion(IEditingContext editingContext, String profileId) {
             return Optional.empty();
@@ -78,6 +100,11 @@ public interface IUMLProfileService {
             return null;
         }
 
+        @Override
+        public IProfilePublication preparePublication(IEditingContext editingContext, PublishProfileInput publishProfileInput) {
+            return null;
+        }
+
         @Override
         public IPayload deletePublishedDynamicProfileByName(String profileName) {
             return null;
@@ -0,0 +1,33 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.services.api.uml.profile;
+
+import java.util.UUID;
+
+import org.eclipse.sirius.components.core.api.IInput;
+
+/**
+ * Used to follow the publication of a profile.
+ *
+ * @param id
+ *            the id of the input
+ * @param editingContextId
+ *            the id of the editing context containing the profile
+ * @param publicationId
+ *            the id of the {@link PublishProfileInput} which has started the publication
+ * @author agent
+ */
+public record PublishProfileEventInput(UUID id, String editingContextId, UUID publicationId) implements IInput {
+
+}
@@ -0,0 +1,37 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.services.api.uml.profile;
+
+/**
+ * The steps of the publication of a profile, done outside of the editing context thread.
+ *
+ * @author agent
+ */
+public enum PublishProfileStatus {
+
+    /**
+     * The snapshot of the profile is waiting for a publication thread.
+     */
+    QUEUED,
+
+    /**
+     * The snapshot of the profile is being serialized.
+     */
+    SERIALIZING,
+
+    /**
+     * The serialized profile is being saved in the database.
+     */
+    SAVING
+}
@@ -15,7 +15,6 @@ package org.eclipse.papyrus.web.services.aqlservices;
 
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
-import static java.util.stream.Collectors.toSet;
 
 import java.text.MessageFormat;
 import java.util.Collections;
@@ -24,21 +23,28 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.ecore.EReference;
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.util.ECrossReferenceAdapter;
+import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.papyrus.uml.domain.services.EMFUtils;
 import org.eclipse.papyrus.uml.domain.services.IEditableChecker;
 import org.eclipse.papyrus.uml.domain.services.IViewQuerier;
 import org.eclipse.papyrus.uml.domain.services.create.CreationStatus;
 import org.eclipse.papyrus.uml.domain.services.create.ElementBasedEdgeCreator;
-import org.eclipse.papyrus.uml.domain.services.create.ElementConfigurer;
 import org.eclipse.papyrus.uml.domain.services.create.ElementCreationChecker;
 import org.eclipse.papyrus.uml.domain.services.create.ElementCreator;
 import org.eclipse.papyrus.uml.domain.services.create.ElementDomainBasedEdgeCreationChecker;
@@ -57,6 +63,7 @@ import org.eclipse.papyrus.uml.domain.services.edges.ElementDomainBasedEdgeSourc
 import org.eclipse.papyrus.uml.domain.services.edges.ElementDomainBasedEdgeTargetsProvider;
 import org.eclipse.papyrus.uml.domain.services.edges.IDomainBasedEdgeSourceProvider;
 import org.eclipse.papyrus.uml.domain.services.edges.IDomainBasedEdgeTargetsProvider;
+import org.eclipse.papyrus.uml.domain.services.internal.helpers.UMLService;
 import org.eclipse.papyrus.uml.domain.services.labels.ElementDomainBasedEdgeSourceLabelProvider;
 import org.eclipse.papyrus.uml.domain.services.labels.ElementDomainBasedEdgeTargetLabelProvider;
 import org.eclipse.papyrus.uml.domain.services.labels.ElementLabelProvider;
@@ -76,14 +83,18 @@ import org.eclipse.papyrus.uml.domain.services.reconnect.ElementDomainBasedEdgeR
 import org.eclipse.papyrus.uml.domain.services.status.CheckStatus;
 import org.eclipse.papyrus.uml.domain.services.status.State;
 import org.eclipse.papyrus.uml.domain.services.status.Status;
+import org.eclipse.papyrus.web.services.aqlservices.utils.DefaultNameElementConfigurer;
 import org.eclipse.papyrus.web.services.aqlservices.utils.GenericWebExternalDropBehaviorProvider;
 import org.eclipse.papyrus.web.services.aqlservices.utils.GenericWebInternalDropBehaviorProvider;
 import org.eclipse.papyrus.web.services.aqlservices.utils.IViewHelper;
 import org.eclipse.papyrus.web.services.aqlservices.utils.ViewHelper;
 import org.eclipse.papyrus.web.services.aqlservices.utils.WebRepresentationQuerier;
+import org.eclipse.papyrus.web.services.destroy.BatchElementDestroyer;
+import org.eclipse.papyrus.web.services.editingcontext.LabelCacheAdapter;
 import org.eclipse.papyrus.web.sirius.contributions.AqlServiceClass;
 import org.eclipse.papyrus.web.sirius.contributions.DiagramElementHelper;
 import org.eclipse.papyrus.web.sirius.contributions.DiagramNavigator;
+import org.eclipse.papyrus.web.sirius.contributions.DiagramRenderingMemo;
 import org.eclipse.papyrus.web.sirius.contributions.IDiagramNavigationService;
 import org.eclipse.papyrus.web.sirius.contributions.IDiagramOperationsService;
 import org.eclipse.papyrus.web.sirius.contributions.IViewDiagramDescriptionService;
@@ -95,7 +106,6 @@ import org.eclipse.sirius.components.diagrams.Diagram;
 import org.eclipse.sirius.components.diagrams.Edge;
 import org.eclipse.sirius.components.diagrams.Node;
 import org.eclipse.sirius.components.diagrams.description.NodeDescription;
-import org.eclipse.sirius.components.diagrams.elements.NodeElementProps;
 import org.eclipse.sirius.components.diagrams.renderer.DiagramRenderingCache;
 import org.eclipse.sirius.components.emf.ResourceMetadataAdapter;
 import org.eclipse.sirius.emfjson.resource.JsonResource;
@@ -126,6 +136,10 @@ public abstract class AbstractDiagramService {
 
     private static final String ITEM_SEP = ",";
 
+    private static final String DEFAULT_LABEL_RENDERER = "default";
+
+    private static final String ONE_LINE_LABEL_RENDERER = "oneLine:";
+
     private final IObjectService objectService;
 
     private final IDiagramNavigationService diagramNavigationService;
@@ -141,6 +155,22 @@ public abstract class AbstractDiagramService {
      */
     private ILogger logger;
 
+    /**
+     * Computes the reachable elements which are not memoized yet.
+     */
+    private final UMLService umlService = new UMLService();
+
+    /**
+     * The label renderers, built once per service since they do not depend on the rendered element.
+     */
+    private final Map<String, IViewLabelProvider> labelRenderers = new ConcurrentHashMap<>();
+
+    /**
+     * The destroyer of the deletion in progress on each diagram, shared by the invocations of the deletion tool on the
+     * elements selected in this diagram.
+     */
+    private final Map<IDiagramContext, DiagramDeletion> diagramDeletions = Collections.synchronizedMap(new WeakHashMap<>());
+
     public AbstractDiagramService(IObjectService objectService, IDiagramNavigationService diagramNavigationService, IDiagramOperationsService diagramOperationsService,
             IEditableChecker editableChecker, IViewDiagramDescriptionService viewDiagramService, ILogger logger) {
         this.editableChecker = editableChecker;
@@ -187,16 +217,60 @@ public abstract class AbstractDiagramService {
             DiagramRenderingCache cache) {
         // Prevents rendering if the target node is already contained in source node
 
-        Optional<String> visualTargetId = new DiagramElementHelper(descendantCandidate).getId();
         Optional<String> visualSourceId = new DiagramElementHelper(ancestorCandidate).getId();
-
-        Set<String> ancestorIds = visualTargetId.map(id -> cache.getAncestors(id).stream()//
-                .filter(e -> e.getProps() instanceof NodeElementProps)//
-                .map(e -> ((NodeElementProps) e.getProps()).getId())//
-                .collect(toSet())).orElse(Collections.emptySet());
+        Set<String> ancestorIds = DiagramRenderingMemo.of(cache).getAncestorNodeIds(new DiagramElementHelper(descendantCandidate));
         return visualSourceId.isPresent() && !ancestorIds.contains(visualSourceId.get());
     }
 
+    /**
+     * Gets all the elements of the given type in the resource set of the given element.
+     * <p>
+     * This service is used by the semantic candidates expressions of the edge descriptions, which are evaluated with
+     * the rendering cache. The elements are memoized in the {@link DiagramRenderingMemo} of the rendering so that the
+     * model is only traversed once per rendering, type and exact type flag. Without cache, the elements are searched
+     * on each call.
+     * </p>
+     *
+     * @param self
+     *            the context of the search
+     * @param type
+     *            the name of a UML type
+     * @param withSubTypes
+     *            <code>false</code> if the elements must have exactly the given type
+     * @param cache
+     *            the {@link DiagramRenderingCache}
+     * @return the reachable elements
+     */
+    public List<EObject> getAllReachable(EObject self, String type, boolean withSubTypes, DiagramRenderingCache cache) {
+        List<EObject> result;
+        if (cache != null && UMLPackage.eINSTANCE.getEClassifier(type) instanceof EClass eClass) {
+            Notifier scope = this.getReachableScope(self);
+            // The elements are searched in the scope of the memo so that they do not depend on the first context
+            result = DiagramRenderingMemo.of(cache).getReachableElements(scope, eClass, withSubTypes, () -> this.getAllReachable(scope, eClass, withSubTypes));
+        } else {
+            result = this.umlService.getAllReachable(self, type, withSubTypes);
+        }
+        return result;
+    }
+
+    private Notifier getReachableScope(EObject self) {
+        Notifier scope = EcoreUtil.getRootContainer(self);
+        if (self.eResource() != null && self.eResource().getResourceSet() != null) {
+            scope = self.eResource().getResourceSet();
+        }
+        return scope;
+    }
+
+    private List<EObject> getAllReachable(Notifier scope, EClass eClass, boolean withSubTypes) {
+        Predicate<EObject> filter = element -> element.eClass() == eClass;
+        if (withSubTypes) {
+            filter = eClass::isInstance;
+        }
+        return EMFUtils.allContainedObjectOfType(scope, EObject.class)//
+                .filter(filter)//
+                .toList();
+    }
+
     /**
      * Gets the semantic source of domain base edge from its semantic element.
      *
@@ -288,16 +362,7 @@ public abstract class AbstractDiagramService {
                 break;
             case SEMANTIC:
                 if (semanticElement != null) {
-                    ECrossReferenceAdapter adapter = this.getECrossReferenceAdapter(semanticElement);
-                    DestroyerStatus destroyerStatus = this.buildDestroyer(adapter).destroy(semanticElement);
-
-                    if (State.FAILED.equals(destroyerStatus.getState())) {
-                        String elements = destroyerStatus.getElements().stream()//
-                                .map(Object::toString)//
-                                .collect(Collectors.joining(ITEM_SEP));
-                        String errorMessage = destroyerStatus.getMessage() + ": " + elements;
-                        this.logWarnMessage(errorMessage);
-                    }
+                    this.destroySemanticElement(semanticElement, diagramContext);
                 }
                 break;
             default:
@@ -308,6 +373,91 @@ public abstract class AbstractDiagramService {
         return result;
     }
 
+    /**
+     * Destroys the given semantic element.
+     * <p>
+     * Sirius invokes the deletion tool once per selected diagram element. An element which has already been destroyed
+     * with a previously deleted element of the selection, e.g. as one of its contents, is skipped. All the invocations
+     * of a deletion share the same destroyer, so the cross references of the model are only looked up once.
+     * </p>
+     *
+     * @param semanticElement
+     *            the semantic element to destroy
+     * @param diagramContext
+     *            the {@link IDiagramContext} of the deletion, may be <code>null</code>
+     */
+    private void destroySemanticElement(EObject semanticElement, IDiagramContext diagramContext) {
+        if (semanticElement.eResource() != null) {
+            DestroyerStatus destroyerStatus = this.getDestroyer(semanticElement, diagramContext).destroy(semanticElement);
+            this.logFailure(destroyerStatus);
+        }
+    }
+
+    /**
+     * Gets the destroyer of the deletion in progress on the given diagram.
+     * <p>
+     * The diagram of the context is only replaced once the deletion has been applied, a new destroyer is thus built
+     * for each deletion.
+     * </p>
+     *
+     * @param semanticElement
+     *            the semantic element to destroy
+     * @param diagramContext
+     *            the {@link IDiagramContext} of the deletion, may be <code>null</code>
+     * @return the destroyer
+     */
+    private IDestroyer getDestroyer(EObject semanticElement, IDiagramContext diagramContext) {
+        IDestroyer result;
+        if (diagramContext == null) {
+            result = this.buildDestroyer(this.getECrossReferenceAdapter(semanticElement));
+        } else {
+            Diagram diagram = diagramContext.getDiagram();
+            ResourceSet resourceSet = semanticElement.eResource().getResourceSet();
+            DiagramDeletion deletion = this.diagramDeletions.get(diagramContext);
+            if (deletion == null || deletion.diagram() != diagram || deletion.resourceSet() != resourceSet) {
+                deletion = new DiagramDeletion(diagram, resourceSet, this.buildDestroyer(this.getECrossReferenceAdapter(semanticElement)));
+                this.diagramDeletions.put(diagramContext, deletion);
+            }
+            result = deletion.destroyer();
+        }
+        return result;
+    }
+
+    /**
+     * Destroys the given semantic elements in a single batch.
+     * <p>
+     * The elements are destroyed with a single destroyer, and only the roots of the selection are given to this
+     * destroyer.
+     * </p>
+     *
+     * @param semanticElements
+     *            the semantic elements to destroy
+     * @return the status of the destruction of each root of the selection
+     * @see BatchElementDestroyer
+     */
+    public List<DestroyerStatus> destroySemanticElements(List<EObject> semanticElements) {
+        List<DestroyerStatus> destroyerStatuses = List.of();
+        Optional<EObject> firstAttachedElement = semanticElements.stream()//
+                .filter(semanticElement -> semanticElement != null && semanticElement.eResource() != null)//
+                .findFirst();
+        if (firstAttachedElement.isPresent()) {
+            ECrossReferenceAdapter adapter = this.getECrossReferenceAdapter(firstAttachedElement.get());
+            destroyerStatuses = new BatchElementDestroyer(this.buildDestroyer(adapter)).destroy(semanticElements);
+            destroyerStatuses.forEach(this::logFailure);
+        }
+        return destroyerStatuses;
+    }
+
+    private void logFailure(DestroyerStatus destroyerStatus) {
+        if (State.FAILED.equals(destroyerStatus.getState())) {
+            String elements = destroyerStatus.getElements().stream()//
+                    .map(Object::toString)//
+                    .collect(Collectors.joining(ITEM_SEP));
+            String errorMessage = destroyerStatus.getMessage() + ": " + elements;
+            this.logWarnMessage(errorMessage);
+        }
+    }
+
     protected IDestroyer buildDestroyer(ECrossReferenceAdapter adapter) {
         return ElementDestroyer.buildDefault(adapter, this.editableChecker);
     }
@@ -334,16 +484,7 @@ public abstract class AbstractDiagramService {
                 break;
             case SEMANTIC:
                 if (semanticElement != null) {
-                    ECrossReferenceAdapter adapter = this.getECrossReferenceAdapter(semanticElement);
-                    DestroyerStatus destroyerStatus = this.buildDestroyer(adapter).destroy(semanticElement);
-
-                    if (State.FAILED.equals(destroyerStatus.getState())) {
-                        String elements = destroyerStatus.getElements().stream()//
-                                .map(Object::toString)//
-                                .collect(Collectors.joining(ITEM_SEP));
-                        String errorMessage = destroyerStatus.getMessage() + ": " + elements;
-                        this.logWarnMessage(errorMessage);
-                    }
+                    this.destroySemanticElement(semanticElement, diagramContext);
                 }
                 break;
             default:
@@ -438,13 +579,18 @@ public abstract class AbstractDiagramService {
 
     /**
      * Render the label for a given semantic {@link EObject}.
+     * <p>
+     * The label is cached in the {@link LabelCacheAdapter} of the editing context and only recomputed when the element
+     * has changed.
+     * </p>
      *
      * @param semanticObject
      *            a semantic element
      * @return a label
      */
     public String renderLabel(EObject semanticObject) {
-        return this.buildLabelRenderer().getLabel(semanticObject);
+        IViewLabelProvider labelRenderer = this.labelRenderers.computeIfAbsent(DEFAULT_LABEL_RENDERER, key -> this.buildLabelRenderer());
+        return this.getCachedLabel(semanticObject, this.getClass().getName(), labelRenderer);
     }
 
     /**
@@ -459,6 +605,12 @@ public abstract class AbstractDiagramService {
      * @return a label
      */
     public String renderSimpleOneLineLabel(EObject semanticObject, boolean displayKeyword, boolean displayStereotypes) {
+        String rendererKey = ONE_LINE_LABEL_RENDERER + displayKeyword + ITEM_SEP + displayStereotypes;
+        IViewLabelProvider labelRenderer = this.labelRenderers.computeIfAbsent(rendererKey, key -> this.buildOneLineLabelRenderer(displayKeyword, displayStereotypes));
+        return this.getCachedLabel(semanticObject, rendererKey, labelRenderer);
+    }
+
+    private IViewLabelProvider buildOneLineLabelRenderer(boolean displayKeyword, boolean displayStereotypes) {
         Builder builder = ElementLabelProvider.builder()//
                 .withNameProvider(new DefaultNamedElementNameProvider());
 
@@ -470,9 +622,26 @@ public abstract class AbstractDiagramService {
             builder.withPrefixLabelProvider(new KeywordLabelProvider())//
                     .withKeywordSeparator(" ");
         }
-        return builder.build().getLabel(semanticObject);
+        return builder.build();
+    }
+
+    private String getCachedLabel(EObject semanticObject, String rendererKey, IViewLabelProvider labelRenderer) {
+        String label;
+        Resource resource = semanticObject.eResource();
+        if (resource != null && resource.getResourceSet() != null
+                && EcoreUtil.getExistingAdapter(resource.getResourceSet(), LabelCacheAdapter.class) instanceof LabelCacheAdapter labelCache) {
+            label = labelCache.getLabel(semanticObject, rendererKey, labelRenderer::getLabel);
+        } else {
+            label = labelRenderer.getLabel(semanticObject);
+        }
+        return label;
     }
 
+    /**
+     * Builds the renderer used by {@link #renderLabel(EObject)}, it is built once and then reused for all the labels.
+     *
+     * @return the label renderer
+     */
     protected IViewLabelProvider buildLabelRenderer() {
         return ElementLabelProvider.buildDefault();
     }
@@ -552,7 +721,7 @@ public abstract class AbstractDiagramService {
         ElementBasedEdgeCreator baseEdgeCreator = new ElementBasedEdgeCreator(//
                 new ElementDomainBasedEdgeContainerProvider(this.getEditableChecker()), //
                 new ElementDomainBasedEdgeInitializer(), //
-                new ElementConfigurer(), //
+                new DefaultNameElementConfigurer(), //
                 new ElementFeatureModifier(this.getECrossReferenceAdapter(source), this.getEditableChecker()));
         return baseEdgeCreator;
     }
@@ -747,7 +916,7 @@ public abstract class AbstractDiagramService {
     }
 
     protected ICreator buildElementCreator(EObject parent) {
-        return new ElementCreator(new ElementConfigurer(), new ElementFeatureModifier(this.getECrossReferenceAdapter(parent), this.getEditableChecker()));
+        return new ElementCreator(new DefaultNameElementConfigurer(), new ElementFeatureModifier(this.getECrossReferenceAdapter(parent), this.getEditableChecker()));
     }
 
     /**
@@ -977,4 +1146,12 @@ public abstract class AbstractDiagramService {
         return !this.isContainedInProfileResource(context);
     }
 
+    /**
+     * The destroyer shared by the invocations of the deletion tool during the deletion of a selection in a diagram.
+     *
+     * @author agent
+     */
+    private record DiagramDeletion(Diagram diagram, ResourceSet resourceSet, IDestroyer destroyer) {
+    }
+
 }
@@ -41,8 +41,7 @@ import org.eclipse.papyrus.web.sirius.contributions.DiagramNavigator;
 import org.eclipse.papyrus.web.sirius.contributions.IDiagramNavigationService;
 import org.eclipse.papyrus.web.sirius.contributions.IDiagramOperationsService;
 import org.eclipse.papyrus.web.sirius.contributions.IViewDiagramDescriptionService;
-import org.eclipse.papyrus.web.sirius.contributions.query.NodeMatcher;
-import org.eclipse.papyrus.web.sirius.contributions.query.NodeMatcher.BorderNodeStatus;
+import org.eclipse.papyrus.web.sirius.contributions.query.DiagramNodeIndex;
 import org.eclipse.sirius.components.collaborative.diagrams.DiagramContext;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramContext;
 import org.eclipse.sirius.components.core.api.IEditingContext;
@@ -103,6 +102,12 @@ public class ActivityDiagramService extends AbstractDiagramService {
      */
     private ILogger logger;
 
+    /**
+     * Indexes of the previous diagram states, shared by the conditional-visibility services evaluated during a
+     * refresh.
+     */
+    private final DiagramNodeIndex.Cache previousDiagramIndexes = new DiagramNodeIndex.Cache();
+
     /**
      * Initializes the service with the provided parameters.
      *
@@ -613,19 +618,20 @@ public class ActivityDiagramService extends AbstractDiagramService {
      * @return {@code true} if the {@link DecisionNode}'s note should be displayed, {@code false} otherwise
      */
     public boolean showDecisionNodeNote(DecisionNode decisionNode, DiagramContext diagramContext, Diagram previousDiagram, IEditingContext editingContext) {
-        List<Node> previousDecisionNode = this.getDiagramNavigationService().getMatchingNodes(previousDiagram, editingContext,
-                NodeMatcher.buildSemanticAndNodeMatcher(BorderNodeStatus.BOTH,
-                        semanticObject -> Objects.equals(decisionNode, semanticObject),
-                        // Filter out Note node to make sure the actual DecisionNode is visible
-                        node -> !(Objects.equals(node.getType(), "customnode:note"))));
+        if (decisionNode == null) {
+            return false;
+        }
+        String decisionNodeId = this.getObjectService().getId(decisionNode);
+        DiagramNodeIndex previousDiagramIndex = this.previousDiagramIndexes.get(previousDiagram, diagramContext);
+        List<Node> previousDecisionNode = previousDiagramIndex.getNodes(decisionNodeId).stream() //
+                // Filter out Note node to make sure the actual DecisionNode is visible
+                .filter(node -> !(Objects.equals(node.getType(), "customnode:note"))) //
+                .toList();
         boolean isDeletingDecisionNode = false;
-        boolean isCreatingDecisionNode = false;
         if (!previousDecisionNode.isEmpty()) {
-            isDeletingDecisionNode = diagramContext.getViewDeletionRequests().stream() //
-                    .anyMatch(viewDeletionRequest -> Objects.equals(viewDeletionRequest.getElementId(), previousDecisionNode.get(0).getId()));
+            isDeletingDecisionNode = previousDiagramIndex.isDeletionRequested(previousDecisionNode.get(0).getId());
         }
-        isCreatingDecisionNode = diagramContext.getViewCreationRequests().stream() //
-                .anyMatch(viewCreationRequest -> Objects.equals(viewCreationRequest.getTargetObjectId(), this.getObjectService().getId(decisionNode)));
+        boolean isCreatingDecisionNode = previousDiagramIndex.isCreationRequested(decisionNodeId);
         boolean showDecisionNodeNote = false;
         if (!previousDecisionNode.isEmpty() && !isDeletingDecisionNode) {
             // The DecisionNode was already displayed on the diagram, and we aren't currently deleting it. In this case
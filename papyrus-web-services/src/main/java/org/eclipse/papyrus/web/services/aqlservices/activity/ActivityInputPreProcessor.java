@@ -15,8 +15,8 @@ package org.eclipse.papyrus.web.services.aqlservices.activity;
 
 import java.util.Optional;
 
-import org.eclipse.papyrus.uml.domain.services.labels.ElementDefaultNameProvider;
 import org.eclipse.papyrus.web.application.representations.uml.ADDiagramDescriptionBuilder;
+import org.eclipse.papyrus.web.services.aqlservices.utils.DefaultNameAllocator;
 import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
 import org.eclipse.sirius.components.collaborative.api.ChangeKind;
 import org.eclipse.sirius.components.collaborative.api.IInputPreProcessor;
@@ -99,12 +99,12 @@ public class ActivityInputPreProcessor implements IInputPreProcessor {
      */
     private Activity createIntermediateActivity(Object target) {
         Activity newActivity = UMLFactory.eINSTANCE.createActivity();
-        ElementDefaultNameProvider elementDefaultNameProvider = new ElementDefaultNameProvider();
+        DefaultNameAllocator defaultNameAllocator = new DefaultNameAllocator();
         if (target instanceof Package pack) {
-            newActivity.setName(elementDefaultNameProvider.getDefaultName(newActivity, pack));
+            newActivity.setName(defaultNameAllocator.getDefaultName(newActivity, pack));
             pack.getPackagedElements().add(newActivity);
         } else if (target instanceof BehavioredClassifier behavioredClassifier) {
-            newActivity.setName(elementDefaultNameProvider.getDefaultName(newActivity, behavioredClassifier));
+            newActivity.setName(defaultNameAllocator.getDefaultName(newActivity, behavioredClassifier));
             behavioredClassifier.getOwnedBehaviors().add(newActivity);
             behavioredClassifier.setClassifierBehavior(newActivity);
         }
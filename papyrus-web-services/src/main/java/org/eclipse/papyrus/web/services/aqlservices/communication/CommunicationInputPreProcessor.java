@@ -15,8 +15,8 @@ package org.eclipse.papyrus.web.services.aqlservices.communication;
 
 import java.util.Optional;
 
-import org.eclipse.papyrus.uml.domain.services.labels.ElementDefaultNameProvider;
 import org.eclipse.papyrus.web.application.representations.uml.CODDiagramDescriptionBuilder;
+import org.eclipse.papyrus.web.services.aqlservices.utils.DefaultNameAllocator;
 import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
 import org.eclipse.sirius.components.collaborative.api.ChangeKind;
 import org.eclipse.sirius.components.collaborative.api.IInputPreProcessor;
@@ -94,12 +94,12 @@ public class CommunicationInputPreProcessor implements IInputPreProcessor {
      */
     private Interaction createIntermediateInteraction(Object target) {
         Interaction newInteraction = UMLFactory.eINSTANCE.createInteraction();
-        ElementDefaultNameProvider elementDefaultNameProvider = new ElementDefaultNameProvider();
+        DefaultNameAllocator defaultNameAllocator = new DefaultNameAllocator();
         if (target instanceof Package pack) {
-            newInteraction.setName(elementDefaultNameProvider.getDefaultName(newInteraction, pack));
+            newInteraction.setName(defaultNameAllocator.getDefaultName(newInteraction, pack));
             pack.getPackagedElements().add(newInteraction);
         } else if (target instanceof BehavioredClassifier behavioredClassifier) {
-            newInteraction.setName(elementDefaultNameProvider.getDefaultName(newInteraction, behavioredClassifier));
+            newInteraction.setName(defaultNameAllocator.getDefaultName(newInteraction, behavioredClassifier));
             behavioredClassifier.getOwnedBehaviors().add(newInteraction);
             behavioredClassifier.setClassifierBehavior(newInteraction);
         }
@@ -20,7 +20,6 @@ import java.util.Optional;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.papyrus.uml.domain.services.IEditableChecker;
 import org.eclipse.papyrus.uml.domain.services.create.ElementBasedEdgeCreator;
-import org.eclipse.papyrus.uml.domain.services.create.ElementConfigurer;
 import org.eclipse.papyrus.uml.domain.services.create.IDomainBasedEdgeCreator;
 import org.eclipse.papyrus.uml.domain.services.edges.ElementDomainBasedEdgeInitializer;
 import org.eclipse.papyrus.uml.domain.services.edges.diagrams.ComponentDomainBasedEdgeContainerProvider;
@@ -29,10 +28,12 @@ import org.eclipse.papyrus.uml.domain.services.properties.ILogger;
 import org.eclipse.papyrus.web.services.aqlservices.AbstractDiagramService;
 import org.eclipse.papyrus.web.services.aqlservices.IWebExternalSourceToRepresentationDropBehaviorProvider;
 import org.eclipse.papyrus.web.services.aqlservices.IWebInternalSourceToRepresentationDropBehaviorProvider;
+import org.eclipse.papyrus.web.services.aqlservices.utils.DefaultNameElementConfigurer;
 import org.eclipse.papyrus.web.services.aqlservices.utils.IViewHelper;
 import org.eclipse.papyrus.web.services.aqlservices.utils.ViewHelper;
 import org.eclipse.papyrus.web.sirius.contributions.DiagramElementHelper;
 import org.eclipse.papyrus.web.sirius.contributions.DiagramNavigator;
+import org.eclipse.papyrus.web.sirius.contributions.DiagramRenderingMemo;
 import org.eclipse.papyrus.web.sirius.contributions.IDiagramNavigationService;
 import org.eclipse.papyrus.web.sirius.contributions.IDiagramOperationsService;
 import org.eclipse.papyrus.web.sirius.contributions.IViewDiagramDescriptionService;
@@ -118,7 +119,7 @@ public class ComponentDiagramService extends AbstractDiagramService {
         ElementBasedEdgeCreator baseEdgeCreator = new ElementBasedEdgeCreator(//
                 ComponentDomainBasedEdgeContainerProvider.buildDefault(this.getEditableChecker()), //
                 new ElementDomainBasedEdgeInitializer(), //
-                new ElementConfigurer(), //
+                new DefaultNameElementConfigurer(), //
                 new ElementFeatureModifier(this.getECrossReferenceAdapter(source), this.getEditableChecker()));
         return baseEdgeCreator;
     }
@@ -298,9 +299,10 @@ public class ComponentDiagramService extends AbstractDiagramService {
     }
 
     private Optional<Object> getCommonVisualAncestor(Element visualSource, Element visualTarget, DiagramRenderingCache cache, IEditingContext editinContext) {
-        return new DiagramElementHelper(visualSource).getCommonAncestor(new DiagramElementHelper(visualTarget), cache)//
+        DiagramRenderingMemo memo = DiagramRenderingMemo.of(cache);
+        return memo.getCommonAncestor(new DiagramElementHelper(visualSource), new DiagramElementHelper(visualTarget))//
                 .filter(element -> element.getId().isPresent())//
-                .flatMap(ancestor -> ancestor.getElementTarget(this.getObjectService(), editinContext));
+                .flatMap(ancestor -> memo.getSemanticElement(ancestor, this.getObjectService(), editinContext));
     }
 
     /**
@@ -322,12 +324,13 @@ public class ComponentDiagramService extends AbstractDiagramService {
         boolean shouldDiplayConnector = true;
         if (partWithPortSource != null) {
             // connector source is a Port on a Property
+            DiagramRenderingMemo memo = DiagramRenderingMemo.of(cache);
             DiagramElementHelper visualSourceHelper = new DiagramElementHelper(visualElement);
-            Optional<Object> target = visualSourceHelper.getElementTarget(this.getObjectService(), editingContext);
+            Optional<Object> target = memo.getSemanticElement(visualSourceHelper, this.getObjectService(), editingContext);
 
             if (target.isPresent() && target.get() instanceof Port) {
-                shouldDiplayConnector = visualSourceHelper.getParent(cache)//
-                        .flatMap(parent -> parent.getElementTarget(this.getObjectService(), editingContext))//
+                shouldDiplayConnector = memo.getParent(visualSourceHelper)//
+                        .flatMap(parent -> memo.getSemanticElement(parent, this.getObjectService(), editingContext))//
                         .map(sem -> sem == partWithPortSource).orElse(false);
             } else {
                 shouldDiplayConnector = false;
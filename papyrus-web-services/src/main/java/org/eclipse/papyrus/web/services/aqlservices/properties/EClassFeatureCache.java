@@ -0,0 +1,56 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.services.aqlservices.properties;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+import org.eclipse.emf.ecore.EClass;
+
+/**
+ * Cache of values which only depend on an {@link EClass} and on the name of one of its features, such as the help
+ * content or the type of a feature displayed in the Details view.
+ * <p>
+ * The {@link EClass}es are weakly referenced so that the cache does not retain the dynamic {@link EClass}es of
+ * unloaded profiles.
+ * </p>
+ *
+ * @param <T>
+ *            the type of the cached values
+ * @author agent
+ */
+public class EClassFeatureCache<T> {
+
+    private final Map<EClass, Map<String, Optional<T>>> values = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Gets the value associated to the given feature of the given {@link EClass}, computing it on the first call.
+     *
+     * @param eClass
+     *            the {@link EClass}
+     * @param featureName
+     *            the name of the feature
+     * @param valueProvider
+     *            computes the value if it is not cached yet, may return <code>null</code>
+     * @return the value, or <code>null</code>
+     */
+    public T get(EClass eClass, String featureName, BiFunction<EClass, String, T> valueProvider) {
+        Map<String, Optional<T>> featureValues = this.values.computeIfAbsent(eClass, key -> new ConcurrentHashMap<>());
+        return featureValues.computeIfAbsent(featureName, key -> Optional.ofNullable(valueProvider.apply(eClass, featureName))).orElse(null);
+    }
+}
@@ -28,12 +28,17 @@ public class PropertiesHelpContentServices {
 
     private UMLDocumentationService documentationService;
 
+    private final EClassFeatureCache<String> featureDescriptions = new EClassFeatureCache<>();
+
     public PropertiesHelpContentServices(UMLDocumentationService docService) {
         this.documentationService = docService;
     }
 
     /**
      * Get help content for a given feature.
+     * <p>
+     * The help content only depends on the type of the object, it is computed once for each feature of each type.
+     * </p>
      *
      * @param obj
      *            the object which contains the feature
@@ -43,8 +48,10 @@ public class PropertiesHelpContentServices {
      */
     public String getFeatureDescription(EObject obj, String featureName) {
         Objects.requireNonNull(obj);
-        String entryKey = this.documentationService.getDocumentationEntryKey(obj.eClass().getName(), featureName);
-        return this.documentationService.getDocumentation(entryKey);
+        return this.featureDescriptions.get(obj.eClass(), featureName, (eClass, name) -> {
+            String entryKey = this.documentationService.getDocumentationEntryKey(eClass.getName(), name);
+            return this.documentationService.getDocumentation(entryKey);
+        });
     }
 
     /**
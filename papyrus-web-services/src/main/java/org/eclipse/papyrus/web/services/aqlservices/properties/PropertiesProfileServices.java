@@ -36,6 +36,7 @@ import org.eclipse.papyrus.uml.domain.services.profile.ProfileUtil;
 import org.eclipse.papyrus.uml.domain.services.properties.ILogger;
 import org.eclipse.papyrus.uml.domain.services.properties.ILogger.ILogLevel;
 import org.eclipse.papyrus.web.services.api.dto.ApplyProfileInput;
+import org.eclipse.papyrus.web.services.api.uml.profile.ApplyProfileStartedPayload;
 import org.eclipse.papyrus.web.services.api.uml.profile.IUMLProfileService;
 import org.eclipse.papyrus.web.services.api.uml.profile.UMLProfileMetadata;
 import org.eclipse.sirius.components.core.api.ErrorPayload;
@@ -193,6 +194,9 @@ public class PropertiesProfileServices {
 
     /**
      * Re-apply a the profile on a given package if a newer version is available.
+     * <p>
+     * The stereotype applications are migrated to the new version of the profile chunk by chunk, after this call.
+     * </p>
      *
      * @param self
      *            the package
@@ -202,7 +206,14 @@ public class PropertiesProfileServices {
      */
     public EObject reapplyProfile(Package self, IEditingContext editingContext, Profile profile) {
         if (ProfileUtil.isDirty(self, profile)) {
-            this.applyProfile(self, editingContext, EcoreUtil.getURI(profile).toString());
+            var input = new ApplyProfileInput(UUID.randomUUID(), editingContext.getId(), this.objectService.getId(self), EcoreUtil.getURI(profile).toString());
+            // The stereotype applications are migrated chunk by chunk once the current edit has been handled
+            IPayload payload = this.profileService.startProfileApplication(editingContext, input);
+            if (payload instanceof ErrorPayload error) {
+                this.logger.log(error.message(), ILogLevel.ERROR);
+            } else if (payload instanceof ApplyProfileStartedPayload) {
+                this.logger.log(MessageFormat.format("The stereotype applications of profile {0} are being migrated", profile.getName()), ILogLevel.INFO);
+            }
         } else {
             this.logger.log(MessageFormat.format("No update available on profile {0}", profile.getName()), ILogLevel.INFO);
         }
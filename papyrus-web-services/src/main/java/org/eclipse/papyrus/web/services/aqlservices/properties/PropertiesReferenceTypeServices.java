@@ -26,12 +26,18 @@ public class PropertiesReferenceTypeServices {
 
     private final UMLRedefinedTypeService redefinedTypeService;
 
+    private final EClassFeatureCache<String> featureTypeQualifiedNames = new EClassFeatureCache<>();
+
     public PropertiesReferenceTypeServices(ILogger logger) {
         this.redefinedTypeService = new UMLRedefinedTypeService(logger);
     }
 
     /**
      * Return the qualified name of the type of the given feature of the given element.
+     * <p>
+     * The type of a feature, including its redefinitions, only depends on the type of the element, it is computed
+     * once for each feature of each type.
+     * </p>
      *
      * @param self
      *            the current selected element owning the feature
@@ -40,6 +46,6 @@ public class PropertiesReferenceTypeServices {
      * @return the qualified name of the feature type.
      */
     public String getFeatureTypeQualifiedName(EObject self, String featureName) {
-        return this.redefinedTypeService.getFeatureTypeQualifiedName(self, featureName);
+        return this.featureTypeQualifiedNames.get(self.eClass(), featureName, (eClass, name) -> this.redefinedTypeService.getFeatureTypeQualifiedName(self, name));
     }
 }
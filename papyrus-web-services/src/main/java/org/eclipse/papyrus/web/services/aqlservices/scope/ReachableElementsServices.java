@@ -13,13 +13,21 @@
  *****************************************************************************/
 package org.eclipse.papyrus.web.services.aqlservices.scope;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import org.eclipse.emf.common.notify.Notifier;
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.papyrus.uml.domain.services.EMFUtils;
 import org.eclipse.papyrus.uml.domain.services.profile.StereotypeUtil;
 import org.eclipse.papyrus.uml.domain.services.scope.ElementRootCandidateSeachProvider;
@@ -59,10 +67,38 @@ public class ReachableElementsServices {
      * @return the list of reachable elements.
      */
     public <T extends EObject> List<T> getAllReachableElements(EObject self, EClass typeClass) {
-        @SuppressWarnings("unchecked")
-        Class<T> type = (Class<T>) typeClass.getInstanceClass();
+        Stream<T> reachableElements = this.streamReachableElements(self, typeClass);
+        return reachableElements.toList();
+    }
+
+    /**
+     * Lazily traverses the reachable elements from a given self which are compatible with the given type.
+     * <p>
+     * Unlike {@link #getAllReachableElements(EObject, EClass)}, the elements are not collected: the traversal of the
+     * model stops as soon as the consumer of the stream has enough elements, e.g. when only one page of candidates is
+     * displayed.
+     * </p>
+     *
+     * @param self
+     *            the current selected element owning the reference
+     * @param typeClass
+     *            the type of the referenced element
+     * @return the stream of reachable elements
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends EObject> Stream<T> streamReachableElements(EObject self, EClass typeClass) {
         List<Notifier> roots = new ElementRootCandidateSeachProvider().getReachableRoots(self);
-        return roots.stream().flatMap(r -> EMFUtils.allContainedObjectOfType(r, type)).toList();
+        Stream<T> result;
+        if (typeClass.getInstanceClass() != null) {
+            Class<T> type = (Class<T>) typeClass.getInstanceClass();
+            result = roots.stream().flatMap(r -> EMFUtils.allContainedObjectOfType(r, type));
+        } else {
+            // Used for the types without generated java code
+            result = roots.stream().flatMap(r -> EMFUtils.allContainedObjectOfType(r, EObject.class))//
+                    .filter(e -> typeClass.isSuperTypeOf(e.eClass()))//
+                    .map(e -> (T) e);
+        }
+        return result;
     }
 
     /**
@@ -95,20 +131,58 @@ public class ReachableElementsServices {
     }
 
     private List<EObject> getAllReachableStereotypeApplications(EObject self, EClass typeClass) {
-        Class<?> type = typeClass.getInstanceClass();
-        Predicate<EObject> filter;
-        if (type != null) {
-            // Used for static profile (profile with generated java code)
-            filter = type::isInstance;
+        List<Notifier> roots = new ElementRootCandidateSeachProvider().getReachableRoots(self);
+        List<EObject> result;
+        Optional<StereotypeApplicationIndex> index = this.getStereotypeApplicationIndex(self);
+        if (index.isPresent()) {
+            Set<Notifier> reachableRoots = Collections.newSetFromMap(new IdentityHashMap<>());
+            reachableRoots.addAll(roots);
+            result = index.get().getStereotypeApplications(typeClass).stream()//
+                    .filter(application -> this.isBaseElementReachable(application, reachableRoots))//
+                    .toList();
         } else {
-            // Used for dynamic profile (profile with no generated java code)
-            filter = e -> typeClass.isSuperTypeOf(e.eClass());
+            Class<?> type = typeClass.getInstanceClass();
+            Predicate<EObject> filter;
+            if (type != null) {
+                // Used for static profile (profile with generated java code)
+                filter = type::isInstance;
+            } else {
+                // Used for dynamic profile (profile with no generated java code)
+                filter = e -> typeClass.isSuperTypeOf(e.eClass());
+            }
+            result = roots.stream().flatMap(r -> EMFUtils.allContainedObjectOfType(r, Element.class))//
+                    .flatMap(e -> e.getStereotypeApplications().stream())//
+                    .filter(filter)//
+                    .toList();
         }
-        List<Notifier> roots = new ElementRootCandidateSeachProvider().getReachableRoots(self);
-        return roots.stream().flatMap(r -> EMFUtils.allContainedObjectOfType(r, Element.class))//
-                .flatMap(e -> e.getStereotypeApplications().stream())//
-                .filter(filter)//
-                .toList();
+        return result;
+    }
+
+    private boolean isBaseElementReachable(EObject stereotypeApplication, Set<Notifier> reachableRoots) {
+        Element baseElement = StereotypeUtil.getBaseElement(stereotypeApplication);
+        boolean result = false;
+        if (baseElement != null) {
+            EObject root = EcoreUtil.getRootContainer(baseElement);
+            result = reachableRoots.contains(root) || reachableRoots.contains(root.eResource());
+        }
+        return result;
+    }
+
+    private Optional<StereotypeApplicationIndex> getStereotypeApplicationIndex(EObject self) {
+        Optional<StereotypeApplicationIndex> result = Optional.empty();
+        Resource resource = self.eResource();
+        if (resource != null && resource.getResourceSet() != null) {
+            ResourceSet resourceSet = resource.getResourceSet();
+            synchronized (resourceSet.eAdapters()) {
+                StereotypeApplicationIndex index = (StereotypeApplicationIndex) EcoreUtil.getExistingAdapter(resourceSet, StereotypeApplicationIndex.class);
+                if (index == null) {
+                    index = new StereotypeApplicationIndex();
+                    resourceSet.eAdapters().add(index);
+                }
+                result = Optional.of(index);
+            }
+        }
+        return result;
     }
 
     /**
@@ -0,0 +1,202 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.services.aqlservices.scope;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.uml2.uml.Element;
+
+/**
+ * Index of the stereotype applications of a resource set, by type.
+ * <p>
+ * Stereotype applications are stored at the root of the resource of their base element. The index is installed on the
+ * resource set and on each of its resources, and is updated when a root object is added or removed, i.e. when a
+ * stereotype is applied or unapplied, and when a resource is added, removed, loaded or unloaded. Each application is
+ * indexed under its {@link EClass} and all its super types, so that looking for the applications of a type costs
+ * proportionally to the number of matching applications instead of a walk of the whole model.
+ * </p>
+ * <p>
+ * The class of a stereotype application may be changed in place, without notification, when a profile is applied
+ * again: such applications have to be {@link #reindex(EObject) re-indexed}.
+ * </p>
+ *
+ * @author agent
+ */
+public class StereotypeApplicationIndex extends AdapterImpl {
+
+    private final Map<EClass, Set<EObject>> applicationsByType = new HashMap<>();
+
+    /**
+     * The indexed applications, with the class under which they have been indexed.
+     */
+    private final Map<EObject, EClass> allApplications = new LinkedHashMap<>();
+
+    /**
+     * Gets the indexed stereotype applications which are instances of the given type.
+     *
+     * @param type
+     *            the type of the stereotype applications
+     * @return the stereotype applications, in the order they have been applied
+     */
+    public synchronized List<EObject> getStereotypeApplications(EClass type) {
+        Set<EObject> result;
+        if (type == EcorePackage.Literals.EOBJECT) {
+            result = this.allApplications.keySet();
+        } else {
+            result = this.applicationsByType.getOrDefault(type, Set.of());
+        }
+        return List.copyOf(result);
+    }
+
+    /**
+     * Indexes again a stereotype application whose class has changed.
+     *
+     * @param application
+     *            the stereotype application
+     */
+    public synchronized void reindex(EObject application) {
+        if (this.allApplications.containsKey(application)) {
+            this.unindex(application);
+            this.index(application);
+        }
+    }
+
+    @Override
+    public synchronized void setTarget(Notifier newTarget) {
+        // The index is also installed on each resource, its target remains the resource set
+        if (newTarget instanceof ResourceSet resourceSet) {
+            super.setTarget(newTarget);
+            for (Resource resource : resourceSet.getResources()) {
+                this.addResource(resource);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void unsetTarget(Notifier oldTarget) {
+        if (oldTarget instanceof ResourceSet) {
+            super.unsetTarget(oldTarget);
+        }
+    }
+
+    @Override
+    public boolean isAdapterForType(Object type) {
+        return type == StereotypeApplicationIndex.class;
+    }
+
+    @Override
+    public synchronized void notifyChanged(Notification notification) {
+        Object notifier = notification.getNotifier();
+        int featureID = notification.getFeatureID(null);
+        if (notifier instanceof ResourceSet && featureID == ResourceSet.RESOURCE_SET__RESOURCES) {
+            for (Object oldValue : this.getValues(notification.getOldValue())) {
+                if (oldValue instanceof Resource resource) {
+                    this.removeResource(resource);
+                }
+            }
+            for (Object newValue : this.getValues(notification.getNewValue())) {
+                if (newValue instanceof Resource resource) {
+                    this.addResource(resource);
+                }
+            }
+        } else if (notifier instanceof Resource resource) {
+            if (featureID == Resource.RESOURCE__CONTENTS) {
+                this.getValues(notification.getOldValue()).forEach(this::unindex);
+                this.getValues(notification.getNewValue()).forEach(this::index);
+            } else if (featureID == Resource.RESOURCE__IS_LOADED) {
+                // The contents of a resource may be added or removed without notification while it is loaded
+                this.unindexResource(resource);
+                resource.getContents().forEach(this::index);
+            }
+        }
+    }
+
+    private List<Object> getValues(Object value) {
+        List<Object> result = new ArrayList<>();
+        if (value instanceof List<?> values) {
+            result.addAll(values);
+        } else if (value != null) {
+            result.add(value);
+        }
+        return result;
+    }
+
+    private void addResource(Resource resource) {
+        if (!resource.eAdapters().contains(this)) {
+            resource.eAdapters().add(this);
+        }
+        resource.getContents().forEach(this::index);
+    }
+
+    private void removeResource(Resource resource) {
+        resource.eAdapters().remove(this);
+        this.unindexResource(resource);
+    }
+
+    private void unindexResource(Resource resource) {
+        List.copyOf(this.allApplications.keySet()).stream()//
+                .filter(application -> application.eResource() == resource || application.eResource() == null)//
+                .forEach(this::unindex);
+    }
+
+    private void index(Object root) {
+        // Stereotype applications are the only roots which are not UML elements
+        if (root instanceof EObject application && !(root instanceof Element) && !this.allApplications.containsKey(application)) {
+            this.allApplications.put(application, application.eClass());
+            this.addToType(application.eClass(), application);
+            for (EClass superType : application.eClass().getEAllSuperTypes()) {
+                this.addToType(superType, application);
+            }
+        }
+    }
+
+    private void addToType(EClass type, EObject application) {
+        this.applicationsByType.computeIfAbsent(type, key -> new LinkedHashSet<>()).add(application);
+    }
+
+    private void unindex(Object root) {
+        if (root instanceof EObject application && this.allApplications.containsKey(application)) {
+            // The application may have changed of class since its indexation
+            EClass indexedClass = this.allApplications.remove(application);
+            this.removeFromType(indexedClass, application);
+            for (EClass superType : indexedClass.getEAllSuperTypes()) {
+                this.removeFromType(superType, application);
+            }
+        }
+    }
+
+    private void removeFromType(EClass type, EObject application) {
+        Set<EObject> applications = this.applicationsByType.get(type);
+        if (applications != null) {
+            applications.remove(application);
+            if (applications.isEmpty()) {
+                this.applicationsByType.remove(type);
+            }
+        }
+    }
+}
@@ -17,10 +17,10 @@ import java.util.Map;
 
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.papyrus.uml.domain.services.IEditableChecker;
-import org.eclipse.papyrus.uml.domain.services.labels.ElementDefaultNameProvider;
 import org.eclipse.papyrus.uml.domain.services.properties.ILogger;
 import org.eclipse.papyrus.web.services.aqlservices.AbstractDiagramService;
 import org.eclipse.papyrus.web.services.aqlservices.IWebExternalSourceToRepresentationDropBehaviorProvider;
+import org.eclipse.papyrus.web.services.aqlservices.utils.DefaultNameAllocator;
 import org.eclipse.papyrus.web.services.aqlservices.utils.IViewHelper;
 import org.eclipse.papyrus.web.services.aqlservices.utils.ViewHelper;
 import org.eclipse.papyrus.web.sirius.contributions.DiagramNavigator;
@@ -131,7 +131,7 @@ public class StateMachineDiagramService extends AbstractDiagramService {
             return self;
         }
         self.setName(null);
-        self.setName(new ElementDefaultNameProvider().getDefaultName(self, self.eContainer()));
+        self.setName(new DefaultNameAllocator().getDefaultName(self, self.eContainer()));
         return self;
     }
 }
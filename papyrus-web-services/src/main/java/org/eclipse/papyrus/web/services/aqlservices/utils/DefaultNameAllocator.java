@@ -0,0 +1,260 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.services.aqlservices.utils;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.papyrus.uml.domain.services.labels.ElementDefaultNameProvider;
+import org.eclipse.uml2.uml.NamedElement;
+import org.eclipse.uml2.uml.UMLPackage;
+
+/**
+ * Allocates the default names of new elements, such as "Class1" or "Class2", without scanning the members of their
+ * container on each creation.
+ * <p>
+ * The first default name of a given kind of element in a container is computed by the {@link ElementDefaultNameProvider}.
+ * It gives the prefix of the default names of this kind, the next names are allocated by incrementing the highest index
+ * used by the members of the container with this prefix. Since the name given by the provider may depend on the state
+ * of the element, such as the kind of a pseudostate, and not only on its type, the kind of an element is identified by
+ * the name the provider computes for it outside of any container, which does not require to scan the members. This index is kept in an adapter installed on the container and on its
+ * members, and is updated when a member is added or renamed. Removing a member may lower the highest index, it
+ * invalidates the indexes of the container which are recomputed on the next allocation.
+ * </p>
+ * <p>
+ * If the name computed by the {@link ElementDefaultNameProvider} for a kind of element does not follow this scheme, the
+ * default names of this kind are always computed by the provider.
+ * </p>
+ *
+ * @author agent
+ */
+public class DefaultNameAllocator {
+
+    /**
+     * Splits a default name in a prefix and an index. Longer indexes are not allocated by this class.
+     */
+    private static final Pattern DEFAULT_NAME_PATTERN = Pattern.compile("(.*?)(\\d{1,9})");
+
+    private final ElementDefaultNameProvider defaultNameProvider = new ElementDefaultNameProvider();
+
+    /**
+     * Gets the default name of an element created in the given container.
+     *
+     * @param element
+     *            the new element
+     * @param container
+     *            the container of the element
+     * @return the default name of the element
+     */
+    public String getDefaultName(NamedElement element, EObject container) {
+        String result;
+        if (container == null) {
+            result = this.defaultNameProvider.getDefaultName(element, container);
+        } else {
+            ContainerNames containerNames = null;
+            synchronized (container.eAdapters()) {
+                // The container may also be observed, as a member, by the adapter of its own container
+                for (Adapter adapter : container.eAdapters()) {
+                    if (adapter instanceof ContainerNames names && names.container == container) {
+                        containerNames = names;
+                    }
+                }
+                if (containerNames == null) {
+                    containerNames = new ContainerNames(container);
+                    container.eAdapters().add(containerNames);
+                }
+            }
+            result = containerNames.allocate(element, this.defaultNameProvider);
+        }
+        return result;
+    }
+
+    /**
+     * The default name prefixes of a container and the highest index used by its members with each prefix.
+     *
+     * @author agent
+     */
+    private static final class ContainerNames extends AdapterImpl {
+
+        private final EObject container;
+
+        /**
+         * The prefixes of the default names, by name computed by the provider outside of any container.
+         */
+        private final Map<String, String> prefixes = new HashMap<>();
+
+        private final Set<String> unsupportedKinds = new HashSet<>();
+
+        private final Map<String, Integer> highestIndexes = new HashMap<>();
+
+        private boolean membersObserved;
+
+        ContainerNames(EObject container) {
+            this.container = container;
+        }
+
+        synchronized String allocate(NamedElement element, ElementDefaultNameProvider defaultNameProvider) {
+            this.observeMembers();
+            String kind = this.getKind(element, defaultNameProvider);
+            String prefix = null;
+            if (kind != null) {
+                prefix = this.prefixes.get(kind);
+            }
+            String result;
+            if (prefix != null) {
+                result = prefix + (this.getHighestIndex(prefix) + 1);
+            } else {
+                result = defaultNameProvider.getDefaultName(element, this.container);
+                if (kind != null && result != null && !this.unsupportedKinds.contains(kind)) {
+                    Matcher matcher = DEFAULT_NAME_PATTERN.matcher(result);
+                    if (matcher.matches() && Integer.parseInt(matcher.group(2)) == this.getHighestIndex(matcher.group(1)) + 1) {
+                        this.prefixes.put(kind, matcher.group(1));
+                    } else {
+                        this.unsupportedKinds.add(kind);
+                    }
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Gets the kind of the given element, i.e. the name computed for it outside of any container, which does not
+         * depend on the members of the container, without its index.
+         */
+        private String getKind(NamedElement element, ElementDefaultNameProvider defaultNameProvider) {
+            String result = defaultNameProvider.getDefaultName(element, null);
+            if (result != null) {
+                Matcher matcher = DEFAULT_NAME_PATTERN.matcher(result);
+                if (matcher.matches()) {
+                    result = matcher.group(1);
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public synchronized void notifyChanged(Notification notification) {
+            if (notification.getNotifier() == this.container && notification.getFeature() instanceof EReference reference && reference.isContainment()) {
+                this.memberChanged(notification);
+            } else if (notification.getNotifier() != this.container && notification.getFeature() == UMLPackage.Literals.NAMED_ELEMENT__NAME) {
+                this.renamed(notification.getOldStringValue(), notification.getNewStringValue());
+            }
+        }
+
+        @Override
+        public void setTarget(Notifier newTarget) {
+            // The adapter is also installed on the members of the container, its target remains the container
+            if (newTarget == this.container) {
+                super.setTarget(newTarget);
+            }
+        }
+
+        @Override
+        public void unsetTarget(Notifier oldTarget) {
+            if (oldTarget == this.container) {
+                super.unsetTarget(oldTarget);
+            }
+        }
+
+        private void memberChanged(Notification notification) {
+            switch (notification.getEventType()) {
+                case Notification.ADD -> this.added(notification.getNewValue());
+                case Notification.ADD_MANY -> ((Iterable<?>) notification.getNewValue()).forEach(this::added);
+                case Notification.SET -> {
+                    this.removed(notification.getOldValue());
+                    this.added(notification.getNewValue());
+                }
+                case Notification.REMOVE, Notification.UNSET -> this.removed(notification.getOldValue());
+                case Notification.REMOVE_MANY -> ((Iterable<?>) notification.getOldValue()).forEach(this::removed);
+                default -> {
+                    // Moving a member does not change the used indexes
+                }
+            }
+        }
+
+        private void added(Object member) {
+            if (member instanceof EObject eObject && !eObject.eAdapters().contains(this)) {
+                eObject.eAdapters().add(this);
+                if (eObject instanceof NamedElement namedElement) {
+                    this.indexUsed(namedElement.getName());
+                }
+            }
+        }
+
+        private void removed(Object member) {
+            if (member instanceof EObject eObject && eObject.eAdapters().remove(this)) {
+                this.highestIndexes.clear();
+            }
+        }
+
+        private void renamed(String oldName, String newName) {
+            boolean oldNameWasHighest = false;
+            if (oldName != null) {
+                Matcher matcher = DEFAULT_NAME_PATTERN.matcher(oldName);
+                oldNameWasHighest = matcher.matches() && this.highestIndexes.get(matcher.group(1)) instanceof Integer highestIndex
+                        && highestIndex == Integer.parseInt(matcher.group(2));
+            }
+            if (oldNameWasHighest) {
+                this.highestIndexes.clear();
+            } else {
+                this.indexUsed(newName);
+            }
+        }
+
+        private void indexUsed(String name) {
+            if (name != null) {
+                Matcher matcher = DEFAULT_NAME_PATTERN.matcher(name);
+                if (matcher.matches()) {
+                    this.highestIndexes.computeIfPresent(matcher.group(1), (prefix, highestIndex) -> Math.max(highestIndex, Integer.parseInt(matcher.group(2))));
+                }
+            }
+        }
+
+        private void observeMembers() {
+            if (!this.membersObserved) {
+                this.membersObserved = true;
+                for (EObject member : this.container.eContents()) {
+                    if (!member.eAdapters().contains(this)) {
+                        member.eAdapters().add(this);
+                    }
+                }
+            }
+        }
+
+        private int getHighestIndex(String prefix) {
+            return this.highestIndexes.computeIfAbsent(prefix, key -> {
+                int highestIndex = 0;
+                for (EObject member : this.container.eContents()) {
+                    if (member instanceof NamedElement namedElement && namedElement.getName() != null) {
+                        Matcher matcher = DEFAULT_NAME_PATTERN.matcher(namedElement.getName());
+                        if (matcher.matches() && matcher.group(1).equals(key)) {
+                            highestIndex = Math.max(highestIndex, Integer.parseInt(matcher.group(2)));
+                        }
+                    }
+                }
+                return highestIndex;
+            });
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.services.aqlservices.utils;
+
+import java.util.Objects;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.papyrus.uml.domain.services.create.ElementConfigurer;
+import org.eclipse.papyrus.uml.domain.services.create.IElementConfigurer;
+import org.eclipse.uml2.uml.NamedElement;
+
+/**
+ * {@link IElementConfigurer} giving the new named elements their default name with a {@link DefaultNameAllocator}
+ * before delegating the rest of the configuration, so that the default name is not computed by scanning the members of
+ * the container.
+ *
+ * @author agent
+ */
+public class DefaultNameElementConfigurer implements IElementConfigurer {
+
+    private final IElementConfigurer delegate;
+
+    private final DefaultNameAllocator defaultNameAllocator;
+
+    /**
+     * Creates a configurer delegating to the default {@link ElementConfigurer}.
+     */
+    public DefaultNameElementConfigurer() {
+        this(new ElementConfigurer(), new DefaultNameAllocator());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param delegate
+     *            the configurer initializing the new elements
+     * @param defaultNameAllocator
+     *            the allocator of the default names
+     */
+    public DefaultNameElementConfigurer(IElementConfigurer delegate, DefaultNameAllocator defaultNameAllocator) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.defaultNameAllocator = Objects.requireNonNull(defaultNameAllocator);
+    }
+
+    @Override
+    public EObject configure(EObject toInit, EObject parent) {
+        if (toInit instanceof NamedElement namedElement && namedElement.getName() == null && parent != null) {
+            namedElement.setName(this.defaultNameAllocator.getDefaultName(namedElement, parent));
+        }
+        return this.delegate.configure(toInit, parent);
+    }
+}
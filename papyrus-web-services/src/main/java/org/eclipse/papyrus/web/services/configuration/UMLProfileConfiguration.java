@@ -16,11 +16,14 @@ package org.eclipse.papyrus.web.services.configuration;
 import java.util.List;
 
 import org.eclipse.emf.ecore.resource.Resource.Factory.Registry;
+import org.eclipse.papyrus.web.persistence.entities.ContentCodec;
 import org.eclipse.papyrus.web.persistence.repositories.IProfileRepository;
 import org.eclipse.papyrus.web.services.api.profile.IUMLProfileProvider;
+import org.eclipse.papyrus.web.services.uml.profile.ProfileMigrationService;
 import org.eclipse.papyrus.web.services.uml.profile.UMLProfileMetadataRegistry;
 import org.eclipse.papyrus.web.services.uml.profile.UMLProfileService;
 import org.eclipse.sirius.components.core.api.IObjectService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -33,13 +36,17 @@ import org.springframework.context.annotation.Configuration;
 public class UMLProfileConfiguration {
     @Bean
     public UMLProfileService profileDescriptionService(List<IUMLProfileProvider> umlProfileDescriptionProviders, IObjectService objectService, IProfileRepository profileRepository,
-            Registry factoryRegistry) {
+            Registry factoryRegistry, @Value("${org.eclipse.papyrus.web.profiles.compression:true}") boolean compressProfiles, ProfileMigrationService profileMigrationService) {
         UMLProfileMetadataRegistry registry = new UMLProfileMetadataRegistry();
         umlProfileDescriptionProviders.stream().flatMap(uMLProfileProvider -> {
             return uMLProfileProvider.getUMLProfiles().stream();
         }).forEach(umlProfile -> {
             registry.add(umlProfile);
         });
-        return new UMLProfileService(registry, objectService, profileRepository, factoryRegistry);
+        ContentCodec contentCodec = ContentCodec.IDENTITY;
+        if (compressProfiles) {
+            contentCodec = ContentCodec.GZIP;
+        }
+        return new UMLProfileService(registry, objectService, profileRepository, factoryRegistry, contentCodec, profileMigrationService);
     }
 }
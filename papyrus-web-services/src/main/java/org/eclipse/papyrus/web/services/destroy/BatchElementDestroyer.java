@@ -0,0 +1,88 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.services.destroy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.papyrus.uml.domain.services.destroy.DestroyerStatus;
+import org.eclipse.papyrus.uml.domain.services.destroy.IDestroyer;
+
+/**
+ * Destroys a selection of semantic elements with a single {@link IDestroyer}.
+ * <p>
+ * Only the roots of the selection are given to the destroyer: an element whose container is also selected is destroyed
+ * with its container, its contents, inverse references and stereotype applications are thus only visited once. An
+ * element which has already been destroyed as a dependency of a previous element of the selection (for instance an
+ * association whose end type has been deleted) is skipped.
+ * </p>
+ *
+ * @author agent
+ */
+public class BatchElementDestroyer {
+
+    private final IDestroyer destroyer;
+
+    /**
+     * Constructor.
+     *
+     * @param destroyer
+     *            the destroyer shared by all the elements of the selection
+     */
+    public BatchElementDestroyer(IDestroyer destroyer) {
+        this.destroyer = Objects.requireNonNull(destroyer);
+    }
+
+    /**
+     * Destroys the given elements.
+     *
+     * @param elements
+     *            the selected elements
+     * @return the status of the destruction of each root of the selection which was still in the model
+     */
+    public List<DestroyerStatus> destroy(Collection<? extends EObject> elements) {
+        Set<EObject> selection = new LinkedHashSet<>();
+        for (EObject element : elements) {
+            if (element != null) {
+                selection.add(element);
+            }
+        }
+        // The roots are computed before any destruction, while the containers of the elements are known
+        List<EObject> roots = selection.stream()//
+                .filter(element -> !this.hasSelectedContainer(element, selection))//
+                .toList();
+        List<DestroyerStatus> statuses = new ArrayList<>();
+        for (EObject root : roots) {
+            if (root.eResource() != null) {
+                statuses.add(this.destroyer.destroy(root));
+            }
+        }
+        return statuses;
+    }
+
+    private boolean hasSelectedContainer(EObject element, Set<EObject> selection) {
+        boolean result = false;
+        EObject container = element.eContainer();
+        while (container != null && !result) {
+            result = selection.contains(container);
+            container = container.eContainer();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,226 @@
+/*******************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.papyrus.web.services.editingcontext;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import org.eclipse.papyrus.web.sirius.contributions.UnloadingEditingContext;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+
+/**
+ * Keeps track of the footprint and of the last access time of the loaded editing contexts, and selects the least
+ * recently used idle ones to unload when their estimated size exceeds a budget.
+ *
+ * @author agent
+ */
+public class EditingContextEvictionPolicy {
+
+    private final Map<String, TrackedEditingContext> trackedEditingContexts = new ConcurrentHashMap<>();
+
+    private final long memoryBudget;
+
+    private final long idleDelay;
+
+    /**
+     * Constructor.
+     *
+     * @param memoryBudget
+     *            the memory budget, in bytes, of all the loaded editing contexts
+     * @param idleDelay
+     *            the delay, in milliseconds, after which an editing context without any input is idle
+     */
+    public EditingContextEvictionPolicy(long memoryBudget, long idleDelay) {
+        this.memoryBudget = memoryBudget;
+        this.idleDelay = idleDelay;
+    }
+
+    /**
+     * Starts tracking a loaded editing context.
+     *
+     * @param editingContext
+     *            the loaded editing context
+     * @param footprint
+     *            its estimated footprint
+     * @param now
+     *            the current time, in milliseconds
+     */
+    public void track(IEditingContext editingContext, EditingContextFootprint footprint, long now) {
+        this.trackedEditingContexts.put(editingContext.getId(), new TrackedEditingContext(editingContext, footprint, now));
+    }
+
+    /**
+     * Records an access to the given editing context.
+     *
+     * @param editingContextId
+     *            the id of the editing context
+     * @param now
+     *            the current time, in milliseconds
+     */
+    public void touch(String editingContextId, long now) {
+        TrackedEditingContext trackedEditingContext = this.trackedEditingContexts.get(editingContextId);
+        if (trackedEditingContext != null) {
+            trackedEditingContext.setLastAccess(now);
+        }
+    }
+
+    /**
+     * Updates the footprint of the given editing context, estimated again after it has been modified.
+     *
+     * @param editingContextId
+     *            the id of the editing context
+     * @param footprint
+     *            its new estimated footprint
+     * @param now
+     *            the current time, in milliseconds
+     */
+    public void updateFootprint(String editingContextId, EditingContextFootprint footprint, long now) {
+        TrackedEditingContext trackedEditingContext = this.trackedEditingContexts.get(editingContextId);
+        if (trackedEditingContext != null) {
+            trackedEditingContext.setFootprint(footprint, now);
+        }
+    }
+
+    /**
+     * Gets the time at which the footprint of the given editing context has been estimated.
+     *
+     * @param editingContextId
+     *            the id of the editing context
+     * @return the time of the last estimation, in milliseconds, or an empty optional if the editing context is not
+     *         tracked
+     */
+    public Optional<Long> getLastEstimation(String editingContextId) {
+        return Optional.ofNullable(this.trackedEditingContexts.get(editingContextId)).map(TrackedEditingContext::getLastEstimation);
+    }
+
+    /**
+     * Gets the estimated size of all the tracked editing contexts which have not been released yet.
+     *
+     * @return the estimated size in bytes
+     */
+    public long getUsedMemory() {
+        this.trackedEditingContexts.values().removeIf(TrackedEditingContext::isReleased);
+        return this.trackedEditingContexts.values().stream() //
+                .mapToLong(trackedEditingContext -> trackedEditingContext.getFootprint().estimatedSize()) //
+                .sum();
+    }
+
+    /**
+     * Selects the editing contexts to unload to stay within the budget, least recently used first, and stops tracking
+     * them.
+     *
+     * @param currentEditingContextId
+     *            the id of the editing context currently used, which is never selected
+     * @param isEvictable
+     *            tells if the editing context with the given id can be unloaded, for instance because nobody is
+     *            subscribed to its representations
+     * @param now
+     *            the current time, in milliseconds
+     * @return the ids of the editing contexts to unload
+     */
+    public List<String> selectEvictedEditingContexts(String currentEditingContextId, Predicate<String> isEvictable, long now) {
+        List<String> evictedEditingContextIds = new ArrayList<>();
+        long usedMemory = this.getUsedMemory();
+        if (usedMemory > this.memoryBudget) {
+            List<TrackedEditingContext> candidates = this.trackedEditingContexts.values().stream() //
+                    .filter(trackedEditingContext -> !trackedEditingContext.getId().equals(currentEditingContextId)) //
+                    .filter(trackedEditingContext -> now - trackedEditingContext.getLastAccess() >= this.idleDelay) //
+                    .sorted(Comparator.comparingLong(TrackedEditingContext::getLastAccess)) //
+                    .toList();
+            for (int i = 0; i < candidates.size() && usedMemory > this.memoryBudget; i++) {
+                TrackedEditingContext candidate = candidates.get(i);
+                if (isEvictable.test(candidate.getId())) {
+                    this.trackedEditingContexts.remove(candidate.getId());
+                    evictedEditingContextIds.add(candidate.getId());
+                    usedMemory -= candidate.getFootprint().estimatedSize();
+                }
+            }
+        }
+        return evictedEditingContextIds;
+    }
+
+    /**
+     * An editing context tracked by the eviction policy.
+     *
+     * <p>
+     * The editing context is weakly referenced so that the tracking never prevents its garbage collection once it has
+     * been disposed by Sirius.
+     * </p>
+     *
+     * @author agent
+     */
+    private static final class TrackedEditingContext {
+
+        private final String id;
+
+        private final WeakReference<IEditingContext> editingContext;
+
+        private volatile EditingContextFootprint footprint;
+
+        private volatile long lastEstimation;
+
+        private volatile long lastAccess;
+
+        TrackedEditingContext(IEditingContext editingContext, EditingContextFootprint footprint, long lastAccess) {
+            this.id = editingContext.getId();
+            this.editingContext = new WeakReference<>(editingContext);
+            this.footprint = footprint;
+            this.lastEstimation = lastAccess;
+            this.lastAccess = lastAccess;
+        }
+
+        public String getId() {
+            return this.id;
+        }
+
+        public EditingContextFootprint getFootprint() {
+            return this.footprint;
+        }
+
+        public void setFootprint(EditingContextFootprint newFootprint, long estimationTime) {
+            this.footprint = newFootprint;
+            this.lastEstimation = estimationTime;
+        }
+
+        public long getLastEstimation() {
+            return this.lastEstimation;
+        }
+
+        public long getLastAccess() {
+            return this.lastAccess;
+        }
+
+        public void setLastAccess(long lastAccess) {
+            this.lastAccess = lastAccess;
+        }
+
+        /**
+         * Checks if the editing context has already been released, either because it has been garbage collected or
+         * disposed by Sirius.
+         *
+         * @return <code>true</code> if the editing context no longer uses memory
+         */
+        public boolean isReleased() {
+            IEditingContext context = this.editingContext.get();
+            return context == null || context instanceof UnloadingEditingContext unloadingEditingContext && unloadingEditingContext.isDisposed();
+        }
+    }
+
+}
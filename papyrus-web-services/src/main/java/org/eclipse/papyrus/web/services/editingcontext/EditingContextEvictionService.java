@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.papyrus.web.services.editingcontext;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
+import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessor;
+import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessorRegistry;
+import org.eclipse.sirius.components.collaborative.api.IInputPreProcessor;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IEditingContextProcessor;
+import org.eclipse.sirius.components.core.api.IInput;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import reactor.core.publisher.Sinks.Many;
+
+/**
+ * Unloads the least recently used idle editing contexts when the estimated memory used by all the loaded editing
+ * contexts exceeds a configurable budget.
+ * <p>
+ * The footprint of an editing context is estimated once it has been loaded, and estimated again, at most once every
+ * {@value #CHECK_INTERVAL_MS}ms, when it receives an input, so that the footprint follows the edits of the models. Its
+ * last access time is updated each time an input is sent to it. The budget is checked on the first input following the
+ * loading of an editing context, and then at most once every {@value #CHECK_INTERVAL_MS}ms.
+ * </p>
+ * <p>
+ * Only the editing contexts which have not received any input for the configured idle delay and whose representations
+ * nobody is subscribed to can be unloaded. Unloading an editing context completes the subscriptions to its
+ * representations, which the clients do not open again by themselves, so the open diagrams, forms and explorers keep
+ * their editing context loaded whatever its footprint. The subscriptions to the editing context itself are not visible
+ * through the {@link IEditingContextEventProcessorRegistry} and are completed by the unloading.
+ * </p>
+ * <p>
+ * The editing contexts are unloaded through
+ * {@link IEditingContextEventProcessorRegistry#disposeEditingContextEventProcessor(String)}, the path used by Sirius to
+ * dispose the editing contexts without subscribers. The changes are persisted by the event processor after each input,
+ * so an idle editing context has no pending change, and the next input or subscription targeting it reloads it from the
+ * database.
+ * </p>
+ * <p>
+ * The eviction is disabled unless {@code org.eclipse.papyrus.web.editingContexts.memoryBudget} (in megabytes) is set to
+ * a positive value.
+ * </p>
+ *
+ * @author agent
+ */
+@Service
+public class EditingContextEvictionService implements IEditingContextProcessor, IInputPreProcessor {
+
+    private static final long CHECK_INTERVAL_MS = 10_000;
+
+    private static final long BYTES_PER_MEGABYTE = 1024 * 1024;
+
+    private final Logger logger = LoggerFactory.getLogger(EditingContextEvictionService.class);
+
+    private final AtomicLong lastCheck = new AtomicLong();
+
+    private final ObjectProvider<IEditingContextEventProcessorRegistry> editingContextEventProcessorRegistry;
+
+    private final EditingContextFootprintEstimator footprintEstimator = new EditingContextFootprintEstimator();
+
+    private final EditingContextEvictionPolicy evictionPolicy;
+
+    private final long memoryBudget;
+
+    /**
+     * Constructor.
+     *
+     * @param editingContextEventProcessorRegistry
+     *            the registry used to dispose the evicted editing contexts, resolved lazily since it depends on the
+     *            editing context processors
+     * @param memoryBudget
+     *            the memory budget, in megabytes, of all the loaded editing contexts ({@code 0} to disable the eviction)
+     * @param idleDelay
+     *            the delay, in seconds, after which an editing context without any input can be evicted
+     */
+    public EditingContextEvictionService(ObjectProvider<IEditingContextEventProcessorRegistry> editingContextEventProcessorRegistry,
+            @Value("${org.eclipse.papyrus.web.editingContexts.memoryBudget:0}") long memoryBudget, @Value("${org.eclipse.papyrus.web.editingContexts.idleDelay:300}") long idleDelay) {
+        this.editingContextEventProcessorRegistry = Objects.requireNonNull(editingContextEventProcessorRegistry);
+        this.memoryBudget = memoryBudget * BYTES_PER_MEGABYTE;
+        this.evictionPolicy = new EditingContextEvictionPolicy(this.memoryBudget, TimeUnit.SECONDS.toMillis(idleDelay));
+    }
+
+    @Override
+    public void preProcess(IEditingContext editingContext) {
+        // Nothing to do before the loading of the editing context
+    }
+
+    @Override
+    public void postProcess(IEditingContext editingContext) {
+        if (this.isEnabled() && editingContext instanceof IEMFEditingContext emfEditingContext) {
+            EditingContextFootprint footprint = this.footprintEstimator.estimate(emfEditingContext.getDomain().getResourceSet());
+            this.evictionPolicy.track(editingContext, footprint, System.currentTimeMillis());
+            this.logger.debug("Editing context {} loaded, estimated size {}MB", editingContext.getId(), footprint.estimatedSize() / BYTES_PER_MEGABYTE);
+            // The loading happens while the event processor registry is creating the event processor, the budget will
+            // be checked on the next input instead
+            this.lastCheck.set(0);
+        }
+    }
+
+    @Override
+    public IInput preProcess(IEditingContext editingContext, IInput input, Many<ChangeDescription> changeDescriptionSink) {
+        if (this.isEnabled()) {
+            long now = System.currentTimeMillis();
+            this.evictionPolicy.touch(editingContext.getId(), now);
+            this.updateFootprint(editingContext, now);
+            long previousCheck = this.lastCheck.get();
+            if (now - previousCheck >= CHECK_INTERVAL_MS && this.lastCheck.compareAndSet(previousCheck, now)) {
+                this.evictIfNeeded(editingContext.getId(), now);
+            }
+        }
+        return input;
+    }
+
+    /**
+     * Estimates again the footprint of the given editing context, from its thread, since the previous inputs may have
+     * modified its models.
+     */
+    private void updateFootprint(IEditingContext editingContext, long now) {
+        boolean outdated = this.evictionPolicy.getLastEstimation(editingContext.getId()).filter(lastEstimation -> now - lastEstimation >= CHECK_INTERVAL_MS).isPresent();
+        if (outdated && editingContext instanceof IEMFEditingContext emfEditingContext) {
+            this.evictionPolicy.updateFootprint(editingContext.getId(), this.footprintEstimator.estimate(emfEditingContext.getDomain().getResourceSet()), now);
+        }
+    }
+
+    private boolean isEnabled() {
+        return this.memoryBudget > 0;
+    }
+
+    private void evictIfNeeded(String currentEditingContextId, long now) {
+        IEditingContextEventProcessorRegistry registry = this.editingContextEventProcessorRegistry.getObject();
+        List<String> evictedEditingContextIds = this.evictionPolicy.selectEvictedEditingContexts(currentEditingContextId, id -> this.hasNoSubscriber(registry, id), now);
+        for (String evictedEditingContextId : evictedEditingContextIds) {
+            this.logger.info("Unloading the idle editing context {} to stay within the memory budget", evictedEditingContextId);
+            registry.disposeEditingContextEventProcessor(evictedEditingContextId);
+        }
+        long usedMemory = this.evictionPolicy.getUsedMemory();
+        if (usedMemory > this.memoryBudget) {
+            this.logger.warn("The loaded editing contexts use about {}MB, which exceeds the budget of {}MB, but none of them can be unloaded", usedMemory / BYTES_PER_MEGABYTE,
+                    this.memoryBudget / BYTES_PER_MEGABYTE);
+        }
+    }
+
+    private boolean hasNoSubscriber(IEditingContextEventProcessorRegistry registry, String editingContextId) {
+        return registry.getEditingContextEventProcessors().stream() //
+                .filter(editingContextEventProcessor -> editingContextId.equals(editingContextEventProcessor.getEditingContextId())) //
+                .map(IEditingContextEventProcessor::getRepresentationEventProcessors) //
+                .anyMatch(List::isEmpty);
+    }
+
+}
@@ -0,0 +1,46 @@
+/*******************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.papyrus.web.services.editingcontext;
+
+/**
+ * Estimation of the memory used by a loaded editing context.
+ *
+ * @param resourceCount
+ *            the number of loaded resources
+ * @param objectCount
+ *            the number of objects contained in the loaded resources
+ * @author agent
+ */
+public record EditingContextFootprint(int resourceCount, long objectCount) {
+
+    /**
+     * Average size of a loaded model element, including its features values and the adapters installed on it (cross
+     * referencer, UML cache adapter, id adapter).
+     */
+    private static final long BYTES_PER_OBJECT = 1024;
+
+    /**
+     * Average fixed cost of a loaded resource (id maps, metadata adapters).
+     */
+    private static final long BYTES_PER_RESOURCE = 64 * 1024;
+
+    /**
+     * Gets the estimated number of bytes retained by the editing context.
+     *
+     * @return the estimated size in bytes
+     */
+    public long estimatedSize() {
+        return this.objectCount * BYTES_PER_OBJECT + this.resourceCount * BYTES_PER_RESOURCE;
+    }
+}
@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.papyrus.web.services.editingcontext;
+
+import java.util.List;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+
+/**
+ * Estimates the footprint of the models of an editing context without visiting all their elements.
+ * <p>
+ * The containment tree is sampled: the subtrees of an element with at most {@value #SAMPLED_CHILDREN} children are all
+ * visited, while for an element with more children only {@value #SAMPLED_CHILDREN} evenly spaced children are visited
+ * and the size of their subtrees is extrapolated to all the children. Models are usually made of many similar
+ * elements (the classes of a package, the attributes of a class), so the estimation remains close to the actual number
+ * of elements while the cost of the estimation is bounded by the depth of the models instead of their size.
+ * </p>
+ *
+ * @author agent
+ */
+public class EditingContextFootprintEstimator {
+
+    private static final int SAMPLED_CHILDREN = 8;
+
+    /**
+     * Estimates the footprint of the resources of the given resource set.
+     *
+     * @param resourceSet
+     *            the resource set of a loaded editing context
+     * @return the estimated footprint
+     */
+    public EditingContextFootprint estimate(ResourceSet resourceSet) {
+        List<Resource> resources = List.copyOf(resourceSet.getResources());
+        double objectCount = 0;
+        for (Resource resource : resources) {
+            for (EObject root : List.copyOf(resource.getContents())) {
+                objectCount += this.estimateSubtreeSize(root);
+            }
+        }
+        return new EditingContextFootprint(resources.size(), Math.round(objectCount));
+    }
+
+    private double estimateSubtreeSize(EObject eObject) {
+        List<EObject> children = List.copyOf(eObject.eContents());
+        double size = 1;
+        if (children.size() <= SAMPLED_CHILDREN) {
+            for (EObject child : children) {
+                size += this.estimateSubtreeSize(child);
+            }
+        } else {
+            double sampledSize = 0;
+            for (int i = 0; i < SAMPLED_CHILDREN; i++) {
+                sampledSize += this.estimateSubtreeSize(children.get(i * children.size() / SAMPLED_CHILDREN));
+            }
+            size += sampledSize * children.size() / SAMPLED_CHILDREN;
+        }
+        return size;
+    }
+}
@@ -0,0 +1,149 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.services.editingcontext;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.papyrus.uml.domain.services.profile.StereotypeUtil;
+import org.eclipse.uml2.uml.UMLPackage;
+
+/**
+ * Cache of the labels of the semantic elements of an editing context, installed on its resource set.
+ * <p>
+ * Each element has a change stamp, updated when the element, one of its contents or one of its stereotype
+ * applications is modified. A label is recomputed only if the stamp of its element has been updated since the label
+ * has been computed, so that the refresh of a representation does not recompute the labels of unchanged elements.
+ * </p>
+ * <p>
+ * The label of an element may also display the name of other elements, such as the type of a property or the applied
+ * stereotypes. Renaming an existing element, adding or removing a root element (which includes applying or unapplying a
+ * stereotype) and adding or removing a resource thus invalidate all the labels.
+ * </p>
+ *
+ * @author agent
+ */
+public class LabelCacheAdapter extends EContentAdapter {
+
+    private final Map<EObject, Long> stamps = new WeakHashMap<>();
+
+    private final Map<EObject, Map<String, CachedLabel>> labels = new WeakHashMap<>();
+
+    /**
+     * Incremented on each change.
+     */
+    private long clock;
+
+    /**
+     * The last change invalidating all the labels.
+     */
+    private long generation;
+
+    /**
+     * Gets the label of the given element, computing it if the element has changed since the label has been cached.
+     *
+     * @param element
+     *            a semantic element
+     * @param rendererKey
+     *            identifies the way the label is rendered
+     * @param labelProvider
+     *            computes the label
+     * @return the label
+     */
+    public String getLabel(EObject element, String rendererKey, Function<EObject, String> labelProvider) {
+        CachedLabel cachedLabel;
+        long computedAt;
+        synchronized (this) {
+            cachedLabel = this.labels.getOrDefault(element, Map.of()).get(rendererKey);
+            if (cachedLabel != null && !this.isValid(element, cachedLabel)) {
+                cachedLabel = null;
+            }
+            computedAt = this.clock;
+        }
+        String result;
+        if (cachedLabel != null) {
+            result = cachedLabel.label();
+        } else {
+            result = labelProvider.apply(element);
+            synchronized (this) {
+                this.labels.computeIfAbsent(element, key -> new HashMap<>()).put(rendererKey, new CachedLabel(computedAt, result));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void notifyChanged(Notification notification) {
+        super.notifyChanged(notification);
+        if (!notification.isTouch()) {
+            this.invalidate(notification);
+        }
+    }
+
+    @Override
+    public boolean isAdapterForType(Object type) {
+        return type == LabelCacheAdapter.class;
+    }
+
+    private synchronized boolean isValid(EObject element, CachedLabel cachedLabel) {
+        return cachedLabel.computedAt() >= this.generation && cachedLabel.computedAt() >= this.stamps.getOrDefault(element, 0L);
+    }
+
+    private synchronized void invalidate(Notification notification) {
+        this.clock++;
+        Object notifier = notification.getNotifier();
+        if (notifier instanceof EObject eObject && !this.isRenaming(notification)) {
+            this.stamp(eObject);
+            EObject baseElement = StereotypeUtil.getBaseElement(eObject);
+            if (baseElement != null) {
+                this.stamp(baseElement);
+            }
+        } else if (!(notifier instanceof Resource) || notification.getFeatureID(Resource.class) == Resource.RESOURCE__CONTENTS) {
+            this.generation = this.clock;
+        }
+    }
+
+    /**
+     * Indicates if the given notification renames an element, which may be displayed in the labels of other elements.
+     * The first name of a new element is ignored since it is not referenced yet.
+     */
+    private boolean isRenaming(Notification notification) {
+        return notification.getFeature() == UMLPackage.Literals.NAMED_ELEMENT__NAME && notification.getOldValue() != null;
+    }
+
+    /**
+     * Updates the stamp of the given element and of its containers, whose labels may depend on their contents.
+     */
+    private void stamp(EObject element) {
+        EObject current = element;
+        while (current != null) {
+            this.stamps.put(current, this.clock);
+            current = current.eContainer();
+        }
+    }
+
+    /**
+     * A label and the value of the clock when it has been computed.
+     *
+     * @author agent
+     */
+    private record CachedLabel(long computedAt, String label) {
+    }
+}
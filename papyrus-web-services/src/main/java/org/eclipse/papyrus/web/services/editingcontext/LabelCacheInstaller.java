@@ -0,0 +1,44 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.services.editingcontext;
+
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IEditingContextProcessor;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.springframework.stereotype.Service;
+
+/**
+ * Installs a {@link LabelCacheAdapter} on the resource set of each loaded editing context.
+ * <p>
+ * The adapter is installed once the resources have been loaded so that the loading does not update the change stamps
+ * of the elements.
+ * </p>
+ *
+ * @author agent
+ */
+@Service
+public class LabelCacheInstaller implements IEditingContextProcessor {
+
+    @Override
+    public void preProcess(IEditingContext editingContext) {
+        // Nothing to do before the loading of the editing context
+    }
+
+    @Override
+    public void postProcess(IEditingContext editingContext) {
+        if (editingContext instanceof IEMFEditingContext emfEditingContext) {
+            emfEditingContext.getDomain().getResourceSet().eAdapters().add(new LabelCacheAdapter());
+        }
+    }
+}
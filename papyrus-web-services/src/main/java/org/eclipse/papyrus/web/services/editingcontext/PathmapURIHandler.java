@@ -13,7 +13,6 @@
  *******************************************************************************/
 package org.eclipse.papyrus.web.services.editingcontext;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -65,7 +64,7 @@ public class PathmapURIHandler extends URIHandlerImpl {
         } else {
             try {
                 ProfileResourceEntity profileResourceEntity = this.profileRepository.findById(UUID.fromString(uri.lastSegment())).get();
-                inputStream = new ByteArrayInputStream(profileResourceEntity.getContent().getBytes());
+                inputStream = profileResourceEntity.getContentInputStream();
             } catch (NoSuchElementException exception) {
                 throw new Resource.IOWrappedException(exception);
             }
@@ -18,6 +18,7 @@ import java.util.Objects;
 import org.eclipse.papyrus.web.services.Monitoring;
 import org.eclipse.papyrus.web.services.api.dto.ApplyProfileInput;
 import org.eclipse.papyrus.web.services.api.dto.ApplyProfileSuccessPayload;
+import org.eclipse.papyrus.web.services.api.uml.profile.ApplyProfileStartedPayload;
 import org.eclipse.papyrus.web.services.api.uml.profile.IUMLProfileService;
 import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
 import org.eclipse.sirius.components.collaborative.api.ChangeKind;
@@ -36,6 +37,10 @@ import reactor.core.publisher.Sinks.One;
 
 /**
  * Handler used to apply an UML profile.
+ * <p>
+ * When the profile is already applied, the returned {@link ApplyProfileStartedPayload} only means that the migration
+ * of the stereotype applications to the new definition of the profile has been started.
+ * </p>
  *
  * @author lfasani
  */
@@ -71,9 +76,13 @@ public class ApplyProfileEventHandler implements IEditingContextEventHandler {
 
         final String message;
         if (input instanceof ApplyProfileInput) {
-            payload = this.profileService.applyProfile(editingContext, (ApplyProfileInput) input);
+            payload = this.profileService.startProfileApplication(editingContext, (ApplyProfileInput) input);
 
-            if (payload instanceof ApplyProfileSuccessPayload) {
+            if (payload instanceof ApplyProfileStartedPayload) {
+                // The stereotype applications are migrated by the next inputs of the editing context
+                changeDescription = new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, editingContext.getId(), input);
+                message = null;
+            } else if (payload instanceof ApplyProfileSuccessPayload) {
                 payload = new ApplyProfileSuccessPayload(input.id());
                 changeDescription = new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, editingContext.getId(), input);
                 message = null;
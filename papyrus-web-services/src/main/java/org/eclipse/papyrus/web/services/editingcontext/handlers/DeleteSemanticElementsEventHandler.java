@@ -0,0 +1,122 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.services.editingcontext.handlers;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.papyrus.uml.domain.services.destroy.DestroyerStatus;
+import org.eclipse.papyrus.uml.domain.services.status.State;
+import org.eclipse.papyrus.web.services.Monitoring;
+import org.eclipse.papyrus.web.services.api.dto.DeleteSemanticElementsInput;
+import org.eclipse.papyrus.web.services.api.dto.DeleteSemanticElementsSuccessPayload;
+import org.eclipse.papyrus.web.services.aqlservices.utils.GenericDiagramService;
+import org.eclipse.papyrus.web.services.destroy.BatchElementDestroyer;
+import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
+import org.eclipse.sirius.components.collaborative.api.ChangeKind;
+import org.eclipse.sirius.components.collaborative.api.IEditingContextEventHandler;
+import org.eclipse.sirius.components.collaborative.messages.ICollaborativeMessageService;
+import org.eclipse.sirius.components.core.api.ErrorPayload;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IInput;
+import org.eclipse.sirius.components.core.api.IObjectService;
+import org.eclipse.sirius.components.core.api.IPayload;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Sinks.Many;
+import reactor.core.publisher.Sinks.One;
+
+/**
+ * Handler used to delete a selection of semantic elements at once, for instance from the explorer.
+ * <p>
+ * All the elements are destroyed by a single {@link BatchElementDestroyer}, built like the destroyers of the diagram
+ * deletion tools, and a single semantic change is emitted, so the representations are refreshed once for the whole
+ * selection instead of once per element.
+ * </p>
+ *
+ * @author agent
+ */
+@Service
+public class DeleteSemanticElementsEventHandler implements IEditingContextEventHandler {
+
+    private final IObjectService objectService;
+
+    private final GenericDiagramService diagramService;
+
+    private final ICollaborativeMessageService messageService;
+
+    private final Counter counter;
+
+    public DeleteSemanticElementsEventHandler(ICollaborativeMessageService messageService, IObjectService objectService, GenericDiagramService diagramService, MeterRegistry meterRegistry) {
+        this.messageService = Objects.requireNonNull(messageService);
+        this.objectService = Objects.requireNonNull(objectService);
+        this.diagramService = Objects.requireNonNull(diagramService);
+
+        this.counter = Counter.builder(Monitoring.EVENT_HANDLER)
+                .tag(Monitoring.NAME, this.getClass().getSimpleName())
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean canHandle(IEditingContext editingContext, IInput input) {
+        return input instanceof DeleteSemanticElementsInput;
+    }
+
+    @Override
+    public void handle(One<IPayload> payloadSink, Many<ChangeDescription> changeDescriptionSink, IEditingContext editingContext, IInput input) {
+        this.counter.increment();
+
+        String message = this.messageService.invalidInput(input.getClass().getSimpleName(), DeleteSemanticElementsInput.class.getSimpleName());
+        ChangeDescription changeDescription = new ChangeDescription(ChangeKind.NOTHING, editingContext.getId(), input);
+        IPayload payload = new ErrorPayload(input.id(), message);
+
+        if (input instanceof DeleteSemanticElementsInput deleteInput) {
+            List<EObject> elements = deleteInput.elementIds().stream()//
+                    .map(elementId -> this.objectService.getObject(editingContext, elementId))//
+                    .flatMap(Optional::stream)//
+                    .filter(EObject.class::isInstance)//
+                    .map(EObject.class::cast)//
+                    .toList();
+            List<DestroyerStatus> statuses = this.diagramService.destroySemanticElements(elements);
+
+            List<DestroyerStatus> failures = statuses.stream()//
+                    .filter(status -> State.FAILED.equals(status.getState()))//
+                    .toList();
+            if (statuses.size() > failures.size()) {
+                changeDescription = new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, editingContext.getId(), input);
+            }
+            if (failures.isEmpty()) {
+                // The selected elements destroyed with another element of the selection are counted too
+                long deletedElementCount = elements.stream()//
+                        .distinct()//
+                        .filter(element -> element.eResource() == null)//
+                        .count();
+                payload = new DeleteSemanticElementsSuccessPayload(input.id(), Math.toIntExact(deletedElementCount));
+            } else {
+                payload = new ErrorPayload(input.id(), failures.stream()//
+                        .map(DestroyerStatus::getMessage)//
+                        .distinct()//
+                        .collect(Collectors.joining(", ")));
+            }
+        }
+
+        payloadSink.tryEmitValue(payload);
+        changeDescriptionSink.tryEmitNext(changeDescription);
+    }
+}
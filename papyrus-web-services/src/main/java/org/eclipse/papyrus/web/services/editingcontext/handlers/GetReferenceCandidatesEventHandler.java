@@ -0,0 +1,185 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.services.editingcontext.handlers;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.eclipse.emf.ecore.EAnnotation;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.papyrus.web.services.Monitoring;
+import org.eclipse.papyrus.web.services.api.dto.GetReferenceCandidatesInput;
+import org.eclipse.papyrus.web.services.api.dto.GetReferenceCandidatesSuccessPayload;
+import org.eclipse.papyrus.web.services.api.reference.ReferenceCandidate;
+import org.eclipse.papyrus.web.services.api.reference.ReferenceCandidatesPage;
+import org.eclipse.papyrus.web.services.aqlservices.scope.ReachableElementsServices;
+import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
+import org.eclipse.sirius.components.collaborative.api.ChangeKind;
+import org.eclipse.sirius.components.collaborative.api.IEditingContextEventHandler;
+import org.eclipse.sirius.components.collaborative.messages.ICollaborativeMessageService;
+import org.eclipse.sirius.components.core.api.ErrorPayload;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IInput;
+import org.eclipse.sirius.components.core.api.IObjectService;
+import org.eclipse.sirius.components.core.api.IPayload;
+import org.eclipse.uml2.uml.Profile;
+import org.eclipse.uml2.uml.UMLPlugin;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Sinks.Many;
+import reactor.core.publisher.Sinks.One;
+
+/**
+ * Handler returning one page of the candidates of a reference widget or of the items of a containment reference
+ * widget.
+ * <p>
+ * The candidates are the ones of the reference widgets of the UML detail view: the base elements of the reachable
+ * stereotype applications for a reference typed by a stereotype, the reachable elements compatible with the type of
+ * the reference for the other non containment references and the current values of a containment reference. The
+ * model is traversed lazily: the filter typed by the user is applied on the label displayed by the widget and the
+ * traversal stops once the page is full. The kind and icon of the candidates are only computed for the elements of the
+ * returned page.
+ * </p>
+ *
+ * @author agent
+ */
+@Service
+public class GetReferenceCandidatesEventHandler implements IEditingContextEventHandler {
+
+    /**
+     * The number of candidates of a page when the client does not provide a valid limit.
+     */
+    private static final int DEFAULT_LIMIT = 50;
+
+    private static final int MAX_LIMIT = 500;
+
+    private final ReachableElementsServices reachableElementsServices = new ReachableElementsServices();
+
+    private final IObjectService objectService;
+
+    private final ICollaborativeMessageService messageService;
+
+    private final Counter counter;
+
+    public GetReferenceCandidatesEventHandler(ICollaborativeMessageService messageService, MeterRegistry meterRegistry, IObjectService objectService) {
+        this.messageService = Objects.requireNonNull(messageService);
+        this.objectService = Objects.requireNonNull(objectService);
+
+        this.counter = Counter.builder(Monitoring.EVENT_HANDLER)
+                .tag(Monitoring.NAME, this.getClass().getSimpleName())
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean canHandle(IEditingContext editingContext, IInput input) {
+        return input instanceof GetReferenceCandidatesInput;
+    }
+
+    @Override
+    public void handle(One<IPayload> payloadSink, Many<ChangeDescription> changeDescriptionSink, IEditingContext editingContext, IInput input) {
+        this.counter.increment();
+
+        String message = this.messageService.invalidInput(input.getClass().getSimpleName(), GetReferenceCandidatesInput.class.getSimpleName());
+        IPayload payload = new ErrorPayload(input.id(), message);
+        if (input instanceof GetReferenceCandidatesInput candidatesInput && editingContext != null) {
+            Optional<EObject> owner = this.objectService.getObject(editingContext, candidatesInput.ownerId())//
+                    .filter(EObject.class::isInstance)//
+                    .map(EObject.class::cast);
+            Optional<EReference> reference = owner.map(EObject::eClass)//
+                    .map(eClass -> eClass.getEStructuralFeature(candidatesInput.referenceName()))//
+                    .filter(EReference.class::isInstance)//
+                    .map(EReference.class::cast);
+            if (owner.isPresent() && reference.isPresent()) {
+                ReferenceCandidatesPage page = this.getPage(this.getCandidates(owner.get(), reference.get()), candidatesInput);
+                payload = new GetReferenceCandidatesSuccessPayload(input.id(), page);
+            }
+        }
+        payloadSink.tryEmitValue(payload);
+
+        ChangeDescription changeDescription = new ChangeDescription(ChangeKind.NOTHING, editingContext.getId(), input);
+        changeDescriptionSink.tryEmitNext(changeDescription);
+    }
+
+    private Stream<? extends EObject> getCandidates(EObject owner, EReference reference) {
+        Stream<? extends EObject> candidates;
+        if (reference.isContainment()) {
+            Object value = owner.eGet(reference);
+            if (value instanceof List<?> values) {
+                candidates = values.stream().filter(EObject.class::isInstance).map(EObject.class::cast);
+            } else {
+                candidates = Stream.ofNullable(value).filter(EObject.class::isInstance).map(EObject.class::cast);
+            }
+        } else if (this.isStereotypeReference(reference)) {
+            candidates = this.reachableElementsServices.getAllReachableStereotypeApplicationsBaseElements(owner, reference.getName()).stream();
+        } else {
+            candidates = this.reachableElementsServices.streamReachableElements(owner, reference.getEReferenceType());
+        }
+        return candidates;
+    }
+
+    /**
+     * Indicates if the given reference is typed by a stereotype, in which case the widgets display the base elements
+     * of the stereotype applications.
+     * <p>
+     * The type of the reference is then defined by a profile definition: the package of a dynamic profile definition
+     * is owned by an annotation of its profile, the package of a static profile is registered with the location of its
+     * profile.
+     * </p>
+     */
+    private boolean isStereotypeReference(EReference reference) {
+        EPackage ePackage = reference.getEReferenceType().getEPackage();
+        boolean result = false;
+        if (ePackage != null) {
+            result = ePackage.eContainer() instanceof EAnnotation annotation && annotation.getEModelElement() instanceof Profile;
+            result = result || UMLPlugin.getEPackageNsURIToProfileLocationMap().containsKey(ePackage.getNsURI());
+        }
+        return result;
+    }
+
+    private ReferenceCandidatesPage getPage(Stream<? extends EObject> candidates, GetReferenceCandidatesInput input) {
+        int limit = DEFAULT_LIMIT;
+        if (input.limit() > 0) {
+            limit = Math.min(input.limit(), MAX_LIMIT);
+        }
+        // One more element is retrieved to know if there is a next page
+        List<? extends EObject> pageElements = candidates.filter(this.getFilter(input.filter()))//
+                .skip(Math.max(input.offset(), 0))//
+                .limit(limit + 1L)//
+                .toList();
+        List<ReferenceCandidate> pageCandidates = pageElements.stream()//
+                .limit(limit)//
+                .map(element -> new ReferenceCandidate(this.objectService.getId(element), this.objectService.getLabel(element), this.objectService.getKind(element),
+                        this.objectService.getImagePath(element)))//
+                .toList();
+        return new ReferenceCandidatesPage(pageCandidates, pageElements.size() > limit);
+    }
+
+    private Predicate<EObject> getFilter(String filter) {
+        Predicate<EObject> result = element -> true;
+        if (filter != null && !filter.isBlank()) {
+            String lowerCaseFilter = filter.strip().toLowerCase(Locale.ROOT);
+            // The filter is applied on the label displayed by the widget
+            result = element -> Objects.requireNonNullElse(this.objectService.getLabel(element), "").toLowerCase(Locale.ROOT).contains(lowerCaseFilter);
+        }
+        return result;
+    }
+}
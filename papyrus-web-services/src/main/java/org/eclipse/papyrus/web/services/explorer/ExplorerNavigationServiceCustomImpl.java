@@ -14,10 +14,15 @@
 package org.eclipse.papyrus.web.services.explorer;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.regex.Pattern;
 
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.resource.Resource;
@@ -40,6 +45,8 @@ import org.eclipse.sirius.web.services.explorer.api.IExplorerNavigationService;
 @ServiceOverride(ExplorerNavigationService.class)
 public class ExplorerNavigationServiceCustomImpl implements IExplorerNavigationService {
 
+    private static final Pattern UUID_PATTERN = Pattern.compile("\\p{XDigit}{8}-\\p{XDigit}{4}-\\p{XDigit}{4}-\\p{XDigit}{4}-\\p{XDigit}{12}");
+
     private final IObjectService objectService;
 
     private final IRepresentationService representationService;
@@ -51,37 +58,89 @@ public class ExplorerNavigationServiceCustomImpl implements IExplorerNavigationS
 
     @Override
     public List<String> getAncestors(IEditingContext editingContext, String selectionEntryId) {
-        List<String> ancestorsIds = new ArrayList<>();
+        return this.getAncestors(editingContext, List.of(selectionEntryId)).get(selectionEntryId);
+    }
 
-        var optionalSemanticObject = this.objectService.getObject(editingContext, selectionEntryId);
+    /**
+     * Gets the ancestors of several selection entries at once.
+     * <p>
+     * The ancestors shared by the selection entries, such as their containing packages and resource, are only
+     * navigated and identified once.
+     * </p>
+     *
+     * @param editingContext
+     *            the editing context
+     * @param selectionEntryIds
+     *            the ids of the selection entries
+     * @return the ids of the ancestors of each selection entry, from the closest to the farthest
+     */
+    public Map<String, List<String>> getAncestors(IEditingContext editingContext, Collection<String> selectionEntryIds) {
+        Map<String, List<String>> result = new LinkedHashMap<>();
+        // The ids of the ancestors of each already visited object, including the object itself
+        Map<Object, List<String>> ancestorChains = new HashMap<>();
+        for (String selectionEntryId : selectionEntryIds) {
+            List<String> ancestorsIds = this.getFirstAncestor(editingContext, selectionEntryId)//
+                    .map(firstAncestor -> this.getAncestorChain(firstAncestor, ancestorChains))//
+                    .orElse(List.of());
+            result.put(selectionEntryId, new ArrayList<>(ancestorsIds));
+        }
+        return result;
+    }
+
+    private List<String> getAncestorChain(Object object, Map<Object, List<String>> ancestorChains) {
+        // Climb until an already visited ancestor (or the resource) is found
+        List<Object> unvisitedObjects = new ArrayList<>();
+        Object current = object;
+        List<String> knownChain = List.of();
+        while (current != null && knownChain.isEmpty()) {
+            List<String> chain = ancestorChains.get(current);
+            if (chain != null) {
+                knownChain = chain;
+            } else {
+                unvisitedObjects.add(current);
+                if (current instanceof EObject eObject) {
+                    current = this.getParent(eObject);
+                } else {
+                    current = null;
+                }
+            }
+        }
+
+        // Then build the chains of the unvisited objects from the farthest to the closest
+        List<String> chain = knownChain;
+        for (int i = unvisitedObjects.size() - 1; i >= 0; i--) {
+            Object unvisitedObject = unvisitedObjects.get(i);
+            List<String> unvisitedChain = new ArrayList<>(chain.size() + 1);
+            unvisitedChain.add(this.getItemId(unvisitedObject));
+            unvisitedChain.addAll(chain);
+            ancestorChains.put(unvisitedObject, unvisitedChain);
+            chain = unvisitedChain;
+        }
+        return chain;
+    }
 
+    private Optional<Object> getFirstAncestor(IEditingContext editingContext, String selectionEntryId) {
         Optional<Object> optionalObject = Optional.empty();
+        var optionalSemanticObject = this.objectService.getObject(editingContext, selectionEntryId);
         if (optionalSemanticObject.isPresent()) {
-            Optional<RepresentationDescriptor> optionalRepresentation;
-            try {
+            Optional<RepresentationDescriptor> optionalRepresentation = Optional.empty();
+            // The ids of the UML elements are not UUIDs, they cannot be the id of a representation
+            if (UUID_PATTERN.matcher(selectionEntryId).matches()) {
                 optionalRepresentation = this.representationService.getRepresentation(UUID.fromString(selectionEntryId));
-            } catch (IllegalArgumentException e) {
-                // The provided selectionEntryId is not a valid UUID, we can't find a representation for it
-                optionalRepresentation = Optional.empty();
             }
             if (optionalRepresentation.isPresent()) {
                 // The first parent of a representation item is the item for its targetObject.
                 optionalObject = optionalRepresentation.map(RepresentationDescriptor::getTargetObjectId).flatMap(objectId -> this.objectService.getObject(editingContext, objectId));
             } else {
                 // The first parent of a semantic object item is the item for its actual container
-                optionalObject = optionalSemanticObject.filter(EObject.class::isInstance).map(EObject.class::cast)
-                        .map(eObject -> Optional.<Object>ofNullable(eObject.eContainer()).orElse(eObject.eResource()));
+                optionalObject = optionalSemanticObject.filter(EObject.class::isInstance).map(EObject.class::cast).map(this::getParent);
             }
         }
+        return optionalObject;
+    }
 
-        while (optionalObject.isPresent()) {
-            ancestorsIds.add(this.getItemId(optionalObject.get()));
-            optionalObject = optionalObject //
-                    .filter(EObject.class::isInstance) //
-                    .map(EObject.class::cast) //
-                    .map(eObject -> Optional.<Object>ofNullable(eObject.eContainer()).orElse(eObject.eResource()));
-        }
-        return ancestorsIds;
+    private Object getParent(EObject eObject) {
+        return Optional.<Object>ofNullable(eObject.eContainer()).orElse(eObject.eResource());
     }
 
     private String getItemId(Object object) {
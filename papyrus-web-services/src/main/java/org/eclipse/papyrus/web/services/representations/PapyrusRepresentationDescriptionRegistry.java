@@ -18,15 +18,21 @@ import static org.eclipse.papyrus.uml.domain.services.EMFUtils.allContainedObjec
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import org.eclipse.papyrus.uml.domain.services.EMFUtils;
 import org.eclipse.sirius.components.diagrams.description.EdgeDescription;
 import org.eclipse.sirius.components.diagrams.description.IDiagramElementDescription;
 import org.eclipse.sirius.components.diagrams.description.NodeDescription;
+import org.eclipse.sirius.components.diagrams.tools.ITool;
+import org.eclipse.sirius.components.diagrams.tools.SingleClickOnTwoDiagramElementsCandidate;
+import org.eclipse.sirius.components.diagrams.tools.SingleClickOnTwoDiagramElementsTool;
 import org.eclipse.sirius.components.representations.IRepresentationDescription;
 import org.eclipse.sirius.components.view.diagram.DiagramDescription;
 import org.eclipse.sirius.components.view.diagram.DiagramElementDescription;
@@ -51,6 +57,8 @@ public class PapyrusRepresentationDescriptionRegistry {
 
     private Map<String, IDiagramElementDescription> apiDiagramElementDescriptionById = new HashMap<>();
 
+    private Map<String, Map<ConnectorKey, List<ITool>>> connectorToolsByDiagramId = new HashMap<>();
+
     public PapyrusRepresentationDescriptionRegistry(IDiagramIdProvider idProvider) {
         this.idProvider = idProvider;
     }
@@ -70,7 +78,47 @@ public class PapyrusRepresentationDescriptionRegistry {
         Map<org.eclipse.sirius.components.view.diagram.EdgeDescription, EdgeDescription> convertedEdges = this.buildConvertedEdgeMap(description, converted);
 
         this.diagrams.add(new Match(viewId, description, converted, convertedNodes, convertedEdges));
+        this.connectorToolsByDiagramId.put(apiId, this.buildConnectorToolIndex(converted));
+    }
 
+    /**
+     * Indexes the connector tools of the given diagram description by the descriptions of their possible source and
+     * target, keeping the order of the tools in the palettes.
+     */
+    private Map<ConnectorKey, List<ITool>> buildConnectorToolIndex(org.eclipse.sirius.components.diagrams.description.DiagramDescription converted) {
+        Map<ConnectorKey, Set<ITool>> tools = new HashMap<>();
+        converted.getPalettes().stream()//
+                .flatMap(palette -> Stream.concat(palette.getTools().stream(), palette.getToolSections().stream().flatMap(toolSection -> toolSection.getTools().stream())))//
+                .filter(SingleClickOnTwoDiagramElementsTool.class::isInstance)//
+                .map(SingleClickOnTwoDiagramElementsTool.class::cast)//
+                .forEach(tool -> {
+                    for (SingleClickOnTwoDiagramElementsCandidate candidate : tool.getCandidates()) {
+                        for (IDiagramElementDescription source : candidate.getSources()) {
+                            for (IDiagramElementDescription target : candidate.getTargets()) {
+                                tools.computeIfAbsent(new ConnectorKey(source.getId(), target.getId()), key -> new LinkedHashSet<>()).add(tool);
+                            }
+                        }
+                    }
+                });
+        Map<ConnectorKey, List<ITool>> index = new HashMap<>();
+        tools.forEach((key, value) -> index.put(key, List.copyOf(value)));
+        return index;
+    }
+
+    /**
+     * Gets the connector tools of a diagram description which can be applied between elements of the given
+     * descriptions.
+     *
+     * @param diagramDescriptionId
+     *            the id of the API diagram description
+     * @param sourceDescriptionId
+     *            the id of the description of the source element (node or edge)
+     * @param targetDescriptionId
+     *            the id of the description of the target element (node or edge)
+     * @return the connector tools, in the order of the palettes
+     */
+    public List<ITool> getConnectorTools(String diagramDescriptionId, String sourceDescriptionId, String targetDescriptionId) {
+        return this.connectorToolsByDiagramId.getOrDefault(diagramDescriptionId, Map.of()).getOrDefault(new ConnectorKey(sourceDescriptionId, targetDescriptionId), List.of());
     }
 
     private DiagramElementDescription registerViewDiagramElement(DiagramElementDescription de) {
@@ -214,4 +262,16 @@ public class PapyrusRepresentationDescriptionRegistry {
             return this.convertedEdges;
         }
     }
+
+    /**
+     * Key of the connector tools index.
+     *
+     * @param sourceDescriptionId
+     *            the id of the description of the source element
+     * @param targetDescriptionId
+     *            the id of the description of the target element
+     * @author Arthur Daussy
+     */
+    private record ConnectorKey(String sourceDescriptionId, String targetDescriptionId) {
+    }
 }
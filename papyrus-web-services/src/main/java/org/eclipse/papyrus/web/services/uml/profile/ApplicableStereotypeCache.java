@@ -0,0 +1,133 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.services.uml.profile;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.papyrus.web.services.api.uml.profile.UMLStereotypeMetadata;
+import org.eclipse.uml2.uml.Element;
+import org.eclipse.uml2.uml.Package;
+import org.eclipse.uml2.uml.Profile;
+import org.eclipse.uml2.uml.Stereotype;
+
+/**
+ * Cache of the stereotypes applicable on the elements of an editing context, installed on its resource set.
+ * <p>
+ * The stereotypes applicable on an element only depend on its {@link EClass} and on the profiles applied on its
+ * packages. They are cached for each {@link EClass} and each list of applied profiles, along with the current
+ * definitions of these profiles so that a new version of a profile invalidates the stereotypes computed with the
+ * previous one. The metadata of a stereotype are cached as long as the stereotype and its profile are not renamed.
+ * </p>
+ *
+ * @author agent
+ */
+public class ApplicableStereotypeCache extends AdapterImpl {
+
+    /**
+     * The maximal number of cached lists of applicable stereotypes, the cache is cleared when it is reached so that the
+     * profiles which are no longer applied are not retained forever.
+     */
+    private static final int MAX_SIZE = 1000;
+
+    private final Map<ApplicableKey, List<Stereotype>> applicableStereotypes = new HashMap<>();
+
+    private final Map<Stereotype, CachedMetadata> metadatas = new WeakHashMap<>();
+
+    /**
+     * Gets the stereotypes applicable on the given element, whether they are already applied or not.
+     *
+     * @param element
+     *            an element
+     * @return the applicable stereotypes
+     */
+    public synchronized List<Stereotype> getApplicableStereotypes(Element element) {
+        List<Stereotype> result = List.of();
+        Package nearestPackage = element.getNearestPackage();
+        if (nearestPackage != null) {
+            List<Profile> profiles = List.copyOf(nearestPackage.getAllAppliedProfiles());
+            List<EPackage> definitions = profiles.stream()//
+                    .map(Profile::getDefinition)//
+                    .toList();
+            ApplicableKey key = new ApplicableKey(element.eClass(), profiles, definitions);
+            result = this.applicableStereotypes.get(key);
+            if (result == null) {
+                if (this.applicableStereotypes.size() >= MAX_SIZE) {
+                    this.applicableStereotypes.clear();
+                }
+                result = List.copyOf(element.getApplicableStereotypes());
+                this.applicableStereotypes.put(key, result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the metadata of the given stereotype, computing them on the first call or if the stereotype or its profile
+     * have been renamed.
+     *
+     * @param stereotype
+     *            a stereotype
+     * @param metadataProvider
+     *            computes the metadata, may return <code>null</code>
+     * @return the metadata of the stereotype
+     */
+    public synchronized Optional<UMLStereotypeMetadata> getMetadata(Stereotype stereotype, Function<Stereotype, UMLStereotypeMetadata> metadataProvider) {
+        String stereotypeName = stereotype.getName();
+        String profileName = null;
+        Profile profile = stereotype.getProfile();
+        if (profile != null) {
+            profileName = profile.getName();
+        }
+        CachedMetadata cachedMetadata = this.metadatas.get(stereotype);
+        if (cachedMetadata == null || !cachedMetadata.isValid(stereotypeName, profileName)) {
+            cachedMetadata = new CachedMetadata(stereotypeName, profileName, Optional.ofNullable(metadataProvider.apply(stereotype)));
+            this.metadatas.put(stereotype, cachedMetadata);
+        }
+        return cachedMetadata.metadata();
+    }
+
+    @Override
+    public boolean isAdapterForType(Object type) {
+        return type == ApplicableStereotypeCache.class;
+    }
+
+    /**
+     * Key of the applicable stereotypes cache. {@link EClass}es, profiles and definitions are compared by identity.
+     *
+     * @author agent
+     */
+    private record ApplicableKey(EClass eClass, List<Profile> profiles, List<EPackage> definitions) {
+    }
+
+    /**
+     * The metadata of a stereotype and the names they have been computed from.
+     *
+     * @author agent
+     */
+    private record CachedMetadata(String stereotypeName, String profileName, Optional<UMLStereotypeMetadata> metadata) {
+
+        boolean isValid(String currentStereotypeName, String currentProfileName) {
+            return Objects.equals(this.stereotypeName, currentStereotypeName) && Objects.equals(this.profileName, currentProfileName);
+        }
+    }
+}
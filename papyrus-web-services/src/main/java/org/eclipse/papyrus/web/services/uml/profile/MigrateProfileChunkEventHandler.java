@@ -0,0 +1,71 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.services.uml.profile;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.eclipse.papyrus.web.services.Monitoring;
+import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
+import org.eclipse.sirius.components.collaborative.api.ChangeKind;
+import org.eclipse.sirius.components.collaborative.api.IEditingContextEventHandler;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IInput;
+import org.eclipse.sirius.components.core.api.IPayload;
+import org.eclipse.sirius.components.core.api.SuccessPayload;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Sinks.Many;
+import reactor.core.publisher.Sinks.One;
+
+/**
+ * Used to migrate the next chunk of stereotype applications of a running profile migration.
+ * <p>
+ * The result of the chunk is sent to the subscribers of the events of the migration, the returned payload is not used.
+ * </p>
+ *
+ * @author agent
+ */
+@Service
+public class MigrateProfileChunkEventHandler implements IEditingContextEventHandler {
+
+    private final ProfileMigrationService profileMigrationService;
+
+    private final Counter counter;
+
+    public MigrateProfileChunkEventHandler(ProfileMigrationService profileMigrationService, MeterRegistry meterRegistry) {
+        this.profileMigrationService = Objects.requireNonNull(profileMigrationService);
+
+        this.counter = Counter.builder(Monitoring.EVENT_HANDLER)
+                .tag(Monitoring.NAME, this.getClass().getSimpleName())
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean canHandle(IEditingContext editingContext, IInput input) {
+        return input instanceof MigrateProfileChunkInput;
+    }
+
+    @Override
+    public void handle(One<IPayload> payloadSink, Many<ChangeDescription> changeDescriptionSink, IEditingContext editingContext, IInput input) {
+        this.counter.increment();
+
+        this.profileMigrationService.migrateNextChunk(editingContext, (MigrateProfileChunkInput) input);
+
+        payloadSink.tryEmitValue(new SuccessPayload(input.id(), List.of()));
+        changeDescriptionSink.tryEmitNext(new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, editingContext.getId(), input));
+    }
+}
@@ -0,0 +1,31 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.services.uml.profile;
+
+import java.util.UUID;
+
+import org.eclipse.sirius.components.core.api.IInput;
+
+/**
+ * Used to migrate the next chunk of stereotype applications of a running {@link ProfileMigration}.
+ *
+ * @param id
+ *            the id of the input
+ * @param migrationId
+ *            the id of the migration
+ * @author agent
+ */
+public record MigrateProfileChunkInput(UUID id, UUID migrationId) implements IInput {
+
+}
@@ -0,0 +1,182 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.services.uml.profile;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EClassifier;
+import org.eclipse.emf.ecore.EEnum;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+
+/**
+ * Differences between two definitions of a profile, i.e. the Ecore packages generated for two versions of the profile.
+ * <p>
+ * The classifiers of the two definitions are matched by their qualified name. A class of the applied definition is
+ * unchanged if its matching class has the same super types and the same features, in the same order, with the same
+ * types and multiplicities: its instances can then be switched to the new class as is. The instances of the other
+ * classes have to be copied, and the instances of the classes which no longer exist are deleted.
+ * </p>
+ *
+ * @author agent
+ */
+public class ProfileDefinitionDiff {
+
+    private static final String SEPARATOR = "::";
+
+    private final EPackage appliedDefinition;
+
+    private final Map<EClassifier, EClassifier> newClassifiers = new HashMap<>();
+
+    private final Set<EClassifier> matchedNewClassifiers = new HashSet<>();
+
+    private final Set<EClass> unchangedClasses = new HashSet<>();
+
+    /**
+     * Constructor.
+     *
+     * @param appliedDefinition
+     *            the definition currently applied
+     * @param newDefinition
+     *            the new definition
+     */
+    public ProfileDefinitionDiff(EPackage appliedDefinition, EPackage newDefinition) {
+        this.appliedDefinition = Objects.requireNonNull(appliedDefinition);
+        Map<String, EClassifier> appliedClassifiers = new HashMap<>();
+        this.collectClassifiers(appliedDefinition, "", appliedClassifiers);
+        Map<String, EClassifier> newClassifiersByName = new HashMap<>();
+        this.collectClassifiers(Objects.requireNonNull(newDefinition), "", newClassifiersByName);
+
+        appliedClassifiers.forEach((qualifiedName, appliedClassifier) -> {
+            EClassifier newClassifier = newClassifiersByName.get(qualifiedName);
+            if (newClassifier != null && newClassifier.eClass() == appliedClassifier.eClass()) {
+                this.newClassifiers.put(appliedClassifier, newClassifier);
+                this.matchedNewClassifiers.add(newClassifier);
+            }
+        });
+        for (Map.Entry<EClassifier, EClassifier> entry : this.newClassifiers.entrySet()) {
+            if (entry.getKey() instanceof EClass appliedClass && entry.getValue() instanceof EClass newClass && this.hasSameLayout(appliedClass, newClass)) {
+                this.unchangedClasses.add(appliedClass);
+            }
+        }
+    }
+
+    /**
+     * Gets the class matching the given class of the applied definition in the new definition.
+     *
+     * @param appliedClass
+     *            a class of the applied definition
+     * @return the matching class, or an empty optional if it has been removed
+     */
+    public Optional<EClass> getNewClass(EClass appliedClass) {
+        return Optional.ofNullable(this.newClassifiers.get(appliedClass)).filter(EClass.class::isInstance).map(EClass.class::cast);
+    }
+
+    /**
+     * Checks whether the given class of the new definition matches a class of the applied definition.
+     *
+     * @param newClass
+     *            a class of the new definition
+     * @return <code>false</code> if the class has been added in the new definition
+     */
+    public boolean isMatched(EClass newClass) {
+        return this.matchedNewClassifiers.contains(newClass);
+    }
+
+    /**
+     * Checks whether the given class of the applied definition is unchanged in the new definition.
+     *
+     * @param appliedClass
+     *            a class of the applied definition
+     * @return <code>true</code> if its instances can be switched to the new class without copy
+     */
+    public boolean isUnchanged(EClass appliedClass) {
+        return this.unchangedClasses.contains(appliedClass);
+    }
+
+    /**
+     * Checks whether the given class belongs to the applied definition.
+     *
+     * @param eClass
+     *            a class
+     * @return <code>true</code> if the class is defined in the applied definition or one of its sub-packages
+     */
+    public boolean isInAppliedDefinition(EClass eClass) {
+        EPackage ePackage = eClass.getEPackage();
+        while (ePackage != null && ePackage != this.appliedDefinition) {
+            ePackage = ePackage.getESuperPackage();
+        }
+        return ePackage != null;
+    }
+
+    private void collectClassifiers(EPackage ePackage, String prefix, Map<String, EClassifier> classifiers) {
+        for (EClassifier classifier : ePackage.getEClassifiers()) {
+            classifiers.put(prefix + classifier.getName(), classifier);
+        }
+        for (EPackage subPackage : ePackage.getESubpackages()) {
+            this.collectClassifiers(subPackage, prefix + subPackage.getName() + SEPARATOR, classifiers);
+        }
+    }
+
+    private boolean hasSameLayout(EClass appliedClass, EClass newClass) {
+        List<EClassifier> appliedSuperTypes = appliedClass.getEAllSuperTypes().stream()//
+                .map(this::getNewClassifier)//
+                .toList();
+        List<EStructuralFeature> appliedFeatures = appliedClass.getEAllStructuralFeatures();
+        List<EStructuralFeature> newFeatures = newClass.getEAllStructuralFeatures();
+        boolean result = appliedClass.isAbstract() == newClass.isAbstract() && appliedSuperTypes.equals(newClass.getEAllSuperTypes()) && appliedFeatures.size() == newFeatures.size();
+        for (int i = 0; result && i < appliedFeatures.size(); i++) {
+            result = this.isSameFeature(appliedFeatures.get(i), newFeatures.get(i));
+        }
+        return result;
+    }
+
+    private boolean isSameFeature(EStructuralFeature appliedFeature, EStructuralFeature newFeature) {
+        boolean result = appliedFeature.eClass() == newFeature.eClass() && Objects.equals(appliedFeature.getName(), newFeature.getName());
+        result = result && this.hasSameMultiplicity(appliedFeature, newFeature) && this.hasSameType(appliedFeature, newFeature);
+        if (result && appliedFeature instanceof EReference appliedReference && newFeature instanceof EReference newReference) {
+            result = this.hasSameReferenceKind(appliedReference, newReference);
+        }
+        return result;
+    }
+
+    private boolean hasSameMultiplicity(EStructuralFeature appliedFeature, EStructuralFeature newFeature) {
+        boolean sameBounds = appliedFeature.getLowerBound() == newFeature.getLowerBound() && appliedFeature.getUpperBound() == newFeature.getUpperBound();
+        return sameBounds && appliedFeature.isUnique() == newFeature.isUnique() && appliedFeature.isOrdered() == newFeature.isOrdered();
+    }
+
+    private boolean hasSameType(EStructuralFeature appliedFeature, EStructuralFeature newFeature) {
+        EClassifier appliedType = appliedFeature.getEType();
+        // The values of a dynamic enumeration are literals of the applied definition, they have to be converted
+        boolean convertedEnum = appliedType instanceof EEnum && this.newClassifiers.containsKey(appliedType);
+        return !convertedEnum && this.getNewClassifier(appliedType) == newFeature.getEType();
+    }
+
+    private boolean hasSameReferenceKind(EReference appliedReference, EReference newReference) {
+        boolean sameOpposite = (appliedReference.getEOpposite() == null) == (newReference.getEOpposite() == null);
+        return appliedReference.isContainment() == newReference.isContainment() && sameOpposite;
+    }
+
+    private EClassifier getNewClassifier(EClassifier appliedClassifier) {
+        return this.newClassifiers.getOrDefault(appliedClassifier, appliedClassifier);
+    }
+}
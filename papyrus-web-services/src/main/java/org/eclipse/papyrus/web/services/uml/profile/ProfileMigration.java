@@ -0,0 +1,428 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.services.uml.profile;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EEnum;
+import org.eclipse.emf.ecore.EEnumLiteral;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.EStructuralFeature.Setting;
+import org.eclipse.emf.ecore.impl.DynamicEObjectImpl;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.ECrossReferenceAdapter;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.util.InternalEList;
+import org.eclipse.papyrus.uml.domain.services.profile.StereotypeUtil;
+import org.eclipse.papyrus.web.services.aqlservices.scope.StereotypeApplicationIndex;
+import org.eclipse.uml2.common.util.CacheAdapter;
+import org.eclipse.uml2.uml.Element;
+import org.eclipse.uml2.uml.Package;
+import org.eclipse.uml2.uml.ProfileApplication;
+
+/**
+ * The migration of the stereotype applications of a package to a new definition of an applied profile, executed chunk
+ * by chunk.
+ * <p>
+ * The applications of the unchanged stereotypes are switched to the new definition in place, the applications of the
+ * changed stereotypes are replaced by copies, the references to them being redirected to the copies, and the
+ * applications of the removed stereotypes are deleted. The model may be modified between two chunks: the last chunk
+ * collects again the applications which still use the applied definition, including the ones created in the meantime.
+ * The applied definition of the profile application is only switched once the last chunk has been migrated, a failed
+ * migration can thus be resumed by applying the profile again.
+ * </p>
+ *
+ * @author agent
+ */
+public class ProfileMigration {
+
+    private final Package pack;
+
+    private final ProfileApplication profileApplication;
+
+    private final EPackage newDefinition;
+
+    private final ProfileDefinitionDiff diff;
+
+    private final int chunkSize;
+
+    private final List<EObject> applications;
+
+    /**
+     * The copies of the objects of the applied definition, <code>null</code> for the deleted objects.
+     */
+    private final Map<EObject, EObject> replacements = new HashMap<>();
+
+    /**
+     * The roots switched in place during the current chunk.
+     */
+    private final Set<EObject> switchedRoots = new HashSet<>();
+
+    private int migrated;
+
+    private int total;
+
+    private boolean done;
+
+    private int switched;
+
+    private int copied;
+
+    private int deleted;
+
+    /**
+     * Constructor.
+     *
+     * @param pack
+     *            the package on which the profile is applied
+     * @param profileApplication
+     *            the application of the profile
+     * @param newDefinition
+     *            the new definition of the profile
+     * @param diff
+     *            the differences between the applied and the new definition
+     * @param chunkSize
+     *            the maximum number of stereotype applications migrated by a chunk
+     */
+    public ProfileMigration(Package pack, ProfileApplication profileApplication, EPackage newDefinition, ProfileDefinitionDiff diff, int chunkSize) {
+        this.pack = Objects.requireNonNull(pack);
+        this.profileApplication = Objects.requireNonNull(profileApplication);
+        this.newDefinition = Objects.requireNonNull(newDefinition);
+        this.diff = Objects.requireNonNull(diff);
+        this.chunkSize = chunkSize;
+        this.applications = this.collectStereotypeApplications();
+        this.total = this.applications.size();
+    }
+
+    public Package getPackage() {
+        return this.pack;
+    }
+
+    public boolean isDone() {
+        return this.done;
+    }
+
+    public ProfileMigrationProgress getProgress() {
+        return new ProfileMigrationProgress(this.migrated, this.total);
+    }
+
+    public ProfileMigrationResult getResult() {
+        return new ProfileMigrationResult(this.switched, this.copied, this.deleted);
+    }
+
+    /**
+     * Migrates the next chunk of stereotype applications, the last chunk also switches the applied definition.
+     *
+     * @return <code>true</code> if the migration is done
+     */
+    public boolean migrateNextChunk() {
+        if (!this.done) {
+            List<EObject> chunk;
+            if (this.migrated + this.chunkSize < this.applications.size()) {
+                chunk = this.applications.subList(this.migrated, this.migrated + this.chunkSize);
+            } else if (this.migrated == 0) {
+                chunk = this.applications;
+            } else {
+                chunk = this.collectStereotypeApplications();
+                this.total = this.migrated + chunk.size();
+            }
+            this.migrate(chunk);
+            this.migrated += chunk.size();
+            if (this.migrated >= this.total) {
+                this.profileApplication.setAppliedDefinition(this.newDefinition);
+                this.done = true;
+            }
+        }
+        return this.done;
+    }
+
+    private List<EObject> collectStereotypeApplications() {
+        // Stereotype applications are stored at the root of the resource of their base element
+        List<Resource> resources = new ArrayList<>();
+        Resource packageResource = this.pack.eResource();
+        if (packageResource != null && packageResource.getResourceSet() != null) {
+            resources.addAll(packageResource.getResourceSet().getResources());
+        } else if (packageResource != null) {
+            resources.add(packageResource);
+        }
+        List<EObject> result = new ArrayList<>();
+        for (Resource resource : resources) {
+            for (EObject root : resource.getContents()) {
+                if (this.isStereotypeApplicationToMigrate(root)) {
+                    result.add(root);
+                }
+            }
+        }
+        return result;
+    }
+
+    private boolean isStereotypeApplicationToMigrate(EObject root) {
+        boolean result = false;
+        if (!(root instanceof Element) && this.diff.isInAppliedDefinition(root.eClass())) {
+            Element baseElement = StereotypeUtil.getBaseElement(root);
+            result = baseElement != null && EcoreUtil.isAncestor(this.pack, baseElement);
+        }
+        return result;
+    }
+
+    private void migrate(List<EObject> chunk) {
+        Set<Resource> resources = new HashSet<>();
+        Map<EObject, EObject> replacedApplications = new HashMap<>();
+        for (EObject application : chunk) {
+            // The application may have been deleted, or migrated as the value of another one, since its collection
+            if (application.eResource() != null && this.diff.isInAppliedDefinition(application.eClass())) {
+                resources.add(application.eResource());
+                if (this.replacements.containsKey(application)) {
+                    replacedApplications.put(application, this.replacements.get(application));
+                } else if (this.canSwitch(application)) {
+                    this.switchApplication((DynamicEObjectImpl) application);
+                } else {
+                    replacedApplications.put(application, this.copy(application));
+                }
+            }
+        }
+        // The copies of this chunk may reference applications copied after them
+        replacedApplications.values().stream()//
+                .filter(Objects::nonNull)//
+                .forEach(this::redirectOwnReferences);
+        this.redirectReferences(replacedApplications);
+        for (Resource resource : resources) {
+            this.replaceRoots(resource, replacedApplications);
+            CacheAdapter.getInstance().clear(resource);
+        }
+        this.reindex();
+    }
+
+    private boolean canSwitch(EObject object) {
+        return object instanceof DynamicEObjectImpl && this.diff.isUnchanged(object.eClass());
+    }
+
+    private void switchApplication(DynamicEObjectImpl application) {
+        // The cross referencers index the references by feature, they have to index the features of the new class
+        List<Adapter> crossReferenceAdapters = application.eAdapters().stream()//
+                .filter(ECrossReferenceAdapter.class::isInstance)//
+                .toList();
+        application.eAdapters().removeAll(crossReferenceAdapters);
+        this.switchClass(application);
+        application.eAdapters().addAll(crossReferenceAdapters);
+        this.switchedRoots.add(application);
+        this.switched++;
+    }
+
+    private void switchClass(DynamicEObjectImpl object) {
+        object.eSetClass(this.diff.getNewClass(object.eClass()).orElseThrow());
+        for (EObject child : List.copyOf(object.eContents())) {
+            if (this.diff.isInAppliedDefinition(child.eClass()) && this.canSwitch(child)) {
+                this.switchClass((DynamicEObjectImpl) child);
+            } else if (this.diff.isInAppliedDefinition(child.eClass())) {
+                EObject copy = this.copy(child);
+                if (copy == null) {
+                    EcoreUtil.remove(child);
+                } else {
+                    EcoreUtil.replace(child, copy);
+                }
+            }
+        }
+    }
+
+    private EObject copy(EObject object) {
+        EObject result = null;
+        Optional<EClass> newClass = this.diff.getNewClass(object.eClass());
+        if (newClass.isPresent()) {
+            result = EcoreUtil.create(newClass.get());
+            CacheAdapter.getInstance().adapt(result);
+            // Registered before the copy of the values, which may reference the copied object
+            this.replacements.put(object, result);
+            for (EStructuralFeature newFeature : newClass.get().getEAllStructuralFeatures()) {
+                EStructuralFeature appliedFeature = object.eClass().getEStructuralFeature(newFeature.getName());
+                if (this.isCopied(newFeature) && appliedFeature != null && object.eIsSet(appliedFeature)) {
+                    this.copyValue(object.eGet(appliedFeature, false), result, newFeature);
+                }
+            }
+        } else {
+            this.replacements.put(object, null);
+        }
+        return result;
+    }
+
+    private boolean isCopied(EStructuralFeature feature) {
+        return feature.isChangeable() && !feature.isDerived();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void copyValue(Object value, EObject target, EStructuralFeature feature) {
+        if (feature.isMany() && value instanceof Collection<?> values) {
+            List<Object> convertedValues = new ArrayList<>();
+            for (Object element : List.copyOf(values)) {
+                Object converted = this.convert(element, feature);
+                if (converted != null && feature.getEType().isInstance(converted)) {
+                    convertedValues.add(converted);
+                }
+            }
+            ((List<Object>) target.eGet(feature)).addAll(convertedValues);
+        } else if (!feature.isMany()) {
+            Object converted = this.convert(value, feature);
+            if (converted != null && feature.getEType().isInstance(converted)) {
+                target.eSet(feature, converted);
+            }
+        }
+    }
+
+    private Object convert(Object value, EStructuralFeature feature) {
+        Object result = value;
+        if (value instanceof EEnumLiteral literal && feature.getEType() instanceof EEnum newEnum) {
+            result = newEnum.getEEnumLiteral(literal.getName());
+        } else if (value instanceof EObject eObject && this.diff.isInAppliedDefinition(eObject.eClass())) {
+            if (feature instanceof EReference reference && reference.isContainment()) {
+                result = this.copy(eObject);
+            } else {
+                result = this.migrateReferencedObject(eObject);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Migrates an object referenced by a copy, so that the reference is kept even if the object belongs to a later
+     * chunk.
+     */
+    private EObject migrateReferencedObject(EObject object) {
+        EObject result = object;
+        boolean isRootApplication = object.eContainer() == null && object.eResource() != null;
+        if (this.replacements.containsKey(object)) {
+            result = this.replacements.get(object);
+        } else if (isRootApplication && this.canSwitch(object)) {
+            this.switchApplication((DynamicEObjectImpl) object);
+        } else if (isRootApplication) {
+            // The copy replaces the object when the chunk of the object is migrated
+            result = this.copy(object);
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void redirectOwnReferences(EObject copy) {
+        List<EObject> objects = new ArrayList<>();
+        objects.add(copy);
+        copy.eAllContents().forEachRemaining(objects::add);
+        for (EObject object : objects) {
+            for (EReference reference : object.eClass().getEAllReferences()) {
+                if (!reference.isContainment() && this.isCopied(reference) && object.eIsSet(reference)) {
+                    if (reference.isMany()) {
+                        List<Object> values = (List<Object>) object.eGet(reference, false);
+                        for (Object value : List.copyOf(values)) {
+                            if (this.replacements.containsKey(value)) {
+                                this.redirectValue(values, value);
+                            }
+                        }
+                    } else if (this.replacements.containsKey(object.eGet(reference, false))) {
+                        object.eSet(reference, this.replacements.get(object.eGet(reference, false)));
+                    }
+                }
+            }
+        }
+    }
+
+    private void redirectValue(List<Object> values, Object value) {
+        EObject replacement = this.replacements.get(value);
+        int index = values.indexOf(value);
+        if (replacement != null && !values.contains(replacement)) {
+            values.set(index, replacement);
+        } else {
+            values.remove(index);
+        }
+    }
+
+    private void redirectReferences(Map<EObject, EObject> replacedApplications) {
+        Map<EObject, Collection<Setting>> usages = this.findUsages(replacedApplications.keySet());
+        usages.forEach((application, settings) -> {
+            EObject migratedApplication = replacedApplications.get(application);
+            for (Setting setting : settings) {
+                EStructuralFeature feature = setting.getEStructuralFeature();
+                if (this.isCopied(feature) && !(feature instanceof EReference reference && reference.isContainment())) {
+                    if (migratedApplication != null) {
+                        EcoreUtil.replace(setting, application, migratedApplication);
+                    } else {
+                        EcoreUtil.remove(setting, application);
+                    }
+                }
+            }
+        });
+    }
+
+    private Map<EObject, Collection<Setting>> findUsages(Collection<EObject> replacedApplications) {
+        Map<EObject, Collection<Setting>> result = new HashMap<>();
+        ECrossReferenceAdapter crossReferenceAdapter = ECrossReferenceAdapter.getCrossReferenceAdapter(this.pack);
+        if (crossReferenceAdapter != null) {
+            for (EObject application : replacedApplications) {
+                result.put(application, List.copyOf(crossReferenceAdapter.getInverseReferences(application, false)));
+            }
+        } else if (!replacedApplications.isEmpty()) {
+            // Without cross referencer, the model is scanned once for all the applications of the chunk
+            Notifier scope = this.pack.eResource();
+            ResourceSet resourceSet = this.pack.eResource().getResourceSet();
+            if (resourceSet != null) {
+                scope = resourceSet;
+            }
+            EcoreUtil.UsageCrossReferencer.findAll(replacedApplications, List.of(scope)).forEach((application, settings) -> result.put(application, List.copyOf(settings)));
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void replaceRoots(Resource resource, Map<EObject, EObject> replacedApplications) {
+        // The contents are scanned once per chunk, looking up the index of each application would be quadratic
+        InternalEList<EObject> contents = (InternalEList<EObject>) resource.getContents();
+        for (int i = contents.size() - 1; i >= 0; i--) {
+            EObject root = contents.basicGet(i);
+            if (replacedApplications.containsKey(root)) {
+                EObject migratedApplication = replacedApplications.get(root);
+                if (migratedApplication != null) {
+                    contents.setUnique(i, migratedApplication);
+                    this.copied++;
+                } else {
+                    contents.remove(i);
+                    this.deleted++;
+                }
+            }
+        }
+    }
+
+    private void reindex() {
+        // The switch of the class of an application does not send any notification
+        ResourceSet resourceSet = null;
+        if (this.pack.eResource() != null) {
+            resourceSet = this.pack.eResource().getResourceSet();
+        }
+        if (resourceSet != null && EcoreUtil.getExistingAdapter(resourceSet, StereotypeApplicationIndex.class) instanceof StereotypeApplicationIndex index) {
+            this.switchedRoots.forEach(index::reindex);
+        }
+        this.switchedRoots.clear();
+    }
+}
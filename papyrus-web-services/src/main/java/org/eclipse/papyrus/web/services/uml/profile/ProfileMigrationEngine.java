@@ -0,0 +1,141 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.services.uml.profile;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.uml2.uml.Extension;
+import org.eclipse.uml2.uml.Package;
+import org.eclipse.uml2.uml.Profile;
+import org.eclipse.uml2.uml.ProfileApplication;
+
+/**
+ * Re-applies a profile on a package by migrating the existing stereotype applications to the new definition of the
+ * profile, instead of copying all of them as {@link Package#applyProfile(Profile)} does.
+ * <p>
+ * The {@link ProfileDefinitionDiff} between the applied and the new definition gives the stereotypes which have
+ * actually changed. The applications of the unchanged stereotypes are switched to the new definition in place, only
+ * the applications of the changed stereotypes are copied, their references being redirected to the copies, and the
+ * applications of the removed stereotypes are deleted. The applications are migrated by a {@link ProfileMigration}, in
+ * chunks of bounded size.
+ * </p>
+ * <p>
+ * The profiles which are not applied yet, or whose new definition adds required stereotypes, are applied with
+ * {@link Package#applyProfile(Profile)}.
+ * </p>
+ *
+ * @author agent
+ */
+public class ProfileMigrationEngine {
+
+    /**
+     * The default number of stereotype applications migrated between two progress reports.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1000;
+
+    private final int chunkSize;
+
+    /**
+     * Creates an engine migrating the applications in chunks of {@link #DEFAULT_CHUNK_SIZE}.
+     */
+    public ProfileMigrationEngine() {
+        this(DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param chunkSize
+     *            the number of stereotype applications migrated between two progress reports
+     */
+    public ProfileMigrationEngine(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("The chunk size must be positive");
+        }
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Prepares the migration of the stereotype applications of the given package to the current definition of the given
+     * profile.
+     *
+     * @param pack
+     *            the package
+     * @param profile
+     *            the profile to apply
+     * @return the migration, or an empty optional if the profile has to be applied with
+     *         {@link Package#applyProfile(Profile)}
+     */
+    public Optional<ProfileMigration> prepare(Package pack, Profile profile) {
+        ProfileApplication profileApplication = pack.getProfileApplication(profile);
+        EPackage newDefinition = profile.getDefinition();
+        Optional<ProfileMigration> result = Optional.empty();
+        if (this.canMigrate(profileApplication, newDefinition)) {
+            ProfileDefinitionDiff diff = new ProfileDefinitionDiff(profileApplication.getAppliedDefinition(), newDefinition);
+            if (!this.addsRequiredStereotypes(profile, diff)) {
+                result = Optional.of(new ProfileMigration(pack, profileApplication, newDefinition, diff, this.chunkSize));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Applies the current definition of the given profile on the given package.
+     *
+     * @param pack
+     *            the package
+     * @param profile
+     *            the profile to apply
+     * @param progressListener
+     *            notified after each migrated chunk
+     * @return the result of the migration
+     */
+    public ProfileMigrationResult apply(Package pack, Profile profile, Consumer<ProfileMigrationProgress> progressListener) {
+        Optional<ProfileMigration> optionalMigration = this.prepare(pack, profile);
+        ProfileMigrationResult result;
+        if (optionalMigration.isPresent()) {
+            ProfileMigration migration = optionalMigration.get();
+            while (!migration.migrateNextChunk()) {
+                progressListener.accept(migration.getProgress());
+            }
+            progressListener.accept(migration.getProgress());
+            result = migration.getResult();
+        } else {
+            pack.applyProfile(profile);
+            result = new ProfileMigrationResult(0, 0, 0);
+        }
+        return result;
+    }
+
+    private boolean canMigrate(ProfileApplication profileApplication, EPackage newDefinition) {
+        boolean isApplied = profileApplication != null && profileApplication.getAppliedDefinition() != null;
+        return isApplied && newDefinition != null && profileApplication.getAppliedDefinition() != newDefinition;
+    }
+
+    /**
+     * Checks whether the new definition adds required stereotypes, whose applications are only created by
+     * {@link Package#applyProfile(Profile)}.
+     */
+    private boolean addsRequiredStereotypes(Profile profile, ProfileDefinitionDiff diff) {
+        return profile.getOwnedExtensions(true).stream()//
+                .map(Extension::getStereotype)//
+                .filter(Objects::nonNull)//
+                .map(profile::getDefinition)//
+                .anyMatch(definition -> !(definition instanceof EClass newClass) || !diff.isMatched(newClass));
+    }
+}
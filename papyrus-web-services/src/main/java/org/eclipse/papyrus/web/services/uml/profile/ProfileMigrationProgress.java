@@ -0,0 +1,26 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.services.uml.profile;
+
+/**
+ * The progress of the migration of the stereotype applications of a profile to a new definition.
+ *
+ * @param migrated
+ *            the number of stereotype applications already migrated
+ * @param total
+ *            the number of stereotype applications to migrate
+ * @author agent
+ */
+public record ProfileMigrationProgress(int migrated, int total) {
+}
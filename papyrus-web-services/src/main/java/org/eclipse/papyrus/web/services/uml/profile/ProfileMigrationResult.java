@@ -0,0 +1,39 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.services.uml.profile;
+
+/**
+ * The result of the migration of the stereotype applications of a profile to a new definition.
+ *
+ * @param switched
+ *            the number of stereotype applications whose stereotype is unchanged, switched to the new definition in
+ *            place
+ * @param copied
+ *            the number of stereotype applications whose stereotype has changed, copied as instances of the new
+ *            definition
+ * @param deleted
+ *            the number of stereotype applications whose stereotype has been removed
+ * @author agent
+ */
+public record ProfileMigrationResult(int switched, int copied, int deleted) {
+
+    /**
+     * Gets the number of migrated stereotype applications.
+     *
+     * @return the number of migrated stereotype applications
+     */
+    public int total() {
+        return this.switched + this.copied + this.deleted;
+    }
+}
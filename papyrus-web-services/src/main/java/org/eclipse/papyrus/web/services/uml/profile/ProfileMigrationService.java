@@ -0,0 +1,208 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.services.uml.profile;
+
+import java.text.MessageFormat;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.papyrus.web.services.api.dto.ApplyProfileSuccessPayload;
+import org.eclipse.papyrus.web.services.api.uml.profile.ApplyProfileProgressPayload;
+import org.eclipse.papyrus.web.services.api.uml.profile.IProfileMigrationService;
+import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessorRegistry;
+import org.eclipse.sirius.components.core.api.ErrorPayload;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IPayload;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.eclipse.uml2.uml.Package;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.core.publisher.Sinks.Many;
+
+/**
+ * Executes the migrations of the stereotype applications to the new definition of an applied profile and reports their
+ * progress.
+ * <p>
+ * Each chunk of a migration is migrated by its own {@link MigrateProfileChunkInput}, dispatched to the editing context
+ * once the previous chunk has been migrated, so that the inputs received during a migration are not blocked until its
+ * end.
+ * </p>
+ *
+ * @author agent
+ */
+@Service
+public class ProfileMigrationService implements IProfileMigrationService {
+
+    /**
+     * The number of finished migrations for which the result is kept for late subscribers.
+     */
+    private static final int FINISHED_MIGRATIONS_HISTORY_SIZE = 64;
+
+    private final Logger logger = LoggerFactory.getLogger(ProfileMigrationService.class);
+
+    /**
+     * Provided lazily, the registry depends on the event handlers which start the migrations.
+     */
+    private final ObjectProvider<IEditingContextEventProcessorRegistry> editingContextEventProcessorRegistry;
+
+    private final Map<UUID, RunningMigration> runningMigrations = new ConcurrentHashMap<>();
+
+    private final Map<UUID, IPayload> finishedMigrations = Collections.synchronizedMap(new LinkedHashMap<>() {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Entry<UUID, IPayload> eldest) {
+            return this.size() > FINISHED_MIGRATIONS_HISTORY_SIZE;
+        }
+    });
+
+    public ProfileMigrationService(ObjectProvider<IEditingContextEventProcessorRegistry> editingContextEventProcessorRegistry) {
+        this.editingContextEventProcessorRegistry = Objects.requireNonNull(editingContextEventProcessorRegistry);
+    }
+
+    /**
+     * Starts a migration, its first chunk being migrated by the next input handled by the editing context.
+     *
+     * @param editingContextId
+     *            the id of the editing context containing the migrated package
+     * @param migrationId
+     *            the id of the migration
+     * @param profileName
+     *            the name of the applied profile
+     * @param migration
+     *            the migration
+     */
+    public void start(String editingContextId, UUID migrationId, String profileName, ProfileMigration migration) {
+        Many<IPayload> sink = Sinks.many().replay().latest();
+        this.runningMigrations.put(migrationId, new RunningMigration(editingContextId, profileName, migration, sink));
+        this.emitProgress(migrationId, migration, sink);
+        this.dispatchNextChunk(migrationId);
+    }
+
+    /**
+     * Migrates the next chunk of a migration, on the thread of its editing context.
+     *
+     * @param editingContext
+     *            the editing context
+     * @param input
+     *            the input of the chunk
+     */
+    public void migrateNextChunk(IEditingContext editingContext, MigrateProfileChunkInput input) {
+        RunningMigration runningMigration = this.runningMigrations.get(input.migrationId());
+        if (runningMigration != null) {
+            if (this.isInEditingContext(runningMigration.migration().getPackage(), editingContext)) {
+                this.migrateNextChunk(input.migrationId(), runningMigration);
+            } else {
+                this.finish(input.migrationId(), this.createError(input.migrationId(), runningMigration, "the package has been deleted"));
+            }
+        }
+    }
+
+    private boolean isInEditingContext(Package pack, IEditingContext editingContext) {
+        boolean result = false;
+        Resource resource = pack.eResource();
+        if (resource != null && editingContext instanceof IEMFEditingContext emfEditingContext) {
+            result = resource.getResourceSet() == emfEditingContext.getDomain().getResourceSet();
+        }
+        return result;
+    }
+
+    private void migrateNextChunk(UUID migrationId, RunningMigration runningMigration) {
+        ProfileMigration migration = runningMigration.migration();
+        // CHECKSTYLE:OFF The subscribers must be notified whatever the error
+        try {
+            boolean done = migration.migrateNextChunk();
+            this.emitProgress(migrationId, migration, runningMigration.sink());
+            if (done) {
+                ProfileMigrationResult result = migration.getResult();
+                this.logger.info("Profile {} re-applied: {} stereotype applications switched, {} copied and {} deleted", runningMigration.profileName(), result.switched(), result.copied(),
+                        result.deleted());
+                this.finish(migrationId, new ApplyProfileSuccessPayload(migrationId));
+            } else {
+                this.dispatchNextChunk(migrationId);
+            }
+        } catch (RuntimeException exception) {
+            // CHECKSTYLE:ON
+            this.logger.error(exception.getMessage(), exception);
+            this.finish(migrationId, this.createError(migrationId, runningMigration, exception.getMessage()));
+        }
+    }
+
+    private void dispatchNextChunk(UUID migrationId) {
+        RunningMigration runningMigration = this.runningMigrations.get(migrationId);
+        IEditingContextEventProcessorRegistry registry = this.editingContextEventProcessorRegistry.getObject();
+        // Dispatching an input would load again an editing context disposed during the migration
+        boolean loaded = registry.getEditingContextEventProcessors().stream()//
+                .anyMatch(editingContextEventProcessor -> runningMigration.editingContextId().equals(editingContextEventProcessor.getEditingContextId()));
+        if (loaded) {
+            registry.dispatchEvent(runningMigration.editingContextId(), new MigrateProfileChunkInput(UUID.randomUUID(), migrationId)).subscribe();
+        } else {
+            this.finish(migrationId, this.createError(migrationId, runningMigration, "the editing context has been closed"));
+        }
+    }
+
+    private void emitProgress(UUID migrationId, ProfileMigration migration, Many<IPayload> sink) {
+        ProfileMigrationProgress progress = migration.getProgress();
+        sink.tryEmitNext(new ApplyProfileProgressPayload(migrationId, progress.migrated(), progress.total()));
+    }
+
+    private ErrorPayload createError(UUID migrationId, RunningMigration runningMigration, String cause) {
+        ProfileMigrationProgress progress = runningMigration.migration().getProgress();
+        String message = MessageFormat.format("The migration of the stereotype applications of profile {0} failed after {1} of {2} applications: {3}", runningMigration.profileName(),
+                progress.migrated(), progress.total(), cause);
+        this.logger.warn(message);
+        return new ErrorPayload(migrationId, message);
+    }
+
+    private void finish(UUID migrationId, IPayload payload) {
+        RunningMigration runningMigration = this.runningMigrations.remove(migrationId);
+        this.finishedMigrations.put(migrationId, payload);
+        runningMigration.sink().tryEmitNext(payload);
+        runningMigration.sink().tryEmitComplete();
+    }
+
+    @Override
+    public Flux<IPayload> getMigrationEvents(UUID migrationId) {
+        Flux<IPayload> result = Flux.empty();
+        RunningMigration runningMigration = this.runningMigrations.get(migrationId);
+        if (runningMigration != null) {
+            result = runningMigration.sink().asFlux();
+        } else {
+            IPayload payload = this.finishedMigrations.get(migrationId);
+            if (payload != null) {
+                result = Flux.just(payload);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * A migration which has not been finished yet.
+     *
+     * @author agent
+     */
+    private record RunningMigration(String editingContextId, String profileName, ProfileMigration migration, Many<IPayload> sink) {
+    }
+}
@@ -0,0 +1,164 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.services.uml.profile;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.text.MessageFormat;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.papyrus.web.persistence.entities.ContentCodec;
+import org.eclipse.papyrus.web.persistence.entities.ProfileResourceEntity;
+import org.eclipse.papyrus.web.persistence.repositories.IProfileRepository;
+import org.eclipse.papyrus.web.services.api.uml.profile.IProfilePublication;
+import org.eclipse.papyrus.web.services.api.uml.profile.PublishProfileStatus;
+import org.eclipse.papyrus.web.services.api.uml.profile.PublishProfileSuccessPayload;
+import org.eclipse.sirius.components.core.api.ErrorPayload;
+import org.eclipse.sirius.components.core.api.IPayload;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The publication of a profile, prepared on the editing context thread and executed from any thread.
+ * <p>
+ * A prepared publication holds a snapshot of the profile resource, detached from the editing context, so that its
+ * serialization and storage do not block the editing of the profile. The snapshot does not reference any object of
+ * the editing context: the references to the objects outside of the profile resource are proxies.
+ * </p>
+ *
+ * @author agent
+ */
+public final class ProfilePublication implements IProfilePublication {
+
+    /**
+     * The pattern of the error message of a failed publication.
+     */
+    static final String ERROR_MESSAGE_PATTERN = "Failed to publish the dynamic profile of id {0}";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProfilePublication.class);
+
+    private final UUID id;
+
+    private final Resource snapshot;
+
+    private final UUID profileResourceId;
+
+    private final ContentCodec contentCodec;
+
+    private final IProfileRepository profileRepository;
+
+    private final IPayload error;
+
+    /**
+     * Creates a publication which could not be prepared.
+     *
+     * @param id
+     *            the id of the publication
+     * @param error
+     *            the payload describing why the publication could not be prepared
+     */
+    ProfilePublication(UUID id, IPayload error) {
+        this.id = Objects.requireNonNull(id);
+        this.error = Objects.requireNonNull(error);
+        this.snapshot = null;
+        this.profileResourceId = null;
+        this.contentCodec = null;
+        this.profileRepository = null;
+    }
+
+    /**
+     * Creates a prepared publication.
+     *
+     * @param id
+     *            the id of the publication
+     * @param snapshot
+     *            the copy of the profile resource to publish, not contained in any resource set
+     * @param profileResourceId
+     *            the id of the {@link ProfileResourceEntity} to create or replace
+     * @param contentCodec
+     *            the codec used to store the profile
+     * @param profileRepository
+     *            the repository used to store the profile
+     */
+    ProfilePublication(UUID id, Resource snapshot, UUID profileResourceId, ContentCodec contentCodec, IProfileRepository profileRepository) {
+        this.id = Objects.requireNonNull(id);
+        this.snapshot = Objects.requireNonNull(snapshot);
+        this.profileResourceId = Objects.requireNonNull(profileResourceId);
+        this.contentCodec = Objects.requireNonNull(contentCodec);
+        this.profileRepository = Objects.requireNonNull(profileRepository);
+        this.error = null;
+    }
+
+    @Override
+    public UUID getId() {
+        return this.id;
+    }
+
+    @Override
+    public Optional<IPayload> getError() {
+        return Optional.ofNullable(this.error);
+    }
+
+    /**
+     * Serializes the snapshot of the profile and stores it, replacing the previously published version in a single
+     * save.
+     *
+     * @param progressListener
+     *            notified when the publication moves to a new step
+     * @return the payload describing the result of the publication
+     */
+    @Override
+    public IPayload execute(Consumer<PublishProfileStatus> progressListener) {
+        IPayload payload = this.error;
+        if (payload == null) {
+            progressListener.accept(PublishProfileStatus.SERIALIZING);
+            Optional<byte[]> content = this.serialize();
+            if (content.isPresent()) {
+                progressListener.accept(PublishProfileStatus.SAVING);
+                ProfileResourceEntity profileEntity = new ProfileResourceEntity();
+                profileEntity.setId(this.profileResourceId);
+                profileEntity.setCompressedContent(this.contentCodec, content.get());
+                this.profileRepository.save(profileEntity);
+                payload = new PublishProfileSuccessPayload(this.id);
+            } else {
+                payload = new ErrorPayload(this.id, MessageFormat.format(ERROR_MESSAGE_PATTERN, this.id) + ". Failed to save the profile.");
+            }
+        }
+        return payload;
+    }
+
+    private Optional<byte[]> serialize() {
+        Optional<byte[]> result = Optional.empty();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        boolean serialized = false;
+        // The content is encoded while being serialized, without building the whole uncompressed content
+        try (OutputStream encodingStream = this.contentCodec.encode(outputStream)) {
+            // No need to give options because the UMLResourceFactory properly set the options
+            this.snapshot.save(encodingStream, null);
+            serialized = true;
+        } catch (IOException exception) {
+            LOGGER.warn(exception.getMessage(), exception);
+        }
+        // The encoded content is complete once the encoding stream has been closed
+        if (serialized) {
+            result = Optional.of(outputStream.toByteArray());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,144 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.services.uml.profile;
+
+import java.text.MessageFormat;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.papyrus.web.services.api.uml.profile.IProfilePublication;
+import org.eclipse.papyrus.web.services.api.uml.profile.IProfilePublicationService;
+import org.eclipse.papyrus.web.services.api.uml.profile.PublishProfileProgressPayload;
+import org.eclipse.papyrus.web.services.api.uml.profile.PublishProfileStatus;
+import org.eclipse.sirius.components.core.api.ErrorPayload;
+import org.eclipse.sirius.components.core.api.IPayload;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Service;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.core.publisher.Sinks.Many;
+
+/**
+ * Executes the publications of profiles outside of the editing context threads and reports their progress.
+ * <p>
+ * Publications are executed one at a time, in the order in which they have been submitted, so that two publications
+ * of the same profile are stored in the order of their preparation.
+ * </p>
+ *
+ * @author agent
+ */
+@Service
+public class ProfilePublicationService implements IProfilePublicationService, DisposableBean {
+
+    /**
+     * The number of finished publications for which the result is kept for late subscribers.
+     */
+    private static final int FINISHED_PUBLICATIONS_HISTORY_SIZE = 64;
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private final Logger logger = LoggerFactory.getLogger(ProfilePublicationService.class);
+
+    private final ExecutorService executorService = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "papyrus-web-profile-publication");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Map<UUID, RunningPublication> runningPublications = new ConcurrentHashMap<>();
+
+    private final Map<UUID, FinishedPublication> finishedPublications = Collections.synchronizedMap(new LinkedHashMap<>() {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Entry<UUID, FinishedPublication> eldest) {
+            return this.size() > FINISHED_PUBLICATIONS_HISTORY_SIZE;
+        }
+    });
+
+    @Override
+    public void submit(String editingContextId, IProfilePublication publication) {
+        Many<IPayload> sink = Sinks.many().replay().latest();
+        this.runningPublications.put(publication.getId(), new RunningPublication(editingContextId, sink));
+        sink.tryEmitNext(new PublishProfileProgressPayload(publication.getId(), PublishProfileStatus.QUEUED));
+        this.executorService.execute(() -> this.execute(editingContextId, publication, sink));
+    }
+
+    @Override
+    public Flux<IPayload> getPublicationEvents(String editingContextId, UUID publicationId) {
+        Flux<IPayload> result = Flux.empty();
+        RunningPublication runningPublication = this.runningPublications.get(publicationId);
+        if (runningPublication != null) {
+            if (runningPublication.editingContextId().equals(editingContextId)) {
+                result = runningPublication.sink().asFlux();
+            }
+        } else {
+            FinishedPublication finishedPublication = this.finishedPublications.get(publicationId);
+            if (finishedPublication != null && finishedPublication.editingContextId().equals(editingContextId)) {
+                result = Flux.just(finishedPublication.payload());
+            }
+        }
+        return result;
+    }
+
+    private void execute(String editingContextId, IProfilePublication publication, Many<IPayload> sink) {
+        IPayload payload;
+        // CHECKSTYLE:OFF The subscribers must be notified whatever the error
+        try {
+            payload = publication.execute(status -> sink.tryEmitNext(new PublishProfileProgressPayload(publication.getId(), status)));
+        } catch (RuntimeException exception) {
+            // CHECKSTYLE:ON
+            this.logger.warn(exception.getMessage(), exception);
+            payload = new ErrorPayload(publication.getId(), MessageFormat.format(ProfilePublication.ERROR_MESSAGE_PATTERN, publication.getId()) + ". " + exception.getMessage());
+        }
+        this.finishedPublications.put(publication.getId(), new FinishedPublication(editingContextId, payload));
+        this.runningPublications.remove(publication.getId());
+        sink.tryEmitNext(payload);
+        sink.tryEmitComplete();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        this.executorService.shutdown();
+        if (!this.executorService.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            this.logger.warn("Some profile publications have not been completed before the shutdown");
+        }
+    }
+
+    /**
+     * A publication being executed and the editing context it has been submitted from.
+     *
+     * @author agent
+     */
+    private record RunningPublication(String editingContextId, Many<IPayload> sink) {
+    }
+
+    /**
+     * The result of a publication and the editing context it has been submitted from.
+     *
+     * @author agent
+     */
+    private record FinishedPublication(String editingContextId, IPayload payload) {
+    }
+}
@@ -15,8 +15,11 @@ package org.eclipse.papyrus.web.services.uml.profile;
 
 import java.util.Objects;
 
+import org.eclipse.papyrus.web.services.api.uml.profile.IProfilePublication;
+import org.eclipse.papyrus.web.services.api.uml.profile.IProfilePublicationService;
 import org.eclipse.papyrus.web.services.api.uml.profile.IUMLProfileService;
 import org.eclipse.papyrus.web.services.api.uml.profile.PublishProfileInput;
+import org.eclipse.papyrus.web.services.api.uml.profile.PublishProfileSuccessPayload;
 import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
 import org.eclipse.sirius.components.collaborative.api.ChangeKind;
 import org.eclipse.sirius.components.collaborative.api.IEditingContextEventHandler;
@@ -31,6 +34,13 @@ import reactor.core.publisher.Sinks.One;
 
 /**
  * Used to publish a profile.
+ * <p>
+ * Only the generation of the profile definition and the snapshot of the profile are done on the editing context
+ * thread. The snapshot is then serialized and stored asynchronously by the {@link IProfilePublicationService}: the
+ * returned {@link PublishProfileSuccessPayload} only means that the publication has been started. The profile is
+ * published once the events of the publication, identified by the id of the input, end with a
+ * {@link PublishProfileSuccessPayload}.
+ * </p>
  *
  * @author lfasani
  */
@@ -39,8 +49,11 @@ public class PublishProfileEventHandler implements IEditingContextEventHandler {
 
     private final IUMLProfileService profileService;
 
-    public PublishProfileEventHandler(IUMLProfileService profileService) {
+    private final IProfilePublicationService profilePublicationService;
+
+    public PublishProfileEventHandler(IUMLProfileService profileService, IProfilePublicationService profilePublicationService) {
         this.profileService = Objects.requireNonNull(profileService);
+        this.profilePublicationService = Objects.requireNonNull(profilePublicationService);
     }
 
     @Override
@@ -53,7 +66,12 @@ public class PublishProfileEventHandler implements IEditingContextEventHandler {
     public void handle(One<IPayload> payloadSink, Many<ChangeDescription> changeDescriptionSink, IEditingContext editingContext, IInput input) {
         var publishProfileInput = (PublishProfileInput) input;
 
-        IPayload payload = this.profileService.publishProfile(editingContext, publishProfileInput);
+        IProfilePublication publication = this.profileService.preparePublication(editingContext, publishProfileInput);
+        IPayload payload = publication.getError().orElse(null);
+        if (payload == null) {
+            this.profilePublicationService.submit(editingContext.getId(), publication);
+            payload = new PublishProfileSuccessPayload(publishProfileInput.id());
+        }
 
         payloadSink.tryEmitValue(payload);
         changeDescriptionSink.tryEmitNext(new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, editingContext.getId(), input));
@@ -13,17 +13,18 @@
  *******************************************************************************/
 package org.eclipse.papyrus.web.services.uml.profile;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -32,24 +33,28 @@ import org.eclipse.emf.ecore.EAnnotation;
 import org.eclipse.emf.ecore.EModelElement;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.InternalEObject;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.Resource.Factory;
 import org.eclipse.emf.ecore.resource.Resource.Factory.Registry;
 import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.emf.ecore.util.EcoreUtil.Copier;
 import org.eclipse.emf.ecore.xmi.impl.XMLResourceImpl;
 import org.eclipse.papyrus.uml.domain.services.EMFUtils;
 import org.eclipse.papyrus.uml.domain.services.profile.DynamicProfileConverter;
 import org.eclipse.papyrus.uml.domain.services.profile.ProfileDefinition;
 import org.eclipse.papyrus.uml.domain.services.profile.ProfileVersion;
+import org.eclipse.papyrus.web.persistence.entities.ContentCodec;
 import org.eclipse.papyrus.web.persistence.entities.ProfileResourceEntity;
 import org.eclipse.papyrus.web.persistence.repositories.IProfileRepository;
 import org.eclipse.papyrus.web.services.api.dto.ApplyProfileInput;
 import org.eclipse.papyrus.web.services.api.dto.ApplyProfileSuccessPayload;
 import org.eclipse.papyrus.web.services.api.dto.DeleteProfileSuccessPayload;
+import org.eclipse.papyrus.web.services.api.uml.profile.ApplyProfileStartedPayload;
+import org.eclipse.papyrus.web.services.api.uml.profile.IProfilePublication;
 import org.eclipse.papyrus.web.services.api.uml.profile.IUMLProfileService;
 import org.eclipse.papyrus.web.services.api.uml.profile.PublishProfileInput;
-import org.eclipse.papyrus.web.services.api.uml.profile.PublishProfileSuccessPayload;
 import org.eclipse.papyrus.web.services.api.uml.profile.UMLProfileMetadata;
 import org.eclipse.papyrus.web.services.api.uml.profile.UMLProfileVersion;
 import org.eclipse.sirius.components.core.api.ErrorPayload;
@@ -85,11 +90,23 @@ public class UMLProfileService implements IUMLProfileService {
 
     private Registry factoryRegistry;
 
-    public UMLProfileService(UMLProfileMetadataRegistry registry, IObjectService objectService, IProfileRepository profileRepository, Registry factoryRegistry) {
+    /**
+     * The codec used to store the published profiles, {@link ContentCodec#IDENTITY} to store them uncompressed.
+     */
+    private final ContentCodec contentCodec;
+
+    private final ProfileMigrationEngine profileMigrationEngine = new ProfileMigrationEngine();
+
+    private final ProfileMigrationService profileMigrationService;
+
+    public UMLProfileService(UMLProfileMetadataRegistry registry, IObjectService objectService, IProfileRepository profileRepository, Registry factoryRegistry, ContentCodec contentCodec,
+            ProfileMigrationService profileMigrationService) {
         this.umlRegistry = Objects.requireNonNull(registry);
         this.objectService = Objects.requireNonNull(objectService);
         this.profileRepository = Objects.requireNonNull(profileRepository);
         this.factoryRegistry = factoryRegistry;
+        this.contentCodec = Objects.requireNonNull(contentCodec);
+        this.profileMigrationService = Objects.requireNonNull(profileMigrationService);
     }
 
     @Override
@@ -107,7 +124,7 @@ public class UMLProfileService implements IUMLProfileService {
 
         // No need to resoveProxies
         Resource resource = this.createResource(profileResourceEntity.getId().toString());
-        try (var inputStream = new ByteArrayInputStream(profileResourceEntity.getContent().getBytes())) {
+        try (var inputStream = profileResourceEntity.getContentInputStream()) {
             resource.load(inputStream, null);
             return EMFUtils.allContainedObjectOfType(resource, Profile.class).map(profile -> {
                 String profileId = profile.eResource().getURIFragment(profile);
@@ -126,10 +143,17 @@ public class UMLProfileService implements IUMLProfileService {
 
     }
 
+    /**
+     * Copies the given objects in the given resource, keeping their ids.
+     * <p>
+     * The references to the objects which are not copied are replaced by proxies, so that the copy does not reference
+     * the resource set of the original objects and can be used from another thread.
+     * </p>
+     */
     private void copyAllKeepingId(Collection<EObject> eObjects, Resource resource) {
         if (resource instanceof XMLResourceImpl) {
             XMLResourceImpl xmlResource = (XMLResourceImpl) resource;
-            Copier copier = new Copier();
+            Copier copier = new DetachingCopier();
             Collection<EObject> copiedObjects = copier.copyAll(eObjects);
             copier.copyReferences();
 
@@ -149,6 +173,15 @@ public class UMLProfileService implements IUMLProfileService {
 
     @Override
     public IPayload applyProfile(IEditingContext editingContext, ApplyProfileInput input) {
+        return this.applyProfile(editingContext, input, false);
+    }
+
+    @Override
+    public IPayload startProfileApplication(IEditingContext editingContext, ApplyProfileInput input) {
+        return this.applyProfile(editingContext, input, true);
+    }
+
+    private IPayload applyProfile(IEditingContext editingContext, ApplyProfileInput input, boolean migrateInChunks) {
         String packageUMLId = input.modelId();
         String profileURI = input.profileUriPath();
         IPayload payload = null;
@@ -169,9 +202,15 @@ public class UMLProfileService implements IUMLProfileService {
 
                     if (umlProfileOptional.isPresent()) {
                         Profile profile = umlProfileOptional.get();
-                        pack.applyProfile(profile);
+                        if (pack.getProfileApplication(profile) != null && migrateInChunks) {
+                            payload = this.startMigration(editingContext, input, pack, profile);
+                        } else if (pack.getProfileApplication(profile) != null) {
+                            payload = this.reapplyProfile(input, pack, profile);
+                        } else {
+                            pack.applyProfile(profile);
+                            payload = new ApplyProfileSuccessPayload(input.id());
+                        }
                         this.registerInPackageRegistry(resourceSet, profile);
-                        payload = new ApplyProfileSuccessPayload(input.id());
 
                         return payload;
                     } else {
@@ -190,6 +229,40 @@ public class UMLProfileService implements IUMLProfileService {
         return new ErrorPayload(input.id(), errorMessage);
     }
 
+    private IPayload startMigration(IEditingContext editingContext, ApplyProfileInput input, Package pack, Profile profile) {
+        Optional<ProfileMigration> migration = this.profileMigrationEngine.prepare(pack, profile);
+        IPayload result;
+        if (migration.isPresent()) {
+            this.profileMigrationService.start(editingContext.getId(), input.id(), profile.getName(), migration.get());
+            result = new ApplyProfileStartedPayload(input.id(), input.id());
+        } else {
+            pack.applyProfile(profile);
+            result = new ApplyProfileSuccessPayload(input.id());
+        }
+        return result;
+    }
+
+    private IPayload reapplyProfile(ApplyProfileInput input, Package pack, Profile profile) {
+        AtomicReference<ProfileMigrationProgress> lastProgress = new AtomicReference<>(new ProfileMigrationProgress(0, 0));
+        IPayload result;
+        try {
+            ProfileMigrationResult migration = this.profileMigrationEngine.apply(pack, profile, progress -> {
+                lastProgress.set(progress);
+                LOGGER.info("Migrated {}/{} stereotype applications of profile {}", progress.migrated(), progress.total(), profile.getName());
+            });
+            LOGGER.info("Profile {} re-applied: {} stereotype applications switched, {} copied and {} deleted", profile.getName(), migration.switched(), migration.copied(), migration.deleted());
+            result = new ApplyProfileSuccessPayload(input.id());
+            // CHECKSTYLE:OFF
+        } catch (RuntimeException e) {
+            // CHECKSTYLE:ON
+            String message = MessageFormat.format("The migration of the stereotype applications of profile {0} failed after {1} of {2} applications: {3}", profile.getName(),
+                    lastProgress.get().migrated(), lastProgress.get().total(), e.getMessage());
+            LOGGER.error(message, e);
+            result = new ErrorPayload(input.id(), message);
+        }
+        return result;
+    }
+
     private void registerInPackageRegistry(ResourceSet resourceSet, Profile profile) {
         // For non static profile we need to add the definition package to the registry in order to be able to load and
         // create element from the dynamic metamodel
@@ -219,7 +292,7 @@ public class UMLProfileService implements IUMLProfileService {
                 versionOpt = profileResourceEntityOpt.flatMap(profileResourceEntity -> {
                     Resource resource = this.createResource(profileResourceEntity.getId().toString());
 
-                    try (var inputStream = new ByteArrayInputStream(profileResourceEntity.getContent().getBytes())) {
+                    try (var inputStream = profileResourceEntity.getContentInputStream()) {
                         resource.load(inputStream, null);
                         return this.getLastProfileVersion(resource, profileId);
                     } catch (IOException exception) {
@@ -278,18 +351,25 @@ public class UMLProfileService implements IUMLProfileService {
 
     @Override
     public IPayload publishProfile(IEditingContext editingContext, PublishProfileInput publishProfileInput) {
+        return this.preparePublication(editingContext, publishProfileInput).execute(status -> {
+            // The publication is done synchronously, there is no one to notify
+        });
+    }
+
+    @Override
+    public IProfilePublication preparePublication(IEditingContext editingContext, PublishProfileInput publishProfileInput) {
         Optional<Profile> profileOpt = this.objectService.getObject(editingContext, publishProfileInput.objectId())//
                 .filter(Profile.class::isInstance)//
                 .map(Profile.class::cast);
 
-        IPayload payload = null;
+        ProfilePublication publication = null;
         if (profileOpt.isPresent()) {
-            payload = this.doPublishProfile(editingContext, publishProfileInput, profileOpt.get());
+            publication = this.doPreparePublication(publishProfileInput, profileOpt.get());
         } else {
-            payload = this.buildErrorPublishProfilePayload(publishProfileInput.id(), ". No profile with id " + publishProfileInput.objectId());
+            publication = this.buildErrorPublication(publishProfileInput.id(), ". No profile with id " + publishProfileInput.objectId());
         }
 
-        return payload;
+        return publication;
     }
 
     @Override
@@ -304,7 +384,7 @@ public class UMLProfileService implements IUMLProfileService {
 
         // No need to resoveProxies
         Resource resource = this.createResource(profileResourceEntity.getId().toString());
-        try (var inputStream = new ByteArrayInputStream(profileResourceEntity.getContent().getBytes())) {
+        try (var inputStream = profileResourceEntity.getContentInputStream()) {
             resource.load(inputStream, null);
             return EMFUtils.allContainedObjectOfType(resource, Profile.class).anyMatch(p -> profileName.equals(p.getName()));
         } catch (IOException exception) {
@@ -314,42 +394,34 @@ public class UMLProfileService implements IUMLProfileService {
 
     }
 
-    private IPayload doPublishProfile(IEditingContext editingContext, PublishProfileInput publishProfileInput, Profile profile) {
-        IPayload payload;
+    private ProfilePublication doPreparePublication(PublishProfileInput publishProfileInput, Profile profile) {
+        ProfilePublication publication;
         if (this.isRootProfile(profile)) {
             Boolean isProfileUpdated = this.updateProfileWithEPackage(profile, publishProfileInput);
             if (isProfileUpdated) {
-                Boolean profilePublish = this.publishProfile(profile, editingContext);
-                if (profilePublish) {
-                    payload = new PublishProfileSuccessPayload(publishProfileInput.id());
-                } else {
-                    payload = this.buildErrorPublishProfilePayload(publishProfileInput.id(), ". Failed to save the profile.");
-                }
+                Resource profileResource = profile.eResource();
+                String resourceId = profileResource.getURI().lastSegment();
+                Resource snapshot = this.createResource(resourceId);
+                this.copyAllKeepingId(profileResource.getContents(), snapshot);
+                publication = new ProfilePublication(publishProfileInput.id(), snapshot, UUID.nameUUIDFromBytes(resourceId.getBytes()), this.contentCodec, this.profileRepository);
             } else {
-                payload = this.buildErrorPublishProfilePayload(publishProfileInput.id(), ". Failed to generate the ecore EPackage meta-model.");
+                publication = this.buildErrorPublication(publishProfileInput.id(), ". Failed to generate the ecore EPackage meta-model.");
             }
         } else {
-            payload = this.buildErrorPublishProfilePayload(publishProfileInput.id(), ". The profile is not a root profile.");
+            publication = this.buildErrorPublication(publishProfileInput.id(), ". The profile is not a root profile.");
         }
-        return payload;
+        return publication;
     }
 
-    private ErrorPayload buildErrorPublishProfilePayload(UUID inputId, String message) {
-        String baseMsg = MessageFormat.format("Failed to publish the dynamic profile of id {0}", inputId);
-        return new ErrorPayload(inputId, baseMsg + message);
+    private ProfilePublication buildErrorPublication(UUID inputId, String message) {
+        String baseMsg = MessageFormat.format(ProfilePublication.ERROR_MESSAGE_PATTERN, inputId);
+        return new ProfilePublication(inputId, new ErrorPayload(inputId, baseMsg + message));
     }
 
     private boolean isRootProfile(Profile profile) {
         return profile.eContainer() == null;
     }
 
-    private Boolean publishProfile(Profile profile, IEditingContext editingContext) {
-        Boolean publishSucceeded = this.toProfileEntity(profile, editingContext)//
-                .map(this.profileRepository::save)//
-                .isPresent();
-        return publishSucceeded;
-    }
-
     private Boolean updateProfileWithEPackage(Profile profile, PublishProfileInput publishProfileInput) {
         ProfileDefinition profileDefinition = new ProfileDefinition(new ProfileVersion(publishProfileInput.version()), publishProfileInput.comment(), publishProfileInput.copyright(),
                 publishProfileInput.date(), publishProfileInput.author());
@@ -359,32 +431,30 @@ public class UMLProfileService implements IUMLProfileService {
         return false;
     }
 
-    private Optional<ProfileResourceEntity> toProfileEntity(Profile profile, IEditingContext editingContext) {
-        Optional<ProfileResourceEntity> profileEntityOpt = Optional.empty();
-        Resource resourceJson = profile.eResource();
-        String resourceId = profile.eResource().getURI().lastSegment();
-
-        Resource outputResource = this.createResource(resourceId);
-        this.copyAllKeepingId(resourceJson.getContents(), outputResource);
-
-        try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream();) {
-            // No need to give options because the UMLResourceFactory properly set the options
-            outputResource.save(outputStream, null);
-            Optional<byte[]> optionalBytes = Optional.of(outputStream.toByteArray());
-            if (optionalBytes.isPresent()) {
-                byte[] bytes = optionalBytes.get();
-                String content = new String(bytes);
-
-                ProfileResourceEntity profileEntity = new ProfileResourceEntity();
-                profileEntity.setId(UUID.nameUUIDFromBytes(resourceId.getBytes()));
-                profileEntity.setContent(content);
-                profileEntityOpt = Optional.of(profileEntity);
+    /**
+     * Copier replacing the references to the objects which are not copied by proxies.
+     *
+     * @author lfasani
+     */
+    private static final class DetachingCopier extends Copier {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient Map<EObject, EObject> proxies = new HashMap<>();
+
+        @Override
+        public EObject get(Object key) {
+            EObject result = super.get(key);
+            if (result == null && key instanceof EObject eObject) {
+                result = this.proxies.computeIfAbsent(eObject, this::createProxy);
             }
-        } catch (IOException exception) {
-            LOGGER.warn(exception.getMessage(), exception);
+            return result;
         }
 
-        return profileEntityOpt;
+        private EObject createProxy(EObject eObject) {
+            InternalEObject proxy = (InternalEObject) EcoreUtil.create(eObject.eClass());
+            proxy.eSetProxyURI(EcoreUtil.getURI(eObject));
+            return proxy;
+        }
     }
-
 }
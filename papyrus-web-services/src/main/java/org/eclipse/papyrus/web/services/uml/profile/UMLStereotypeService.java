@@ -15,11 +15,15 @@ package org.eclipse.papyrus.web.services.uml.profile;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
-import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.papyrus.web.services.api.uml.profile.IUMLStereotypeService;
 import org.eclipse.papyrus.web.services.api.uml.profile.UMLStereotypeMetadata;
 import org.eclipse.sirius.components.core.api.IEditingContext;
@@ -57,14 +61,41 @@ public class UMLStereotypeService implements IUMLStereotypeService {
 
     private List<UMLStereotypeMetadata> collectUnappliedStereotypes(Element element) {
         List<UMLStereotypeMetadata> result = new ArrayList<>();
-        EList<Stereotype> appliedStereotypes = element.getAppliedStereotypes();
-        for (Stereotype stereotype : element.getApplicableStereotypes()) {
+        ApplicableStereotypeCache cache = this.getCache(element);
+        // Stereotypes do not override equals, the set compares them by identity
+        Set<Stereotype> appliedStereotypes = new HashSet<>(element.getAppliedStereotypes());
+        for (Stereotype stereotype : cache.getApplicableStereotypes(element)) {
             if (!appliedStereotypes.contains(stereotype)) {
-                String id = this.objectService.getId(stereotype);
-                if (id != null) {
-                    result.add(new UMLStereotypeMetadata(this.buildStereotypeQualifiedName(stereotype), id));
+                cache.getMetadata(stereotype, this::buildStereotypeMetadata).ifPresent(result::add);
+            }
+        }
+        return result;
+    }
+
+    private ApplicableStereotypeCache getCache(Element element) {
+        ApplicableStereotypeCache result = null;
+        Resource resource = element.eResource();
+        if (resource != null && resource.getResourceSet() != null) {
+            ResourceSet resourceSet = resource.getResourceSet();
+            synchronized (resourceSet.eAdapters()) {
+                result = (ApplicableStereotypeCache) EcoreUtil.getExistingAdapter(resourceSet, ApplicableStereotypeCache.class);
+                if (result == null) {
+                    result = new ApplicableStereotypeCache();
+                    resourceSet.eAdapters().add(result);
                 }
             }
+        } else {
+            // The element is not in an editing context, there is no place to keep the cache
+            result = new ApplicableStereotypeCache();
+        }
+        return result;
+    }
+
+    private UMLStereotypeMetadata buildStereotypeMetadata(Stereotype stereotype) {
+        UMLStereotypeMetadata result = null;
+        String id = this.objectService.getId(stereotype);
+        if (id != null) {
+            result = new UMLStereotypeMetadata(this.buildStereotypeQualifiedName(stereotype), id);
         }
         return result;
     }
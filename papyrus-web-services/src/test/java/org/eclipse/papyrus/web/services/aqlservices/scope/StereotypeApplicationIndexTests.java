@@ -0,0 +1,102 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.services.aqlservices.scope;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.uml2.uml.Class;
+import org.eclipse.uml2.uml.Model;
+import org.eclipse.uml2.uml.Profile;
+import org.eclipse.uml2.uml.Stereotype;
+import org.eclipse.uml2.uml.UMLFactory;
+import org.eclipse.uml2.uml.resource.UMLResource;
+import org.eclipse.uml2.uml.resources.util.UMLResourcesUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link StereotypeApplicationIndex}.
+ *
+ * @author agent
+ */
+public class StereotypeApplicationIndexTests {
+
+    private ResourceSet resourceSet;
+
+    private Stereotype stereotype;
+
+    private EClass stereotypeDefinition;
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        this.resourceSet = new ResourceSetImpl();
+        UMLResourcesUtil.init(this.resourceSet);
+        Model umlMetamodel = (Model) this.resourceSet.getResource(URI.createURI(UMLResource.UML_METAMODEL_URI), true).getContents().get(0);
+        Class classMetaclass = (Class) umlMetamodel.getOwnedType("Class");
+
+        Profile profile = UMLFactory.eINSTANCE.createProfile();
+        profile.setName("Profile");
+        this.resourceSet.createResource(URI.createURI("profile.profile.uml")).getContents().add(profile);
+        profile.createMetaclassReference(classMetaclass);
+        this.stereotype = profile.createOwnedStereotype("Stereotype", false);
+        this.stereotype.createExtension(classMetaclass, false);
+        profile.define();
+        this.stereotypeDefinition = (EClass) profile.getDefinition(this.stereotype);
+
+        this.model = UMLFactory.eINSTANCE.createModel();
+        this.resourceSet.createResource(URI.createURI("model.uml")).getContents().add(this.model);
+        this.model.applyProfile(profile);
+    }
+
+    @Test
+    public void testIndexUpdatedOnStereotypeApplication() {
+        Class class1 = this.model.createOwnedClass("Class1", false);
+        EObject existingApplication = class1.applyStereotype(this.stereotype);
+        StereotypeApplicationIndex index = new StereotypeApplicationIndex();
+        this.resourceSet.eAdapters().add(index);
+
+        assertThat(index.getStereotypeApplications(this.stereotypeDefinition)).containsExactly(existingApplication);
+
+        Class class2 = this.model.createOwnedClass("Class2", false);
+        EObject newApplication = class2.applyStereotype(this.stereotype);
+        assertThat(index.getStereotypeApplications(this.stereotypeDefinition)).containsExactly(existingApplication, newApplication);
+        assertThat(index.getStereotypeApplications(EcorePackage.Literals.EOBJECT)).containsExactly(existingApplication, newApplication);
+
+        class1.unapplyStereotype(this.stereotype);
+        assertThat(index.getStereotypeApplications(this.stereotypeDefinition)).containsExactly(newApplication);
+    }
+
+    @Test
+    public void testIndexUpdatedOnResourceRemoval() {
+        StereotypeApplicationIndex index = new StereotypeApplicationIndex();
+        this.resourceSet.eAdapters().add(index);
+        EObject application = this.model.createOwnedClass("Class1", false).applyStereotype(this.stereotype);
+        assertThat(index.getStereotypeApplications(this.stereotypeDefinition)).containsExactly(application);
+
+        Resource modelResource = this.model.eResource();
+        this.resourceSet.getResources().remove(modelResource);
+
+        assertThat(index.getStereotypeApplications(this.stereotypeDefinition)).isEmpty();
+        assertThat(modelResource.eAdapters()).doesNotContain(index);
+    }
+}
@@ -0,0 +1,105 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.services.aqlservices.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.papyrus.uml.domain.services.labels.ElementDefaultNameProvider;
+import org.eclipse.uml2.uml.Class;
+import org.eclipse.uml2.uml.Package;
+import org.eclipse.uml2.uml.Pseudostate;
+import org.eclipse.uml2.uml.PseudostateKind;
+import org.eclipse.uml2.uml.Region;
+import org.eclipse.uml2.uml.UMLFactory;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link DefaultNameAllocator}.
+ *
+ * @author agent
+ */
+public class DefaultNameAllocatorTests {
+
+    private final DefaultNameAllocator allocator = new DefaultNameAllocator();
+
+    private final ElementDefaultNameProvider defaultNameProvider = new ElementDefaultNameProvider();
+
+    @Test
+    public void testSuccessiveCreations() {
+        Package pack = UMLFactory.eINSTANCE.createPackage();
+        for (int i = 1; i <= 3; i++) {
+            this.createClass(pack);
+        }
+        assertThat(pack.getPackagedElements()).extracting(element -> element.getName()).containsExactly("Class1", "Class2", "Class3");
+    }
+
+    @Test
+    public void testRenameAndRemovalUpdateNextIndex() {
+        Package pack = UMLFactory.eINSTANCE.createPackage();
+        Class class1 = this.createClass(pack);
+        Class class2 = this.createClass(pack);
+
+        class1.setName("Class10");
+        assertThat(this.createClass(pack).getName()).isEqualTo("Class11");
+
+        pack.getPackagedElements().remove(pack.getOwnedType("Class11"));
+        class1.setName("Renamed");
+        assertThat(this.createClass(pack).getName()).isEqualTo("Class3");
+
+        // Elements created by other means are taken into account
+        pack.createOwnedClass("Class7", false);
+        class2.setName(null);
+        assertThat(this.createClass(pack).getName()).isEqualTo("Class8");
+    }
+
+    @Test
+    public void testNestedContainersAreIndependent() {
+        Package pack = UMLFactory.eINSTANCE.createPackage();
+        this.createClass(pack);
+        Package nestedPackage = pack.createNestedPackage("Nested");
+
+        assertThat(this.createClass(nestedPackage).getName()).isEqualTo("Class1");
+        assertThat(this.createClass(pack).getName()).isEqualTo("Class2");
+    }
+
+    @Test
+    public void testPseudostatesOfDifferentKinds() {
+        Region region = UMLFactory.eINSTANCE.createRegion();
+        Pseudostate initial = this.createPseudostate(region, PseudostateKind.INITIAL_LITERAL);
+        Pseudostate fork = this.createPseudostate(region, PseudostateKind.FORK_LITERAL);
+        this.createPseudostate(region, PseudostateKind.INITIAL_LITERAL);
+        this.createPseudostate(region, PseudostateKind.FORK_LITERAL);
+
+        // The default name of a pseudostate depends on its kind, not only on its type
+        assertThat(fork.getName()).isNotEqualTo(initial.getName());
+        assertThat(region.getSubvertices()).extracting(vertex -> vertex.getName()).doesNotHaveDuplicates();
+    }
+
+    private Pseudostate createPseudostate(Region region, PseudostateKind kind) {
+        Pseudostate pseudostate = UMLFactory.eINSTANCE.createPseudostate();
+        pseudostate.setKind(kind);
+        String expectedName = this.defaultNameProvider.getDefaultName(pseudostate, region);
+        pseudostate.setName(this.allocator.getDefaultName(pseudostate, region));
+        assertThat(pseudostate.getName()).isEqualTo(expectedName);
+        region.getSubvertices().add(pseudostate);
+        return pseudostate;
+    }
+
+    private Class createClass(Package pack) {
+        Class newClass = UMLFactory.eINSTANCE.createClass();
+        newClass.setName(this.allocator.getDefaultName(newClass, pack));
+        pack.getPackagedElements().add(newClass);
+        return newClass;
+    }
+}
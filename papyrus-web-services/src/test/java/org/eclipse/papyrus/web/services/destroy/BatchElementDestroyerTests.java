@@ -0,0 +1,73 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.services.destroy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.ECrossReferenceAdapter;
+import org.eclipse.papyrus.uml.domain.services.destroy.ElementDestroyer;
+import org.eclipse.papyrus.uml.domain.services.destroy.IDestroyer;
+import org.eclipse.uml2.uml.Class;
+import org.eclipse.uml2.uml.Model;
+import org.eclipse.uml2.uml.Package;
+import org.eclipse.uml2.uml.UMLFactory;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link BatchElementDestroyer}.
+ *
+ * @author agent
+ */
+public class BatchElementDestroyerTests {
+
+    @Test
+    public void testOnlyRootsOfSelectionDestroyed() {
+        Model model = UMLFactory.eINSTANCE.createModel();
+        Package pack = model.createNestedPackage("Package");
+        Class nestedClass = pack.createOwnedClass("Nested", false);
+        Class rootClass = model.createOwnedClass("Root", false);
+        ECrossReferenceAdapter crossReferenceAdapter = this.createResourceSet(model);
+
+        IDestroyer destroyer = ElementDestroyer.buildDefault(crossReferenceAdapter, eObject -> true);
+        List<EObject> destroyedElements = new ArrayList<>();
+        IDestroyer recordingDestroyer = element -> {
+            destroyedElements.add(element);
+            return destroyer.destroy(element);
+        };
+
+        new BatchElementDestroyer(recordingDestroyer).destroy(List.of(nestedClass, pack, rootClass, pack));
+
+        assertThat(destroyedElements).containsExactly(pack, rootClass);
+        assertThat(model.getPackagedElements()).isEmpty();
+        assertThat(nestedClass.eResource()).isNull();
+    }
+
+    private ECrossReferenceAdapter createResourceSet(Model model) {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        Resource resource = new ResourceImpl();
+        resource.getContents().add(model);
+        resourceSet.getResources().add(resource);
+        ECrossReferenceAdapter crossReferenceAdapter = new ECrossReferenceAdapter();
+        resourceSet.eAdapters().add(crossReferenceAdapter);
+        return crossReferenceAdapter;
+    }
+}
@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.papyrus.web.services.editingcontext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import org.eclipse.emf.common.command.BasicCommandStack;
+import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
+import org.eclipse.emf.edit.provider.ComposedAdapterFactory;
+import org.eclipse.papyrus.web.sirius.contributions.UnloadingEditingContext;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link EditingContextEvictionPolicy}.
+ *
+ * @author agent
+ */
+public class EditingContextEvictionPolicyTests {
+
+    private static final long IDLE_DELAY = 1000;
+
+    private static final long NOW = 10_000;
+
+    /**
+     * The estimated size of this footprint is 1MB.
+     */
+    private static final EditingContextFootprint ONE_MEGABYTE = new EditingContextFootprint(0, 1024);
+
+    private static final long BUDGET = ONE_MEGABYTE.estimatedSize() * 5 / 2;
+
+    private static final String FIRST = "first";
+
+    private static final String SECOND = "second";
+
+    private static final String THIRD = "third";
+
+    @Test
+    public void testLeastRecentlyUsedEvictedFirst() {
+        EditingContextEvictionPolicy policy = new EditingContextEvictionPolicy(BUDGET, IDLE_DELAY);
+        UnloadingEditingContext first = this.createEditingContext(FIRST);
+        UnloadingEditingContext second = this.createEditingContext(SECOND);
+        UnloadingEditingContext third = this.createEditingContext(THIRD);
+        policy.track(second, ONE_MEGABYTE, 0);
+        policy.track(first, ONE_MEGABYTE, 0);
+        policy.track(third, ONE_MEGABYTE, 0);
+        policy.touch(FIRST, 100);
+        policy.touch(SECOND, 200);
+
+        assertThat(policy.selectEvictedEditingContexts(THIRD, id -> true, NOW)).containsExactly(FIRST);
+        assertThat(policy.getUsedMemory()).isEqualTo(2 * ONE_MEGABYTE.estimatedSize());
+        assertThat(policy.selectEvictedEditingContexts(THIRD, id -> true, NOW)).isEmpty();
+    }
+
+    @Test
+    public void testBusyEditingContextsKept() {
+        EditingContextEvictionPolicy policy = new EditingContextEvictionPolicy(BUDGET, IDLE_DELAY);
+        UnloadingEditingContext first = this.createEditingContext(FIRST);
+        UnloadingEditingContext second = this.createEditingContext(SECOND);
+        UnloadingEditingContext third = this.createEditingContext(THIRD);
+        policy.track(first, ONE_MEGABYTE, 0);
+        policy.track(second, ONE_MEGABYTE, 0);
+        policy.track(third, ONE_MEGABYTE, 0);
+        // Not idle
+        policy.touch(SECOND, NOW - IDLE_DELAY / 2);
+
+        // The first one has subscribers, the second one is not idle and the third one is the current one
+        assertThat(policy.selectEvictedEditingContexts(THIRD, id -> !FIRST.equals(id), NOW)).isEmpty();
+        assertThat(policy.getUsedMemory()).isEqualTo(3 * ONE_MEGABYTE.estimatedSize());
+    }
+
+    @Test
+    public void testDisposedEditingContextsReleased() {
+        EditingContextEvictionPolicy policy = new EditingContextEvictionPolicy(BUDGET, IDLE_DELAY);
+        UnloadingEditingContext first = this.createEditingContext(FIRST);
+        UnloadingEditingContext second = this.createEditingContext(SECOND);
+        policy.track(first, ONE_MEGABYTE, 0);
+        policy.track(second, ONE_MEGABYTE, 0);
+
+        first.dispose();
+
+        assertThat(policy.getUsedMemory()).isEqualTo(ONE_MEGABYTE.estimatedSize());
+        assertThat(second.isDisposed()).isFalse();
+    }
+
+    @Test
+    public void testUpdatedFootprintCounted() {
+        EditingContextEvictionPolicy policy = new EditingContextEvictionPolicy(BUDGET, IDLE_DELAY);
+        UnloadingEditingContext first = this.createEditingContext(FIRST);
+        UnloadingEditingContext second = this.createEditingContext(SECOND);
+        policy.track(first, ONE_MEGABYTE, 0);
+        policy.track(second, ONE_MEGABYTE, 0);
+        assertThat(policy.selectEvictedEditingContexts(SECOND, id -> true, NOW)).isEmpty();
+
+        // The models of the first editing context have grown since its loading
+        policy.updateFootprint(FIRST, new EditingContextFootprint(0, 2 * 1024), 100);
+
+        assertThat(policy.getLastEstimation(FIRST)).contains(100L);
+        assertThat(policy.getUsedMemory()).isEqualTo(3 * ONE_MEGABYTE.estimatedSize());
+        assertThat(policy.selectEvictedEditingContexts(SECOND, id -> true, NOW)).containsExactly(FIRST);
+    }
+
+    private UnloadingEditingContext createEditingContext(String id) {
+        AdapterFactoryEditingDomain editingDomain = new AdapterFactoryEditingDomain(new ComposedAdapterFactory(), new BasicCommandStack());
+        return new UnloadingEditingContext(id, editingDomain, new HashMap<>(), new ArrayList<>());
+    }
+}
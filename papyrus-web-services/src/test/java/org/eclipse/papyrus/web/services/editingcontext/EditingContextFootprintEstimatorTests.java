@@ -0,0 +1,70 @@
+/*******************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.papyrus.web.services.editingcontext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.uml2.uml.Class;
+import org.eclipse.uml2.uml.Model;
+import org.eclipse.uml2.uml.UMLFactory;
+import org.eclipse.uml2.uml.resources.util.UMLResourcesUtil;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link EditingContextFootprintEstimator}.
+ *
+ * @author agent
+ */
+public class EditingContextFootprintEstimatorTests {
+
+    @Test
+    public void testSmallModelFullyCounted() {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        UMLResourcesUtil.init(resourceSet);
+        Model model = this.createModel(resourceSet, 3);
+        model.createOwnedClass("Other", false);
+
+        EditingContextFootprint footprint = new EditingContextFootprintEstimator().estimate(resourceSet);
+
+        // The model, 4 classes and 2 attributes per class except for the last one
+        assertThat(footprint).isEqualTo(new EditingContextFootprint(1, 1 + 4 + 3 * 2));
+    }
+
+    @Test
+    public void testLargeModelSampled() {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        UMLResourcesUtil.init(resourceSet);
+        this.createModel(resourceSet, 1000);
+        this.createModel(resourceSet, 10);
+
+        EditingContextFootprint footprint = new EditingContextFootprintEstimator().estimate(resourceSet);
+
+        // The classes of a model are similar, the sampled ones are representative of all the others
+        assertThat(footprint).isEqualTo(new EditingContextFootprint(2, 1 + 1000 * 3 + 1 + 10 * 3));
+    }
+
+    private Model createModel(ResourceSet resourceSet, int classCount) {
+        Model model = UMLFactory.eINSTANCE.createModel();
+        resourceSet.createResource(URI.createURI("model" + resourceSet.getResources().size() + ".uml")).getContents().add(model);
+        for (int i = 0; i < classCount; i++) {
+            Class clazz = model.createOwnedClass("Class" + i, false);
+            clazz.createOwnedAttribute("first", null);
+            clazz.createOwnedAttribute("second", null);
+        }
+        return model;
+    }
+}
@@ -0,0 +1,104 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.services.editingcontext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.uml2.uml.Class;
+import org.eclipse.uml2.uml.Model;
+import org.eclipse.uml2.uml.Property;
+import org.eclipse.uml2.uml.UMLFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link LabelCacheAdapter}.
+ *
+ * @author agent
+ */
+public class LabelCacheAdapterTests {
+
+    private static final String RENDERER = "renderer";
+
+    private final AtomicInteger computations = new AtomicInteger();
+
+    private final Function<EObject, String> labelProvider = element -> {
+        this.computations.incrementAndGet();
+        return element.toString();
+    };
+
+    private LabelCacheAdapter labelCache;
+
+    private Model model;
+
+    private Class clazz;
+
+    private Property property;
+
+    @BeforeEach
+    public void setUp() {
+        this.model = UMLFactory.eINSTANCE.createModel();
+        this.clazz = this.model.createOwnedClass("Class", false);
+        this.property = this.clazz.createOwnedAttribute("property", null);
+        ResourceSet resourceSet = new ResourceSetImpl();
+        Resource resource = new ResourceImpl();
+        resource.getContents().add(this.model);
+        resourceSet.getResources().add(resource);
+        this.labelCache = new LabelCacheAdapter();
+        resourceSet.eAdapters().add(this.labelCache);
+    }
+
+    @Test
+    public void testUnchangedElementLabelNotRecomputed() {
+        this.labelCache.getLabel(this.clazz, RENDERER, this.labelProvider);
+        this.labelCache.getLabel(this.clazz, RENDERER, this.labelProvider);
+        // A change of a sibling does not affect the label
+        this.model.createOwnedClass("Other", false);
+        this.labelCache.getLabel(this.clazz, RENDERER, this.labelProvider);
+
+        assertThat(this.computations.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void testChangedElementLabelRecomputed() {
+        this.labelCache.getLabel(this.clazz, RENDERER, this.labelProvider);
+        this.clazz.setIsAbstract(true);
+        this.labelCache.getLabel(this.clazz, RENDERER, this.labelProvider);
+        // The label of a container may depend on its contents
+        this.property.setIsDerived(true);
+        this.labelCache.getLabel(this.clazz, RENDERER, this.labelProvider);
+
+        assertThat(this.computations.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void testRenameInvalidatesAllLabels() {
+        this.labelCache.getLabel(this.property, RENDERER, this.labelProvider);
+        this.property.setType(this.clazz);
+        this.labelCache.getLabel(this.property, RENDERER, this.labelProvider);
+        // The label of the property displays the name of its type
+        this.clazz.setName("Renamed");
+        this.labelCache.getLabel(this.property, RENDERER, this.labelProvider);
+
+        assertThat(this.computations.get()).isEqualTo(3);
+    }
+}
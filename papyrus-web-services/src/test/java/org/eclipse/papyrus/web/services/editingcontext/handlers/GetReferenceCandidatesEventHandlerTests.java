@@ -0,0 +1,142 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.services.editingcontext.handlers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.eclipse.emf.ecore.EAnnotation;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.papyrus.web.services.api.dto.GetReferenceCandidatesInput;
+import org.eclipse.papyrus.web.services.api.dto.GetReferenceCandidatesSuccessPayload;
+import org.eclipse.papyrus.web.services.api.reference.ReferenceCandidate;
+import org.eclipse.papyrus.web.tests.utils.UMLTestHelper;
+import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
+import org.eclipse.sirius.components.collaborative.api.ChangeKind;
+import org.eclipse.sirius.components.collaborative.messages.ICollaborativeMessageService;
+import org.eclipse.sirius.components.core.api.ErrorPayload;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IObjectService;
+import org.eclipse.sirius.components.core.api.IPayload;
+import org.eclipse.uml2.uml.Class;
+import org.eclipse.uml2.uml.Model;
+import org.eclipse.uml2.uml.NamedElement;
+import org.eclipse.uml2.uml.Property;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Test class for {@link GetReferenceCandidatesEventHandler}.
+ *
+ * @author agent
+ */
+public class GetReferenceCandidatesEventHandlerTests {
+
+    private static final String OWNER_ID = "owner";
+
+    private static final String LABEL_PREFIX = "Label of ";
+
+    private static final String ALPHA = "Alpha";
+
+    private final UMLTestHelper umlHelper = new UMLTestHelper();
+
+    @Test
+    public void testFilterOnDisplayedLabel() {
+        Model model = this.umlHelper.create(Model.class);
+        Class alpha = this.createClass(model, ALPHA);
+        this.createClass(model, "Beta");
+        Class alphabet = this.createClass(model, "Alphabet");
+        Property owner = this.umlHelper.createIn(Property.class, alpha);
+        owner.setName(OWNER_ID);
+
+        // The filter only matches the labels of the candidates, not their names
+        IPayload payload = this.handle(owner, "type", "label of alpha");
+
+        assertThat(payload).isInstanceOf(GetReferenceCandidatesSuccessPayload.class);
+        assertThat(((GetReferenceCandidatesSuccessPayload) payload).getPage().getCandidates())//
+                .extracting(ReferenceCandidate::getId)//
+                .containsExactly(alpha.getName(), alphabet.getName());
+    }
+
+    @Test
+    public void testReferenceTypedByEObject() {
+        Model model = this.umlHelper.create(Model.class);
+        Class alpha = this.createClass(model, ALPHA);
+        EAnnotation owner = alpha.createEAnnotation("source");
+
+        // A reference typed outside of UML is not typed by a stereotype, its candidates are the reachable elements
+        IPayload payload = this.handle(owner, EcorePackage.Literals.EANNOTATION__REFERENCES.getName(), "label of alpha");
+
+        assertThat(payload).isInstanceOf(GetReferenceCandidatesSuccessPayload.class);
+        assertThat(((GetReferenceCandidatesSuccessPayload) payload).getPage().getCandidates())//
+                .extracting(ReferenceCandidate::getId)//
+                .containsExactly(alpha.getName());
+    }
+
+    @Test
+    public void testUnknownReference() {
+        Model model = this.umlHelper.create(Model.class);
+        Property owner = this.umlHelper.createIn(Property.class, this.createClass(model, ALPHA));
+        owner.setName(OWNER_ID);
+
+        assertThat(this.handle(owner, "unknown", null)).isInstanceOf(ErrorPayload.class);
+    }
+
+    private Class createClass(Model model, String name) {
+        Class umlClass = this.umlHelper.createIn(Class.class, model);
+        umlClass.setName(name);
+        return umlClass;
+    }
+
+    private IPayload handle(EObject owner, String referenceName, String filter) {
+        IObjectService objectService = new IObjectService.NoOp() {
+            @Override
+            public Optional<Object> getObject(IEditingContext editingContext, String objectId) {
+                return Optional.of(owner).filter(element -> OWNER_ID.equals(objectId)).map(Object.class::cast);
+            }
+
+            @Override
+            public String getId(Object object) {
+                return this.getName(object);
+            }
+
+            @Override
+            public String getLabel(Object object) {
+                return LABEL_PREFIX + this.getName(object);
+            }
+
+            private String getName(Object object) {
+                String name = "";
+                if (object instanceof NamedElement namedElement) {
+                    name = namedElement.getName();
+                }
+                return name;
+            }
+        };
+        var handler = new GetReferenceCandidatesEventHandler(new ICollaborativeMessageService.NoOp(), new SimpleMeterRegistry(), objectService);
+        var input = new GetReferenceCandidatesInput(UUID.randomUUID(), OWNER_ID, referenceName, filter, 0, 0);
+
+        Sinks.Many<ChangeDescription> changeDescriptionSink = Sinks.many().unicast().onBackpressureBuffer();
+        Sinks.One<IPayload> payloadSink = Sinks.one();
+        handler.handle(payloadSink, changeDescriptionSink, new IEditingContext.NoOp(), input);
+
+        assertThat(changeDescriptionSink.asFlux().blockFirst().getKind()).isEqualTo(ChangeKind.NOTHING);
+        return payloadSink.asMono().block();
+    }
+}
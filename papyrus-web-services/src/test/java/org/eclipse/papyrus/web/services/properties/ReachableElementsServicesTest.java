@@ -30,6 +30,7 @@ import org.eclipse.uml2.uml.Operation;
 import org.eclipse.uml2.uml.Package;
 import org.eclipse.uml2.uml.Reception;
 import org.eclipse.uml2.uml.UMLFactory;
+import org.eclipse.uml2.uml.UMLPackage;
 import org.eclipse.uml2.uml.internal.resource.UMLResourceImpl;
 import org.eclipse.uml2.uml.resource.UMLResource;
 import org.junit.jupiter.api.Test;
@@ -69,6 +70,22 @@ class ReachableElementsServicesTest {
         assertEquals(reception, elements.get(1));
     }
 
+    /**
+     * Test method for
+     * {@link org.eclipse.papyrus.web.services.aqlservices.scope.ReachableElementsServices#streamReachableElements(org.eclipse.emf.ecore.EObject, org.eclipse.emf.ecore.EClass)}.
+     */
+    @Test
+    void testStreamReachableElements() {
+        Activity activity = this.umlHelper.create(Activity.class);
+        Artifact artifact = this.umlHelper.createIn(Artifact.class, activity);
+        Operation operation = this.umlHelper.createIn(Operation.class, artifact);
+        this.umlHelper.createIn(Reception.class, activity);
+        List<EObject> elements = this.propertiesService.<EObject> streamReachableElements(activity, UMLPackage.eINSTANCE.getBehavioralFeature())//
+                .limit(1)//
+                .toList();
+        assertEquals(List.of(operation), elements);
+    }
+
     /**
      * Test method for
      * {@link org.eclipse.papyrus.web.services.aqlservices.scope.ReachableElementsServices#getAllReachableRootElements(org.eclipse.emf.ecore.EObject)}.
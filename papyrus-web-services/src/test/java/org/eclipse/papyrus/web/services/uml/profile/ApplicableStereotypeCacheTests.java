@@ -0,0 +1,118 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.services.uml.profile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.papyrus.web.services.api.uml.profile.UMLStereotypeMetadata;
+import org.eclipse.uml2.uml.Class;
+import org.eclipse.uml2.uml.Model;
+import org.eclipse.uml2.uml.Profile;
+import org.eclipse.uml2.uml.Stereotype;
+import org.eclipse.uml2.uml.UMLFactory;
+import org.eclipse.uml2.uml.resource.UMLResource;
+import org.eclipse.uml2.uml.resources.util.UMLResourcesUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link ApplicableStereotypeCache}.
+ *
+ * @author agent
+ */
+public class ApplicableStereotypeCacheTests {
+
+    private Profile profile;
+
+    private Stereotype stereotype;
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        UMLResourcesUtil.init(resourceSet);
+        Model umlMetamodel = (Model) resourceSet.getResource(URI.createURI(UMLResource.UML_METAMODEL_URI), true).getContents().get(0);
+        Class classMetaclass = (Class) umlMetamodel.getOwnedType("Class");
+
+        this.profile = UMLFactory.eINSTANCE.createProfile();
+        this.profile.setName("Profile");
+        Resource profileResource = resourceSet.createResource(URI.createURI("profile.profile.uml"));
+        profileResource.getContents().add(this.profile);
+        this.profile.createMetaclassReference(classMetaclass);
+        this.stereotype = this.profile.createOwnedStereotype("Stereotype", false);
+        this.stereotype.createExtension(classMetaclass, false);
+        this.profile.define();
+
+        this.model = UMLFactory.eINSTANCE.createModel();
+        Resource modelResource = resourceSet.createResource(URI.createURI("model.uml"));
+        modelResource.getContents().add(this.model);
+        this.model.applyProfile(this.profile);
+    }
+
+    @Test
+    public void testApplicableStereotypesSharedByEClass() {
+        ApplicableStereotypeCache cache = new ApplicableStereotypeCache();
+        Class class1 = this.model.createOwnedClass("Class1", false);
+        Class class2 = this.model.createNestedPackage("Package").createOwnedClass("Class2", false);
+
+        List<Stereotype> stereotypes = cache.getApplicableStereotypes(class1);
+
+        assertThat(stereotypes).containsExactly(this.stereotype);
+        assertThat(cache.getApplicableStereotypes(class2)).isSameAs(stereotypes);
+        assertThat(cache.getApplicableStereotypes(this.model)).isEmpty();
+    }
+
+    @Test
+    public void testNewProfileVersionInvalidatesApplicableStereotypes() {
+        ApplicableStereotypeCache cache = new ApplicableStereotypeCache();
+        Class class1 = this.model.createOwnedClass("Class1", false);
+        List<Stereotype> stereotypes = cache.getApplicableStereotypes(class1);
+
+        Stereotype newStereotype = this.profile.createOwnedStereotype("NewStereotype", false);
+        newStereotype.createExtension(this.profile.getReferencedMetaclasses().get(0), false);
+        this.profile.define();
+
+        assertThat(cache.getApplicableStereotypes(class1)).isNotSameAs(stereotypes).containsExactlyInAnyOrder(this.stereotype, newStereotype);
+    }
+
+    @Test
+    public void testMetadataRecomputedOnRename() {
+        ApplicableStereotypeCache cache = new ApplicableStereotypeCache();
+        AtomicInteger computations = new AtomicInteger();
+
+        cache.getMetadata(this.stereotype, s -> this.createMetadata(s, computations));
+        Optional<UMLStereotypeMetadata> metadata = cache.getMetadata(this.stereotype, s -> this.createMetadata(s, computations));
+        assertThat(computations.get()).isEqualTo(1);
+        assertThat(metadata.map(UMLStereotypeMetadata::getLabel)).contains("Profile::Stereotype");
+
+        this.stereotype.setName("Renamed");
+        metadata = cache.getMetadata(this.stereotype, s -> this.createMetadata(s, computations));
+        assertThat(computations.get()).isEqualTo(2);
+        assertThat(metadata.map(UMLStereotypeMetadata::getLabel)).contains("Profile::Renamed");
+    }
+
+    private UMLStereotypeMetadata createMetadata(Stereotype stereotypeToDescribe, AtomicInteger computations) {
+        computations.incrementAndGet();
+        return new UMLStereotypeMetadata(stereotypeToDescribe.getProfile().getName() + "::" + stereotypeToDescribe.getName(), stereotypeToDescribe.getName());
+    }
+}
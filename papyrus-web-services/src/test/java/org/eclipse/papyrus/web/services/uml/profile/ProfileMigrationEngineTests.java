@@ -0,0 +1,204 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.services.uml.profile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.ECrossReferenceAdapter;
+import org.eclipse.papyrus.web.services.aqlservices.scope.StereotypeApplicationIndex;
+import org.eclipse.uml2.uml.Class;
+import org.eclipse.uml2.uml.Model;
+import org.eclipse.uml2.uml.PrimitiveType;
+import org.eclipse.uml2.uml.Profile;
+import org.eclipse.uml2.uml.Stereotype;
+import org.eclipse.uml2.uml.UMLFactory;
+import org.eclipse.uml2.uml.resource.UMLResource;
+import org.eclipse.uml2.uml.resources.util.UMLResourcesUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link ProfileMigrationEngine}.
+ *
+ * @author agent
+ */
+public class ProfileMigrationEngineTests {
+
+    private static final String LABEL = "label";
+
+    private static final String TARGET = "target";
+
+    private static final String OTHER = "other";
+
+    private static final String NEW_ATTRIBUTE = NEW_ATTRIBUTE;
+
+    private Profile profile;
+
+    private Stereotype unchangedStereotype;
+
+    private Stereotype changedStereotype;
+
+    private PrimitiveType stringType;
+
+    private Model model;
+
+    private ResourceSet resourceSet;
+
+    @BeforeEach
+    public void setUp() {
+        this.resourceSet = new ResourceSetImpl();
+        UMLResourcesUtil.init(this.resourceSet);
+        this.resourceSet.eAdapters().add(new ECrossReferenceAdapter());
+        Model umlMetamodel = (Model) this.resourceSet.getResource(URI.createURI(UMLResource.UML_METAMODEL_URI), true).getContents().get(0);
+        Class classMetaclass = (Class) umlMetamodel.getOwnedType("Class");
+        Model primitiveTypes = (Model) this.resourceSet.getResource(URI.createURI(UMLResource.UML_PRIMITIVE_TYPES_LIBRARY_URI), true).getContents().get(0);
+        this.stringType = (PrimitiveType) primitiveTypes.getOwnedType("String");
+
+        this.profile = UMLFactory.eINSTANCE.createProfile();
+        this.profile.setName("Profile");
+        this.resourceSet.createResource(URI.createURI("profile.profile.uml")).getContents().add(this.profile);
+        this.profile.createMetaclassReference(classMetaclass);
+        this.unchangedStereotype = this.profile.createOwnedStereotype("Unchanged", false);
+        this.unchangedStereotype.createExtension(classMetaclass, false);
+        this.changedStereotype = this.profile.createOwnedStereotype("Changed", false);
+        this.changedStereotype.createExtension(classMetaclass, false);
+        this.changedStereotype.createOwnedAttribute(LABEL, this.stringType);
+        this.changedStereotype.createOwnedAttribute(TARGET, this.unchangedStereotype);
+        this.profile.define();
+
+        this.model = UMLFactory.eINSTANCE.createModel();
+        this.resourceSet.createResource(URI.createURI("model.uml")).getContents().add(this.model);
+        this.model.applyProfile(this.profile);
+    }
+
+    @Test
+    public void testOnlyChangedStereotypesCopied() {
+        Class class1 = this.model.createOwnedClass(CLASS1, false);
+        EObject unchangedApplication = class1.applyStereotype(this.unchangedStereotype);
+        Class class2 = this.model.createOwnedClass(CLASS2, false);
+        class2.applyStereotype(this.changedStereotype);
+        class2.setValue(this.changedStereotype, LABEL, "value");
+        class2.setValue(this.changedStereotype, TARGET, unchangedApplication);
+
+        this.changedStereotype.createOwnedAttribute(NEW_ATTRIBUTE, this.stringType);
+        this.profile.define();
+        List<ProfileMigrationProgress> progresses = new ArrayList<>();
+        ProfileMigrationResult result = new ProfileMigrationEngine(1).apply(this.model, this.profile, progresses::add);
+
+        assertThat(result).isEqualTo(new ProfileMigrationResult(1, 1, 0));
+        assertThat(progresses).containsExactly(new ProfileMigrationProgress(1, 2), new ProfileMigrationProgress(2, 2));
+        assertThat(this.model.getProfileApplication(this.profile).getAppliedDefinition()).isSameAs(this.profile.getDefinition());
+
+        assertThat(class1.getStereotypeApplication(this.unchangedStereotype)).isSameAs(unchangedApplication);
+        assertThat(unchangedApplication.eClass()).isSameAs(this.profile.getDefinition(this.unchangedStereotype));
+        EObject changedApplication = class2.getStereotypeApplication(this.changedStereotype);
+        assertThat(changedApplication.eClass()).isSameAs(this.profile.getDefinition(this.changedStereotype));
+        assertThat(class2.getValue(this.changedStereotype, LABEL)).isEqualTo("value");
+        assertThat(class2.getValue(this.changedStereotype, TARGET)).isSameAs(unchangedApplication);
+    }
+
+    @Test
+    public void testReferencesRedirectedToCopies() {
+        Class class1 = this.model.createOwnedClass(CLASS1, false);
+        class1.applyStereotype(this.unchangedStereotype);
+        Class class2 = this.model.createOwnedClass(CLASS2, false);
+        class2.applyStereotype(this.changedStereotype);
+        this.unchangedStereotype.createOwnedAttribute(OTHER, this.changedStereotype);
+        this.profile.define();
+        this.model.applyProfile(this.profile);
+        // Both stereotypes now reference each other
+        class1.setValue(this.unchangedStereotype, OTHER, class2.getStereotypeApplication(this.changedStereotype));
+        EObject unchangedApplication = class1.getStereotypeApplication(this.unchangedStereotype);
+
+        this.changedStereotype.createOwnedAttribute(NEW_ATTRIBUTE, this.stringType);
+        this.profile.define();
+        ProfileMigrationResult result = new ProfileMigrationEngine().apply(this.model, this.profile, progress -> {
+            // Not checked
+        });
+
+        assertThat(result.copied()).isEqualTo(1);
+        EObject changedApplication = class2.getStereotypeApplication(this.changedStereotype);
+        assertThat(changedApplication.eClass()).isSameAs(this.profile.getDefinition(this.changedStereotype));
+        assertThat(class1.getStereotypeApplication(this.unchangedStereotype)).isSameAs(unchangedApplication);
+        assertThat(class1.getValue(this.unchangedStereotype, OTHER)).isSameAs(changedApplication);
+    }
+
+    @Test
+    public void testAppliedDefinitionSwitchedAfterLastChunk() {
+        Class class1 = this.model.createOwnedClass(CLASS1, false);
+        class1.applyStereotype(this.unchangedStereotype);
+        Class class2 = this.model.createOwnedClass(CLASS2, false);
+        class2.applyStereotype(this.changedStereotype);
+        EPackage appliedDefinition = this.model.getProfileApplication(this.profile).getAppliedDefinition();
+
+        this.changedStereotype.createOwnedAttribute(NEW_ATTRIBUTE, this.stringType);
+        this.profile.define();
+        ProfileMigration migration = new ProfileMigrationEngine(1).prepare(this.model, this.profile).orElseThrow();
+
+        assertThat(migration.migrateNextChunk()).isFalse();
+        assertThat(this.model.getProfileApplication(this.profile).getAppliedDefinition()).isSameAs(appliedDefinition);
+        assertThat(migration.migrateNextChunk()).isTrue();
+        assertThat(this.model.getProfileApplication(this.profile).getAppliedDefinition()).isSameAs(this.profile.getDefinition());
+    }
+
+    @Test
+    public void testSwitchedApplicationsReindexed() {
+        Class class1 = this.model.createOwnedClass(CLASS1, false);
+        EObject unchangedApplication = class1.applyStereotype(this.unchangedStereotype);
+        StereotypeApplicationIndex index = new StereotypeApplicationIndex();
+        this.resourceSet.eAdapters().add(index);
+        EClass appliedClass = unchangedApplication.eClass();
+
+        this.changedStereotype.createOwnedAttribute(NEW_ATTRIBUTE, this.stringType);
+        this.profile.define();
+        new ProfileMigrationEngine().apply(this.model, this.profile, progress -> {
+            // Not checked
+        });
+
+        assertThat(index.getStereotypeApplications(appliedClass)).isEmpty();
+        assertThat(index.getStereotypeApplications(unchangedApplication.eClass())).containsExactly(unchangedApplication);
+    }
+
+    @Test
+    public void testReferencesRedirectedWithoutCrossReferenceAdapter() {
+        Class class1 = this.model.createOwnedClass(CLASS1, false);
+        class1.applyStereotype(this.unchangedStereotype);
+        Class class2 = this.model.createOwnedClass(CLASS2, false);
+        class2.applyStereotype(this.changedStereotype);
+        this.unchangedStereotype.createOwnedAttribute(OTHER, this.changedStereotype);
+        this.profile.define();
+        this.model.applyProfile(this.profile);
+        class1.setValue(this.unchangedStereotype, OTHER, class2.getStereotypeApplication(this.changedStereotype));
+        this.resourceSet.eAdapters().removeIf(ECrossReferenceAdapter.class::isInstance);
+
+        this.changedStereotype.createOwnedAttribute(NEW_ATTRIBUTE, this.stringType);
+        this.profile.define();
+        new ProfileMigrationEngine().apply(this.model, this.profile, progress -> {
+            // Not checked
+        });
+
+        EObject changedApplication = class2.getStereotypeApplication(this.changedStereotype);
+        assertThat(changedApplication.eClass()).isSameAs(this.profile.getDefinition(this.changedStereotype));
+        assertThat(class1.getValue(this.unchangedStereotype, OTHER)).isSameAs(changedApplication);
+    }
+}
@@ -0,0 +1,41 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.services.uml.profile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+
+import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessorRegistry;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+/**
+ * Test class for {@link ProfileMigrationService}.
+ *
+ * @author agent
+ */
+public class ProfileMigrationServiceTests {
+
+    private final ProfileMigrationService profileMigrationService = new ProfileMigrationService(new StaticListableBeanFactory().getBeanProvider(IEditingContextEventProcessorRegistry.class));
+
+    @Test
+    public void testUnknownMigration() {
+        UUID migrationId = UUID.randomUUID();
+        this.profileMigrationService.migrateNextChunk(new IEditingContext.NoOp(), new MigrateProfileChunkInput(UUID.randomUUID(), migrationId));
+
+        assertThat(this.profileMigrationService.getMigrationEvents(migrationId).collectList().block()).isEmpty();
+    }
+}
@@ -0,0 +1,204 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.services.uml.profile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
+import org.eclipse.papyrus.web.persistence.entities.ContentCodec;
+import org.eclipse.papyrus.web.persistence.entities.ProfileResourceEntity;
+import org.eclipse.papyrus.web.services.api.uml.profile.IProfilePublication;
+import org.eclipse.papyrus.web.services.api.uml.profile.PublishProfileProgressPayload;
+import org.eclipse.papyrus.web.services.api.uml.profile.PublishProfileStatus;
+import org.eclipse.papyrus.web.services.api.uml.profile.PublishProfileSuccessPayload;
+import org.eclipse.papyrus.web.services.editingcontext.NoOpProfileRepository;
+import org.eclipse.sirius.components.core.api.ErrorPayload;
+import org.eclipse.sirius.components.core.api.IPayload;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link ProfilePublicationService} and {@link ProfilePublication}.
+ *
+ * @author agent
+ */
+public class ProfilePublicationServiceTests {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private static final String PACKAGE_NAME = "publishedPackage";
+
+    private static final String EDITING_CONTEXT_ID = "editingContext";
+
+    private ProfilePublicationService profilePublicationService;
+
+    @BeforeEach
+    public void setUp() {
+        this.profilePublicationService = new ProfilePublicationService();
+    }
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        this.profilePublicationService.destroy();
+    }
+
+    @Test
+    public void testPublicationEvents() throws InterruptedException, ExecutionException, TimeoutException {
+        CountDownLatch started = new CountDownLatch(1);
+        UUID publicationId = UUID.randomUUID();
+        this.profilePublicationService.submit(EDITING_CONTEXT_ID, new TestProfilePublication(publicationId, started, progressListener -> {
+            progressListener.accept(PublishProfileStatus.SERIALIZING);
+            progressListener.accept(PublishProfileStatus.SAVING);
+            return new PublishProfileSuccessPayload(publicationId);
+        }));
+
+        CompletableFuture<List<IPayload>> events = this.profilePublicationService.getPublicationEvents(EDITING_CONTEXT_ID, publicationId).collectList().toFuture();
+        started.countDown();
+
+        List<IPayload> payloads = events.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertThat(payloads).hasSize(4);
+        assertThat(payloads.subList(0, 3)).map(payload -> ((PublishProfileProgressPayload) payload).status())//
+                .containsExactly(PublishProfileStatus.QUEUED, PublishProfileStatus.SERIALIZING, PublishProfileStatus.SAVING);
+        assertThat(payloads.get(3)).isInstanceOf(PublishProfileSuccessPayload.class);
+    }
+
+    @Test
+    public void testFailedPublication() throws InterruptedException, ExecutionException, TimeoutException {
+        UUID publicationId = UUID.randomUUID();
+        this.profilePublicationService.submit(EDITING_CONTEXT_ID, new TestProfilePublication(publicationId, new CountDownLatch(0), progressListener -> {
+            throw new IllegalStateException("Unexpected failure");
+        }));
+
+        IPayload result = this.profilePublicationService.getPublicationEvents(EDITING_CONTEXT_ID, publicationId).last().toFuture().get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertThat(result).isInstanceOf(ErrorPayload.class);
+        assertThat(((ErrorPayload) result).message()).contains("Unexpected failure");
+    }
+
+    @Test
+    public void testFinishedPublicationResultForLateSubscribers() throws InterruptedException, ExecutionException, TimeoutException {
+        UUID publicationId = UUID.randomUUID();
+        this.profilePublicationService.submit(EDITING_CONTEXT_ID, new TestProfilePublication(publicationId, new CountDownLatch(0), progressListener -> new PublishProfileSuccessPayload(publicationId)));
+        this.profilePublicationService.getPublicationEvents(EDITING_CONTEXT_ID, publicationId).last().toFuture().get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        List<IPayload> payloads = this.profilePublicationService.getPublicationEvents(EDITING_CONTEXT_ID, publicationId).collectList().toFuture().get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertThat(payloads).hasSize(1);
+        assertThat(payloads.get(0)).isInstanceOf(PublishProfileSuccessPayload.class);
+    }
+
+    @Test
+    public void testUnknownPublication() {
+        assertThat(this.profilePublicationService.getPublicationEvents(EDITING_CONTEXT_ID, UUID.randomUUID()).collectList().block()).isEmpty();
+    }
+
+    @Test
+    public void testPublicationOfAnotherEditingContext() throws InterruptedException, ExecutionException, TimeoutException {
+        UUID publicationId = UUID.randomUUID();
+        this.profilePublicationService.submit(EDITING_CONTEXT_ID, new TestProfilePublication(publicationId, new CountDownLatch(0), progressListener -> new PublishProfileSuccessPayload(publicationId)));
+        this.profilePublicationService.getPublicationEvents(EDITING_CONTEXT_ID, publicationId).last().toFuture().get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        assertThat(this.profilePublicationService.getPublicationEvents("anotherEditingContext", publicationId).collectList().block()).isEmpty();
+    }
+
+    @Test
+    public void testExecuteProfilePublication() throws IOException {
+        Resource snapshot = new XMIResourceImpl(URI.createURI("snapshot.xmi"));
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        ePackage.setName(PACKAGE_NAME);
+        snapshot.getContents().add(ePackage);
+
+        List<ProfileResourceEntity> savedEntities = new ArrayList<>();
+        NoOpProfileRepository profileRepository = new NoOpProfileRepository() {
+            @Override
+            public <S extends ProfileResourceEntity> S save(S entity) {
+                savedEntities.add(entity);
+                return entity;
+            }
+        };
+        UUID publicationId = UUID.randomUUID();
+        UUID profileResourceId = UUID.randomUUID();
+        ProfilePublication publication = new ProfilePublication(publicationId, snapshot, profileResourceId, ContentCodec.GZIP, profileRepository);
+
+        List<PublishProfileStatus> statuses = new ArrayList<>();
+        IPayload payload = publication.execute(statuses::add);
+
+        assertThat(payload).isInstanceOf(PublishProfileSuccessPayload.class);
+        assertThat(statuses).containsExactly(PublishProfileStatus.SERIALIZING, PublishProfileStatus.SAVING);
+        assertThat(savedEntities).hasSize(1);
+        assertThat(savedEntities.get(0).getId()).isEqualTo(profileResourceId);
+        assertThat(savedEntities.get(0).getContentCodec()).isEqualTo(ContentCodec.GZIP);
+        try (InputStream inputStream = savedEntities.get(0).getContentInputStream()) {
+            assertThat(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8)).contains(PACKAGE_NAME);
+        }
+    }
+
+    /**
+     * Publication waiting for the test to be ready before running a given behavior.
+     *
+     * @author agent
+     */
+    private static final class TestProfilePublication implements IProfilePublication {
+
+        private final UUID id;
+
+        private final CountDownLatch started;
+
+        private final Function<Consumer<PublishProfileStatus>, IPayload> behavior;
+
+        TestProfilePublication(UUID id, CountDownLatch started, Function<Consumer<PublishProfileStatus>, IPayload> behavior) {
+            this.id = id;
+            this.started = started;
+            this.behavior = behavior;
+        }
+
+        @Override
+        public UUID getId() {
+            return this.id;
+        }
+
+        @Override
+        public Optional<IPayload> getError() {
+            return Optional.empty();
+        }
+
+        @Override
+        public IPayload execute(Consumer<PublishProfileStatus> progressListener) {
+            try {
+                this.started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            return this.behavior.apply(progressListener);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.sirius.contributions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.sirius.components.diagrams.renderer.DiagramRenderingCache;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link DiagramRenderingMemo}.
+ *
+ * @author agent
+ */
+public class DiagramRenderingMemoTests {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    @Test
+    public void testMemoPerRendering() {
+        DiagramRenderingCache cache = new DiagramRenderingCache();
+
+        assertThat(DiagramRenderingMemo.of(cache)).isSameAs(DiagramRenderingMemo.of(cache));
+        assertThat(DiagramRenderingMemo.of(new DiagramRenderingCache())).isNotSameAs(DiagramRenderingMemo.of(cache));
+    }
+
+    @Test
+    public void testMemoNotSharedBetweenRenderingThreads() throws InterruptedException, ExecutionException, TimeoutException {
+        DiagramRenderingCache cache = new DiagramRenderingCache();
+        DiagramRenderingMemo memo = DiagramRenderingMemo.of(cache);
+
+        DiagramRenderingMemo otherThreadMemo = CompletableFuture.supplyAsync(() -> DiagramRenderingMemo.of(cache)).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        assertThat(otherThreadMemo).isNotSameAs(memo);
+    }
+
+    @Test
+    public void testReachableElementsComputedOncePerRendering() {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        AtomicInteger computations = new AtomicInteger();
+        List<EObject> elements = List.of(EcorePackage.eINSTANCE);
+
+        DiagramRenderingMemo memo = DiagramRenderingMemo.of(new DiagramRenderingCache());
+        memo.getReachableElements(resourceSet, EcorePackage.Literals.EPACKAGE, true, () -> this.count(computations, elements));
+        List<EObject> reachableElements = memo.getReachableElements(resourceSet, EcorePackage.Literals.EPACKAGE, true, () -> this.count(computations, elements));
+
+        assertThat(reachableElements).containsExactlyElementsOf(elements);
+        assertThat(computations).hasValue(1);
+
+        // Another type, another scope or another rendering computes the elements again
+        memo.getReachableElements(resourceSet, EcorePackage.Literals.EPACKAGE, false, () -> this.count(computations, elements));
+        memo.getReachableElements(new ResourceSetImpl(), EcorePackage.Literals.EPACKAGE, true, () -> this.count(computations, elements));
+        DiagramRenderingMemo.of(new DiagramRenderingCache()).getReachableElements(resourceSet, EcorePackage.Literals.EPACKAGE, true, () -> this.count(computations, elements));
+        assertThat(computations).hasValue(4);
+    }
+
+    private List<EObject> count(AtomicInteger computations, List<EObject> elements) {
+        computations.incrementAndGet();
+        return elements;
+    }
+}
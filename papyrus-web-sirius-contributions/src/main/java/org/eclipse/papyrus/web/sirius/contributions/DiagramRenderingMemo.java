@@ -0,0 +1,198 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.sirius.contributions;
+
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.Supplier;
+
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IObjectService;
+import org.eclipse.sirius.components.diagrams.elements.NodeElementProps;
+import org.eclipse.sirius.components.diagrams.renderer.DiagramRenderingCache;
+import org.eclipse.sirius.components.representations.Element;
+
+/**
+ * Memoization of the navigation between the {@link Element}s of a diagram being rendered and their semantic elements.
+ * <p>
+ * A memo is attached to one {@link DiagramRenderingCache}, i.e. to one rendering of a diagram, and is shared by all
+ * the services evaluated during this rendering. The semantic elements, the visual parents and the ancestors of an
+ * element are thus computed once per rendering instead of once per edge candidate. The same goes for the reachable
+ * elements of a given type, which are computed once per rendering instead of once per container node. The memo is
+ * discarded with its {@link DiagramRenderingCache} at the end of the rendering.
+ * </p>
+ * <p>
+ * A diagram is rendered on the thread of its editing context. The memos are thus kept per thread: the renderings of
+ * different editing contexts never share a memo nor a lock.
+ * </p>
+ *
+ * @author agent
+ */
+public final class DiagramRenderingMemo {
+
+    private static final ThreadLocal<Map<DiagramRenderingCache, DiagramRenderingMemo>> MEMOS = ThreadLocal.withInitial(WeakHashMap::new);
+
+    /**
+     * The rendering cache is weakly referenced since it is the key of this memo in {@link #MEMOS}.
+     */
+    private final WeakReference<DiagramRenderingCache> cache;
+
+    private final Map<String, Optional<Object>> semanticElements = new HashMap<>();
+
+    /**
+     * The visual parents, by {@link Element}. {@link Element} does not override equals, elements are compared by
+     * identity.
+     */
+    private final Map<Element, Optional<DiagramElementHelper>> parents = new HashMap<>();
+
+    private final Map<String, Set<String>> ancestorIds = new HashMap<>();
+
+    private final Map<ElementPair, Optional<DiagramElementHelper>> commonAncestors = new HashMap<>();
+
+    private final Map<ReachableKey, List<EObject>> reachableElements = new HashMap<>();
+
+    private DiagramRenderingMemo(DiagramRenderingCache cache) {
+        this.cache = new WeakReference<>(cache);
+    }
+
+    /**
+     * Gets the memo of the rendering using the given cache. It must be called from the thread rendering the diagram.
+     *
+     * @param cache
+     *            the cache of the rendering
+     * @return the memo of the rendering
+     */
+    public static DiagramRenderingMemo of(DiagramRenderingCache cache) {
+        return MEMOS.get().computeIfAbsent(cache, DiagramRenderingMemo::new);
+    }
+
+    /**
+     * Gets the semantic element displayed by the given diagram element.
+     *
+     * @param element
+     *            a diagram element
+     * @param objectService
+     *            the service used to resolve the id of the semantic element
+     * @param editingContext
+     *            the editing context
+     * @return the semantic element
+     */
+    public Optional<Object> getSemanticElement(DiagramElementHelper element, IObjectService objectService, IEditingContext editingContext) {
+        return element.getTargetId().flatMap(targetId -> this.semanticElements.computeIfAbsent(targetId, id -> objectService.getObject(editingContext, id)));
+    }
+
+    /**
+     * Gets the visual parent of the given diagram element.
+     *
+     * @param element
+     *            a diagram element
+     * @return the visual parent
+     */
+    public Optional<DiagramElementHelper> getParent(DiagramElementHelper element) {
+        DiagramRenderingCache renderingCache = this.cache.get();
+        Optional<DiagramElementHelper> result = Optional.empty();
+        if (renderingCache != null) {
+            result = this.parents.computeIfAbsent(element.getElement(), key -> element.getParent(renderingCache));
+        }
+        return result;
+    }
+
+    /**
+     * Gets the ids of the visual ancestors of the given diagram element which are nodes.
+     *
+     * @param element
+     *            a diagram element
+     * @return the ids of the ancestor nodes
+     */
+    public Set<String> getAncestorNodeIds(DiagramElementHelper element) {
+        DiagramRenderingCache renderingCache = this.cache.get();
+        Set<String> result = Set.of();
+        if (renderingCache != null) {
+            result = element.getId().map(elementId -> this.ancestorIds.computeIfAbsent(elementId, id -> {
+                Set<String> ids = new HashSet<>();
+                for (Element ancestor : renderingCache.getAncestors(id)) {
+                    if (ancestor.getProps() instanceof NodeElementProps nodeProps) {
+                        ids.add(nodeProps.getId());
+                    }
+                }
+                return ids;
+            })).orElse(Set.of());
+        }
+        return result;
+    }
+
+    /**
+     * Gets the closest visual ancestor shared by two diagram elements.
+     *
+     * @param element
+     *            a diagram element
+     * @param other
+     *            another diagram element
+     * @return the closest common ancestor
+     */
+    public Optional<DiagramElementHelper> getCommonAncestor(DiagramElementHelper element, DiagramElementHelper other) {
+        DiagramRenderingCache renderingCache = this.cache.get();
+        Optional<DiagramElementHelper> result = Optional.empty();
+        if (renderingCache != null) {
+            result = this.commonAncestors.computeIfAbsent(new ElementPair(element.getElement(), other.getElement()), pair -> element.getCommonAncestor(other, renderingCache));
+        }
+        return result;
+    }
+
+    /**
+     * Gets the elements of the given type reachable from a scope, computing them on the first call of the rendering.
+     * <p>
+     * The semantic model is not modified during a rendering, the elements are thus shared by all the semantic
+     * candidates expressions looking for the same type in the same scope.
+     * </p>
+     *
+     * @param scope
+     *            the scope of the search, usually a resource set
+     * @param type
+     *            the type of the searched elements
+     * @param withSubTypes
+     *            <code>false</code> if the elements must have exactly the given type
+     * @param reachableElementsProvider
+     *            computes the elements if they are not memoized yet
+     * @return the reachable elements
+     */
+    public List<EObject> getReachableElements(Notifier scope, EClass type, boolean withSubTypes, Supplier<List<EObject>> reachableElementsProvider) {
+        return this.reachableElements.computeIfAbsent(new ReachableKey(scope, type, withSubTypes), key -> List.copyOf(reachableElementsProvider.get()));
+    }
+
+    /**
+     * Key of the common ancestors memo. {@link Element} does not override equals, pairs are compared by identity.
+     *
+     * @author agent
+     */
+    private record ElementPair(Element element, Element other) {
+    }
+
+    /**
+     * Key of the reachable elements memo.
+     *
+     * @author agent
+     */
+    private record ReachableKey(Notifier scope, EClass type, boolean withSubTypes) {
+    }
+}
@@ -29,13 +29,25 @@ import org.eclipse.sirius.web.services.editingcontext.EditingContext;
  */
 public class UnloadingEditingContext extends EditingContext {
 
+    private volatile boolean disposed;
+
     public UnloadingEditingContext(String id, AdapterFactoryEditingDomain editingDomain, Map<String, IRepresentationDescription> representationDescriptions, List<View> views) {
         super(id, editingDomain, representationDescriptions, views);
     }
 
     @Override
     public void dispose() {
+        this.disposed = true;
         this.getDomain().getResourceSet().getResources().forEach(Resource::unload);
     }
 
+    /**
+     * Checks if this editing context has been disposed, meaning that its resources have been unloaded.
+     *
+     * @return <code>true</code> if this editing context has been disposed
+     */
+    public boolean isDisposed() {
+        return this.disposed;
+    }
+
 }
@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *******************************************************************************/
+package org.eclipse.papyrus.web.sirius.contributions.query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramContext;
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.Node;
+import org.eclipse.sirius.components.diagrams.ViewCreationRequest;
+import org.eclipse.sirius.components.diagrams.ViewDeletionRequest;
+
+/**
+ * Index of all the nodes (including bordered nodes) of the previous state of a {@link Diagram}, keyed by target object
+ * id, and of the view creation and deletion requests of the refresh computing its next state.
+ * <p>
+ * A diagram is immutable, so the index of the nodes of a given diagram instance never needs to be invalidated. Use
+ * {@link DiagramNodeIndex.Cache} to share the index of the nodes of the previous diagram between all the services
+ * evaluated during one refresh. The requests are read from the diagram context each time the index is retrieved, since
+ * they change between two refreshes of the same diagram state.
+ * </p>
+ *
+ * @author agent
+ */
+public final class DiagramNodeIndex {
+
+    private final Map<String, List<Node>> nodesByTargetObjectId;
+
+    private final Set<String> deletedElementIds = new HashSet<>();
+
+    private final Set<String> createdTargetObjectIds = new HashSet<>();
+
+    private DiagramNodeIndex(Map<String, List<Node>> nodesByTargetObjectId, IDiagramContext diagramContext) {
+        this.nodesByTargetObjectId = nodesByTargetObjectId;
+        if (diagramContext != null) {
+            for (ViewDeletionRequest viewDeletionRequest : diagramContext.getViewDeletionRequests()) {
+                this.deletedElementIds.add(viewDeletionRequest.getElementId());
+            }
+            for (ViewCreationRequest viewCreationRequest : diagramContext.getViewCreationRequests()) {
+                this.createdTargetObjectIds.add(viewCreationRequest.getTargetObjectId());
+            }
+        }
+    }
+
+    /**
+     * Builds the index of the given {@code diagram} and of the requests of the given {@code diagramContext}.
+     *
+     * @param diagram
+     *            the previous state of the diagram to index (may be {@code null})
+     * @param diagramContext
+     *            the context of the refresh (may be {@code null})
+     * @return the index of the diagram
+     */
+    public static DiagramNodeIndex of(Diagram diagram, IDiagramContext diagramContext) {
+        return new DiagramNodeIndex(indexNodes(diagram), diagramContext);
+    }
+
+    private static Map<String, List<Node>> indexNodes(Diagram diagram) {
+        Map<String, List<Node>> nodesByTargetObjectId = new HashMap<>();
+        if (diagram != null) {
+            index(diagram.getNodes(), nodesByTargetObjectId);
+        }
+        return nodesByTargetObjectId;
+    }
+
+    private static void index(List<Node> nodes, Map<String, List<Node>> nodesByTargetObjectId) {
+        for (Node node : nodes) {
+            nodesByTargetObjectId.computeIfAbsent(node.getTargetObjectId(), key -> new ArrayList<>()).add(node);
+            index(node.getChildNodes(), nodesByTargetObjectId);
+            index(node.getBorderNodes(), nodesByTargetObjectId);
+        }
+    }
+
+    /**
+     * Gets the nodes representing the semantic element with the given id.
+     *
+     * @param targetObjectId
+     *            the id of the semantic element
+     * @return the matching nodes, in document order
+     */
+    public List<Node> getNodes(String targetObjectId) {
+        return Collections.unmodifiableList(this.nodesByTargetObjectId.getOrDefault(targetObjectId, List.of()));
+    }
+
+    /**
+     * Checks if the deletion of the diagram element with the given id has been requested.
+     *
+     * @param elementId
+     *            the id of a node or an edge of the previous diagram
+     * @return {@code true} if a view deletion request targets the element
+     */
+    public boolean isDeletionRequested(String elementId) {
+        return this.deletedElementIds.contains(elementId);
+    }
+
+    /**
+     * Checks if the creation of a view of the semantic element with the given id has been requested.
+     *
+     * @param targetObjectId
+     *            the id of the semantic element
+     * @return {@code true} if a view creation request targets the semantic element
+     */
+    public boolean isCreationRequested(String targetObjectId) {
+        return this.createdTargetObjectIds.contains(targetObjectId);
+    }
+
+    /**
+     * Thread-safe cache of the nodes of {@link DiagramNodeIndex} keyed by diagram instance.
+     * <p>
+     * Entries are weakly referenced: once a diagram state is replaced by a new one and no longer referenced, its index
+     * is discarded.
+     * </p>
+     *
+     * @author agent
+     */
+    public static final class Cache {
+
+        private final Map<Diagram, Map<String, List<Node>>> indexes = Collections.synchronizedMap(new WeakHashMap<>());
+
+        /**
+         * Gets the index of the given {@code diagram}, indexing its nodes on the first call and the requests of the
+         * given {@code diagramContext} on each call.
+         *
+         * @param diagram
+         *            the previous state of the diagram to index (may be {@code null})
+         * @param diagramContext
+         *            the context of the refresh computing the next state of the diagram
+         * @return the index of the diagram
+         */
+        public DiagramNodeIndex get(Diagram diagram, IDiagramContext diagramContext) {
+            final DiagramNodeIndex result;
+            if (diagram == null) {
+                result = DiagramNodeIndex.of(null, diagramContext);
+            } else {
+                result = new DiagramNodeIndex(this.indexes.computeIfAbsent(diagram, DiagramNodeIndex::indexNodes), diagramContext);
+            }
+            return result;
+        }
+    }
+
+}
@@ -0,0 +1,109 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.tests.utils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+/**
+ * The PostgreSQL database used by the integration tests of the repositories and of the application.
+ * <p>
+ * By default, the database runs in a Docker container started with Testcontainers. When the system property
+ * {@value #DATABASE_PROPERTY} is set to {@value #EMBEDDED}, for instance with the {@code embedded-db} Maven profile,
+ * an embedded PostgreSQL server is started in a temporary directory of the test JVM instead, so that the tests run
+ * without Docker nor network access. Both are genuine PostgreSQL servers on which the same Liquibase changelogs,
+ * including {@code papyrus-web-schema.sql}, are applied by Spring Boot.
+ * </p>
+ *
+ * @author agent
+ */
+public final class TestDatabase {
+
+    /**
+     * The system property used to select the database.
+     */
+    public static final String DATABASE_PROPERTY = "papyrus.web.tests.database";
+
+    /**
+     * The value of {@link #DATABASE_PROPERTY} selecting the embedded database.
+     */
+    public static final String EMBEDDED = "embedded";
+
+    private static final String EMBEDDED_USER = "postgres";
+
+    private final String jdbcUrl;
+
+    private final String username;
+
+    private final String password;
+
+    private TestDatabase(String jdbcUrl, String username, String password) {
+        this.jdbcUrl = jdbcUrl;
+        this.username = username;
+        this.password = password;
+    }
+
+    /**
+     * Starts the database selected by {@link #DATABASE_PROPERTY}, it is stopped when the test JVM exits.
+     *
+     * @return the started database
+     */
+    public static TestDatabase start() {
+        TestDatabase database;
+        if (EMBEDDED.equals(System.getProperty(DATABASE_PROPERTY))) {
+            database = startEmbedded();
+        } else {
+            database = startContainer();
+        }
+        return database;
+    }
+
+    private static TestDatabase startEmbedded() {
+        try {
+            EmbeddedPostgres postgres = EmbeddedPostgres.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> close(postgres), "papyrus-web-tests-database-shutdown"));
+            return new TestDatabase(postgres.getJdbcUrl(EMBEDDED_USER, EMBEDDED_USER), EMBEDDED_USER, "");
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private static void close(EmbeddedPostgres postgres) {
+        try {
+            postgres.close();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private static TestDatabase startContainer() {
+        TestPostgreSQLContainer container = new TestPostgreSQLContainer().withReuse(true);
+        container.start();
+        return new TestDatabase(container.getJdbcUrl(), container.getUsername(), container.getPassword());
+    }
+
+    public String getJdbcUrl() {
+        return this.jdbcUrl;
+    }
+
+    public String getUsername() {
+        return this.username;
+    }
+
+    public String getPassword() {
+        return this.password;
+    }
+}
@@ -10,7 +10,7 @@
  * Contributors:
  *     Obeo - initial API and implementation
  *******************************************************************************/
-package org.eclipse.papyrus.web.persistence.repositories;
+package org.eclipse.papyrus.web.tests.utils;
 
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
@@ -19,7 +19,7 @@ import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.containers.wait.strategy.LogMessageWaitStrategy;
 
 /**
- * PostgreSQL Docker Container used to tests our repositories.
+ * PostgreSQL Docker Container used to tests our repositories and our application.
  *
  * @author sbegaudeau
  */
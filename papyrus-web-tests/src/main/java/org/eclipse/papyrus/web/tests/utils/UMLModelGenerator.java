@@ -0,0 +1,403 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.tests.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.uml2.uml.Activity;
+import org.eclipse.uml2.uml.ActivityEdge;
+import org.eclipse.uml2.uml.ActivityNode;
+import org.eclipse.uml2.uml.AggregationKind;
+import org.eclipse.uml2.uml.Class;
+import org.eclipse.uml2.uml.Model;
+import org.eclipse.uml2.uml.Operation;
+import org.eclipse.uml2.uml.Package;
+import org.eclipse.uml2.uml.Profile;
+import org.eclipse.uml2.uml.Region;
+import org.eclipse.uml2.uml.StateMachine;
+import org.eclipse.uml2.uml.Stereotype;
+import org.eclipse.uml2.uml.Transition;
+import org.eclipse.uml2.uml.Type;
+import org.eclipse.uml2.uml.UMLFactory;
+import org.eclipse.uml2.uml.UMLPackage;
+import org.eclipse.uml2.uml.Vertex;
+import org.eclipse.uml2.uml.resource.UMLResource;
+import org.eclipse.uml2.uml.resources.util.UMLResourcesUtil;
+
+/**
+ * Generates large UML models used to reproduce scaling issues in tests and benchmarks.
+ * <p>
+ * The generated model is a tree of nested packages, each package owning classes with attributes and operations,
+ * associations between these classes and, for some classes, an activity and a state machine. The shape of the model is
+ * configured with the setters of the generator, the types of the attributes, the ends of the associations and the
+ * classes owning behaviors or stereotypes are chosen by a {@link Random} initialized with the given seed: two
+ * generators with the same seed and the same configuration generate the same model.
+ * </p>
+ * <p>
+ * A profile can be applied on the generated model. It is either defined beforehand by the caller or built by the
+ * generator with {@link #builtInProfile(ResourceSet, int, double)}, in which case its stereotypes extend the
+ * <code>Class</code> metaclass and own a <code>String</code> property.
+ * </p>
+ *
+ * @author agent
+ */
+public class UMLModelGenerator {
+
+    private final Random random;
+
+    private String modelName = "GeneratedModel";
+
+    private int packageDepth = 2;
+
+    private int packagesPerPackage = 3;
+
+    private int classesPerPackage = 10;
+
+    private int attributesPerClass = 3;
+
+    private int operationsPerClass = 2;
+
+    private int parametersPerOperation = 2;
+
+    private int associationsPerPackage = 5;
+
+    private double activityRatio = 0.1;
+
+    private int nodesPerActivity = 5;
+
+    private double stateMachineRatio = 0.1;
+
+    private int statesPerStateMachine = 5;
+
+    private Profile profile;
+
+    private double stereotypeRatio;
+
+    private final List<Class> classes = new ArrayList<>();
+
+    private int packageCount;
+
+    /**
+     * Constructor.
+     *
+     * @param seed
+     *            the seed of the random choices made during the generation
+     */
+    public UMLModelGenerator(long seed) {
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Sets the name of the generated model.
+     *
+     * @param name
+     *            the name of the model
+     * @return this generator
+     */
+    public UMLModelGenerator modelName(String name) {
+        this.modelName = name;
+        return this;
+    }
+
+    /**
+     * Sets the number of levels of nested packages below the model, <code>0</code> to generate all the classes in the
+     * model itself.
+     *
+     * @param depth
+     *            the depth of the package tree
+     * @return this generator
+     */
+    public UMLModelGenerator packageDepth(int depth) {
+        this.packageDepth = depth;
+        return this;
+    }
+
+    /**
+     * Sets the number of packages nested in each package which is not at the maximal depth.
+     *
+     * @param count
+     *            the number of nested packages
+     * @return this generator
+     */
+    public UMLModelGenerator packagesPerPackage(int count) {
+        this.packagesPerPackage = count;
+        return this;
+    }
+
+    /**
+     * Sets the number of classes owned by each package, including the model.
+     *
+     * @param count
+     *            the number of classes
+     * @return this generator
+     */
+    public UMLModelGenerator classesPerPackage(int count) {
+        this.classesPerPackage = count;
+        return this;
+    }
+
+    /**
+     * Sets the number of attributes of each class.
+     *
+     * @param count
+     *            the number of attributes
+     * @return this generator
+     */
+    public UMLModelGenerator attributesPerClass(int count) {
+        this.attributesPerClass = count;
+        return this;
+    }
+
+    /**
+     * Sets the number of operations of each class.
+     *
+     * @param count
+     *            the number of operations
+     * @return this generator
+     */
+    public UMLModelGenerator operationsPerClass(int count) {
+        this.operationsPerClass = count;
+        return this;
+    }
+
+    /**
+     * Sets the number of parameters of each operation, the return parameter excluded.
+     *
+     * @param count
+     *            the number of parameters
+     * @return this generator
+     */
+    public UMLModelGenerator parametersPerOperation(int count) {
+        this.parametersPerOperation = count;
+        return this;
+    }
+
+    /**
+     * Sets the number of associations owned by each package. The ends of an association are classes of this package.
+     *
+     * @param count
+     *            the number of associations
+     * @return this generator
+     */
+    public UMLModelGenerator associationsPerPackage(int count) {
+        this.associationsPerPackage = count;
+        return this;
+    }
+
+    /**
+     * Sets the activities owned by the classes.
+     *
+     * @param ratio
+     *            the probability, between <code>0</code> and <code>1</code>, for a class to own an activity
+     * @param nodeCount
+     *            the number of actions of each activity, the initial and final nodes excluded
+     * @return this generator
+     */
+    public UMLModelGenerator activities(double ratio, int nodeCount) {
+        this.activityRatio = ratio;
+        this.nodesPerActivity = nodeCount;
+        return this;
+    }
+
+    /**
+     * Sets the state machines owned by the classes.
+     *
+     * @param ratio
+     *            the probability, between <code>0</code> and <code>1</code>, for a class to own a state machine
+     * @param stateCount
+     *            the number of states of each state machine, the initial pseudo state excluded
+     * @return this generator
+     */
+    public UMLModelGenerator stateMachines(double ratio, int stateCount) {
+        this.stateMachineRatio = ratio;
+        this.statesPerStateMachine = stateCount;
+        return this;
+    }
+
+    /**
+     * Sets the profile applied on the generated model.
+     *
+     * @param definedProfile
+     *            a defined profile
+     * @param ratio
+     *            the probability, between <code>0</code> and <code>1</code>, for a class to have one of the
+     *            stereotypes of the profile applied
+     * @return this generator
+     */
+    public UMLModelGenerator profile(Profile definedProfile, double ratio) {
+        this.profile = definedProfile;
+        this.stereotypeRatio = ratio;
+        return this;
+    }
+
+    /**
+     * Builds a new profile with the given number of stereotypes extending the <code>Class</code> metaclass, defines it
+     * in a new resource of the given resource set and sets it as the profile applied on the generated model.
+     *
+     * @param resourceSet
+     *            the resource set of the generated model
+     * @param stereotypeCount
+     *            the number of stereotypes of the profile
+     * @param ratio
+     *            the probability, between <code>0</code> and <code>1</code>, for a class to have one of the
+     *            stereotypes of the profile applied
+     * @return the defined profile
+     */
+    public Profile builtInProfile(ResourceSet resourceSet, int stereotypeCount, double ratio) {
+        UMLResourcesUtil.init(resourceSet);
+        Model umlMetamodel = (Model) resourceSet.getResource(URI.createURI(UMLResource.UML_METAMODEL_URI), true).getContents().get(0);
+        Class classMetaclass = (Class) umlMetamodel.getOwnedType(UMLPackage.Literals.CLASS.getName());
+        Package primitiveTypes = (Package) resourceSet.getResource(URI.createURI(UMLResource.UML_PRIMITIVE_TYPES_LIBRARY_URI), true).getContents().get(0);
+        Type stringType = primitiveTypes.getOwnedType("String");
+
+        Profile result = UMLFactory.eINSTANCE.createProfile();
+        result.setName(this.modelName + "Profile");
+        Resource profileResource = resourceSet.createResource(URI.createURI(this.modelName + ".profile.uml"));
+        profileResource.getContents().add(result);
+        result.createMetaclassReference(classMetaclass);
+        for (int i = 0; i < stereotypeCount; i++) {
+            Stereotype stereotype = result.createOwnedStereotype("Stereotype" + i, false);
+            stereotype.createExtension(classMetaclass, false);
+            stereotype.createOwnedAttribute("tag", stringType);
+        }
+        result.define();
+        this.profile(result, ratio);
+        return result;
+    }
+
+    /**
+     * Generates a new model. The model is not contained in a resource, it has to be added in a resource set before the
+     * application of stereotypes if a profile is set.
+     *
+     * @return the new model
+     */
+    public Model generate() {
+        this.classes.clear();
+        this.packageCount = 0;
+        Model model = UMLFactory.eINSTANCE.createModel();
+        model.setName(this.modelName);
+        this.fillPackage(model, 0);
+        return model;
+    }
+
+    /**
+     * Applies the profile set on this generator on the given model, then applies its stereotypes on a part of the
+     * classes of the model. The model should have been generated by this generator and be contained in a resource set.
+     *
+     * @param model
+     *            a model generated by this generator
+     * @return the number of applied stereotypes
+     */
+    public int applyProfile(Model model) {
+        int applied = 0;
+        if (this.profile != null) {
+            model.applyProfile(this.profile);
+            for (Class clazz : this.classes) {
+                if (clazz.getModel() == model && this.random.nextDouble() < this.stereotypeRatio) {
+                    List<Stereotype> stereotypes = clazz.getApplicableStereotypes();
+                    if (!stereotypes.isEmpty()) {
+                        clazz.applyStereotype(stereotypes.get(this.random.nextInt(stereotypes.size())));
+                        applied++;
+                    }
+                }
+            }
+        }
+        return applied;
+    }
+
+    private void fillPackage(Package pack, int depth) {
+        List<Class> packageClasses = new ArrayList<>();
+        for (int i = 0; i < this.classesPerPackage; i++) {
+            packageClasses.add(this.createClass(pack));
+        }
+        if (!packageClasses.isEmpty()) {
+            for (int i = 0; i < this.associationsPerPackage; i++) {
+                Type source = packageClasses.get(this.random.nextInt(packageClasses.size()));
+                Type target = packageClasses.get(this.random.nextInt(packageClasses.size()));
+                source.createAssociation(true, AggregationKind.NONE_LITERAL, "source" + i, 0, 1, target, this.random.nextBoolean(), AggregationKind.NONE_LITERAL, "target" + i, 0, -1);
+            }
+        }
+        if (depth < this.packageDepth) {
+            for (int i = 0; i < this.packagesPerPackage; i++) {
+                this.packageCount++;
+                this.fillPackage(pack.createNestedPackage("Package" + this.packageCount), depth + 1);
+            }
+        }
+    }
+
+    private Class createClass(Package pack) {
+        int index = this.classes.size();
+        Class clazz = pack.createOwnedClass("Class" + index, false);
+        for (int i = 0; i < this.attributesPerClass; i++) {
+            clazz.createOwnedAttribute("attribute" + i, this.pickType());
+        }
+        for (int i = 0; i < this.operationsPerClass; i++) {
+            Operation operation = clazz.createOwnedOperation("operation" + i, null, null);
+            for (int j = 0; j < this.parametersPerOperation; j++) {
+                operation.createOwnedParameter("parameter" + j, this.pickType());
+            }
+        }
+        if (this.random.nextDouble() < this.activityRatio) {
+            this.createActivity(clazz, index);
+        }
+        if (this.random.nextDouble() < this.stateMachineRatio) {
+            this.createStateMachine(clazz, index);
+        }
+        this.classes.add(clazz);
+        return clazz;
+    }
+
+    private Type pickType() {
+        Type result = null;
+        if (!this.classes.isEmpty()) {
+            result = this.classes.get(this.random.nextInt(this.classes.size()));
+        }
+        return result;
+    }
+
+    private void createActivity(Class clazz, int index) {
+        Activity activity = (Activity) clazz.createOwnedBehavior("Activity" + index, UMLPackage.Literals.ACTIVITY);
+        ActivityNode previous = activity.createOwnedNode("Initial", UMLPackage.Literals.INITIAL_NODE);
+        for (int i = 0; i < this.nodesPerActivity; i++) {
+            ActivityNode action = activity.createOwnedNode("Action" + i, UMLPackage.Literals.OPAQUE_ACTION);
+            this.createControlFlow(activity, previous, action);
+            previous = action;
+        }
+        this.createControlFlow(activity, previous, activity.createOwnedNode("Final", UMLPackage.Literals.ACTIVITY_FINAL_NODE));
+    }
+
+    private void createControlFlow(Activity activity, ActivityNode source, ActivityNode target) {
+        ActivityEdge controlFlow = activity.createEdge(null, UMLPackage.Literals.CONTROL_FLOW);
+        controlFlow.setSource(source);
+        controlFlow.setTarget(target);
+    }
+
+    private void createStateMachine(Class clazz, int index) {
+        StateMachine stateMachine = (StateMachine) clazz.createOwnedBehavior("StateMachine" + index, UMLPackage.Literals.STATE_MACHINE);
+        Region region = stateMachine.createRegion("Region");
+        Vertex previous = region.createSubvertex("Initial", UMLPackage.Literals.PSEUDOSTATE);
+        for (int i = 0; i < this.statesPerStateMachine; i++) {
+            Vertex state = region.createSubvertex("State" + i, UMLPackage.Literals.STATE);
+            Transition transition = region.createTransition(null);
+            transition.setSource(previous);
+            transition.setTarget(state);
+            previous = state;
+        }
+    }
+}
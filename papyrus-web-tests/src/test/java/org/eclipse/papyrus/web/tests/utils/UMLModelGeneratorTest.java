@@ -0,0 +1,87 @@
+/*****************************************************************************
+ * Copyright (c) 2024 CEA LIST, Obeo.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Obeo - Initial API and implementation
+ *****************************************************************************/
+package org.eclipse.papyrus.web.tests.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.uml2.uml.Activity;
+import org.eclipse.uml2.uml.Association;
+import org.eclipse.uml2.uml.Behavior;
+import org.eclipse.uml2.uml.Model;
+import org.eclipse.uml2.uml.NamedElement;
+import org.eclipse.uml2.uml.Package;
+import org.eclipse.uml2.uml.StateMachine;
+import org.eclipse.uml2.uml.TypedElement;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link UMLModelGenerator}.
+ *
+ * @author agent
+ */
+public class UMLModelGeneratorTest {
+
+    @Test
+    public void testSameSeedGeneratesSameModel() {
+        assertEquals(this.describe(this.createGenerator(42).generate()), this.describe(this.createGenerator(42).generate()));
+        assertNotEquals(this.describe(this.createGenerator(42).generate()), this.describe(this.createGenerator(7).generate()));
+    }
+
+    @Test
+    public void testShape() {
+        Model model = this.createGenerator(42).activities(1, 3).stateMachines(0, 0).generate();
+
+        List<EObject> contents = new ArrayList<>();
+        model.eAllContents().forEachRemaining(contents::add);
+        // 2 + 4 nested packages, each of them and the model owning 4 classes and 2 associations
+        assertEquals(6, contents.stream().filter(Package.class::isInstance).count());
+        assertEquals(7 * 4, contents.stream().filter(org.eclipse.uml2.uml.Class.class::isInstance).filter(c -> !(c instanceof Behavior)).count());
+        assertEquals(7 * 2, contents.stream().filter(Association.class::isInstance).count());
+        assertEquals(7 * 4, contents.stream().filter(Activity.class::isInstance).count());
+        assertEquals(0, contents.stream().filter(StateMachine.class::isInstance).count());
+    }
+
+    private UMLModelGenerator createGenerator(long seed) {
+        return new UMLModelGenerator(seed)//
+                .packageDepth(2)//
+                .packagesPerPackage(2)//
+                .classesPerPackage(4)//
+                .attributesPerClass(2)//
+                .operationsPerClass(1)//
+                .parametersPerOperation(1)//
+                .associationsPerPackage(2)//
+                .activities(0.5, 2)//
+                .stateMachines(0.5, 2);
+    }
+
+    private List<String> describe(Model model) {
+        List<String> description = new ArrayList<>();
+        model.eAllContents().forEachRemaining(content -> {
+            StringBuilder builder = new StringBuilder(content.eClass().getName());
+            if (content instanceof NamedElement namedElement) {
+                builder.append(' ').append(namedElement.getQualifiedName());
+            }
+            if (content instanceof TypedElement typedElement && typedElement.getType() != null) {
+                builder.append(" : ").append(typedElement.getType().getName());
+            }
+            description.add(builder.toString());
+        });
+        return description;
+    }
+}